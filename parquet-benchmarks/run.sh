@@ -43,6 +43,7 @@ read        | Reading files with different compression, page and block sizes.
 write       | Writing files.
 checksum    | Reading and writing with and without CRC checksums.
 filter      | Filtering column indexes
+models      | Reading and writing through the Avro, Protobuf, Thrift and example Group object models.
 
 Examples:
 
@@ -100,6 +101,9 @@ else
   "filter")
     BENCHMARK_REGEX="org.apache.parquet.benchmarks.FilteringBenchmarks"
     ;;
+  "models")
+    BENCHMARK_REGEX="org.apache.parquet.benchmarks.ObjectModel.*Benchmarks"
+    ;;
   esac
 
   echo JMH command: java -jar ${SCRIPT_PATH}/target/parquet-benchmarks.jar $BENCHMARK_REGEX $JMH_OPTIONS
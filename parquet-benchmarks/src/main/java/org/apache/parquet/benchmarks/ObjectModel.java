@@ -0,0 +1,487 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.benchmarks;
+
+import static org.apache.parquet.benchmarks.BenchmarkFiles.configuration;
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.lt;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.benchmarks.proto.ObjectModelBenchmarkProtos;
+import org.apache.parquet.benchmarks.thrift.Address;
+import org.apache.parquet.benchmarks.thrift.Phone;
+import org.apache.parquet.benchmarks.thrift.User;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.thrift.TBaseWriteSupport;
+import org.apache.parquet.hadoop.thrift.ThriftReadSupport;
+import org.apache.parquet.proto.ProtoParquetReader;
+import org.apache.parquet.proto.ProtoParquetWriter;
+import org.apache.parquet.proto.ProtoReadSupport;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.thrift.ThriftParquetReader;
+
+/**
+ * The object models (bindings) compared by {@link ObjectModelReadBenchmarks} and {@link ObjectModelWriteBenchmarks}.
+ * <p>
+ * Every model writes and reads the same logical, nested "user" dataset: a few flat primitive fields, an optional
+ * string, a list of strings, a nested address struct and a list of phone structs. Each model derives its Parquet
+ * schema from its own native schema (Avro schema, protobuf descriptor, thrift struct or a hand-written
+ * {@link MessageType} for the example {@link Group} model), so the physical layouts differ slightly in the way lists
+ * and optional fields are represented, exactly as they would for users of the bindings.
+ * <p>
+ * The "projected" read variant requests {@code id} and {@code address.city} only. The "filtered" read variant keeps
+ * the records with an {@code id} lower than a tenth of the record count.
+ */
+public enum ObjectModel {
+  GROUP {
+    @Override
+    List<?> newRecords(int count) {
+      SimpleGroupFactory factory = new SimpleGroupFactory(GROUP_SCHEMA);
+      List<Group> records = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        Group user = factory.newGroup()
+            .append("id", (long) i)
+            .append("name", userName(i))
+            .append("age", age(i))
+            .append("score", score(i))
+            .append("active", active(i));
+        if (email(i) != null) {
+          user.append("email", email(i));
+        }
+        Group tags = user.addGroup("tags");
+        for (int t = 0; t < tagCount(i); t++) {
+          tags.addGroup("list").append("element", tag(i, t));
+        }
+        user.addGroup("address")
+            .append("street", street(i))
+            .append("city", city(i))
+            .append("zip", zip(i));
+        Group phones = user.addGroup("phones");
+        for (int p = 0; p < phoneCount(i); p++) {
+          phones.addGroup("list")
+              .addGroup("element")
+              .append("number", phoneNumber(i, p))
+              .append("kind", phoneKind(p));
+        }
+        records.add(user);
+      }
+      return records;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void write(Path file, List<?> records) throws IOException {
+      try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(file)
+          .withConf(configuration)
+          .withType(GROUP_SCHEMA)
+          .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+          .withCompressionCodec(CODEC)
+          .build()) {
+        for (Group record : (List<Group>) records) {
+          writer.write(record);
+        }
+      }
+    }
+
+    @Override
+    ParquetReader<?> openReader(Path file, boolean projected, FilterCompat.Filter filter) throws IOException {
+      Configuration conf = new Configuration(configuration);
+      if (projected) {
+        conf.set(ReadSupport.PARQUET_READ_SCHEMA, GROUP_PROJECTION.toString());
+      }
+      return ParquetReader.builder(new GroupReadSupport(), file)
+          .withConf(conf)
+          .withFilter(filter)
+          .build();
+    }
+  },
+
+  AVRO {
+    @Override
+    List<?> newRecords(int count) {
+      Schema addressSchema = AVRO_SCHEMA.getField("address").schema();
+      Schema phonesSchema = AVRO_SCHEMA.getField("phones").schema();
+      Schema tagsSchema = AVRO_SCHEMA.getField("tags").schema();
+      List<GenericRecord> records = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        GenericRecord address = new GenericData.Record(addressSchema);
+        address.put("street", street(i));
+        address.put("city", city(i));
+        address.put("zip", zip(i));
+        GenericData.Array<String> tags = new GenericData.Array<>(tagCount(i), tagsSchema);
+        for (int t = 0; t < tagCount(i); t++) {
+          tags.add(tag(i, t));
+        }
+        GenericData.Array<GenericRecord> phones = new GenericData.Array<>(phoneCount(i), phonesSchema);
+        for (int p = 0; p < phoneCount(i); p++) {
+          GenericRecord phone = new GenericData.Record(phonesSchema.getElementType());
+          phone.put("number", phoneNumber(i, p));
+          phone.put("kind", phoneKind(p));
+          phones.add(phone);
+        }
+        GenericRecord user = new GenericData.Record(AVRO_SCHEMA);
+        user.put("id", (long) i);
+        user.put("name", userName(i));
+        user.put("email", email(i));
+        user.put("age", age(i));
+        user.put("score", score(i));
+        user.put("active", active(i));
+        user.put("tags", tags);
+        user.put("address", address);
+        user.put("phones", phones);
+        records.add(user);
+      }
+      return records;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void write(Path file, List<?> records) throws IOException {
+      try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(file)
+          .withConf(configuration)
+          .withSchema(AVRO_SCHEMA)
+          .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+          .withCompressionCodec(CODEC)
+          .build()) {
+        for (GenericRecord record : (List<GenericRecord>) records) {
+          writer.write(record);
+        }
+      }
+    }
+
+    @Override
+    ParquetReader<?> openReader(Path file, boolean projected, FilterCompat.Filter filter) throws IOException {
+      Configuration conf = new Configuration(configuration);
+      if (projected) {
+        AvroReadSupport.setRequestedProjection(conf, AVRO_PROJECTION);
+      }
+      return AvroParquetReader.<GenericRecord>builder(file)
+          .withConf(conf)
+          .withFilter(filter)
+          .build();
+    }
+  },
+
+  PROTOBUF {
+    @Override
+    List<?> newRecords(int count) {
+      List<ObjectModelBenchmarkProtos.User> records = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        ObjectModelBenchmarkProtos.User.Builder user = ObjectModelBenchmarkProtos.User.newBuilder()
+            .setId(i)
+            .setName(userName(i))
+            .setAge(age(i))
+            .setScore(score(i))
+            .setActive(active(i))
+            .setAddress(ObjectModelBenchmarkProtos.Address.newBuilder()
+                .setStreet(street(i))
+                .setCity(city(i))
+                .setZip(zip(i)));
+        if (email(i) != null) {
+          user.setEmail(email(i));
+        }
+        for (int t = 0; t < tagCount(i); t++) {
+          user.addTags(tag(i, t));
+        }
+        for (int p = 0; p < phoneCount(i); p++) {
+          user.addPhones(ObjectModelBenchmarkProtos.Phone.newBuilder()
+              .setNumber(phoneNumber(i, p))
+              .setKind(phoneKind(p)));
+        }
+        records.add(user.build());
+      }
+      return records;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void write(Path file, List<?> records) throws IOException {
+      try (ParquetWriter<ObjectModelBenchmarkProtos.User> writer =
+          ProtoParquetWriter.<ObjectModelBenchmarkProtos.User>builder(file)
+              .withConf(configuration)
+              .withMessage(ObjectModelBenchmarkProtos.User.class)
+              .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+              .withCompressionCodec(CODEC)
+              .build()) {
+        for (ObjectModelBenchmarkProtos.User record : (List<ObjectModelBenchmarkProtos.User>) records) {
+          writer.write(record);
+        }
+      }
+    }
+
+    @Override
+    ParquetReader<?> openReader(Path file, boolean projected, FilterCompat.Filter filter) throws IOException {
+      Configuration conf = new Configuration(configuration);
+      if (projected) {
+        ProtoReadSupport.setRequestedProjection(conf, PROTOBUF_PROJECTION.toString());
+      }
+      return ProtoParquetReader.builder(file)
+          .withConf(conf)
+          .withFilter(filter)
+          .build();
+    }
+  },
+
+  THRIFT {
+    @Override
+    List<?> newRecords(int count) {
+      List<User> records = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        Address address = new Address();
+        address.setStreet(street(i));
+        address.setCity(city(i));
+        address.setZip(zip(i));
+        List<String> tags = new ArrayList<>(tagCount(i));
+        for (int t = 0; t < tagCount(i); t++) {
+          tags.add(tag(i, t));
+        }
+        List<Phone> phones = new ArrayList<>(phoneCount(i));
+        for (int p = 0; p < phoneCount(i); p++) {
+          Phone phone = new Phone();
+          phone.setNumber(phoneNumber(i, p));
+          phone.setKind(phoneKind(p));
+          phones.add(phone);
+        }
+        User user = new User();
+        user.setId(i);
+        user.setName(userName(i));
+        if (email(i) != null) {
+          user.setEmail(email(i));
+        }
+        user.setAge(age(i));
+        user.setScore(score(i));
+        user.setActive(active(i));
+        user.setTags(tags);
+        user.setAddress(address);
+        user.setPhones(phones);
+        records.add(user);
+      }
+      return records;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void write(Path file, List<?> records) throws IOException {
+      try (ParquetWriter<User> writer = new ThriftWriterBuilder(file)
+          .withConf(configuration)
+          .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+          .withCompressionCodec(CODEC)
+          .build()) {
+        for (User record : (List<User>) records) {
+          writer.write(record);
+        }
+      }
+    }
+
+    @Override
+    ParquetReader<?> openReader(Path file, boolean projected, FilterCompat.Filter filter) throws IOException {
+      Configuration conf = new Configuration(configuration);
+      if (projected) {
+        ThriftReadSupport.setStrictFieldProjectionFilter(conf, "id;address.city");
+      }
+      return ThriftParquetReader.<User>build(file)
+          .withThriftClass(User.class)
+          .withConf(conf)
+          .withFilter(filter)
+          .build();
+    }
+  };
+
+  private static final CompressionCodecName CODEC = CompressionCodecName.UNCOMPRESSED;
+
+  private static final MessageType GROUP_SCHEMA = parseMessageType("message User { "
+      + "required int64 id; "
+      + "required binary name (STRING); "
+      + "optional binary email (STRING); "
+      + "required int32 age; "
+      + "required double score; "
+      + "required boolean active; "
+      + "required group tags (LIST) { "
+      + "  repeated group list { required binary element (STRING); } "
+      + "} "
+      + "required group address { "
+      + "  required binary street (STRING); "
+      + "  required binary city (STRING); "
+      + "  required int32 zip; "
+      + "} "
+      + "required group phones (LIST) { "
+      + "  repeated group list { "
+      + "    required group element { required binary number (STRING); required binary kind (STRING); } "
+      + "  } "
+      + "} "
+      + "}");
+
+  private static final MessageType GROUP_PROJECTION = parseMessageType("message User { "
+      + "required int64 id; "
+      + "required group address { required binary city (STRING); } "
+      + "}");
+
+  private static final MessageType PROTOBUF_PROJECTION = parseMessageType("message User { "
+      + "optional int64 id; "
+      + "optional group address { optional binary city (STRING); } "
+      + "}");
+
+  private static final Schema AVRO_SCHEMA = loadAvroSchema("object_model_benchmark.avsc");
+
+  private static final Schema AVRO_PROJECTION = new Schema.Parser()
+      .parse("{\"type\": \"record\", \"name\": \"User\", \"namespace\": \"org.apache.parquet.benchmarks.avro\", "
+          + "\"fields\": [{\"name\": \"id\", \"type\": \"long\"}, "
+          + "{\"name\": \"address\", \"type\": {\"type\": \"record\", \"name\": \"Address\", "
+          + "\"fields\": [{\"name\": \"city\", \"type\": \"string\"}]}}]}");
+
+  private static final String[] CITIES = {"Amsterdam", "Budapest", "Lisbon", "Oslo", "Prague", "Santiago", "Tokyo"};
+  private static final String[] TAGS = {"admin", "beta", "mobile", "premium", "trial", "verified"};
+  private static final String[] PHONE_KINDS = {"home", "mobile", "work"};
+
+  /**
+   * Creates {@code count} records of this object model; the n-th record holds the same logical values for every
+   * model.
+   *
+   * @param count the number of records to create
+   * @return the records, in the native representation of this model
+   */
+  abstract List<?> newRecords(int count);
+
+  /**
+   * Writes the specified records (as created by {@link #newRecords(int)}) to {@code file}, overwriting it.
+   *
+   * @param file    the file to write
+   * @param records the records to write
+   * @throws IOException if any I/O error occurs
+   */
+  abstract void write(Path file, List<?> records) throws IOException;
+
+  /**
+   * Opens a reader on a file written by {@link #write(Path, List)}.
+   *
+   * @param file      the file to read
+   * @param projected whether only {@code id} and {@code address.city} shall be requested
+   * @param filter    the record filter to apply
+   * @return the reader, producing records in the native representation of this model
+   * @throws IOException if any I/O error occurs
+   */
+  abstract ParquetReader<?> openReader(Path file, boolean projected, FilterCompat.Filter filter) throws IOException;
+
+  /**
+   * @param recordCount the number of records in the file
+   * @return the filter used by the "filtered" read variant; it keeps about a tenth of the records
+   */
+  static FilterCompat.Filter selectiveFilter(int recordCount) {
+    return FilterCompat.get(lt(longColumn("id"), recordCount / 10L));
+  }
+
+  private static Schema loadAvroSchema(String resource) {
+    try (InputStream in = ObjectModel.class.getClassLoader().getResourceAsStream(resource)) {
+      return new Schema.Parser().parse(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String userName(int i) {
+    return "user-" + i;
+  }
+
+  private static String email(int i) {
+    return i % 3 == 0 ? null : "user-" + i + "@example.com";
+  }
+
+  private static int age(int i) {
+    return 18 + i % 60;
+  }
+
+  private static double score(int i) {
+    return (i % 1000) / 10.0;
+  }
+
+  private static boolean active(int i) {
+    return i % 2 == 0;
+  }
+
+  private static int tagCount(int i) {
+    return i % 4;
+  }
+
+  private static String tag(int i, int t) {
+    return TAGS[(i + t) % TAGS.length];
+  }
+
+  private static String street(int i) {
+    return (i % 200) + " Main Street";
+  }
+
+  private static String city(int i) {
+    return CITIES[i % CITIES.length];
+  }
+
+  private static int zip(int i) {
+    return 10000 + i % 90000;
+  }
+
+  private static int phoneCount(int i) {
+    return i % 3;
+  }
+
+  private static String phoneNumber(int i, int p) {
+    return "+1-555-" + (1000 + (i * 7 + p) % 9000);
+  }
+
+  private static String phoneKind(int p) {
+    return PHONE_KINDS[p % PHONE_KINDS.length];
+  }
+
+  private static class ThriftWriterBuilder extends ParquetWriter.Builder<User, ThriftWriterBuilder> {
+    private ThriftWriterBuilder(Path file) {
+      super(file);
+    }
+
+    @Override
+    protected ThriftWriterBuilder self() {
+      return this;
+    }
+
+    @Override
+    protected WriteSupport<User> getWriteSupport(Configuration conf) {
+      return new TBaseWriteSupport<>(User.class);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.benchmarks;
+
+import static org.apache.parquet.benchmarks.BenchmarkConstants.HUNDRED_K;
+import static org.apache.parquet.benchmarks.BenchmarkFiles.TARGET_DIR;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes the same nested dataset through every {@link ObjectModel}. The records are created up front so that only
+ * the conversion to Parquet columns, the encoding and the I/O are measured.
+ * <p>
+ * One benchmark operation is one record, so the reported throughput is in records per second. Running with the GC
+ * profiler ({@code -prof gc}) reports the bytes allocated per record as {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OperationsPerInvocation(ObjectModelWriteBenchmarks.RECORD_COUNT)
+@State(Scope.Benchmark)
+public class ObjectModelWriteBenchmarks {
+  static final int RECORD_COUNT = HUNDRED_K;
+
+  @Param
+  public ObjectModel model;
+
+  private Path file;
+  private List<?> records;
+
+  @Setup(Level.Trial)
+  public void createRecords() {
+    file = new Path(TARGET_DIR + "/OBJECT-MODEL-WRITE-" + model);
+    records = model.newRecords(RECORD_COUNT);
+  }
+
+  @Benchmark
+  public void write() throws IOException {
+    model.write(file, records);
+  }
+}
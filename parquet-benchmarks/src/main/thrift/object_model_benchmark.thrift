@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+namespace java org.apache.parquet.benchmarks.thrift
+
+struct Address {
+  1: optional string street;
+  2: optional string city;
+  3: optional i32 zip;
+}
+
+struct Phone {
+  1: optional string number;
+  2: optional string kind;
+}
+
+struct User {
+  1: required i64 id;
+  2: optional string name;
+  3: optional string email;
+  4: optional i32 age;
+  5: optional double score;
+  6: optional bool active;
+  7: optional list<string> tags;
+  8: optional Address address;
+  9: optional list<Phone> phones;
+}
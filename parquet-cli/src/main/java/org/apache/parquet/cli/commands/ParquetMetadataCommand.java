@@ -42,6 +42,7 @@ import org.apache.parquet.cli.BaseCommand;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.format.converter.ParquetMetadataConverter;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -167,6 +168,8 @@ public class ParquetMetadataCommand extends BaseCommand {
     String encodingSummary =
         encodingStats == null ? encodingsAsString(encodings, desc) : encodingStatsAsString(encodingStats);
     Statistics stats = column.getStatistics();
+    HyperLogLog distinctCountSketch = column.getDistinctCountSketch();
+    String distinctCount = distinctCountSketch == null ? "" : "  ndv: ~" + distinctCountSketch.getEstimate();
 
     String name = column.getPath().toDotString();
 
@@ -181,7 +184,7 @@ public class ParquetMetadataCommand extends BaseCommand {
           count,
           humanReadable(perValue),
           stats == null || !stats.isNumNullsSet() ? "" : String.valueOf(stats.getNumNulls()),
-          minMaxAsString(stats)));
+          minMaxAsString(stats) + distinctCount));
     } else {
       console.info(String.format(
           "%-" + width + "s  %-9s %s %-7s %-9d %-10s %-7s %s",
@@ -192,7 +195,7 @@ public class ParquetMetadataCommand extends BaseCommand {
           count,
           humanReadable(perValue),
           stats == null || !stats.isNumNullsSet() ? "" : String.valueOf(stats.getNumNulls()),
-          minMaxAsString(stats)));
+          minMaxAsString(stats) + distinctCount));
     }
   }
 }
@@ -78,9 +78,28 @@ public interface ColumnReader {
    * available when the underlying encoding is dictionary based
    *
    * @return the dictionary id for the current value
+   * @see #isCurrentPageDictionaryEncoded()
    */
   int getCurrentValueDictionaryID();
 
+  /**
+   * @return the dictionary of the column chunk or null if it has none
+   */
+  default Dictionary getDictionary() {
+    return null;
+  }
+
+  /**
+   * A column chunk may switch from dictionary encoded pages to pages of another encoding, e.g. when its dictionary
+   * grew too large while it was written.
+   *
+   * @return whether the values of the current page are dictionary encoded so their ids in the
+   *     {@link #getDictionary() dictionary} can be read by {@link #getCurrentValueDictionaryID()}
+   */
+  default boolean isCurrentPageDictionaryEncoded() {
+    return false;
+  }
+
   /**
    * @return the current value
    */
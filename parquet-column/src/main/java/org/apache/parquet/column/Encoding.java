@@ -36,6 +36,7 @@ import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesRea
 import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesReaderForInteger;
 import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesReaderForLong;
 import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReader;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReaderForInteger;
 import org.apache.parquet.column.values.deltalengthbytearray.DeltaLengthByteArrayValuesReader;
 import org.apache.parquet.column.values.deltastrings.DeltaByteArrayReader;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesReader;
@@ -190,6 +191,9 @@ public enum Encoding {
         throw new ParquetDecodingException(
             "Encoding DELTA_BINARY_PACKED is only supported for type INT32 and INT64");
       }
+      if (descriptor.getType() == INT32) {
+        return new DeltaBinaryPackingValuesReaderForInteger();
+      }
       return new DeltaBinaryPackingValuesReader();
     }
   },
@@ -62,6 +62,8 @@ public class ParquetProperties {
   public static final boolean DEFAULT_BLOOM_FILTER_ENABLED = false;
   public static final double DEFAULT_BLOOM_FILTER_FPP = 0.01;
   public static final boolean DEFAULT_ADAPTIVE_BLOOM_FILTER_ENABLED = false;
+  public static final boolean DEFAULT_PAGE_BLOOM_FILTER_ENABLED = false;
+  public static final boolean DEFAULT_DISTINCT_COUNT_SKETCH_ENABLED = false;
   public static final int DEFAULT_BLOOM_FILTER_CANDIDATES_NUMBER = 5;
 
   public static final boolean DEFAULT_PAGE_WRITE_CHECKSUM_ENABLED = true;
@@ -118,6 +120,8 @@ public class ParquetProperties {
   private final ColumnProperty<Boolean> bloomFilterEnabled;
   private final ColumnProperty<Boolean> adaptiveBloomFilterEnabled;
   private final ColumnProperty<Integer> numBloomFilterCandidates;
+  private final ColumnProperty<Boolean> pageBloomFilterEnabled;
+  private final ColumnProperty<Boolean> distinctCountSketchEnabled;
   private final int pageRowCountLimit;
   private final boolean pageWriteChecksumEnabled;
   private final ColumnProperty<ByteStreamSplitMode> byteStreamSplitEnabled;
@@ -145,6 +149,8 @@ public class ParquetProperties {
     this.maxBloomFilterBytes = builder.maxBloomFilterBytes;
     this.adaptiveBloomFilterEnabled = builder.adaptiveBloomFilterEnabled.build();
     this.numBloomFilterCandidates = builder.numBloomFilterCandidates.build();
+    this.pageBloomFilterEnabled = builder.pageBloomFilterEnabled.build();
+    this.distinctCountSketchEnabled = builder.distinctCountSketchEnabled.build();
     this.pageRowCountLimit = builder.pageRowCountLimit;
     this.pageWriteChecksumEnabled = builder.pageWriteChecksumEnabled;
     this.byteStreamSplitEnabled = builder.byteStreamSplitEnabled.build();
@@ -326,6 +332,23 @@ public class ParquetProperties {
     return numBloomFilterCandidates.getValue(column);
   }
 
+  /**
+   * @param column the column
+   * @return whether a Bloom filter shall be written for every data page of the column; it requires the column level
+   * Bloom filter to be enabled as well
+   */
+  public boolean isPageBloomFilterEnabled(ColumnDescriptor column) {
+    return pageBloomFilterEnabled.getValue(column) && isBloomFilterEnabled(column);
+  }
+
+  /**
+   * @param column the column
+   * @return whether a sketch of the distinct values of every column chunk of the column shall be written
+   */
+  public boolean isDistinctCountSketchEnabled(ColumnDescriptor column) {
+    return distinctCountSketchEnabled.getValue(column);
+  }
+
   public Map<String, String> getExtraMetaData() {
     return extraMetaData;
   }
@@ -345,6 +368,8 @@ public class ParquetProperties {
         + "Max Bloom filter size for a column is " + getMaxBloomFilterBytes() + '\n'
         + "Bloom filter expected number of distinct values are: " + bloomFilterNDVs + '\n'
         + "Bloom filter false positive probabilities are: " + bloomFilterFPPs + '\n'
+        + "Page Bloom filter enabled: " + pageBloomFilterEnabled + '\n'
+        + "Distinct count sketch enabled: " + distinctCountSketchEnabled + '\n'
         + "Page row count limit to " + getPageRowCountLimit() + '\n'
         + "Writing page checksums is: " + (getPageWriteChecksumEnabled() ? "on" : "off");
   }
@@ -368,6 +393,8 @@ public class ParquetProperties {
     private final ColumnProperty.Builder<Boolean> adaptiveBloomFilterEnabled;
     private final ColumnProperty.Builder<Integer> numBloomFilterCandidates;
     private final ColumnProperty.Builder<Boolean> bloomFilterEnabled;
+    private final ColumnProperty.Builder<Boolean> pageBloomFilterEnabled;
+    private final ColumnProperty.Builder<Boolean> distinctCountSketchEnabled;
     private int pageRowCountLimit = DEFAULT_PAGE_ROW_COUNT_LIMIT;
     private boolean pageWriteChecksumEnabled = DEFAULT_PAGE_WRITE_CHECKSUM_ENABLED;
     private final ColumnProperty.Builder<ByteStreamSplitMode> byteStreamSplitEnabled;
@@ -387,6 +414,10 @@ public class ParquetProperties {
           ColumnProperty.<Boolean>builder().withDefaultValue(DEFAULT_ADAPTIVE_BLOOM_FILTER_ENABLED);
       numBloomFilterCandidates =
           ColumnProperty.<Integer>builder().withDefaultValue(DEFAULT_BLOOM_FILTER_CANDIDATES_NUMBER);
+      pageBloomFilterEnabled =
+          ColumnProperty.<Boolean>builder().withDefaultValue(DEFAULT_PAGE_BLOOM_FILTER_ENABLED);
+      distinctCountSketchEnabled =
+          ColumnProperty.<Boolean>builder().withDefaultValue(DEFAULT_DISTINCT_COUNT_SKETCH_ENABLED);
     }
 
     private Builder(ParquetProperties toCopy) {
@@ -406,6 +437,8 @@ public class ParquetProperties {
       this.bloomFilterEnabled = ColumnProperty.builder(toCopy.bloomFilterEnabled);
       this.adaptiveBloomFilterEnabled = ColumnProperty.builder(toCopy.adaptiveBloomFilterEnabled);
       this.numBloomFilterCandidates = ColumnProperty.builder(toCopy.numBloomFilterCandidates);
+      this.pageBloomFilterEnabled = ColumnProperty.builder(toCopy.pageBloomFilterEnabled);
+      this.distinctCountSketchEnabled = ColumnProperty.builder(toCopy.distinctCountSketchEnabled);
       this.maxBloomFilterBytes = toCopy.maxBloomFilterBytes;
       this.byteStreamSplitEnabled = ColumnProperty.builder(toCopy.byteStreamSplitEnabled);
       this.extraMetaData = toCopy.extraMetaData;
@@ -641,6 +674,62 @@ public class ParquetProperties {
       return this;
     }
 
+    /**
+     * Enable or disable writing a Bloom filter for every data page of the columns not specified by
+     * {@link #withPageBloomFilterEnabled(String, boolean)}. Page Bloom filters are only written for columns having the
+     * column level Bloom filter enabled.
+     *
+     * @param enabled whether page Bloom filters shall be enabled for all columns
+     * @return this builder for method chaining
+     */
+    public Builder withPageBloomFilterEnabled(boolean enabled) {
+      this.pageBloomFilterEnabled.withDefaultValue(enabled);
+      return this;
+    }
+
+    /**
+     * Enable or disable writing a Bloom filter for every data page of the specified column. The page Bloom filters
+     * allow skipping the pages not containing the values of equality predicates. Enabling page Bloom filters for a
+     * column implies enabling its column level Bloom filter (see {@link #withBloomFilterEnabled(String, boolean)}).
+     *
+     * @param columnPath the path of the column (dot-string)
+     * @param enabled    whether page Bloom filters shall be enabled
+     * @return this builder for method chaining
+     */
+    public Builder withPageBloomFilterEnabled(String columnPath, boolean enabled) {
+      this.pageBloomFilterEnabled.withValue(columnPath, enabled);
+      if (enabled) {
+        this.bloomFilterEnabled.withValue(columnPath, true);
+      }
+      return this;
+    }
+
+    /**
+     * Enable or disable writing a sketch of the distinct values of the column chunks of the columns not specified by
+     * {@link #withDistinctCountSketchEnabled(String, boolean)}.
+     *
+     * @param enabled whether distinct count sketches shall be enabled for all columns
+     * @return this builder for method chaining
+     */
+    public Builder withDistinctCountSketchEnabled(boolean enabled) {
+      this.distinctCountSketchEnabled.withDefaultValue(enabled);
+      return this;
+    }
+
+    /**
+     * Enable or disable writing a HyperLogLog sketch of the distinct values of every column chunk of the specified
+     * column. The sketches are stored in the footer and can be merged to estimate the number of distinct values of
+     * several row groups or files.
+     *
+     * @param columnPath the path of the column (dot-string)
+     * @param enabled    whether distinct count sketches shall be enabled
+     * @return this builder for method chaining
+     */
+    public Builder withDistinctCountSketchEnabled(String columnPath, boolean enabled) {
+      this.distinctCountSketchEnabled.withValue(columnPath, enabled);
+      return this;
+    }
+
     public Builder withPageRowCountLimit(int rowCount) {
       Preconditions.checkArgument(rowCount > 0, "Invalid row count limit for pages: %s", rowCount);
       pageRowCountLimit = rowCount;
@@ -160,7 +160,10 @@ abstract class ColumnReaderBase implements ColumnReader {
   // TODO: rework that
   private boolean valueRead;
 
+  // The ids of the dictionary encoded values are always read so they are available through
+  // getCurrentValueDictionaryID(); the values are only decoded if they are requested
   private void bindToDictionary(final Dictionary dictionary) {
+    final boolean dictionarySupport = converter.hasDictionarySupport();
     binding = new Binding() {
       @Override
       void read() {
@@ -184,7 +187,29 @@ abstract class ColumnReaderBase implements ColumnReader {
 
       @Override
       void writeValue() {
-        converter.addValueFromDictionary(dictionaryId);
+        if (dictionarySupport) {
+          converter.addValueFromDictionary(dictionaryId);
+          return;
+        }
+        switch (path.getType()) {
+          case BOOLEAN:
+            converter.addBoolean(getBoolean());
+            break;
+          case INT32:
+            converter.addInt(getInteger());
+            break;
+          case INT64:
+            converter.addLong(getLong());
+            break;
+          case FLOAT:
+            converter.addFloat(getFloat());
+            break;
+          case DOUBLE:
+            converter.addDouble(getDouble());
+            break;
+          default:
+            converter.addBinary(getBinary());
+        }
       }
 
       @Override
@@ -455,7 +480,10 @@ abstract class ColumnReaderBase implements ColumnReader {
     DictionaryPage dictionaryPage = pageReader.readDictionaryPage();
     if (dictionaryPage != null) {
       try {
-        this.dictionary = dictionaryPage.getEncoding().initDictionary(path, dictionaryPage);
+        // the dictionary is copied once so its values outlive the page buffers and never need to be copied
+        this.dictionary = dictionaryPage
+            .getEncoding()
+            .initDictionary(path, pageReader.hasScopedBuffers() ? dictionaryPage.copy() : dictionaryPage);
         if (converter.hasDictionarySupport()) {
           converter.setDictionary(dictionary);
         }
@@ -492,6 +520,16 @@ abstract class ColumnReaderBase implements ColumnReader {
     return binding.getDictionaryId();
   }
 
+  @Override
+  public Dictionary getDictionary() {
+    return dictionary;
+  }
+
+  @Override
+  public boolean isCurrentPageDictionaryEncoded() {
+    return currentEncoding != null && currentEncoding.usesDictionary();
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -714,8 +752,9 @@ abstract class ColumnReaderBase implements ColumnReader {
     } else {
       this.dataColumn = dataEncoding.getValuesReader(path, VALUES);
     }
+    dataColumn.setScopedBuffers(pageReader.hasScopedBuffers());
 
-    if (dataEncoding.usesDictionary() && converter.hasDictionarySupport()) {
+    if (dataEncoding.usesDictionary()) {
       bindToDictionary(dictionary);
     } else {
       bind(path.getType());
@@ -18,12 +18,14 @@
  */
 package org.apache.parquet.column.impl;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.column.values.bloomfilter.AdaptiveBlockSplitBloomFilter;
@@ -31,6 +33,7 @@ import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.column.values.bloomfilter.BloomFilterWriter;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 
 // An internal class to collect column values to build column statistics and bloom filter.
 class ColumnValueCollector {
@@ -40,11 +43,18 @@ class ColumnValueCollector {
   private BloomFilter bloomFilter;
   private Statistics<?> statistics;
   private SizeStatistics.Builder sizeStatisticsBuilder;
+  // the distinct hashes of the values of the current page; null if page Bloom filters are not written
+  private LongOpenHashSet pageHashes;
+  private double pageBloomFilterFpp;
+  private int maxBloomFilterSize;
+  // the sketch of the distinct values of the column chunk; null if not enabled
+  private final HyperLogLog distinctCountSketch;
 
   ColumnValueCollector(ColumnDescriptor path, BloomFilterWriter bloomFilterWriter, ParquetProperties props) {
     this.path = path;
     resetPageStatistics();
     initBloomFilter(bloomFilterWriter, props);
+    this.distinctCountSketch = props.isDistinctCountSketchEnabled(path) ? new HyperLogLog() : null;
   }
 
   void resetPageStatistics() {
@@ -61,36 +71,61 @@ class ColumnValueCollector {
   void write(boolean value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel);
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
   }
 
   void write(int value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel);
-    bloomFilter.insertHash(bloomFilter.hash(value));
+    insertHash(bloomFilter.hash(value));
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
   }
 
   void write(long value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel);
-    bloomFilter.insertHash(bloomFilter.hash(value));
+    insertHash(bloomFilter.hash(value));
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
   }
 
   void write(float value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel);
-    bloomFilter.insertHash(bloomFilter.hash(value));
+    insertHash(bloomFilter.hash(value));
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
   }
 
   void write(double value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel);
-    bloomFilter.insertHash(bloomFilter.hash(value));
+    insertHash(bloomFilter.hash(value));
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
   }
 
   void write(Binary value, int repetitionLevel, int definitionLevel) {
     statistics.updateStats(value);
     sizeStatisticsBuilder.add(repetitionLevel, definitionLevel, value);
-    bloomFilter.insertHash(bloomFilter.hash(value));
+    insertHash(bloomFilter.hash(value));
+    if (distinctCountSketch != null) {
+      distinctCountSketch.add(value);
+    }
+  }
+
+  private void insertHash(long hash) {
+    bloomFilter.insertHash(hash);
+    if (pageHashes != null) {
+      pageHashes.add(hash);
+    }
   }
 
   void initBloomFilter(BloomFilterWriter bloomFilterWriter, ParquetProperties props) {
@@ -175,6 +210,30 @@ class ColumnValueCollector {
     } else {
       this.bloomFilter = new BlockSplitBloomFilter(maxBloomFilterSize, maxBloomFilterSize);
     }
+
+    // boolean values are not inserted into Bloom filters
+    if (props.isPageBloomFilterEnabled(path)
+        && path.getPrimitiveType().getPrimitiveTypeName() != PrimitiveTypeName.BOOLEAN) {
+      this.pageHashes = new LongOpenHashSet();
+      this.pageBloomFilterFpp = fpp.getAsDouble();
+      this.maxBloomFilterSize = maxBloomFilterSize;
+    }
+  }
+
+  /**
+   * Writes the Bloom filter of the values of the page written last if page Bloom filters are enabled. The filter is
+   * sized by the number of distinct values of the page.
+   */
+  void finalizePage() {
+    if (pageHashes == null) {
+      return;
+    }
+    int optimalNumOfBits =
+        BlockSplitBloomFilter.optimalNumOfBits(Math.max(pageHashes.size(), 1), pageBloomFilterFpp);
+    BloomFilter pageBloomFilter = new BlockSplitBloomFilter(optimalNumOfBits / 8, maxBloomFilterSize);
+    pageBloomFilter.insertHashes(pageHashes.toLongArray());
+    bloomFilterWriter.writePageBloomFilter(pageBloomFilter);
+    pageHashes.clear();
   }
 
   void finalizeColumnChunk() {
@@ -183,6 +242,13 @@ class ColumnValueCollector {
     }
   }
 
+  /**
+   * @return the sketch of the distinct values of the column chunk or {@code null} if not enabled for the column
+   */
+  HyperLogLog getDistinctCountSketch() {
+    return distinctCountSketch;
+  }
+
   Statistics<?> getStatistics() {
     return statistics;
   }
@@ -25,6 +25,7 @@ import org.apache.parquet.column.ColumnWriter;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.page.DictionaryPage;
 import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.column.values.ValuesWriter;
@@ -290,6 +291,10 @@ abstract class ColumnWriterBase implements ColumnWriter {
       }
 
       collector.finalizeColumnChunk();
+      HyperLogLog distinctCountSketch = collector.getDistinctCountSketch();
+      if (distinctCountSketch != null) {
+        pageWriter.writeDistinctCountSketch(distinctCountSketch);
+      }
     } catch (Throwable t) {
       statusManager.abort();
       throw t;
@@ -386,6 +391,7 @@ abstract class ColumnWriterBase implements ColumnWriter {
       } catch (IOException e) {
         throw new ParquetEncodingException("could not write page for " + path, e);
       }
+      collector.finalizePage();
       repetitionLevelColumn.reset();
       definitionLevelColumn.reset();
       dataColumn.reset();
@@ -59,6 +59,11 @@ public interface PageReadStore extends AutoCloseable {
     return Optional.empty();
   }
 
+  /**
+   * Releases the buffers of the pages. The binary values read from this row group that are
+   * {@link org.apache.parquet.io.api.Binary#isBackingBytesScoped() scoped} are not valid afterwards; they are to be
+   * copied to be kept for longer.
+   */
   @Override
   default void close() {
     // No-op default implementation for compatibility
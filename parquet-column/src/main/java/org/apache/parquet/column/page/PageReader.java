@@ -37,4 +37,13 @@ public interface PageReader {
    * @return the next page in that chunk or null if after the last page
    */
   DataPage readPage();
+
+  /**
+   * @return whether the buffers of the pages are only valid until the page store this reader belongs to is closed as
+   * they might be reused afterwards; the binary values read from them are then marked as scoped, see
+   * {@link org.apache.parquet.io.api.Binary#isBackingBytesScoped()}
+   */
+  default boolean hasScopedBuffers() {
+    return false;
+  }
 }
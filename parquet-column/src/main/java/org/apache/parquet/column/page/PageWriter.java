@@ -21,6 +21,7 @@ package org.apache.parquet.column.page;
 import java.io.IOException;
 import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 
@@ -168,6 +169,15 @@ public interface PageWriter extends AutoCloseable {
    */
   void writeDictionaryPage(DictionaryPage dictionaryPage) throws IOException;
 
+  /**
+   * Writes the sketch of the distinct values of the column chunk; called once all the pages are written.
+   *
+   * @param sketch the sketch of the distinct values
+   */
+  default void writeDistinctCountSketch(HyperLogLog sketch) {
+    // No-op default implementation for compatibility
+  }
+
   /**
    * @param prefix a prefix header to add at every line
    * @return a string presenting a summary of how memory is used
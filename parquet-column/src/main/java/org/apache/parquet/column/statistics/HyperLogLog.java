@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.statistics;
+
+import java.util.Arrays;
+import org.apache.parquet.Preconditions;
+import org.apache.parquet.column.values.bloomfilter.HashFunction;
+import org.apache.parquet.column.values.bloomfilter.XxHash;
+import org.apache.parquet.io.api.Binary;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct values of a column. The values are hashed with XXH64 of
+ * their plain encoding, the same way as for Bloom filters, so the sketches of different column chunks and files can be
+ * merged to estimate the number of distinct values of all of them.
+ * <p>
+ * The sketch has 2^precision registers of one byte; the relative standard error of the estimates is about
+ * 1.04 / sqrt(2^precision), i.e. 2.3% with the default precision.
+ */
+public class HyperLogLog {
+
+  public static final int DEFAULT_PRECISION = 11;
+  public static final int MIN_PRECISION = 4;
+  public static final int MAX_PRECISION = 16;
+
+  // serialized forms: all the registers or the (index, value) pairs of the non-zero registers
+  private static final byte DENSE = 0;
+  private static final byte SPARSE = 1;
+
+  private static final HashFunction HASH_FUNCTION = new XxHash();
+
+  private final int precision;
+  private final byte[] registers;
+
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * @param precision the number of bits of the hashes selecting the registers
+   */
+  public HyperLogLog(int precision) {
+    Preconditions.checkArgument(
+        precision >= MIN_PRECISION && precision <= MAX_PRECISION,
+        "Invalid precision %s, must be between %s and %s",
+        precision,
+        MIN_PRECISION,
+        MAX_PRECISION);
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  public int getPrecision() {
+    return precision;
+  }
+
+  public void add(boolean value) {
+    addHash(HASH_FUNCTION.hashInt(value ? 1 : 0));
+  }
+
+  public void add(int value) {
+    addHash(HASH_FUNCTION.hashInt(value));
+  }
+
+  public void add(long value) {
+    addHash(HASH_FUNCTION.hashLong(value));
+  }
+
+  public void add(float value) {
+    addHash(HASH_FUNCTION.hashInt(Float.floatToRawIntBits(value)));
+  }
+
+  public void add(double value) {
+    addHash(HASH_FUNCTION.hashLong(Double.doubleToRawLongBits(value)));
+  }
+
+  public void add(Binary value) {
+    addHash(HASH_FUNCTION.hashByteBuffer(value.toByteBuffer()));
+  }
+
+  /**
+   * @param hash the XXH64 hash of a value
+   */
+  public void addHash(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // the position of the first set bit after the index bits, bounded by a stop bit
+    byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Merges the values of another sketch into this one.
+   *
+   * @param other a sketch of the same precision
+   * @throws IllegalArgumentException if the precisions are different
+   */
+  public void merge(HyperLogLog other) {
+    Preconditions.checkArgument(
+        other.precision == precision,
+        "Cannot merge sketches of different precisions: %s and %s",
+        precision,
+        other.precision);
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * @return the estimated number of distinct values added to this sketch
+   */
+  public long getEstimate() {
+    int m = registers.length;
+    double sum = 0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += Math.scalb(1.0, -register);
+      if (register == 0) {
+        ++zeros;
+      }
+    }
+    double estimate = alpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      // linear counting is more accurate for small cardinalities
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  private static double alpha(int m) {
+    switch (m) {
+      case 16:
+        return 0.673;
+      case 32:
+        return 0.697;
+      case 64:
+        return 0.709;
+      default:
+        return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+
+  /**
+   * @return the serialized form of this sketch
+   * @see #fromBytes(byte[])
+   */
+  public byte[] toBytes() {
+    int nonZero = 0;
+    for (byte register : registers) {
+      if (register != 0) {
+        ++nonZero;
+      }
+    }
+    if (3 * nonZero < registers.length) {
+      byte[] bytes = new byte[2 + 3 * nonZero];
+      bytes[0] = (byte) precision;
+      bytes[1] = SPARSE;
+      int pos = 2;
+      for (int i = 0; i < registers.length; i++) {
+        if (registers[i] != 0) {
+          bytes[pos++] = (byte) (i >>> 8);
+          bytes[pos++] = (byte) i;
+          bytes[pos++] = registers[i];
+        }
+      }
+      return bytes;
+    }
+    byte[] bytes = new byte[2 + registers.length];
+    bytes[0] = (byte) precision;
+    bytes[1] = DENSE;
+    System.arraycopy(registers, 0, bytes, 2, registers.length);
+    return bytes;
+  }
+
+  /**
+   * @param bytes the serialized form of a sketch
+   * @return the deserialized sketch
+   * @throws IllegalArgumentException if the bytes are not a valid sketch
+   * @see #toBytes()
+   */
+  public static HyperLogLog fromBytes(byte[] bytes) {
+    Preconditions.checkArgument(bytes.length >= 2, "Invalid HyperLogLog sketch of %s bytes", bytes.length);
+    HyperLogLog sketch = new HyperLogLog(bytes[0]);
+    int m = sketch.registers.length;
+    if (bytes[1] == DENSE) {
+      Preconditions.checkArgument(
+          bytes.length == 2 + m, "Invalid dense HyperLogLog sketch of %s bytes", bytes.length);
+      System.arraycopy(bytes, 2, sketch.registers, 0, m);
+    } else if (bytes[1] == SPARSE) {
+      Preconditions.checkArgument(
+          (bytes.length - 2) % 3 == 0, "Invalid sparse HyperLogLog sketch of %s bytes", bytes.length);
+      for (int pos = 2; pos < bytes.length; pos += 3) {
+        int index = ((bytes[pos] & 0xFF) << 8) | (bytes[pos + 1] & 0xFF);
+        Preconditions.checkArgument(index < m, "Invalid register index %s", index);
+        sketch.registers[index] = bytes[pos + 2];
+      }
+    } else {
+      throw new IllegalArgumentException("Unknown HyperLogLog sketch encoding: " + bytes[1]);
+    }
+    return sketch;
+  }
+
+  public HyperLogLog copy() {
+    HyperLogLog copy = new HyperLogLog(precision);
+    System.arraycopy(registers, 0, copy.registers, 0, registers.length);
+    return copy;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof HyperLogLog)) {
+      return false;
+    }
+    HyperLogLog other = (HyperLogLog) obj;
+    return precision == other.precision && Arrays.equals(registers, other.registers);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(registers);
+  }
+
+  @Override
+  public String toString() {
+    return "HyperLogLog{precision=" + precision + ", estimate=" + getEstimate() + '}';
+  }
+}
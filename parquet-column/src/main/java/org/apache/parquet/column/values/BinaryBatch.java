@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.parquet.io.api.Binary;
+
+/**
+ * Binary values stored back to back in one reusable byte array with an array of offsets, the value at index i being
+ * the bytes from {@code getOffsets()[i]} to {@code getOffsets()[i + 1]}; it is the layout of the variable width vectors
+ * of the columnar formats. It is filled by {@link ValuesReader#readBinaries(BinaryBatch, int)}, which appends to it, so
+ * it can be reused by {@link #clear() clearing} it.
+ */
+public class BinaryBatch {
+  private byte[] bytes;
+  private int[] offsets;
+  private int size;
+
+  public BinaryBatch() {
+    this(64, 1024);
+  }
+
+  /**
+   * @param valueCapacity the initial number of values
+   * @param byteCapacity  the initial number of bytes of the values
+   */
+  public BinaryBatch(int valueCapacity, int byteCapacity) {
+    this.bytes = new byte[byteCapacity];
+    this.offsets = new int[valueCapacity + 1];
+  }
+
+  /**
+   * Removes all the values; the arrays are kept.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * @return the number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the array containing the bytes of the values; it is replaced when it is grown
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return the array of the offsets of the values in {@link #getBytes()}; its first {@code size() + 1} items are set
+   */
+  public int[] getOffsets() {
+    return offsets;
+  }
+
+  /**
+   * @param index the index of a value
+   * @return the number of bytes of the value
+   */
+  public int getLength(int index) {
+    checkIndex(index);
+    return offsets[index + 1] - offsets[index];
+  }
+
+  /**
+   * @param index the index of a value
+   * @return the value backed by the array of this batch, so it is only valid until the batch is cleared or grown
+   */
+  public Binary get(int index) {
+    checkIndex(index);
+    return Binary.fromReusedByteArray(bytes, offsets[index], offsets[index + 1] - offsets[index]);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of the batch of " + size + " values");
+    }
+  }
+
+  /**
+   * Grows the arrays of this batch so the specified number of values and bytes can be added.
+   *
+   * @param valueCount the number of values to be added
+   * @param byteCount  the total number of bytes of the values to be added
+   */
+  public void ensureCapacity(int valueCount, int byteCount) {
+    if (size + valueCount + 1 > offsets.length) {
+      offsets = Arrays.copyOf(offsets, Math.max(size + valueCount + 1, offsets.length * 2));
+    }
+    int end = offsets[size];
+    if (end + byteCount > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(end + byteCount, bytes.length * 2));
+    }
+  }
+
+  /**
+   * Sets the number of values after their bytes and offsets are written to the arrays directly. The arrays are to be
+   * {@link #ensureCapacity(int, int) grown} first.
+   *
+   * @param size the number of values
+   */
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Appends a copy of the value.
+   *
+   * @param value the value to be appended
+   */
+  public void append(Binary value) {
+    append(value.toByteBuffer());
+  }
+
+  /**
+   * Appends a copy of the remaining bytes of the buffer; its position is not changed.
+   *
+   * @param value the value to be appended
+   */
+  public void append(ByteBuffer value) {
+    int length = value.remaining();
+    ensureCapacity(1, length);
+    int start = offsets[size];
+    value.duplicate().get(bytes, start, length);
+    offsets[++size] = start + length;
+  }
+}
@@ -39,6 +39,8 @@ public abstract class ValuesReader {
   private int actualOffset = -1;
   private int nextOffset;
 
+  private boolean scopedBuffers;
+
   /**
    * Called to initialize the column reader from a part of a page.
    * <p>
@@ -113,6 +115,26 @@ public abstract class ValuesReader {
     initFromPage(valueCount, in.slice(valueCount), 0);
   }
 
+  /**
+   * Sets whether the buffers of the pages are only valid until the end of a scope defined by their producer, e.g. until
+   * the row group they belong to is closed. The binary values read as slices of the pages are then marked as scoped, see
+   * {@link Binary#isBackingBytesScoped()}; readers copying the bytes of their values are not affected.
+   *
+   * @param scopedBuffers whether the page buffers are only valid until the end of a scope
+   */
+  public void setScopedBuffers(boolean scopedBuffers) {
+    this.scopedBuffers = scopedBuffers;
+  }
+
+  /**
+   * @param slice a slice of the page containing the bytes of a value
+   * @return the value backed by the slice, marked as scoped if the page buffers are
+   * @see #setScopedBuffers(boolean)
+   */
+  protected Binary pageSlice(ByteBuffer slice) {
+    return scopedBuffers ? Binary.fromScopedByteBuffer(slice) : Binary.fromConstantByteBuffer(slice);
+  }
+
   /**
    * Called to return offset of the next section
    *
@@ -143,6 +165,20 @@ public abstract class ValuesReader {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Reads the dictionary ids of the next values from the page; the same as calling {@link #readValueDictionaryId()}
+   * {@code length} times but the encodings may decode them in bulk.
+   *
+   * @param ids    the array to read the ids into
+   * @param offset the index of the first id in the array
+   * @param length the number of ids to be read
+   */
+  public void readValueDictionaryIds(int[] ids, int offset, int length) {
+    for (int i = 0; i < length; ++i) {
+      ids[offset + i] = readValueDictionaryId();
+    }
+  }
+
   /**
    * @return the next boolean from the page
    */
@@ -185,6 +221,47 @@ public abstract class ValuesReader {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Reads the next values from the page; the same as calling {@link #readInteger()} {@code length} times but the
+   * encodings may decode them in bulk.
+   *
+   * @param values the array to read the values into
+   * @param offset the index of the first value in the array
+   * @param length the number of values to be read
+   */
+  public void readIntegers(int[] values, int offset, int length) {
+    for (int i = 0; i < length; ++i) {
+      values[offset + i] = readInteger();
+    }
+  }
+
+  /**
+   * Reads the next values from the page; the same as calling {@link #readLong()} {@code length} times but the
+   * encodings may decode them in bulk.
+   *
+   * @param values the array to read the values into
+   * @param offset the index of the first value in the array
+   * @param length the number of values to be read
+   */
+  public void readLongs(long[] values, int offset, int length) {
+    for (int i = 0; i < length; ++i) {
+      values[offset + i] = readLong();
+    }
+  }
+
+  /**
+   * Reads the next values from the page and appends copies of them to the batch; the same as calling
+   * {@link #readBytes()} {@code count} times but the encodings may decode them directly into the batch.
+   *
+   * @param batch the batch to append the values to
+   * @param count the number of values to be read
+   */
+  public void readBinaries(BinaryBatch batch, int count) {
+    for (int i = 0; i < count; ++i) {
+      batch.append(readBytes());
+    }
+  }
+
   /**
    * Skips the next value in the page
    */
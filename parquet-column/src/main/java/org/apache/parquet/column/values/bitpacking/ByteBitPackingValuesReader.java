@@ -91,4 +91,30 @@ public class ByteBitPackingValuesReader extends ValuesReader {
   public void skip() {
     readInteger();
   }
+
+  /**
+   * Skips the values left in the decoded group and the bytes of the next whole groups; only the group of the next value
+   * to read is unpacked.
+   */
+  @Override
+  public void skip(int n) {
+    int buffered = VALUES_AT_A_TIME - 1 - decodedPosition;
+    if (n <= buffered) {
+      decodedPosition += n;
+      return;
+    }
+    n -= buffered;
+    try {
+      in.skipFully(Math.min((long) (n / VALUES_AT_A_TIME) * bitWidth, in.available()));
+    } catch (IOException e) {
+      throw new ParquetDecodingException("Failed to skip packed values", e);
+    }
+    int remaining = n % VALUES_AT_A_TIME;
+    if (remaining == 0) {
+      decodedPosition = VALUES_AT_A_TIME - 1;
+    } else {
+      readMore();
+      decodedPosition = remaining - 1;
+    }
+  }
 }
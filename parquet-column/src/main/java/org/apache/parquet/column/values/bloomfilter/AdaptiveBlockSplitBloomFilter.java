@@ -224,6 +224,11 @@ public class AdaptiveBlockSplitBloomFilter implements BloomFilter {
     return largestCandidate.bloomFilter.findHash(hash);
   }
 
+  @Override
+  public void findHashes(long[] hashes, boolean[] result) {
+    largestCandidate.bloomFilter.findHashes(hashes, result);
+  }
+
   @Override
   public long hash(Object value) {
     return largestCandidate.bloomFilter.hash(value);
@@ -269,6 +274,16 @@ public class AdaptiveBlockSplitBloomFilter implements BloomFilter {
     return largestCandidate.bloomFilter.hash(value);
   }
 
+  @Override
+  public long[] hash(long[] values) {
+    return largestCandidate.bloomFilter.hash(values);
+  }
+
+  @Override
+  public long[] hash(int[] values) {
+    return largestCandidate.bloomFilter.hash(values);
+  }
+
   protected class BloomFilterCandidate implements Comparable<BloomFilterCandidate> {
     // the bloom filter candidate
     private final BlockSplitBloomFilter bloomFilter;
@@ -22,8 +22,6 @@ package org.apache.parquet.column.values.bloomfilter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.Arrays;
 import org.apache.parquet.Preconditions;
@@ -35,6 +33,9 @@ import org.apache.parquet.io.api.Binary;
  * Bloom filter which size fit a single cache line or smaller. This implementation sets 8 bits in
  * each tiny Bloom filter. Each tiny Bloom filter is 32 bytes to take advantage of 32-byte SIMD
  * instruction.
+ *
+ * Lookups and hashing do not modify any state, so a Bloom filter can be probed from multiple threads
+ * once it is populated. Insertions must not run concurrently with any other access.
  */
 public class BlockSplitBloomFilter implements BloomFilter {
   // Bytes in a tiny Bloom filter block.
@@ -49,9 +50,6 @@ public class BlockSplitBloomFilter implements BloomFilter {
   // The upper bound of bloom filter size, set to default row group size.
   public static final int UPPER_BOUND_BYTES = 128 * 1024 * 1024;
 
-  // The number of bits to set in a tiny Bloom filter
-  private static final int BITS_SET_PER_BLOCK = 8;
-
   // The metadata in the header of a serialized Bloom filter is four four-byte values: the number of bytes,
   // the filter algorithm, the hash algorithm, and the compression.
   public static final int HEADER_SIZE = 16;
@@ -74,16 +72,8 @@ public class BlockSplitBloomFilter implements BloomFilter {
   private int maximumBytes = UPPER_BOUND_BYTES;
   private int minimumBytes = LOWER_BOUND_BYTES;
 
-  // A cache used for hashing
-  private ByteBuffer cacheBuffer = ByteBuffer.allocate(Long.BYTES);
-
-  private int[] mask = new int[BITS_SET_PER_BLOCK];
-
-  // The block-based algorithm needs 8 odd SALT values to calculate eight indexes
-  // of bits to set, one per 32-bit word.
-  private static final int[] SALT = {
-    0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d, 0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
-  };
+  // The block-based algorithm sets one bit per 32-bit word of a block, see BlockSplitBloomFilterKernel.
+  private static final BlockSplitBloomFilterKernel KERNEL = BlockSplitBloomFilterKernel.getDefault();
 
   /**
    * Constructor of block-based Bloom filter.
@@ -145,8 +135,6 @@ public class BlockSplitBloomFilter implements BloomFilter {
 
     initBitset(numBytes);
 
-    cacheBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
     switch (hashStrategy) {
       case XXH64:
         this.hashStrategy = hashStrategy;
@@ -180,9 +168,8 @@ public class BlockSplitBloomFilter implements BloomFilter {
       throw new RuntimeException("Given bitset is null");
     }
 
-    cacheBuffer.order(ByteOrder.LITTLE_ENDIAN);
     this.bitset = bitset;
-    this.intBuffer = ByteBuffer.wrap(bitset).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    this.intBuffer = BlockSplitBloomFilterKernel.words(bitset);
     switch (hashStrategy) {
       case XXH64:
         this.hashStrategy = hashStrategy;
@@ -214,7 +201,7 @@ public class BlockSplitBloomFilter implements BloomFilter {
       numBytes = maximumBytes;
     }
     this.bitset = new byte[numBytes];
-    this.intBuffer = ByteBuffer.wrap(bitset).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    this.intBuffer = BlockSplitBloomFilterKernel.words(bitset);
   }
 
   @Override
@@ -222,56 +209,30 @@ public class BlockSplitBloomFilter implements BloomFilter {
     out.write(bitset);
   }
 
-  private int[] setMask(int key) {
-    // The following three loops are written separately so that they could be
-    // optimized for vectorization.
-    for (int i = 0; i < BITS_SET_PER_BLOCK; ++i) {
-      mask[i] = key * SALT[i];
-    }
-
-    for (int i = 0; i < BITS_SET_PER_BLOCK; ++i) {
-      mask[i] = mask[i] >>> 27;
-    }
-
-    for (int i = 0; i < BITS_SET_PER_BLOCK; ++i) {
-      mask[i] = 0x1 << mask[i];
-    }
-
-    return mask;
+  // The single hashes are inserted and looked up with scalar loops, the batches with the SIMD kernels if available.
+  @Override
+  public void insertHash(long hash) {
+    BlockSplitBloomFilterKernel.insertHash(intBuffer, hash, bitset.length / BYTES_PER_BLOCK);
   }
 
   @Override
-  public void insertHash(long hash) {
-    long numBlocks = bitset.length / BYTES_PER_BLOCK;
-    long lowHash = hash >>> 32;
-    int blockIndex = (int) ((lowHash * numBlocks) >> 32);
-    int key = (int) hash;
-
-    // Calculate mask for bucket.
-    int[] mask = setMask(key);
-    for (int i = 0; i < BITS_SET_PER_BLOCK; i++) {
-      int value = intBuffer.get(blockIndex * (BYTES_PER_BLOCK / 4) + i);
-      value |= mask[i];
-      intBuffer.put(blockIndex * (BYTES_PER_BLOCK / 4) + i, value);
-    }
+  public void insertHashes(long[] hashes) {
+    KERNEL.insertHashes(bitset, hashes);
   }
 
   @Override
   public boolean findHash(long hash) {
-    long numBlocks = bitset.length / BYTES_PER_BLOCK;
-    long lowHash = hash >>> 32;
-    int blockIndex = (int) ((lowHash * numBlocks) >> 32);
-    int key = (int) hash;
-
-    // Calculate mask for the tiny Bloom filter.
-    int[] mask = setMask(key);
-    for (int i = 0; i < BITS_SET_PER_BLOCK; i++) {
-      if (0 == (intBuffer.get(blockIndex * (BYTES_PER_BLOCK / 4) + i) & mask[i])) {
-        return false;
-      }
-    }
+    return BlockSplitBloomFilterKernel.findHash(intBuffer, hash, bitset.length / BYTES_PER_BLOCK);
+  }
 
-    return true;
+  @Override
+  public void findHashes(long[] hashes, boolean[] result) {
+    Preconditions.checkArgument(
+        result.length >= hashes.length,
+        "Result array is too small: %s for %s hashes",
+        result.length,
+        hashes.length);
+    KERNEL.findHashes(bitset, hashes, result);
   }
 
   /**
@@ -313,18 +274,16 @@ public class BlockSplitBloomFilter implements BloomFilter {
     }
 
     if (value instanceof Integer) {
-      cacheBuffer.putInt((Integer) value);
+      return hash(((Integer) value).intValue());
     } else if (value instanceof Long) {
-      cacheBuffer.putLong((Long) value);
+      return hash(((Long) value).longValue());
     } else if (value instanceof Float) {
-      cacheBuffer.putFloat((Float) value);
+      return hash(((Float) value).floatValue());
     } else if (value instanceof Double) {
-      cacheBuffer.putDouble((Double) value);
+      return hash(((Double) value).doubleValue());
     } else {
       throw new RuntimeException("Parquet Bloom filter: Not supported type");
     }
-
-    return doHash();
   }
 
   @Override
@@ -356,36 +315,38 @@ public class BlockSplitBloomFilter implements BloomFilter {
     return Compression.UNCOMPRESSED;
   }
 
-  private long doHash() {
-    cacheBuffer.flip();
-    long hashResult = hashFunction.hashByteBuffer(cacheBuffer);
-    cacheBuffer.clear();
-
-    return hashResult;
-  }
-
   @Override
   public long hash(int value) {
-    cacheBuffer.putInt(value);
-    return doHash();
+    return hashFunction.hashInt(value);
   }
 
   @Override
   public long hash(long value) {
-    cacheBuffer.putLong(value);
-    return doHash();
+    return hashFunction.hashLong(value);
   }
 
   @Override
   public long hash(double value) {
-    cacheBuffer.putDouble(value);
-    return doHash();
+    return hashFunction.hashLong(Double.doubleToRawLongBits(value));
   }
 
   @Override
   public long hash(float value) {
-    cacheBuffer.putFloat(value);
-    return doHash();
+    return hashFunction.hashInt(Float.floatToRawIntBits(value));
+  }
+
+  @Override
+  public long[] hash(long[] values) {
+    long[] hashes = new long[values.length];
+    hashFunction.hashLongs(values, hashes);
+    return hashes;
+  }
+
+  @Override
+  public long[] hash(int[] values) {
+    long[] hashes = new long[values.length];
+    hashFunction.hashInts(values, hashes);
+    return hashes;
   }
 
   @Override
@@ -20,6 +20,7 @@ package org.apache.parquet.column.values.bloomfilter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import org.apache.parquet.Preconditions;
 import org.apache.parquet.io.api.Binary;
 
 /**
@@ -88,6 +89,36 @@ public interface BloomFilter {
    */
   boolean findHash(long hash);
 
+  /**
+   * Insert a batch of elements to the Bloom filter, each represented by the hash value of its plain
+   * encoding result.
+   *
+   * @param hashes the hash results of the elements.
+   */
+  default void insertHashes(long[] hashes) {
+    for (long hash : hashes) {
+      insertHash(hash);
+    }
+  }
+
+  /**
+   * Determine for a batch of elements whether they are in set or not.
+   *
+   * @param hashes the hash values of the elements plain encoding result.
+   * @param result the array to store the results in, at least as long as hashes; an entry is false if the
+   *               element must not be in set, true if it is probably in set.
+   */
+  default void findHashes(long[] hashes, boolean[] result) {
+    Preconditions.checkArgument(
+        result.length >= hashes.length,
+        "Result array is too small: %s for %s hashes",
+        result.length,
+        hashes.length);
+    for (int i = 0; i < hashes.length; i++) {
+      result[i] = findHash(hashes[i]);
+    }
+  }
+
   /**
    * Get the number of bytes for bitset in this Bloom filter.
    *
@@ -151,6 +182,34 @@ public interface BloomFilter {
    */
   long hash(Object value);
 
+  /**
+   * Compute hashes for long values by using their plain encoding result.
+   *
+   * @param values the values to hash
+   * @return hash results, in the order of the values
+   */
+  default long[] hash(long[] values) {
+    long[] hashes = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      hashes[i] = hash(values[i]);
+    }
+    return hashes;
+  }
+
+  /**
+   * Compute hashes for int values by using their plain encoding result.
+   *
+   * @param values the values to hash
+   * @return hash results, in the order of the values
+   */
+  default long[] hash(int[] values) {
+    long[] hashes = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      hashes[i] = hash(values[i]);
+    }
+    return hashes;
+  }
+
   // The boolean type is not supported because boolean type has only two values, while Bloom filter is
   // suitable for high cardinality.
   // long hash(Boolean value);
@@ -27,6 +27,15 @@ public interface BloomFilterWriter extends AutoCloseable {
    */
   void writeBloomFilter(BloomFilter bloomFilter);
 
+  /**
+   * Write the Bloom filter of the values of the data page written last by the related page writer
+   *
+   * @param bloomFilter the Bloom filter of the page to write
+   */
+  default void writePageBloomFilter(BloomFilter bloomFilter) {
+    // No-op default implementation for compatibility
+  }
+
   @Override
   default void close() {
     // No-op default implementation for compatibility
@@ -19,6 +19,7 @@
 package org.apache.parquet.column.values.bloomfilter;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * A interface contains a set of hash functions used by Bloom filter.
@@ -40,4 +41,51 @@ public interface HashFunction {
    * @return a result of long value.
    */
   long hashByteBuffer(ByteBuffer input);
+
+  /**
+   * compute the hash value for an int, using its little endian plain encoding.
+   *
+   * @param input the input int
+   * @return a result of long value.
+   */
+  default long hashInt(int input) {
+    return hashByteBuffer(ByteBuffer.allocate(Integer.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(0, input));
+  }
+
+  /**
+   * compute the hash value for a long, using its little endian plain encoding.
+   *
+   * @param input the input long
+   * @return a result of long value.
+   */
+  default long hashLong(long input) {
+    return hashByteBuffer(
+        ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, input));
+  }
+
+  /**
+   * compute the hash values for an array of longs, using their little endian plain encoding.
+   *
+   * @param input the input longs
+   * @param output the array to store the hash values in, at least as long as the input
+   */
+  default void hashLongs(long[] input, long[] output) {
+    for (int i = 0; i < input.length; i++) {
+      output[i] = hashLong(input[i]);
+    }
+  }
+
+  /**
+   * compute the hash values for an array of ints, using their little endian plain encoding.
+   *
+   * @param input the input ints
+   * @param output the array to store the hash values in, at least as long as the input
+   */
+  default void hashInts(int[] input, long[] output) {
+    for (int i = 0; i < input.length; i++) {
+      output[i] = hashInt(input[i]);
+    }
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.parquet.column.values.bloomfilter;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import net.openhft.hashing.LongHashFunction;
 
 /**
@@ -36,4 +37,45 @@ public class XxHash implements HashFunction {
   public long hashByteBuffer(ByteBuffer input) {
     return LongHashFunction.xx().hashBytes(input);
   }
+
+  // LongHashFunction hashes primitives in native byte order, plain encoding is little endian
+  private static final boolean NATIVE_LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+  @Override
+  public long hashInt(int input) {
+    return LongHashFunction.xx().hashInt(NATIVE_LITTLE_ENDIAN ? input : Integer.reverseBytes(input));
+  }
+
+  @Override
+  public long hashLong(long input) {
+    return LongHashFunction.xx().hashLong(NATIVE_LITTLE_ENDIAN ? input : Long.reverseBytes(input));
+  }
+
+  @Override
+  public void hashLongs(long[] input, long[] output) {
+    LongHashFunction xx = LongHashFunction.xx();
+    if (NATIVE_LITTLE_ENDIAN) {
+      for (int i = 0; i < input.length; i++) {
+        output[i] = xx.hashLong(input[i]);
+      }
+    } else {
+      for (int i = 0; i < input.length; i++) {
+        output[i] = xx.hashLong(Long.reverseBytes(input[i]));
+      }
+    }
+  }
+
+  @Override
+  public void hashInts(int[] input, long[] output) {
+    LongHashFunction xx = LongHashFunction.xx();
+    if (NATIVE_LITTLE_ENDIAN) {
+      for (int i = 0; i < input.length; i++) {
+        output[i] = xx.hashInt(input[i]);
+      }
+    } else {
+      for (int i = 0; i < input.length; i++) {
+        output[i] = xx.hashInt(Integer.reverseBytes(input[i]));
+      }
+    }
+  }
 }
@@ -51,15 +51,20 @@ public abstract class ByteStreamSplitValuesReader extends ValuesReader {
 
   // Decode an entire data page
   private byte[] decodeData(ByteBuffer encoded, int valuesCount) {
-    assert encoded.limit() == valuesCount * elementSizeInBytes;
-    byte[] decoded = new byte[encoded.limit()];
-    int destByteIndex = 0;
-    for (int srcValueIndex = 0; srcValueIndex < valuesCount; ++srcValueIndex) {
-      for (int stream = 0; stream < elementSizeInBytes; ++stream, ++destByteIndex) {
-        decoded[destByteIndex] = encoded.get(srcValueIndex + stream * valuesCount);
-      }
+    assert encoded.remaining() == valuesCount * elementSizeInBytes;
+    byte[] decoded = new byte[encoded.remaining()];
+    byte[] encodedArray;
+    int encodedOffset;
+    if (encoded.hasArray()) {
+      encodedArray = encoded.array();
+      encodedOffset = encoded.arrayOffset() + encoded.position();
+    } else {
+      encodedArray = new byte[encoded.remaining()];
+      encoded.duplicate().get(encodedArray);
+      encodedOffset = 0;
     }
-    assert destByteIndex == decoded.length;
+    ByteStreamSplitTransposer.getDefault()
+        .decode(encodedArray, encodedOffset, decoded, 0, valuesCount, elementSizeInBytes);
     return decoded;
   }
 
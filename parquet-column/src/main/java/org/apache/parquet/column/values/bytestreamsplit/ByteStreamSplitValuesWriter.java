@@ -20,7 +20,6 @@ package org.apache.parquet.column.values.bytestreamsplit;
 
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.BytesInput;
-import org.apache.parquet.bytes.BytesUtils;
 import org.apache.parquet.bytes.CapacityByteArrayOutputStream;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.values.ValuesWriter;
@@ -29,9 +28,15 @@ import org.apache.parquet.io.api.Binary;
 
 public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
 
+  // The values are buffered in their plain layout and transposed to the streams by batches of about this size
+  private static final int BATCH_SIZE_IN_BYTES = 8 * 1024;
+
   protected final int numStreams;
   protected final int elementSizeInBytes;
   private final CapacityByteArrayOutputStream[] byteStreams;
+  private final byte[] batch;
+  private final byte[] transposedBatch;
+  private int batchPosition;
 
   public ByteStreamSplitValuesWriter(
       int elementSizeInBytes, int initialCapacity, int pageSize, ByteBufferAllocator allocator) {
@@ -49,6 +54,9 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
       this.byteStreams[i] =
           new CapacityByteArrayOutputStream(initialCapacityPerStream, capacityPerStream, allocator);
     }
+    int batchSize = Math.max(1, BATCH_SIZE_IN_BYTES / elementSizeInBytes) * elementSizeInBytes;
+    this.batch = new byte[batchSize];
+    this.transposedBatch = new byte[batchSize];
   }
 
   @Override
@@ -57,11 +65,12 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
     for (CapacityByteArrayOutputStream stream : this.byteStreams) {
       totalSize += stream.size();
     }
-    return totalSize;
+    return totalSize + batchPosition;
   }
 
   @Override
   public BytesInput getBytes() {
+    flushBatch();
     BytesInput[] allInputs = new BytesInput[this.numStreams];
     for (int i = 0; i < this.numStreams; ++i) {
       allInputs[i] = BytesInput.from(this.byteStreams[i]);
@@ -79,6 +88,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
     for (CapacityByteArrayOutputStream stream : this.byteStreams) {
       stream.reset();
     }
+    batchPosition = 0;
   }
 
   @Override
@@ -94,9 +104,43 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
           "Number of bytes doesn't match the number of streams. Num butes: %d, Num streams: %d",
           bytes.length, this.numStreams));
     }
-    for (int i = 0; i < bytes.length; ++i) {
-      this.byteStreams[i].write(bytes[i]);
+    System.arraycopy(bytes, 0, batch, nextBatchPosition(), numStreams);
+  }
+
+  protected void scatterInt(int value) {
+    int position = nextBatchPosition();
+    batch[position] = (byte) value;
+    batch[position + 1] = (byte) (value >>> 8);
+    batch[position + 2] = (byte) (value >>> 16);
+    batch[position + 3] = (byte) (value >>> 24);
+  }
+
+  protected void scatterLong(long value) {
+    int position = nextBatchPosition();
+    for (int i = 0; i < Long.BYTES; ++i) {
+      batch[position + i] = (byte) (value >>> (i * Byte.SIZE));
+    }
+  }
+
+  private int nextBatchPosition() {
+    if (batchPosition == batch.length) {
+      flushBatch();
+    }
+    int position = batchPosition;
+    batchPosition += elementSizeInBytes;
+    return position;
+  }
+
+  private void flushBatch() {
+    int count = batchPosition / elementSizeInBytes;
+    if (count == 0) {
+      return;
+    }
+    ByteStreamSplitTransposer.getDefault().encode(batch, 0, transposedBatch, 0, count, elementSizeInBytes);
+    for (int i = 0; i < numStreams; ++i) {
+      byteStreams[i].write(transposedBatch, i * count, count);
     }
+    batchPosition = 0;
   }
 
   @Override
@@ -105,7 +149,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
     for (CapacityByteArrayOutputStream stream : byteStreams) {
       totalCapacity += stream.getCapacity();
     }
-    return totalCapacity;
+    return totalCapacity + batch.length + transposedBatch.length;
   }
 
   public static class FloatByteStreamSplitValuesWriter extends ByteStreamSplitValuesWriter {
@@ -116,7 +160,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
 
     @Override
     public void writeFloat(float v) {
-      super.scatterBytes(BytesUtils.intToBytes(Float.floatToIntBits(v)));
+      super.scatterInt(Float.floatToIntBits(v));
     }
 
     @Override
@@ -133,7 +177,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
 
     @Override
     public void writeDouble(double v) {
-      super.scatterBytes(BytesUtils.longToBytes(Double.doubleToLongBits(v)));
+      super.scatterLong(Double.doubleToLongBits(v));
     }
 
     @Override
@@ -149,7 +193,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
 
     @Override
     public void writeInteger(int v) {
-      super.scatterBytes(BytesUtils.intToBytes(v));
+      super.scatterInt(v);
     }
 
     @Override
@@ -165,7 +209,7 @@ public abstract class ByteStreamSplitValuesWriter extends ValuesWriter {
 
     @Override
     public void writeLong(long v) {
-      super.scatterBytes(BytesUtils.longToBytes(v));
+      super.scatterLong(v);
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.parquet.column.values.delta;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.BytesUtils;
 import org.apache.parquet.column.values.ValuesReader;
@@ -29,145 +30,307 @@ import org.apache.parquet.io.ParquetDecodingException;
 
 /**
  * Read values written by {@link DeltaBinaryPackingValuesWriter}
+ * <p>
+ * The blocks are sliced from the page at initialization and their mini blocks are decoded when the values are read,
+ * so the values skipped at the end of the page are not decoded at all. See
+ * {@link DeltaBinaryPackingValuesReaderForInteger} for decoding INT32 values.
  */
 public class DeltaBinaryPackingValuesReader extends ValuesReader {
+  /**
+   * sums up the deltas of the whole mini blocks read in bulk, with SIMD kernels if available
+   */
+  static final DeltaPrefixSum PREFIX_SUM = DeltaPrefixSum.getDefault();
+
   private int totalValueCount;
   /**
    * values read by the caller
    */
   private int valuesRead;
 
-  private long minDeltaInCurrentBlock;
+  DeltaBinaryPackingConfig config;
+  /**
+   * the first value which is written to the header
+   */
+  long firstValue;
 
+  private long[] minDeltas;
   /**
-   * stores the decoded values including the first value which is written to the header
+   * the bit widths of all the mini blocks of the blocks
    */
-  private long[] valuesBuffer;
+  private int[] bitWidths;
   /**
-   * values loaded to the buffer, it could be bigger than the totalValueCount
-   * when data is not aligned to mini block, which means padding 0s are in the buffer
+   * the packed mini blocks of each block
    */
-  private int valuesBuffered;
+  private ByteBuffer[] blocks;
 
-  private ByteBufferInputStream in;
-  private DeltaBinaryPackingConfig config;
-  private int[] bitWidths;
+  /**
+   * the next mini block to be decoded and the position of its first byte in its block
+   */
+  private int nextMiniBlock;
+
+  private int nextMiniBlockOffset;
+  /**
+   * the deltas not decoded yet
+   */
+  private int deltasToDecode;
+
+  /**
+   * the mini block to be decoded after {@link #nextMiniBlock()}
+   */
+  long minDeltaInCurrentBlock;
+
+  int currentBitWidth;
+  ByteBuffer currentBlock;
+  int currentOffset;
 
   /**
-   * eagerly loads all the data into memory
+   * the deltas of the last decoded mini block; they are all used when the position is the size
+   */
+  private long[] deltas;
+
+  int deltaPosition;
+  int deltaCount;
+
+  private long lastValue;
+
+  /**
+   * reads the block headers and slices the blocks from the stream; the mini blocks are decoded lazily
    */
   @Override
-  public void initFromPage(int valueCount, ByteBufferInputStream stream) throws IOException {
-    this.in = stream;
+  public void initFromPage(int valueCount, ByteBufferInputStream in) throws IOException {
     long startPos = in.position();
     this.config = DeltaBinaryPackingConfig.readConfig(in);
     this.totalValueCount = BytesUtils.readUnsignedVarInt(in);
-    allocateValuesBuffer();
-    bitWidths = new int[config.miniBlockNumInABlock];
-
-    // read first value from header
-    valuesBuffer[valuesBuffered++] = BytesUtils.readZigZagVarLong(in);
+    this.firstValue = BytesUtils.readZigZagVarLong(in);
+    this.valuesRead = 0;
 
-    while (valuesBuffered
-        < totalValueCount) { // values Buffered could be more than totalValueCount, since we flush on a mini
-      // block basis
-      loadNewBlockToBuffer();
+    int deltaCount = Math.max(totalValueCount - 1, 0);
+    int blockCount = (int) Math.ceil((double) deltaCount / config.blockSizeInValues);
+    int miniBlockNum = config.miniBlockNumInABlock;
+    this.minDeltas = new long[blockCount];
+    this.bitWidths = new int[blockCount * miniBlockNum];
+    this.blocks = new ByteBuffer[blockCount];
+    int remaining = deltaCount;
+    for (int block = 0; block < blockCount; block++) {
+      try {
+        minDeltas[block] = BytesUtils.readZigZagVarLong(in);
+      } catch (IOException e) {
+        throw new ParquetDecodingException("can not read min delta in current block", e);
+      }
+      int length = 0;
+      for (int i = 0; i < miniBlockNum; i++) {
+        int bitWidth = readBitWidth(in);
+        bitWidths[block * miniBlockNum + i] = bitWidth;
+        // the mini blocks after the last value are not written
+        if (remaining > i * config.miniBlockSizeInValues) {
+          length += bitWidth * config.miniBlockSizeInValues / 8;
+        }
+      }
+      blocks[block] = in.slice(length);
+      remaining -= config.blockSizeInValues;
     }
+
+    this.nextMiniBlock = 0;
+    this.nextMiniBlockOffset = 0;
+    this.deltasToDecode = deltaCount;
+    this.deltaPosition = 0;
+    this.deltaCount = 0;
+    this.lastValue = firstValue;
     updateNextOffset((int) (in.position() - startPos));
   }
 
+  private static int readBitWidth(ByteBufferInputStream in) {
+    try {
+      int bitWidth = BytesUtils.readIntLittleEndianOnOneByte(in);
+      if (bitWidth > 64) {
+        throw new ParquetDecodingException("Invalid bit width in block header: " + bitWidth);
+      }
+      return bitWidth;
+    } catch (IOException e) {
+      throw new ParquetDecodingException("Can not decode bitwidth in block header", e);
+    }
+  }
+
+  /**
+   * Moves to the next mini block to be decoded; its min delta, bit width and packed bytes are in the current fields.
+   *
+   * @return the number of deltas of the mini block
+   */
+  int nextMiniBlock() {
+    int miniBlockNum = config.miniBlockNumInABlock;
+    int block = nextMiniBlock / miniBlockNum;
+    minDeltaInCurrentBlock = minDeltas[block];
+    currentBitWidth = bitWidths[nextMiniBlock];
+    currentBlock = blocks[block];
+    currentOffset = currentBlock.position() + nextMiniBlockOffset;
+    if (++nextMiniBlock % miniBlockNum == 0) {
+      nextMiniBlockOffset = 0;
+    } else {
+      nextMiniBlockOffset += currentBitWidth * config.miniBlockSizeInValues / 8;
+    }
+    int count = Math.min(config.miniBlockSizeInValues, deltasToDecode);
+    deltasToDecode -= count;
+    return count;
+  }
+
   /**
-   * the value buffer is allocated so that the size of it is multiple of mini block
-   * because when writing, data is flushed on a mini block basis
+   * @return the number of deltas of the mini block to be returned by {@link #nextMiniBlock()}
    */
-  private void allocateValuesBuffer() {
-    int totalMiniBlockCount = (int) Math.ceil((double) totalValueCount / config.miniBlockSizeInValues);
-    // + 1 because first value written to header is also stored in values buffer
-    valuesBuffer = new long[totalMiniBlockCount * config.miniBlockSizeInValues + 1];
+  int nextMiniBlockSize() {
+    return Math.min(config.miniBlockSizeInValues, deltasToDecode);
+  }
+
+  /**
+   * Checks that the next values can be read and counts them as read.
+   *
+   * @param n the number of values to be read
+   * @return whether the first value of the page is among them
+   */
+  boolean startRead(int n) {
+    if (n < 0 || valuesRead + n > totalValueCount) {
+      throw new ParquetDecodingException("no more value to read, total value count is " + totalValueCount);
+    }
+    boolean first = valuesRead == 0 && n > 0;
+    valuesRead += n;
+    return first;
+  }
+
+  /**
+   * @return whether all the values of the page are read or skipped
+   */
+  boolean isExhausted() {
+    return valuesRead == totalValueCount;
   }
 
   @Override
   public void skip() {
-    checkRead();
-    valuesRead++;
+    skip(1);
   }
 
   @Override
   public void skip(int n) {
-    // checkRead() is invoked before incrementing valuesRead so increase valuesRead size in 2 steps
-    valuesRead += n - 1;
-    checkRead();
-    ++valuesRead;
+    if (startRead(n)) {
+      --n;
+    }
+    if (isExhausted()) {
+      // nothing is read after the skipped values so they need not be decoded
+      return;
+    }
+    long value = lastValue;
+    while (n > 0) {
+      if (deltaPosition == deltaCount) {
+        int size = nextMiniBlockSize();
+        if (n >= size) {
+          // whole mini blocks are summed up without storing the values
+          value += sumMiniBlock(nextMiniBlock());
+          n -= size;
+          continue;
+        }
+        decodeMiniBlock();
+      }
+      int count = Math.min(n, deltaCount - deltaPosition);
+      long minDelta = minDeltaInCurrentBlock;
+      for (int i = deltaPosition, end = deltaPosition + count; i < end; i++) {
+        value += minDelta + deltas[i];
+      }
+      deltaPosition += count;
+      n -= count;
+    }
+    lastValue = value;
   }
 
   @Override
   public int readInteger() {
-    // TODO: probably implement it separately
     return (int) readLong();
   }
 
   @Override
   public long readLong() {
-    checkRead();
-    return valuesBuffer[valuesRead++];
+    if (startRead(1)) {
+      return lastValue;
+    }
+    if (deltaPosition == deltaCount) {
+      decodeMiniBlock();
+    }
+    lastValue += minDeltaInCurrentBlock + deltas[deltaPosition++];
+    return lastValue;
   }
 
-  private void checkRead() {
-    if (valuesRead >= totalValueCount) {
-      throw new ParquetDecodingException("no more value to read, total value count is " + totalValueCount);
+  @Override
+  public void readLongs(long[] values, int offset, int length) {
+    int end = offset + length;
+    if (startRead(length)) {
+      values[offset++] = lastValue;
     }
+    long value = lastValue;
+    while (offset < end) {
+      if (deltaPosition == deltaCount) {
+        if (end - offset >= config.miniBlockSizeInValues) {
+          // the deltas of whole mini blocks are unpacked into the values and summed up in place
+          int count = nextMiniBlock();
+          unpack(values, offset);
+          value = PREFIX_SUM.prefixSum(values, offset, count, minDeltaInCurrentBlock, value);
+          offset += count;
+          continue;
+        }
+        decodeMiniBlock();
+      }
+      int count = Math.min(end - offset, deltaCount - deltaPosition);
+      long minDelta = minDeltaInCurrentBlock;
+      for (int i = 0; i < count; i++) {
+        value += minDelta + deltas[deltaPosition + i];
+        values[offset + i] = value;
+      }
+      deltaPosition += count;
+      offset += count;
+    }
+    lastValue = value;
   }
 
-  private void loadNewBlockToBuffer() throws IOException {
-    try {
-      minDeltaInCurrentBlock = BytesUtils.readZigZagVarLong(in);
-    } catch (IOException e) {
-      throw new ParquetDecodingException("can not read min delta in current block", e);
+  private void decodeMiniBlock() {
+    if (deltas == null) {
+      deltas = new long[config.miniBlockSizeInValues];
     }
+    deltaCount = nextMiniBlock();
+    deltaPosition = 0;
+    unpack(deltas, 0);
+  }
 
-    readBitWidthsForMiniBlocks();
-
-    // mini block is atomic for reading, we read a mini block when there are more values left
-    int i;
-    for (i = 0; i < config.miniBlockNumInABlock && valuesBuffered < totalValueCount; i++) {
-      BytePackerForLong packer = Packer.LITTLE_ENDIAN.newBytePackerForLong(bitWidths[i]);
-      unpackMiniBlock(packer);
+  private long sumMiniBlock(int count) {
+    long sum = count * minDeltaInCurrentBlock;
+    if (currentBitWidth == 0) {
+      return sum;
     }
-
-    // calculate values from deltas unpacked for current block
-    int valueUnpacked = i * config.miniBlockSizeInValues;
-    for (int j = valuesBuffered - valueUnpacked; j < valuesBuffered; j++) {
-      int index = j;
-      valuesBuffer[index] += minDeltaInCurrentBlock + valuesBuffer[index - 1];
+    if (deltas == null) {
+      deltas = new long[config.miniBlockSizeInValues];
+    }
+    unpack(deltas, 0);
+    for (int i = 0; i < count; i++) {
+      sum += deltas[i];
     }
+    return sum;
   }
 
   /**
-   * mini block has a size of 8*n, unpack 8 value each time
-   *
-   * @param packer the packer created from bitwidth of current mini block
+   * Unpacks the deltas of the current mini block, mini block size values from the given position.
    */
-  private void unpackMiniBlock(BytePackerForLong packer) throws IOException {
-    for (int j = 0; j < config.miniBlockSizeInValues; j += 8) {
-      unpack8Values(packer);
+  void unpack(long[] values, int offset) {
+    int miniBlockSize = config.miniBlockSizeInValues;
+    int bitWidth = currentBitWidth;
+    if (bitWidth == 0) {
+      // the packer of width 0 does not write the values
+      Arrays.fill(values, offset, offset + miniBlockSize, 0);
+      return;
     }
-  }
-
-  private void unpack8Values(BytePackerForLong packer) throws IOException {
-    // get a single buffer of 8 values. most of the time, this won't require a copy
-    // TODO: update the packer to consume from an InputStream
-    ByteBuffer buffer = in.slice(packer.getBitWidth());
-    packer.unpack8Values(buffer, buffer.position(), valuesBuffer, valuesBuffered);
-    this.valuesBuffered += 8;
-  }
-
-  private void readBitWidthsForMiniBlocks() {
-    for (int i = 0; i < config.miniBlockNumInABlock; i++) {
-      try {
-        bitWidths[i] = BytesUtils.readIntLittleEndianOnOneByte(in);
-      } catch (IOException e) {
-        throw new ParquetDecodingException("Can not decode bitwidth in block header", e);
-      }
+    BytePackerForLong packer = Packer.LITTLE_ENDIAN.newBytePackerForLong(bitWidth);
+    int inPos = currentOffset;
+    int i = 0;
+    // a mini block is a multiple of 8 values, 32 values are unpacked at once when possible
+    for (; i + 32 <= miniBlockSize; i += 32, inPos += 4 * bitWidth) {
+      packer.unpack32Values(currentBlock, inPos, values, offset + i);
+    }
+    for (; i < miniBlockSize; i += 8, inPos += bitWidth) {
+      packer.unpack8Values(currentBlock, inPos, values, offset + i);
     }
   }
 }
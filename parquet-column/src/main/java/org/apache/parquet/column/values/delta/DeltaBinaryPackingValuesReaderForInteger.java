@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.delta;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.column.values.bitpacking.BytePacker;
+import org.apache.parquet.column.values.bitpacking.Packer;
+
+/**
+ * Read INT32 values written by {@link DeltaBinaryPackingValuesWriterForInteger}. The deltas are unpacked and summed up
+ * as ints, which wrap around the same way as when they were computed by the writer.
+ */
+public class DeltaBinaryPackingValuesReaderForInteger extends DeltaBinaryPackingValuesReader {
+
+  /**
+   * the deltas of the last decoded mini block; they are all used when the position is the size
+   */
+  private int[] deltas;
+  /**
+   * used for the bit widths above 32 only written by writers of longs
+   */
+  private long[] longDeltas;
+
+  private int lastValue;
+
+  @Override
+  public void initFromPage(int valueCount, ByteBufferInputStream in) throws IOException {
+    super.initFromPage(valueCount, in);
+    this.lastValue = (int) firstValue;
+  }
+
+  @Override
+  public void skip(int n) {
+    if (startRead(n)) {
+      --n;
+    }
+    if (isExhausted()) {
+      // nothing is read after the skipped values so they need not be decoded
+      return;
+    }
+    int value = lastValue;
+    while (n > 0) {
+      if (deltaPosition == deltaCount) {
+        int size = nextMiniBlockSize();
+        if (n >= size) {
+          // whole mini blocks are summed up without storing the values
+          value += sumMiniBlock(nextMiniBlock());
+          n -= size;
+          continue;
+        }
+        decodeMiniBlock();
+      }
+      int count = Math.min(n, deltaCount - deltaPosition);
+      int minDelta = (int) minDeltaInCurrentBlock;
+      for (int i = deltaPosition, end = deltaPosition + count; i < end; i++) {
+        value += minDelta + deltas[i];
+      }
+      deltaPosition += count;
+      n -= count;
+    }
+    lastValue = value;
+  }
+
+  @Override
+  public long readLong() {
+    return readInteger();
+  }
+
+  @Override
+  public int readInteger() {
+    if (startRead(1)) {
+      return lastValue;
+    }
+    if (deltaPosition == deltaCount) {
+      decodeMiniBlock();
+    }
+    lastValue += (int) minDeltaInCurrentBlock + deltas[deltaPosition++];
+    return lastValue;
+  }
+
+  @Override
+  public void readIntegers(int[] values, int offset, int length) {
+    int end = offset + length;
+    if (startRead(length)) {
+      values[offset++] = lastValue;
+    }
+    int value = lastValue;
+    while (offset < end) {
+      if (deltaPosition == deltaCount) {
+        if (end - offset >= config.miniBlockSizeInValues) {
+          // the deltas of whole mini blocks are unpacked into the values and summed up in place
+          int count = nextMiniBlock();
+          unpack(values, offset);
+          value = PREFIX_SUM.prefixSum(values, offset, count, (int) minDeltaInCurrentBlock, value);
+          offset += count;
+          continue;
+        }
+        decodeMiniBlock();
+      }
+      int count = Math.min(end - offset, deltaCount - deltaPosition);
+      int minDelta = (int) minDeltaInCurrentBlock;
+      for (int i = 0; i < count; i++) {
+        value += minDelta + deltas[deltaPosition + i];
+        values[offset + i] = value;
+      }
+      deltaPosition += count;
+      offset += count;
+    }
+    lastValue = value;
+  }
+
+  @Override
+  public void readLongs(long[] values, int offset, int length) {
+    for (int i = 0; i < length; ++i) {
+      values[offset + i] = readInteger();
+    }
+  }
+
+  private void decodeMiniBlock() {
+    if (deltas == null) {
+      deltas = new int[config.miniBlockSizeInValues];
+    }
+    deltaCount = nextMiniBlock();
+    deltaPosition = 0;
+    unpack(deltas, 0);
+  }
+
+  private int sumMiniBlock(int count) {
+    int sum = count * (int) minDeltaInCurrentBlock;
+    if (currentBitWidth == 0) {
+      return sum;
+    }
+    if (deltas == null) {
+      deltas = new int[config.miniBlockSizeInValues];
+    }
+    unpack(deltas, 0);
+    for (int i = 0; i < count; i++) {
+      sum += deltas[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Unpacks the deltas of the current mini block, mini block size values from the given position.
+   */
+  private void unpack(int[] values, int offset) {
+    int miniBlockSize = config.miniBlockSizeInValues;
+    int bitWidth = currentBitWidth;
+    if (bitWidth == 0) {
+      // the packer of width 0 does not write the values
+      Arrays.fill(values, offset, offset + miniBlockSize, 0);
+      return;
+    }
+    if (bitWidth > 32) {
+      // only the low 32 bits of the deltas matter for the int values
+      if (longDeltas == null) {
+        longDeltas = new long[miniBlockSize];
+      }
+      unpack(longDeltas, 0);
+      for (int i = 0; i < miniBlockSize; i++) {
+        values[offset + i] = (int) longDeltas[i];
+      }
+      return;
+    }
+    BytePacker packer = Packer.LITTLE_ENDIAN.newBytePacker(bitWidth);
+    int inPos = currentOffset;
+    int i = 0;
+    // a mini block is a multiple of 8 values, 32 values are unpacked at once when possible
+    for (; i + 32 <= miniBlockSize; i += 32, inPos += 4 * bitWidth) {
+      packer.unpack32Values(currentBlock, inPos, values, offset + i);
+    }
+    for (; i < miniBlockSize; i += 8, inPos += bitWidth) {
+      packer.unpack8Values(currentBlock, inPos, values, offset + i);
+    }
+  }
+}
@@ -20,8 +20,9 @@ package org.apache.parquet.column.values.deltalengthbytearray;
 
 import java.io.IOException;
 import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.column.values.BinaryBatch;
 import org.apache.parquet.column.values.ValuesReader;
-import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReader;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReaderForInteger;
 import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.io.api.Binary;
 import org.slf4j.Logger;
@@ -33,11 +34,14 @@ import org.slf4j.LoggerFactory;
 public class DeltaLengthByteArrayValuesReader extends ValuesReader {
 
   private static final Logger LOG = LoggerFactory.getLogger(DeltaLengthByteArrayValuesReader.class);
+  private static final int SKIP_BATCH_SIZE = 1024;
+
   private ValuesReader lengthReader;
   private ByteBufferInputStream in;
+  private int[] lengths = new int[0];
 
   public DeltaLengthByteArrayValuesReader() {
-    this.lengthReader = new DeltaBinaryPackingValuesReader();
+    this.lengthReader = new DeltaBinaryPackingValuesReaderForInteger();
   }
 
   @Override
@@ -51,22 +55,63 @@ public class DeltaLengthByteArrayValuesReader extends ValuesReader {
   public Binary readBytes() {
     int length = lengthReader.readInteger();
     try {
-      return Binary.fromConstantByteBuffer(in.slice(length));
+      return pageSlice(in.slice(length));
     } catch (IOException e) {
       throw new ParquetDecodingException("Failed to read " + length + " bytes");
     }
   }
 
+  /**
+   * Reads the lengths in bulk and copies the bytes of all the values into the batch at once as they are stored back to
+   * back in the page.
+   */
+  @Override
+  public void readBinaries(BinaryBatch batch, int count) {
+    if (lengths.length < count) {
+      lengths = new int[count];
+    }
+    lengthReader.readIntegers(lengths, 0, count);
+    int total = 0;
+    for (int i = 0; i < count; ++i) {
+      total += lengths[i];
+    }
+    batch.ensureCapacity(count, total);
+    int[] offsets = batch.getOffsets();
+    int size = batch.size();
+    int offset = offsets[size];
+    for (int i = 0; i < count; ++i) {
+      offset += lengths[i];
+      offsets[size + i + 1] = offset;
+    }
+    try {
+      in.slice(total).get(batch.getBytes(), offsets[size], total);
+    } catch (IOException e) {
+      throw new ParquetDecodingException("Failed to read " + total + " bytes");
+    }
+    batch.setSize(size + count);
+  }
+
   @Override
   public void skip() {
     skip(1);
   }
 
+  /**
+   * Reads the lengths in bulk to skip the bytes of all the values at once.
+   */
   @Override
   public void skip(int n) {
-    int length = 0;
-    for (int i = 0; i < n; ++i) {
-      length += lengthReader.readInteger();
+    if (lengths.length < Math.min(n, SKIP_BATCH_SIZE)) {
+      lengths = new int[Math.min(n, SKIP_BATCH_SIZE)];
+    }
+    long length = 0;
+    while (n > 0) {
+      int count = Math.min(n, lengths.length);
+      lengthReader.readIntegers(lengths, 0, count);
+      for (int i = 0; i < count; ++i) {
+        length += lengths[i];
+      }
+      n -= count;
     }
     try {
       in.skipFully(length);
@@ -19,28 +19,45 @@
 package org.apache.parquet.column.values.deltastrings;
 
 import java.io.IOException;
+import java.util.Arrays;
 import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.column.values.BinaryBatch;
 import org.apache.parquet.column.values.RequiresPreviousReader;
 import org.apache.parquet.column.values.ValuesReader;
-import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReader;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReaderForInteger;
 import org.apache.parquet.column.values.deltalengthbytearray.DeltaLengthByteArrayValuesReader;
+import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.io.api.Binary;
 
 /**
  * Reads binary data written by {@link DeltaByteArrayWriter}
  */
 public class DeltaByteArrayReader extends ValuesReader implements RequiresPreviousReader {
+  private static final int SKIP_BATCH_SIZE = 1024;
+
   private ValuesReader prefixLengthReader;
   private ValuesReader suffixReader;
 
   private Binary previous;
 
+  // reused for the bulk reads
+  private int[] prefixLengths = new int[0];
+  private final BinaryBatch suffixes = new BinaryBatch();
+  private byte[] skipped = new byte[0];
+
   public DeltaByteArrayReader() {
-    this.prefixLengthReader = new DeltaBinaryPackingValuesReader();
+    this.prefixLengthReader = new DeltaBinaryPackingValuesReaderForInteger();
     this.suffixReader = new DeltaLengthByteArrayValuesReader();
     this.previous = Binary.fromConstantByteArray(new byte[0]);
   }
 
+  @Override
+  public void setScopedBuffers(boolean scopedBuffers) {
+    super.setScopedBuffers(scopedBuffers);
+    // the values without a prefix are the suffixes themselves
+    suffixReader.setScopedBuffers(scopedBuffers);
+  }
+
   @Override
   public void initFromPage(int valueCount, ByteBufferInputStream stream) throws IOException {
     prefixLengthReader.initFromPage(valueCount, stream);
@@ -53,6 +70,100 @@ public class DeltaByteArrayReader extends ValuesReader implements RequiresPrevio
     readBytes();
   }
 
+  /**
+   * Only keeps the last skipped value, which the next values may have a prefix of; the skipped values are rebuilt in
+   * place in a reused array instead of being allocated one by one.
+   */
+  @Override
+  public void skip(int n) {
+    if (n <= 0) {
+      return;
+    }
+    byte[] value = skipped;
+    int length = previous.length();
+    if (value.length < length) {
+      value = new byte[length];
+    }
+    previous.toByteBuffer().get(value, 0, length);
+    while (n > 0) {
+      int count = Math.min(n, SKIP_BATCH_SIZE);
+      readPrefixesAndSuffixes(count);
+      byte[] suffixBytes = suffixes.getBytes();
+      int[] suffixOffsets = suffixes.getOffsets();
+      for (int i = 0; i < count; ++i) {
+        checkPrefixLength(prefixLengths[i], length);
+        int suffixLength = suffixOffsets[i + 1] - suffixOffsets[i];
+        length = prefixLengths[i] + suffixLength;
+        if (value.length < length) {
+          value = Arrays.copyOf(value, Math.max(length, value.length * 2));
+        }
+        // the prefix is already in place
+        System.arraycopy(suffixBytes, suffixOffsets[i], value, prefixLengths[i], suffixLength);
+      }
+      n -= count;
+    }
+    skipped = value;
+    previous = Binary.fromConstantByteArray(Arrays.copyOf(value, length));
+  }
+
+  /**
+   * Rebuilds the values from their prefixes and suffixes directly into the batch, each value taking its prefix from the
+   * previous one in the batch, so the values are not allocated one by one.
+   */
+  @Override
+  public void readBinaries(BinaryBatch batch, int count) {
+    if (count <= 0) {
+      return;
+    }
+    readPrefixesAndSuffixes(count);
+    int[] suffixOffsets = suffixes.getOffsets();
+    int total = suffixOffsets[count];
+    for (int i = 0; i < count; ++i) {
+      total += prefixLengths[i];
+    }
+    batch.ensureCapacity(count, total);
+    byte[] bytes = batch.getBytes();
+    int[] offsets = batch.getOffsets();
+    byte[] suffixBytes = suffixes.getBytes();
+    int size = batch.size();
+
+    // the prefix of the first value is taken from the last value read before
+    byte[] previousBytes = previous.getBytesUnsafe();
+    int previousOffset = 0;
+    int previousLength = previous.length();
+    int offset = offsets[size];
+    for (int i = 0; i < count; ++i) {
+      int prefixLength = prefixLengths[i];
+      checkPrefixLength(prefixLength, previousLength);
+      int suffixLength = suffixOffsets[i + 1] - suffixOffsets[i];
+      System.arraycopy(previousBytes, previousOffset, bytes, offset, prefixLength);
+      System.arraycopy(suffixBytes, suffixOffsets[i], bytes, offset + prefixLength, suffixLength);
+      previousBytes = bytes;
+      previousOffset = offset;
+      previousLength = prefixLength + suffixLength;
+      offset += previousLength;
+      offsets[size + i + 1] = offset;
+    }
+    batch.setSize(size + count);
+    previous = Binary.fromConstantByteArray(Arrays.copyOfRange(bytes, previousOffset, offset));
+  }
+
+  private static void checkPrefixLength(int prefixLength, int previousLength) {
+    if (prefixLength < 0 || prefixLength > previousLength) {
+      throw new ParquetDecodingException(
+          "Invalid prefix length " + prefixLength + " of a previous value of " + previousLength + " bytes");
+    }
+  }
+
+  private void readPrefixesAndSuffixes(int count) {
+    if (prefixLengths.length < count) {
+      prefixLengths = new int[count];
+    }
+    prefixLengthReader.readIntegers(prefixLengths, 0, count);
+    suffixes.clear();
+    suffixReader.readBinaries(suffixes, count);
+  }
+
   @Override
   public Binary readBytes() {
     int prefixLength = prefixLengthReader.readInteger();
@@ -31,6 +31,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Reads values that have been dictionary encoded
+ * <p>
+ * The values can also be read as their ids in the {@link #getDictionary() dictionary}, one by one, in bulk or as the
+ * runs of the RLE/bit-packing hybrid encoding of the ids, so they can be kept dictionary encoded.
  */
 public class DictionaryValuesReader extends ValuesReader {
   private static final Logger LOG = LoggerFactory.getLogger(DictionaryValuesReader.class);
@@ -59,10 +62,38 @@ public class DictionaryValuesReader extends ValuesReader {
         public int readInt() throws IOException {
           throw new IOException("Attempt to read from empty page");
         }
+
+        @Override
+        public void skip(int n) throws IOException {
+          if (n > 0) {
+            throw new IOException("Attempt to skip in empty page");
+          }
+        }
+
+        @Override
+        public void readInts(int[] values, int offset, int length) throws IOException {
+          if (length > 0) {
+            throw new IOException("Attempt to read from empty page");
+          }
+        }
+
+        @Override
+        public void readRuns(int count, RunVisitor visitor) throws IOException {
+          if (count > 0) {
+            throw new IOException("Attempt to read from empty page");
+          }
+        }
       };
     }
   }
 
+  /**
+   * @return the dictionary the values are encoded with
+   */
+  public Dictionary getDictionary() {
+    return dictionary;
+  }
+
   @Override
   public int readValueDictionaryId() {
     try {
@@ -72,6 +103,30 @@ public class DictionaryValuesReader extends ValuesReader {
     }
   }
 
+  @Override
+  public void readValueDictionaryIds(int[] ids, int offset, int length) {
+    try {
+      decoder.readInts(ids, offset, length);
+    } catch (IOException e) {
+      throw new ParquetDecodingException(e);
+    }
+  }
+
+  /**
+   * Reads the ids of the next values run by run without expanding the repeated ones.
+   *
+   * @param count   the number of ids to be read
+   * @param visitor the visitor to pass the runs of ids to
+   * @see RunLengthBitPackingHybridDecoder#readRuns(int, RunLengthBitPackingHybridDecoder.RunVisitor)
+   */
+  public void readValueDictionaryIdRuns(int count, RunLengthBitPackingHybridDecoder.RunVisitor visitor) {
+    try {
+      decoder.readRuns(count, visitor);
+    } catch (IOException e) {
+      throw new ParquetDecodingException(e);
+    }
+  }
+
   @Override
   public Binary readBytes() {
     try {
@@ -125,4 +180,13 @@ public class DictionaryValuesReader extends ValuesReader {
       throw new ParquetDecodingException(e);
     }
   }
+
+  @Override
+  public void skip(int n) {
+    try {
+      decoder.skip(n);
+    } catch (IOException e) {
+      throw new ParquetDecodingException(e);
+    }
+  }
 }
@@ -35,7 +35,7 @@ public class BinaryPlainValuesReader extends ValuesReader {
   public Binary readBytes() {
     try {
       int length = BytesUtils.readIntLittleEndian(in);
-      return Binary.fromConstantByteBuffer(in.slice(length));
+      return pageSlice(in.slice(length));
     } catch (IOException | RuntimeException e) {
       throw new ParquetDecodingException("could not read bytes at offset " + in.position(), e);
     }
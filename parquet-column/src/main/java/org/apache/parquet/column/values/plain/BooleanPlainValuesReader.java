@@ -55,6 +55,16 @@ public class BooleanPlainValuesReader extends ValuesReader {
     in.readInteger();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @see org.apache.parquet.column.values.ValuesReader#skip(int)
+   */
+  @Override
+  public void skip(int n) {
+    in.skip(n);
+  }
+
   /**
    * {@inheritDoc}
    *
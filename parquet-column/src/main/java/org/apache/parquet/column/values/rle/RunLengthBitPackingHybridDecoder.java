@@ -19,8 +19,10 @@
 package org.apache.parquet.column.values.rle;
 
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import org.apache.parquet.Preconditions;
 import org.apache.parquet.bytes.BytesUtils;
 import org.apache.parquet.column.values.bitpacking.BytePacker;
@@ -35,6 +37,25 @@ import org.slf4j.LoggerFactory;
 public class RunLengthBitPackingHybridDecoder {
   private static final Logger LOG = LoggerFactory.getLogger(RunLengthBitPackingHybridDecoder.class);
 
+  /**
+   * Receives the runs of values as they are encoded
+   */
+  public interface RunVisitor {
+
+    /**
+     * @param value the value repeated
+     * @param count the number of times it is repeated
+     */
+    void visitRepeated(int value, int count);
+
+    /**
+     * @param values the array containing the unpacked values; only valid until the method returns
+     * @param offset the index of the first value in the array
+     * @param count  the number of values
+     */
+    void visitPacked(int[] values, int offset, int count);
+  }
+
   private static enum MODE {
     RLE,
     PACKED
@@ -77,7 +98,100 @@ public class RunLengthBitPackingHybridDecoder {
     return result;
   }
 
+  /**
+   * Reads the next values; the same as calling {@link #readInt()} {@code length} times.
+   *
+   * @param values the array to read the values into
+   * @param offset the index of the first value in the array
+   * @param length the number of values to be read
+   * @throws IOException if there is an exception while reading from the input stream
+   */
+  public void readInts(int[] values, int offset, int length) throws IOException {
+    while (length > 0) {
+      if (currentCount == 0) {
+        readNext();
+      }
+      int n = Math.min(length, currentCount);
+      switch (mode) {
+        case RLE:
+          Arrays.fill(values, offset, offset + n, currentValue);
+          break;
+        case PACKED:
+          System.arraycopy(currentBuffer, currentBuffer.length - currentCount, values, offset, n);
+          break;
+        default:
+          throw new ParquetDecodingException("not a valid mode " + mode);
+      }
+      currentCount -= n;
+      offset += n;
+      length -= n;
+    }
+  }
+
+  /**
+   * Reads the next values run by run so the repeated values are never expanded. The runs are split at {@code count}
+   * and the rest of the last one is left for the next reads.
+   *
+   * @param count   the number of values to be read
+   * @param visitor the visitor to pass the runs to
+   * @throws IOException if there is an exception while reading from the input stream
+   */
+  public void readRuns(int count, RunVisitor visitor) throws IOException {
+    while (count > 0) {
+      if (currentCount == 0) {
+        readNext();
+      }
+      int n = Math.min(count, currentCount);
+      switch (mode) {
+        case RLE:
+          visitor.visitRepeated(currentValue, n);
+          break;
+        case PACKED:
+          visitor.visitPacked(currentBuffer, currentBuffer.length - currentCount, n);
+          break;
+        default:
+          throw new ParquetDecodingException("not a valid mode " + mode);
+      }
+      currentCount -= n;
+      count -= n;
+    }
+  }
+
+  /**
+   * Skips the next values without decoding the runs that are skipped entirely: the repeated runs are skipped by
+   * count and the bytes of the bit-packed runs are not unpacked.
+   *
+   * @param n the number of values to skip
+   * @throws IOException if there is an exception while reading from the input stream
+   */
+  public void skip(int n) throws IOException {
+    while (n > 0) {
+      if (currentCount == 0) {
+        readHeader();
+        if (mode == MODE.PACKED) {
+          if (n >= currentCount) {
+            skipPacked();
+            n -= currentCount;
+            currentCount = 0;
+            continue;
+          }
+          unpack();
+        }
+      }
+      int skipped = Math.min(n, currentCount);
+      currentCount -= skipped;
+      n -= skipped;
+    }
+  }
+
   private void readNext() throws IOException {
+    readHeader();
+    if (mode == MODE.PACKED) {
+      unpack();
+    }
+  }
+
+  private void readHeader() throws IOException {
     Preconditions.checkArgument(in.available() > 0, "Reading past RLE/BitPacking stream.");
     final int header = BytesUtils.readUnsignedVarInt(in);
     mode = (header & 1) == 0 ? MODE.RLE : MODE.PACKED;
@@ -91,20 +205,35 @@ public class RunLengthBitPackingHybridDecoder {
         int numGroups = header >>> 1;
         currentCount = numGroups * 8;
         LOG.debug("reading {} values BIT PACKED", currentCount);
-        currentBuffer = new int[currentCount]; // TODO: reuse a buffer
-        byte[] bytes = new byte[numGroups * bitWidth];
-        // At the end of the file RLE data though, there might not be that many bytes left.
-        int bytesToRead = (int) Math.ceil(currentCount * bitWidth / 8.0);
-        bytesToRead = Math.min(bytesToRead, in.available());
-        new DataInputStream(in).readFully(bytes, 0, bytesToRead);
-        for (int valueIndex = 0, byteIndex = 0;
-            valueIndex < currentCount;
-            valueIndex += 8, byteIndex += bitWidth) {
-          packer.unpack8Values(bytes, byteIndex, currentBuffer, valueIndex);
-        }
         break;
       default:
         throw new ParquetDecodingException("not a valid mode " + mode);
     }
   }
+
+  // At the end of the file RLE data though, there might not be as many bytes left as packed values.
+  private int packedBytes() throws IOException {
+    int bytesToRead = (int) Math.ceil(currentCount * bitWidth / 8.0);
+    return Math.min(bytesToRead, in.available());
+  }
+
+  private void unpack() throws IOException {
+    currentBuffer = new int[currentCount]; // TODO: reuse a buffer
+    byte[] bytes = new byte[currentCount / 8 * bitWidth];
+    new DataInputStream(in).readFully(bytes, 0, packedBytes());
+    for (int valueIndex = 0, byteIndex = 0; valueIndex < currentCount; valueIndex += 8, byteIndex += bitWidth) {
+      packer.unpack8Values(bytes, byteIndex, currentBuffer, valueIndex);
+    }
+  }
+
+  private void skipPacked() throws IOException {
+    long remaining = packedBytes();
+    while (remaining > 0) {
+      long skipped = in.skip(remaining);
+      if (skipped <= 0) {
+        throw new EOFException("Reached the end of stream with " + remaining + " bytes left to skip");
+      }
+      remaining -= skipped;
+    }
+  }
 }
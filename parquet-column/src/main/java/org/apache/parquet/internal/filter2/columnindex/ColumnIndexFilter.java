@@ -18,9 +18,13 @@
  */
 package org.apache.parquet.internal.filter2.columnindex;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.compat.FilterCompat.FilterPredicateCompat;
 import org.apache.parquet.filter2.compat.FilterCompat.NoOpFilter;
@@ -50,6 +54,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Filter implementation based on column indexes.
  * No filtering will be applied for columns where no column index is available.
+ * For equality predicates the pages are also filtered by their Bloom filters if page Bloom filters are available.
  * Offset index is required for all the columns in the projection, therefore a {@link MissingOffsetIndexException} will
  * be thrown from any {@code visit} methods if any of the required offset indexes is missing.
  */
@@ -114,7 +119,12 @@ public class ColumnIndexFilter implements Visitor<RowRanges> {
 
   @Override
   public <T extends Comparable<T>> RowRanges visit(Eq<T> eq) {
-    return applyPredicate(eq.getColumn(), ci -> ci.visit(eq), eq.getValue() == null ? allRows() : RowRanges.EMPTY);
+    T value = eq.getValue();
+    return applyPredicate(
+        eq.getColumn(),
+        ci -> ci.visit(eq),
+        value == null ? allRows() : RowRanges.EMPTY,
+        value == null ? null : Collections.singleton(value));
   }
 
   @Override
@@ -146,7 +156,11 @@ public class ColumnIndexFilter implements Visitor<RowRanges> {
   @Override
   public <T extends Comparable<T>> RowRanges visit(Operators.In<T> in) {
     boolean isNull = in.getValues().contains(null);
-    return applyPredicate(in.getColumn(), ci -> ci.visit(in), isNull ? allRows() : RowRanges.EMPTY);
+    return applyPredicate(
+        in.getColumn(),
+        ci -> ci.visit(in),
+        isNull ? allRows() : RowRanges.EMPTY,
+        isNull ? null : in.getValues());
   }
 
   @Override
@@ -174,6 +188,18 @@ public class ColumnIndexFilter implements Visitor<RowRanges> {
 
   private RowRanges applyPredicate(
       Column<?> column, Function<ColumnIndex, PrimitiveIterator.OfInt> func, RowRanges rangesForMissingColumns) {
+    return applyPredicate(column, func, rangesForMissingColumns, null);
+  }
+
+  /*
+   * values are the values one of them a row has to be equal to for matching the predicate; if set, the pages are also
+   * filtered by the page Bloom filters
+   */
+  private RowRanges applyPredicate(
+      Column<?> column,
+      Function<ColumnIndex, PrimitiveIterator.OfInt> func,
+      RowRanges rangesForMissingColumns,
+      Set<?> values) {
     ColumnPath columnPath = column.getColumnPath();
     if (!columns.contains(columnPath)) {
       return rangesForMissingColumns;
@@ -181,12 +207,45 @@ public class ColumnIndexFilter implements Visitor<RowRanges> {
 
     OffsetIndex oi = columnIndexStore.getOffsetIndex(columnPath);
     ColumnIndex ci = columnIndexStore.getColumnIndex(columnPath);
-    if (ci == null) {
+    List<BloomFilter> pageBloomFilters = values == null ? null : columnIndexStore.getPageBloomFilters(columnPath);
+    if (pageBloomFilters != null && pageBloomFilters.size() != oi.getPageCount()) {
+      LOGGER.warn("The page Bloom filters of column {} do not match its offset index; Ignoring them", columnPath);
+      pageBloomFilters = null;
+    }
+    if (ci == null && pageBloomFilters == null) {
       LOGGER.info("No column index for column {} is available; Unable to filter on this column", columnPath);
       return allRows();
     }
 
-    return RowRanges.create(rowCount, func.apply(ci), oi);
+    PrimitiveIterator.OfInt pageIndexes =
+        ci == null ? IntStream.range(0, oi.getPageCount()).iterator() : func.apply(ci);
+    if (pageBloomFilters != null) {
+      pageIndexes = filterByBloomFilters(pageIndexes, pageBloomFilters, values);
+    }
+    return RowRanges.create(rowCount, pageIndexes, oi);
+  }
+
+  private static PrimitiveIterator.OfInt filterByBloomFilters(
+      PrimitiveIterator.OfInt pageIndexes, List<BloomFilter> pageBloomFilters, Set<?> values) {
+    IntStream.Builder builder = IntStream.builder();
+    while (pageIndexes.hasNext()) {
+      int pageIndex = pageIndexes.nextInt();
+      BloomFilter bloomFilter = pageBloomFilters.get(pageIndex);
+      if (bloomFilter == null || mightContainAny(bloomFilter, values)) {
+        builder.add(pageIndex);
+      }
+    }
+    return builder.build().iterator();
+  }
+
+  private static boolean mightContainAny(BloomFilter bloomFilter, Set<?> values) {
+    for (Object value : values) {
+      // boolean values are not inserted into Bloom filters
+      if (value instanceof Boolean || bloomFilter.findHash(bloomFilter.hash(value))) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
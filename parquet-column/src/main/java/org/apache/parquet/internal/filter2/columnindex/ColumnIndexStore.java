@@ -18,7 +18,9 @@
  */
 package org.apache.parquet.internal.filter2.columnindex;
 
+import java.util.List;
 import org.apache.parquet.ParquetRuntimeException;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
@@ -49,4 +51,13 @@ public interface ColumnIndexStore {
    * @throws MissingOffsetIndexException if the related offset index is missing
    */
   OffsetIndex getOffsetIndex(ColumnPath column) throws MissingOffsetIndexException;
+
+  /**
+   * @param column the path of the column
+   * @return the Bloom filters of the data pages of the column-chunk in the order of the pages in the offset index or
+   * {@code null} if no page Bloom filters are available
+   */
+  default List<BloomFilter> getPageBloomFilters(ColumnPath column) {
+    return null;
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.io;
+
+import java.util.List;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.io.api.BatchRecordMaterializer;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+
+/**
+ * Reads the records of a flat schema in batches, decoding the values of a batch one column after the other rather
+ * than record by record.
+ *
+ * @param <T> the type of the materialized batches
+ * @see MessageColumnIO#getBatchRecordReader(PageReadStore, BatchRecordMaterializer)
+ */
+public class BatchRecordReader<T> {
+
+  private final BatchRecordMaterializer<T> batchMaterializer;
+  private final ColumnReader[] columnReaders;
+  private final int[] maxDefinitionLevels;
+  private long remainingRecordCount;
+
+  BatchRecordReader(
+      MessageColumnIO root,
+      BatchRecordMaterializer<T> batchMaterializer,
+      PageReadStore columns,
+      String createdBy) {
+    this.batchMaterializer = batchMaterializer;
+    ColumnReadStoreImpl columnStore =
+        new ColumnReadStoreImpl(columns, new FieldConverters(batchMaterializer), root.getType(), createdBy);
+    List<PrimitiveColumnIO> leaves = root.getLeaves();
+    columnReaders = new ColumnReader[leaves.size()];
+    maxDefinitionLevels = new int[leaves.size()];
+    for (int i = 0; i < columnReaders.length; i++) {
+      PrimitiveColumnIO leaf = leaves.get(i);
+      columnReaders[i] = columnStore.getColumnReader(leaf.getColumnDescriptor());
+      maxDefinitionLevels[i] = leaf.getDefinitionLevel();
+    }
+    remainingRecordCount = columns.getRowCount();
+  }
+
+  /**
+   * @return the number of records not read yet
+   */
+  public long getRemainingRecordCount() {
+    return remainingRecordCount;
+  }
+
+  /**
+   * Reads the next batch of records.
+   *
+   * @param maxRecordCount the maximum number of records in the batch
+   * @return the materialized batch or null if all the records were read
+   */
+  public T readBatch(int maxRecordCount) {
+    if (maxRecordCount <= 0) {
+      throw new IllegalArgumentException("maxRecordCount must be positive: " + maxRecordCount);
+    }
+    if (remainingRecordCount == 0) {
+      return null;
+    }
+    int recordCount = (int) Math.min(maxRecordCount, remainingRecordCount);
+    batchMaterializer.startBatch(recordCount);
+    for (int i = 0; i < columnReaders.length; i++) {
+      ColumnReader columnReader = columnReaders[i];
+      int maxDefinitionLevel = maxDefinitionLevels[i];
+      for (int n = 0; n < recordCount; n++) {
+        if (columnReader.getCurrentDefinitionLevel() >= maxDefinitionLevel) {
+          columnReader.writeCurrentValueToConverter();
+        } else {
+          batchMaterializer.addNull(i);
+        }
+        columnReader.consume();
+      }
+    }
+    remainingRecordCount -= recordCount;
+    return batchMaterializer.getCurrentBatch();
+  }
+
+  /**
+   * Root of the converters of the column readers: the leaves of a flat schema are its fields.
+   */
+  private static class FieldConverters extends GroupConverter {
+    private final BatchRecordMaterializer<?> batchMaterializer;
+
+    FieldConverters(BatchRecordMaterializer<?> batchMaterializer) {
+      this.batchMaterializer = batchMaterializer;
+    }
+
+    @Override
+    public Converter getConverter(int fieldIndex) {
+      return batchMaterializer.getFieldConverter(fieldIndex);
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void end() {}
+  }
+}
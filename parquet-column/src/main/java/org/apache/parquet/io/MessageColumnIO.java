@@ -19,14 +19,10 @@
 package org.apache.parquet.io;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.ints.IntIterator;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ColumnWriter;
@@ -43,6 +39,7 @@ import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.filter2.recordlevel.FilteringRecordMaterializer;
 import org.apache.parquet.filter2.recordlevel.IncrementallyUpdatedFilterPredicate;
 import org.apache.parquet.filter2.recordlevel.IncrementallyUpdatedFilterPredicateBuilder;
+import org.apache.parquet.io.api.BatchRecordMaterializer;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.io.api.RecordConsumer;
 import org.apache.parquet.io.api.RecordMaterializer;
@@ -143,6 +140,139 @@ public class MessageColumnIO extends GroupColumnIO {
     });
   }
 
+  /**
+   * A schema is flat when its leaves are all non-repeated fields of the message. Non-repeated groups are not flat even
+   * though they never repeat: their converters have to be started and ended around their fields, and not at all when
+   * an optional group is null, which is the job of the assembly automaton of the record readers. Such schemas are read
+   * record by record by {@link #getRecordReader(PageReadStore, RecordMaterializer, Filter)}.
+   *
+   * @return whether all the leaves are non-repeated fields of the message, the schemas supported by
+   * {@link #getBatchRecordReader(PageReadStore, BatchRecordMaterializer)}
+   */
+  public boolean isFlat() {
+    for (PrimitiveColumnIO leaf : leaves) {
+      if (leaf.getFieldPath().length != 1 || leaf.getRepetitionLevel() != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param columns            a page read store with the column data
+   * @param batchMaterializer  a materializer of batches of records
+   * @param <T>                the type of batches returned by the reader
+   * @return a reader of batches of records, decoding the values one column at a time
+   * @throws UnsupportedOperationException if the schema is not {@link #isFlat() flat}, e.g. if it has a group, even a
+   *                                       non-repeated one
+   */
+  public <T> BatchRecordReader<T> getBatchRecordReader(
+      PageReadStore columns, BatchRecordMaterializer<T> batchMaterializer) {
+    Objects.requireNonNull(columns, "columns cannot be null");
+    Objects.requireNonNull(batchMaterializer, "batchMaterializer cannot be null");
+    if (!isFlat()) {
+      throw new UnsupportedOperationException("Batch reads are only supported for flat schemas: " + getType());
+    }
+    return new BatchRecordReader<>(this, batchMaterializer, columns, createdBy);
+  }
+
+  /**
+   * The schema compiled once into flat tables for the record writer, so shredding a record requires neither hashing nor
+   * recursion. The groups are numbered in pre-order: the groups under a group have consecutive indexes following its
+   * own one and the leaves under it have consecutive ids as they are numbered in the same order by ColumnIOFactory.
+   * The children of a group are referenced by the id of the leaf or by the bitwise complement of the index of the group.
+   */
+  private static final class ShreddingPlan {
+    final int[] definitionLevel;
+    final int[] parentDefinitionLevel;
+    // the leaves under group g are [firstLeaf[g], endLeaf[g]) and the groups under it (g, endGroup[g])
+    final int[] firstLeaf;
+    final int[] endLeaf;
+    final int[] endGroup;
+    // the children of group g are childRefs[firstChild[g]] to childRefs[firstChild[g] + childCount[g] - 1]
+    final int[] firstChild;
+    final int[] childCount;
+    final int[] childRefs;
+    final int maxChildCount;
+    final int maxDepth;
+
+    ShreddingPlan(MessageColumnIO message) {
+      Compiler compiler = new Compiler();
+      compiler.add(message);
+      this.definitionLevel = compiler.definitionLevel.toIntArray();
+      this.parentDefinitionLevel = compiler.parentDefinitionLevel.toIntArray();
+      this.firstLeaf = compiler.firstLeaf.toIntArray();
+      this.endLeaf = compiler.endLeaf.toIntArray();
+      this.endGroup = compiler.endGroup.toIntArray();
+      this.firstChild = compiler.firstChild.toIntArray();
+      this.childCount = compiler.childCount.toIntArray();
+      this.childRefs = compiler.childRefs.toIntArray();
+      this.maxChildCount = compiler.maxChildCount;
+      this.maxDepth = compiler.maxDepth;
+    }
+
+    private static final class Compiler {
+      private final IntArrayList definitionLevel = new IntArrayList();
+      private final IntArrayList parentDefinitionLevel = new IntArrayList();
+      private final IntArrayList firstLeaf = new IntArrayList();
+      private final IntArrayList endLeaf = new IntArrayList();
+      private final IntArrayList endGroup = new IntArrayList();
+      private final IntArrayList firstChild = new IntArrayList();
+      private final IntArrayList childCount = new IntArrayList();
+      private final IntArrayList childRefs = new IntArrayList();
+      private int groupCount;
+      private int leafCount;
+      private int maxChildCount;
+      private int maxDepth;
+
+      private int add(GroupColumnIO group) {
+        int index = groupCount++;
+        int count = group.getChildrenCount();
+        definitionLevel.add(group.getDefinitionLevel());
+        parentDefinitionLevel.add(
+            group.getParent() == null ? 0 : group.getParent().getDefinitionLevel());
+        firstLeaf.add(leafCount);
+        endLeaf.add(0);
+        endGroup.add(0);
+        firstChild.add(childRefs.size());
+        childCount.add(count);
+        maxChildCount = Math.max(maxChildCount, count);
+        // the children of a group are referenced consecutively, before the ones of its sub-groups
+        int first = childRefs.size();
+        for (int i = 0; i < count; i++) {
+          childRefs.add(0);
+        }
+        for (int i = 0; i < count; i++) {
+          ColumnIO child = group.getChild(i);
+          if (child.getType().isPrimitive()) {
+            childRefs.set(first + i, ((PrimitiveColumnIO) child).getId());
+            ++leafCount;
+            maxDepth = Math.max(maxDepth, child.getFieldPath().length);
+          } else {
+            childRefs.set(first + i, ~add((GroupColumnIO) child));
+          }
+        }
+        endLeaf.set(index, leafCount);
+        endGroup.set(index, groupCount);
+        return index;
+      }
+    }
+  }
+
+  private ShreddingPlan shreddingPlan;
+
+  private ShreddingPlan getShreddingPlan() {
+    // the plan is immutable so it is fine to compile it more than once if used concurrently
+    ShreddingPlan plan = shreddingPlan;
+    if (plan == null) {
+      plan = new ShreddingPlan(this);
+      shreddingPlan = plan;
+    }
+    return plan;
+  }
+
+  private static final int[] NO_NULLS = new int[0];
+
   /**
    * To improve null writing performance, we cache null values on group nodes. We flush nulls when a
    * non-null value hits the group node.
@@ -167,92 +297,64 @@ public class MessageColumnIO extends GroupColumnIO {
    * flushed to each leaf in a tight loop. This implementation has following characteristics.
    * <p>
    * 1. When a group node hits a null value, it adds the repetition level of the null value to
-   * the groupNullCache. The definition level of the cached nulls should always be the same as
-   * the definition level of the group node so there is no need to store it.
+   * the groupNulls of the index of the group in the {@link ShreddingPlan}. The definition level of the cached nulls
+   * should always be the same as the definition level of the parent of the group node so there is no need to store it.
    * <p>
    * 2. When a group node hits a non null value and it has null value cached, it should flush null
    * values and start from his children group nodes first. This make sure the order of null values
-   * being flushed is correct.
+   * being flushed is correct. As the groups are indexed in pre-order, its children group nodes are the following
+   * indexes up to the endGroup of the group in the plan, and the leaves to write the nulls to are the range of leaf
+   * ids of the group in the plan.
    */
   private class MessageColumnIORecordConsumer extends RecordConsumer {
+    private final ShreddingPlan plan;
     private ColumnIO currentColumnIO;
+    // the reference of the current field in the plan: the id of a leaf or the complement of the index of a group
+    private int currentField;
     private int currentLevel = 0;
 
-    private class FieldsMarker {
-      private BitSet visitedIndexes = new BitSet();
-
-      @Override
-      public String toString() {
-        return "VisitedIndex{" + "visitedIndexes=" + visitedIndexes + '}';
-      }
-
-      public void reset(int fieldsCount) {
-        this.visitedIndexes.clear(0, fieldsCount);
-      }
-
-      public void markWritten(int i) {
-        visitedIndexes.set(i);
-      }
-
-      public boolean isWritten(int i) {
-        return visitedIndexes.get(i);
-      }
-    }
-
+    // the index in the plan of the group at each level of depth
+    private final int[] groups;
     // track at each level of depth, which fields are written, so nulls can be inserted for the unwritten fields
-    private final FieldsMarker[] fieldsWritten;
+    private final long[][] fieldsWritten;
     private final int[] r;
     private final ColumnWriter[] columnWriters;
 
-    /**
-     * Maintain a map of groups and all the leaf nodes underneath it. It's used to optimize writing null for a group node.
-     * Instead of using recursion calls, all the leaves can be called directly without traversing the sub tree of the group node
-     */
-    private Map<GroupColumnIO, List<ColumnWriter>> groupToLeafWriter = new HashMap<>();
-
     /*
-     * Cache nulls for each group node. It only stores the repetition level, since the definition level
-     * should always be the definition level of the group node.
+     * Cache nulls for each group node by its index in the plan. It only stores the repetition levels, since the
+     * definition level should always be the definition level of the parent node. The nulls are written directly to
+     * the leaves of the group when flushed instead of traversing its sub tree.
      */
-    private Map<GroupColumnIO, IntArrayList> groupNullCache = new HashMap<>();
+    private final int[][] groupNulls;
+    private final int[] groupNullCounts;
+    private int groupsWithNulls;
     private final ColumnWriteStore columns;
     private boolean emptyField = true;
 
-    private void buildGroupToLeafWriterMap(PrimitiveColumnIO primitive, ColumnWriter writer) {
-      GroupColumnIO parent = primitive.getParent();
-      do {
-        getLeafWriters(parent).add(writer);
-        parent = parent.getParent();
-      } while (parent != null);
-    }
-
-    private List<ColumnWriter> getLeafWriters(GroupColumnIO group) {
-      return groupToLeafWriter.computeIfAbsent(group, k -> new ArrayList<>());
-    }
-
     public MessageColumnIORecordConsumer(ColumnWriteStore columns) {
       this.columns = columns;
-      int maxDepth = 0;
+      this.plan = getShreddingPlan();
       this.columnWriters =
           new ColumnWriter[MessageColumnIO.this.getLeaves().size()];
 
       for (PrimitiveColumnIO primitiveColumnIO : MessageColumnIO.this.getLeaves()) {
-        ColumnWriter w = columns.getColumnWriter(primitiveColumnIO.getColumnDescriptor());
-        maxDepth = Math.max(maxDepth, primitiveColumnIO.getFieldPath().length);
-        columnWriters[primitiveColumnIO.getId()] = w;
-        buildGroupToLeafWriterMap(primitiveColumnIO, w);
+        columnWriters[primitiveColumnIO.getId()] =
+            columns.getColumnWriter(primitiveColumnIO.getColumnDescriptor());
       }
 
-      fieldsWritten = new FieldsMarker[maxDepth];
-      for (int i = 0; i < maxDepth; i++) {
-        fieldsWritten[i] = new FieldsMarker();
-      }
+      int maxDepth = plan.maxDepth;
+      groups = new int[maxDepth];
+      fieldsWritten = new long[maxDepth][(plan.maxChildCount + 63) >>> 6];
       r = new int[maxDepth];
+      int groupCount = plan.definitionLevel.length;
+      groupNulls = new int[groupCount][];
+      Arrays.fill(groupNulls, NO_NULLS);
+      groupNullCounts = new int[groupCount];
     }
 
     private void printState() {
       if (DEBUG) {
-        log(currentLevel + ", " + fieldsWritten[currentLevel] + ": "
+        log(currentLevel + ", " + BitSet.valueOf(fieldsWritten[currentLevel]) + ": "
             + Arrays.toString(currentColumnIO.getFieldPath()) + " r:" + r[currentLevel]);
         if (r[currentLevel] > currentColumnIO.getRepetitionLevel()) {
           // sanity check
@@ -280,9 +382,9 @@ public class MessageColumnIO extends GroupColumnIO {
     public void startMessage() {
       if (DEBUG) log("< MESSAGE START >");
       currentColumnIO = MessageColumnIO.this;
+      groups[0] = 0;
       r[0] = 0;
-      int numberOfFieldsToVisit = ((GroupColumnIO) currentColumnIO).getChildrenCount();
-      fieldsWritten[0].reset(numberOfFieldsToVisit);
+      resetFieldsWritten(0);
       if (DEBUG) printState();
     }
 
@@ -306,6 +408,7 @@ public class MessageColumnIO extends GroupColumnIO {
       try {
         if (DEBUG) log("startField({}, {})", field, index);
         currentColumnIO = ((GroupColumnIO) currentColumnIO).getChild(index);
+        currentField = plan.childRefs[plan.firstChild[groups[currentLevel]] + index];
         emptyField = true;
         if (DEBUG) printState();
       } catch (RuntimeException e) {
@@ -321,64 +424,81 @@ public class MessageColumnIO extends GroupColumnIO {
         throw new ParquetEncodingException(
             "empty fields are illegal, the field should be ommited completely instead");
       }
-      fieldsWritten[currentLevel].markWritten(index);
+      fieldsWritten[currentLevel][index >>> 6] |= 1L << index;
       r[currentLevel] = currentLevel == 0 ? 0 : r[currentLevel - 1];
       if (DEBUG) printState();
     }
 
+    private void resetFieldsWritten(int level) {
+      Arrays.fill(fieldsWritten[level], 0, (plan.childCount[groups[level]] + 63) >>> 6, 0L);
+    }
+
     private void writeNullForMissingFieldsAtCurrentLevel() {
-      int currentFieldsCount = ((GroupColumnIO) currentColumnIO).getChildrenCount();
-      for (int i = 0; i < currentFieldsCount; i++) {
-        if (!fieldsWritten[currentLevel].isWritten(i)) {
+      int group = groups[currentLevel];
+      int fieldsCount = plan.childCount[group];
+      int firstChild = plan.firstChild[group];
+      int d = plan.definitionLevel[group];
+      int rl = r[currentLevel];
+      long[] written = fieldsWritten[currentLevel];
+      for (int word = 0; word << 6 < fieldsCount; word++) {
+        long missing = ~written[word];
+        int remaining = fieldsCount - (word << 6);
+        if (remaining < 64) {
+          missing &= (1L << remaining) - 1;
+        }
+        while (missing != 0) {
+          int i = (word << 6) + Long.numberOfTrailingZeros(missing);
+          missing &= missing - 1;
           try {
-            ColumnIO undefinedField = ((GroupColumnIO) currentColumnIO).getChild(i);
-            int d = currentColumnIO.getDefinitionLevel();
             if (DEBUG)
-              log(Arrays.toString(undefinedField.getFieldPath()) + ".writeNull(" + r[currentLevel] + ","
-                  + d + ")");
-            writeNull(undefinedField, r[currentLevel], d);
+              log(Arrays.toString(((GroupColumnIO) currentColumnIO)
+                      .getChild(i)
+                      .getFieldPath()) + ".writeNull(" + rl + "," + d + ")");
+            int child = plan.childRefs[firstChild + i];
+            if (child >= 0) {
+              columnWriters[child].writeNull(rl, d);
+            } else {
+              // only cache the repetition level, the definition level of the nulls of a group should
+              // always be the definition level of its parent node
+              cacheNullForGroup(~child, rl);
+            }
           } catch (RuntimeException e) {
             throw new ParquetEncodingException(
                 "error while writing nulls for fields of indexes " + i + " . current index: "
-                    + fieldsWritten[currentLevel],
+                    + BitSet.valueOf(written),
                 e);
           }
         }
       }
     }
 
-    private void writeNull(ColumnIO undefinedField, int r, int d) {
-      if (undefinedField.getType().isPrimitive()) {
-        columnWriters[((PrimitiveColumnIO) undefinedField).getId()].writeNull(r, d);
-      } else {
-        GroupColumnIO groupColumnIO = (GroupColumnIO) undefinedField;
-        // only cache the repetition level, the definition level should always be the definition level of the
-        // parent node
-        cacheNullForGroup(groupColumnIO, r);
+    private void cacheNullForGroup(int group, int r) {
+      int[] nulls = groupNulls[group];
+      int count = groupNullCounts[group];
+      if (count == nulls.length) {
+        nulls = groupNulls[group] = Arrays.copyOf(nulls, Math.max(8, count * 2));
       }
-    }
-
-    private void cacheNullForGroup(GroupColumnIO group, int r) {
-      IntArrayList nulls = groupNullCache.get(group);
-      if (nulls == null) {
-        nulls = new IntArrayList();
-        groupNullCache.put(group, nulls);
+      nulls[count] = r;
+      if (count == 0) {
+        ++groupsWithNulls;
       }
-      nulls.add(r);
+      groupNullCounts[group] = count + 1;
     }
 
-    private void writeNullToLeaves(GroupColumnIO group) {
-      IntArrayList nullCache = groupNullCache.get(group);
-      if (nullCache == null || nullCache.isEmpty()) return;
+    private void writeNullToLeaves(int group) {
+      int count = groupNullCounts[group];
+      if (count == 0) return;
 
-      int parentDefinitionLevel = group.getParent().getDefinitionLevel();
-      for (ColumnWriter leafWriter : groupToLeafWriter.get(group)) {
-        for (IntIterator iter = nullCache.iterator(); iter.hasNext(); ) {
-          int repetitionLevel = iter.nextInt();
-          leafWriter.writeNull(repetitionLevel, parentDefinitionLevel);
+      int[] nulls = groupNulls[group];
+      int parentDefinitionLevel = plan.parentDefinitionLevel[group];
+      for (int leaf = plan.firstLeaf[group], end = plan.endLeaf[group]; leaf < end; leaf++) {
+        ColumnWriter leafWriter = columnWriters[leaf];
+        for (int i = 0; i < count; i++) {
+          leafWriter.writeNull(nulls[i], parentDefinitionLevel);
         }
       }
-      nullCache.clear();
+      groupNullCounts[group] = 0;
+      --groupsWithNulls;
     }
 
     private void setRepetitionLevel() {
@@ -389,36 +509,30 @@ public class MessageColumnIO extends GroupColumnIO {
     @Override
     public void startGroup() {
       if (DEBUG) log("startGroup()");
-      GroupColumnIO group = (GroupColumnIO) currentColumnIO;
+      if (currentField >= 0) {
+        throw new ParquetEncodingException("field " + currentColumnIO + " is not a group");
+      }
+      int group = ~currentField;
 
       // current group is not null, need to flush all the nulls that were cached before
-      if (hasNullCache(group)) {
+      if (groupNullCounts[group] != 0) {
         flushCachedNulls(group);
       }
 
       ++currentLevel;
+      groups[currentLevel] = group;
       r[currentLevel] = r[currentLevel - 1];
 
-      int fieldsCount = ((GroupColumnIO) currentColumnIO).getChildrenCount();
-      fieldsWritten[currentLevel].reset(fieldsCount);
+      resetFieldsWritten(currentLevel);
       if (DEBUG) printState();
     }
 
-    private boolean hasNullCache(GroupColumnIO group) {
-      IntArrayList nulls = groupNullCache.get(group);
-      return nulls != null && !nulls.isEmpty();
-    }
-
-    private void flushCachedNulls(GroupColumnIO group) {
-      // flush children first
-      for (int i = 0; i < group.getChildrenCount(); i++) {
-        ColumnIO child = group.getChild(i);
-        if (child instanceof GroupColumnIO) {
-          flushCachedNulls((GroupColumnIO) child);
-        }
+    private void flushCachedNulls(int group) {
+      // flush the sub-groups first: they follow the group in pre-order so any of them comes before its parent in
+      // reverse order
+      for (int g = plan.endGroup[group] - 1; g >= group; g--) {
+        writeNullToLeaves(g);
       }
-      // then flush itself
-      writeNullToLeaves(group);
     }
 
     @Override
@@ -426,6 +540,8 @@ public class MessageColumnIO extends GroupColumnIO {
       if (DEBUG) log("endGroup()");
       emptyField = false;
       writeNullForMissingFieldsAtCurrentLevel();
+      // back to the field of the group, which might be repeated
+      currentField = ~groups[currentLevel];
       --currentLevel;
 
       setRepetitionLevel();
@@ -433,7 +549,7 @@ public class MessageColumnIO extends GroupColumnIO {
     }
 
     private ColumnWriter getColumnWriter() {
-      return columnWriters[((PrimitiveColumnIO) currentColumnIO).getId()];
+      return columnWriters[currentField];
     }
 
     @Override
@@ -501,7 +617,9 @@ public class MessageColumnIO extends GroupColumnIO {
      */
     @Override
     public void flush() {
-      flushCachedNulls(MessageColumnIO.this);
+      if (groupsWithNulls != 0) {
+        flushCachedNulls(0);
+      }
     }
   }
 
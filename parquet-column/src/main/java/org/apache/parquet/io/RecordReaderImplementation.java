@@ -241,6 +241,9 @@ class RecordReaderImplementation<T> extends RecordReader<T> {
 
   private State[] states;
   private ColumnReader[] columnReaders;
+  // set when all the leaves are direct non-repeated children of the root: every record then reads each column once,
+  // in order, without opening or closing any group
+  private final int[] flatMaxDefinitionLevels;
 
   private boolean shouldSkipCurrentRecord = false;
 
@@ -388,6 +391,14 @@ class RecordReaderImplementation<T> extends RecordReader<T> {
       Collections.sort(state.definedCases, caseComparator);
       Collections.sort(state.undefinedCases, caseComparator);
     }
+    if (root.isFlat()) {
+      flatMaxDefinitionLevels = new int[leaves.length];
+      for (int i = 0; i < leaves.length; i++) {
+        flatMaxDefinitionLevels[i] = leaves[i].getDefinitionLevel();
+      }
+    } else {
+      flatMaxDefinitionLevels = null;
+    }
   }
 
   // TODO: have those wrappers for a converter
@@ -407,8 +418,40 @@ class RecordReaderImplementation<T> extends RecordReader<T> {
    */
   @Override
   public T read() {
-    int currentLevel = 0;
     recordRootConverter.start();
+    if (flatMaxDefinitionLevels != null) {
+      readFlatRecord();
+    } else {
+      readRecord();
+    }
+    recordRootConverter.end();
+    T record = recordMaterializer.getCurrentRecord();
+    shouldSkipCurrentRecord = record == null;
+    if (shouldSkipCurrentRecord) {
+      recordMaterializer.skipCurrentRecord();
+    }
+    return record;
+  }
+
+  /**
+   * The assembly automaton of a flat schema is a straight sequence of the columns: the values are written directly
+   * to their converters, skipping the state transitions. The schemas with groups, even non-repeated ones, are read by
+   * {@link #readRecord()} which starts and ends the converters of the groups.
+   */
+  private void readFlatRecord() {
+    final ColumnReader[] columnReaders = this.columnReaders;
+    final int[] maxDefinitionLevels = this.flatMaxDefinitionLevels;
+    for (int i = 0; i < columnReaders.length; i++) {
+      ColumnReader columnReader = columnReaders[i];
+      if (columnReader.getCurrentDefinitionLevel() >= maxDefinitionLevels[i]) {
+        columnReader.writeCurrentValueToConverter();
+      }
+      columnReader.consume();
+    }
+  }
+
+  private void readRecord() {
+    int currentLevel = 0;
     State currentState = states[0];
     do {
       ColumnReader columnReader = currentState.column;
@@ -435,13 +478,6 @@ class RecordReaderImplementation<T> extends RecordReader<T> {
 
       currentState = currentState.nextState[nextR];
     } while (currentState != null);
-    recordRootConverter.end();
-    T record = recordMaterializer.getCurrentRecord();
-    shouldSkipCurrentRecord = record == null;
-    if (shouldSkipCurrentRecord) {
-      recordMaterializer.skipCurrentRecord();
-    }
-    return record;
   }
 
   @Override
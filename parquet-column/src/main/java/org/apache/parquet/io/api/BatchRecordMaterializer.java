@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.io.api;
+
+/**
+ * Materializes batches of records of a flat schema (only non-repeated primitive fields, no groups even non-repeated
+ * ones) from Parquet data read one column at a time.
+ * <p>
+ * Each batch starts with {@link #startBatch(int)}, then the values of the batch are delivered field by field: for each
+ * record of the batch in turn, either the converter of the field gets its value or {@link #addNull(int)} is called.
+ * The batch is then returned by {@link #getCurrentBatch()}.
+ *
+ * @param <T> the materialized batch class
+ */
+public abstract class BatchRecordMaterializer<T> {
+
+  /**
+   * @param recordCount the number of records of the batch to come
+   */
+  public abstract void startBatch(int recordCount);
+
+  /**
+   * @param fieldIndex the index of the field in the requested schema
+   * @return the converter receiving the non-null values of that field
+   */
+  public abstract PrimitiveConverter getFieldConverter(int fieldIndex);
+
+  /**
+   * Called in place of a value for the records in which the field is null.
+   *
+   * @param fieldIndex the index of the field in the requested schema
+   */
+  public abstract void addNull(int fieldIndex);
+
+  /**
+   * @return the batch of records materialized since the last {@link #startBatch(int)}
+   */
+  public abstract T getCurrentBatch();
+}
@@ -36,6 +36,8 @@ import org.apache.parquet.schema.PrimitiveComparator;
 public abstract class Binary implements Comparable<Binary>, Serializable {
 
   protected boolean isBackingBytesReused;
+  // the bytes are owned by the deserialized instances
+  protected transient boolean isBackingBytesScoped;
 
   // this isn't really something others should extend
   private Binary() {}
@@ -104,7 +106,7 @@ public abstract class Binary implements Comparable<Binary>, Serializable {
   @Override
   public String toString() {
     return "Binary{" + length()
-        + (isBackingBytesReused ? " reused" : " constant")
+        + (isBackingBytesScoped ? " scoped" : isBackingBytesReused ? " reused" : " constant")
         + " bytes, "
         + Arrays.toString(getBytesUnsafe())
         + "}";
@@ -127,6 +129,18 @@ public abstract class Binary implements Comparable<Binary>, Serializable {
     return isBackingBytesReused;
   }
 
+  /**
+   * Signals if the backing bytes are left unchanged by the producer of the Binary until the end of a scope it documents
+   * (e.g. until the row group the value is read from is closed) but might be reused after it. Such a value can be used
+   * without copying within the scope; {@link #copy()} is to be called to keep it for longer. A scoped Binary is also
+   * {@link #isBackingBytesReused() reused}.
+   *
+   * @return if the backing bytes are only valid until the end of a scope defined by the producer of the Binary
+   */
+  public boolean isBackingBytesScoped() {
+    return isBackingBytesScoped;
+  }
+
   private static class ByteArraySliceBackedBinary extends Binary {
     private final byte[] value;
     private final int offset;
@@ -613,6 +627,28 @@ public abstract class Binary implements Comparable<Binary>, Serializable {
     return new ByteBufferBackedBinary(value, offset, length, false);
   }
 
+  /**
+   * @param value  the buffer the bytes of the Binary are a part of
+   * @param offset the offset of the bytes in the buffer
+   * @param length the number of bytes
+   * @return a Binary backed by the buffer which is left unchanged until the end of a scope, see
+   * {@link #isBackingBytesScoped()}
+   */
+  public static Binary fromScopedByteBuffer(final ByteBuffer value, int offset, int length) {
+    Binary binary = new ByteBufferBackedBinary(value, offset, length, true);
+    binary.isBackingBytesScoped = true;
+    return binary;
+  }
+
+  /**
+   * @param value the buffer the bytes of the Binary are the remaining bytes of
+   * @return a Binary backed by the buffer which is left unchanged until the end of a scope, see
+   * {@link #isBackingBytesScoped()}
+   */
+  public static Binary fromScopedByteBuffer(final ByteBuffer value) {
+    return fromScopedByteBuffer(value, value.position(), value.remaining());
+  }
+
   public static Binary fromReusedByteBuffer(final ByteBuffer value) {
     return new ByteBufferBackedBinary(value, true);
   }
@@ -19,6 +19,7 @@
 package org.apache.parquet.column.impl;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_2_0;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import org.apache.parquet.Version;
 import org.apache.parquet.VersionParser;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.page.DataPage;
 import org.apache.parquet.column.page.DataPageV2;
@@ -94,6 +96,42 @@ public class TestColumnReaderImpl {
     assertEquals(rows, converter.count);
   }
 
+  @Test
+  public void testDictionaryIdsWithoutDictionarySupport() throws Exception {
+    MessageType schema = MessageTypeParser.parseMessageType("message test { required binary foo; }");
+    ColumnDescriptor col = schema.getColumns().get(0);
+    MemPageWriter pageWriter = new MemPageWriter();
+    ColumnWriterV2 columnWriterV2 = new ColumnWriterV2(
+        col,
+        pageWriter,
+        ParquetProperties.builder()
+            .withDictionaryPageSize(1024)
+            .withWriterVersion(PARQUET_2_0)
+            .withPageSize(2048)
+            .build());
+    for (int i = 0; i < rows; i++) {
+      columnWriterV2.write(Binary.fromString("bar" + i % 10), 0, 0);
+    }
+    columnWriterV2.writePage();
+    columnWriterV2.finalizeColumnChunk();
+    MemPageReader pageReader =
+        new MemPageReader(rows, pageWriter.getPages().iterator(), pageWriter.getDictionaryPage());
+    ValidatingConverter converter = new ValidatingConverter();
+    ColumnReader columnReader =
+        new ColumnReaderImpl(col, pageReader, converter, VersionParser.parse(Version.FULL_VERSION));
+    Dictionary dictionary = columnReader.getDictionary();
+    assertEquals(10, dictionary.getMaxId() + 1);
+    for (int i = 0; i < rows; i++) {
+      assertTrue(columnReader.isCurrentPageDictionaryEncoded());
+      int id = columnReader.getCurrentValueDictionaryID();
+      assertEquals("bar" + i % 10, dictionary.decodeToBinary(id).toStringUsingUTF8());
+      // the converter without dictionary support still gets the decoded values
+      columnReader.writeCurrentValueToConverter();
+      columnReader.consume();
+    }
+    assertEquals(rows, converter.count);
+  }
+
   @Test
   public void testOptional() throws Exception {
     MessageType schema = MessageTypeParser.parseMessageType("message test { optional binary foo; }");
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.parquet.io.api.Binary;
+import org.junit.Test;
+
+public class TestHyperLogLog {
+
+  private static void assertEstimate(long expected, HyperLogLog sketch) {
+    long estimate = sketch.getEstimate();
+    // more than 4 times the standard error of the default precision
+    assertTrue(
+        "estimate " + estimate + " too far from " + expected, Math.abs(estimate - expected) <= expected * 0.1);
+  }
+
+  @Test
+  public void testEstimate() {
+    for (int count : new int[] {10, 1000, 100_000}) {
+      HyperLogLog sketch = new HyperLogLog();
+      for (int repeat = 0; repeat < 3; repeat++) {
+        for (long i = 0; i < count; i++) {
+          sketch.add(i);
+        }
+      }
+      assertEstimate(count, sketch);
+    }
+    assertEquals(0, new HyperLogLog().getEstimate());
+  }
+
+  @Test
+  public void testValueTypes() {
+    HyperLogLog sketch = new HyperLogLog();
+    for (int i = 0; i < 5000; i++) {
+      sketch.add(Binary.fromString("value-" + (i % 2000)));
+    }
+    assertEstimate(2000, sketch);
+
+    HyperLogLog booleans = new HyperLogLog();
+    booleans.add(true);
+    booleans.add(false);
+    booleans.add(true);
+    assertEquals(2, booleans.getEstimate());
+
+    HyperLogLog doubles = new HyperLogLog();
+    for (int i = 0; i < 3000; i++) {
+      doubles.add(i / 4.0);
+      doubles.add((float) (i / 4.0));
+    }
+    assertEstimate(6000, doubles);
+  }
+
+  @Test
+  public void testMerge() {
+    HyperLogLog first = new HyperLogLog();
+    HyperLogLog second = new HyperLogLog();
+    HyperLogLog all = new HyperLogLog();
+    for (int i = 0; i < 20_000; i++) {
+      (i % 3 == 0 ? first : second).add(i);
+      all.add(i);
+    }
+    // overlapping values are not counted twice
+    for (int i = 0; i < 10_000; i++) {
+      second.add(i);
+    }
+    first.merge(second);
+    assertEquals(all, first);
+    assertEstimate(20_000, first);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentPrecisions() {
+    new HyperLogLog(10).merge(new HyperLogLog(12));
+  }
+
+  @Test
+  public void testSerialization() {
+    HyperLogLog sparse = new HyperLogLog();
+    for (int i = 0; i < 10; i++) {
+      sparse.add(i);
+    }
+    byte[] sparseBytes = sparse.toBytes();
+    assertTrue(sparseBytes.length < 64);
+    assertEquals(sparse, HyperLogLog.fromBytes(sparseBytes));
+
+    HyperLogLog dense = new HyperLogLog(14);
+    for (int i = 0; i < 100_000; i++) {
+      dense.add(i);
+    }
+    byte[] denseBytes = dense.toBytes();
+    assertEquals(2 + (1 << 14), denseBytes.length);
+    HyperLogLog read = HyperLogLog.fromBytes(denseBytes);
+    assertEquals(dense, read);
+    assertEquals(14, read.getPrecision());
+    assertEquals(dense.getEstimate(), read.getEstimate());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBytes() {
+    HyperLogLog.fromBytes(new byte[] {11, 0, 1, 2});
+  }
+}
@@ -157,6 +157,30 @@ public class TestBitPackingColumn {
     validateEncodeDecode(7, vals, expected);
   }
 
+  @Test
+  public void testSkipAcrossGroups() throws IOException {
+    int bound = 7;
+    int[] vals = new int[1000];
+    for (int i = 0; i < vals.length; i++) {
+      vals[i] = (i * 5) % 8;
+    }
+    for (PACKING_TYPE type : PACKING_TYPE.values()) {
+      ValuesWriter w = type.getWriter(bound);
+      for (int i : vals) {
+        w.writeInteger(i);
+      }
+      byte[] bytes = w.getBytes().toByteArray();
+      for (int skipCount : new int[] {0, 1, 7, 8, 9, 17, 64}) {
+        ValuesReader r = type.getReader(bound);
+        r.initFromPage(vals.length, ByteBufferInputStream.wrap(ByteBuffer.wrap(bytes)));
+        for (int i = 0; i < vals.length; i += skipCount + 1) {
+          assertEquals(type + " skipping " + skipCount, vals[i], r.readInteger());
+          r.skip(Math.min(skipCount, vals.length - i - 1));
+        }
+      }
+    }
+  }
+
   private void validateEncodeDecode(int bitLength, int[] vals, String expected) throws IOException {
     for (PACKING_TYPE type : PACKING_TYPE.values()) {
       LOG.debug("{}", type);
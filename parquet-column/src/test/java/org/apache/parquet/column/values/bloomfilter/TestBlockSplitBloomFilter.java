@@ -26,9 +26,14 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.openhft.hashing.LongHashFunction;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.parquet.io.api.Binary;
@@ -149,6 +154,91 @@ public class TestBlockSplitBloomFilter {
     assertTrue(exist < totalCount * (FPP * 1.2));
   }
 
+  @Test
+  public void testPrimitiveHashesMatchPlainEncoding() {
+    BloomFilter bloomFilter = new BlockSplitBloomFilter(1024);
+    Random random = new Random();
+    for (int i = 0; i < 1000; i++) {
+      int intValue = random.nextInt();
+      long longValue = random.nextLong();
+      float floatValue = random.nextFloat();
+      double doubleValue = random.nextDouble();
+      assertEquals(plainHash(plain(4).putInt(intValue)), bloomFilter.hash(intValue));
+      assertEquals(plainHash(plain(8).putLong(longValue)), bloomFilter.hash(longValue));
+      assertEquals(plainHash(plain(4).putFloat(floatValue)), bloomFilter.hash(floatValue));
+      assertEquals(plainHash(plain(8).putDouble(doubleValue)), bloomFilter.hash(doubleValue));
+      assertEquals(bloomFilter.hash(longValue), bloomFilter.hash((Object) longValue));
+    }
+  }
+
+  private static ByteBuffer plain(int size) {
+    return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static long plainHash(ByteBuffer buffer) {
+    return LongHashFunction.xx().hashBytes(buffer.array());
+  }
+
+  @Test
+  public void testBatchOperations() {
+    Random random = new Random();
+    long[] longValues = random.longs(10000).toArray();
+    int[] intValues = random.ints(10000).toArray();
+
+    BloomFilter single = new BlockSplitBloomFilter(4096);
+    BloomFilter batch = new BlockSplitBloomFilter(4096);
+
+    long[] longHashes = batch.hash(longValues);
+    long[] intHashes = batch.hash(intValues);
+    for (int i = 0; i < longValues.length; i++) {
+      assertEquals(single.hash(longValues[i]), longHashes[i]);
+      assertEquals(single.hash(intValues[i]), intHashes[i]);
+      single.insertHash(longHashes[i]);
+    }
+    batch.insertHashes(longHashes);
+    assertEquals(single, batch);
+
+    long[] probes = batch.hash(random.longs(10000).toArray());
+    boolean[] found = new boolean[probes.length];
+    batch.findHashes(probes, found);
+    for (int i = 0; i < probes.length; i++) {
+      assertEquals(single.findHash(probes[i]), found[i]);
+    }
+    batch.findHashes(longHashes, found);
+    for (int i = 0; i < longHashes.length; i++) {
+      assertTrue(found[i]);
+    }
+  }
+
+  @Test
+  public void testConcurrentProbing() throws Exception {
+    BloomFilter bloomFilter = new BlockSplitBloomFilter(BlockSplitBloomFilter.optimalNumOfBits(10000, 0.01) / 8);
+    for (long i = 0; i < 10000; i++) {
+      bloomFilter.insertHash(bloomFilter.hash(i));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(() -> {
+          for (long i = 0; i < 10000; i++) {
+            if (!bloomFilter.findHash(bloomFilter.hash(i))
+                || bloomFilter.hash(i) != bloomFilter.hash((Object) i)) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void testEquals() {
     final String[] words = {"hello", "parquet", "bloom", "filter"};
@@ -20,6 +20,7 @@ package org.apache.parquet.column.values.bytestreamsplit;
 
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
 import java.util.Random;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.BytesInput;
@@ -209,4 +210,35 @@ public class ByteStreamSplitValuesEndToEndTest {
     writer.reset();
     writer.close();
   }
+
+  @Test
+  public void testLongPipelineAcrossBatches() throws Exception {
+    // Enough values for the writer to transpose several batches, written twice to check the reset
+    Random rand = new Random(2024);
+    final int numElements = 10_000;
+    ByteStreamSplitValuesWriter.LongByteStreamSplitValuesWriter writer =
+        new ByteStreamSplitValuesWriter.LongByteStreamSplitValuesWriter(
+            1024, numElements * 8, new DirectByteBufferAllocator());
+    for (int round = 0; round < 2; ++round) {
+      long[] values = rand.longs(numElements).toArray();
+      for (int i = 0; i < numElements; ++i) {
+        writer.writeLong(values[i]);
+        assertEquals((i + 1) * 8, writer.getBufferedSize());
+      }
+      BytesInput input = writer.getBytes();
+      assertEquals(numElements * 8, input.size());
+
+      // Read from a direct buffer as well
+      ByteBuffer page = ByteBuffer.allocateDirect(numElements * 8);
+      page.put(input.toByteBuffer());
+      page.flip();
+      ByteStreamSplitValuesReaderForLong reader = new ByteStreamSplitValuesReaderForLong();
+      reader.initFromPage(numElements, ByteBufferInputStream.wrap(page));
+      for (long expectedValue : values) {
+        assertEquals(expectedValue, reader.readLong());
+      }
+      writer.reset();
+    }
+    writer.close();
+  }
 }
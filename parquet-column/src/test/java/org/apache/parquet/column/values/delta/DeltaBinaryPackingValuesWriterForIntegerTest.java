@@ -20,6 +20,7 @@ package org.apache.parquet.column.values.delta;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -225,6 +226,59 @@ public class DeltaBinaryPackingValuesWriterForIntegerTest {
     }
   }
 
+  @Test
+  public void shouldReadInBulkAndSkip() throws IOException {
+    int[] data = new int[20 * blockSize + 17];
+    for (int i = 0; i < data.length; i++) {
+      // zero width mini blocks, small and large deltas
+      data[i] = i < 3 * blockSize ? i * 3 : i % 5 == 0 ? random.nextInt() : random.nextInt(1000);
+    }
+    writeData(data);
+    byte[] page = writer.getBytes().toByteArray();
+    for (DeltaBinaryPackingValuesReader bulkReader : new DeltaBinaryPackingValuesReader[] {
+      new DeltaBinaryPackingValuesReader(), new DeltaBinaryPackingValuesReaderForInteger()
+    }) {
+      for (int round = 0; round < 20; round++) {
+        bulkReader.initFromPage(100, ByteBufferInputStream.wrap(ByteBuffer.wrap(page)));
+        int[] values = new int[data.length + 1];
+        long[] longValues = new long[data.length];
+        int i = 0;
+        while (i < data.length) {
+          int n = Math.min(data.length - i, random.nextInt(3 * blockSize));
+          switch (random.nextInt(4)) {
+            case 0:
+              bulkReader.skip(n);
+              break;
+            case 1:
+              bulkReader.readIntegers(values, 1, n);
+              for (int j = 0; j < n; j++) {
+                assertEquals(data[i + j], values[1 + j]);
+              }
+              break;
+            case 2:
+              bulkReader.readLongs(longValues, 0, n);
+              for (int j = 0; j < n; j++) {
+                assertEquals(data[i + j], (int) longValues[j]);
+              }
+              break;
+            default:
+              if (n > 0) {
+                assertEquals(data[i], bulkReader.readInteger());
+                n = 1;
+              }
+          }
+          i += n;
+        }
+        try {
+          bulkReader.readIntegers(values, 0, 1);
+          fail("Reading more values than written should fail");
+        } catch (ParquetDecodingException e) {
+          // expected
+        }
+      }
+    }
+  }
+
   @Test
   public void shouldReset() throws IOException {
     shouldReadWriteWhenDataIsNotAlignedWithBlock();
@@ -275,6 +329,12 @@ public class DeltaBinaryPackingValuesWriterForIntegerTest {
     for (int i = 0; i < length; i++) {
       assertEquals(data[i], reader.readInteger());
     }
+
+    reader = new DeltaBinaryPackingValuesReaderForInteger();
+    reader.initFromPage(100, ByteBufferInputStream.wrap(ByteBuffer.wrap(page)));
+    for (int i = 0; i < length; i++) {
+      assertEquals(data[i], reader.readInteger());
+    }
   }
 
   private void writeData(int[] data) {
@@ -225,6 +225,43 @@ public class DeltaBinaryPackingValuesWriterForLongTest {
     }
   }
 
+  @Test
+  public void shouldReadInBulkAndSkip() throws IOException {
+    long[] data = new long[20 * blockSize + 17];
+    for (int i = 0; i < data.length; i++) {
+      // zero width mini blocks, small and large deltas
+      data[i] = i < 3 * blockSize ? i * 3L : i % 5 == 0 ? random.nextLong() : random.nextInt(1000);
+    }
+    writeData(data);
+    byte[] page = writer.getBytes().toByteArray();
+    reader = new DeltaBinaryPackingValuesReader();
+    for (int round = 0; round < 20; round++) {
+      reader.initFromPage(100, ByteBufferInputStream.wrap(ByteBuffer.wrap(page)));
+      long[] values = new long[data.length + 1];
+      int i = 0;
+      while (i < data.length) {
+        int n = Math.min(data.length - i, random.nextInt(3 * blockSize));
+        switch (random.nextInt(3)) {
+          case 0:
+            reader.skip(n);
+            break;
+          case 1:
+            reader.readLongs(values, 1, n);
+            for (int j = 0; j < n; j++) {
+              assertEquals(data[i + j], values[1 + j]);
+            }
+            break;
+          default:
+            if (n > 0) {
+              assertEquals(data[i], reader.readLong());
+              n = 1;
+            }
+        }
+        i += n;
+      }
+    }
+  }
+
   @Test
   public void shouldReset() throws IOException {
     shouldReadWriteWhenDataIsNotAlignedWithBlock();
@@ -20,6 +20,7 @@ package org.apache.parquet.column.values.deltalengthbytearray;
 
 import java.io.IOException;
 import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.column.values.BinaryBatch;
 import org.apache.parquet.column.values.Utils;
 import org.apache.parquet.column.values.ValuesReader;
 import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReader;
@@ -86,6 +87,28 @@ public class TestDeltaLengthByteArray {
     }
   }
 
+  @Test
+  public void testReadBinaries() throws IOException {
+    DeltaLengthByteArrayValuesWriter writer = getDeltaLengthByteArrayValuesWriter();
+    DeltaLengthByteArrayValuesReader reader = new DeltaLengthByteArrayValuesReader();
+
+    String[] values = Utils.getRandomStringSamples(1000, 32);
+    Utils.writeData(writer, values);
+    reader.initFromPage(values.length, writer.getBytes().toInputStream());
+
+    // the values are appended to the batch
+    BinaryBatch batch = new BinaryBatch(4, 16);
+    reader.readBinaries(batch, 300);
+    Assert.assertEquals(Binary.fromString(values[300]), reader.readBytes());
+    reader.readBinaries(batch, values.length - 301);
+    Assert.assertEquals(values.length - 1, batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      int index = i < 300 ? i : i + 1;
+      Assert.assertEquals(Binary.fromString(values[index]), batch.get(i));
+      Assert.assertEquals(values[index].length(), batch.getLength(i));
+    }
+  }
+
   @Test
   public void testLengths() throws IOException {
     DeltaLengthByteArrayValuesWriter writer = getDeltaLengthByteArrayValuesWriter();
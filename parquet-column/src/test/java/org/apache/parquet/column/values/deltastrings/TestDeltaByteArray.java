@@ -19,8 +19,11 @@
 package org.apache.parquet.column.values.deltastrings;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.column.values.BinaryBatch;
 import org.apache.parquet.column.values.Utils;
 import org.apache.parquet.column.values.ValuesReader;
 import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesReader;
@@ -62,6 +65,45 @@ public class TestDeltaByteArray {
     assertReadWriteWithSkipN(writer, reader, randvalues);
   }
 
+  @Test
+  public void testSortedStringsInBatchesWithSkip() throws Exception {
+    String[] urls = new String[10000];
+    for (int i = 0; i < urls.length; i++) {
+      urls[i] = "https://parquet.apache.org/docs/" + (i / 100) + "/page-" + i + (i % 7 == 0 ? "" : "/index.html");
+    }
+    Arrays.sort(urls);
+    DeltaByteArrayWriter writer = new DeltaByteArrayWriter(64 * 1024, 64 * 1024, new DirectByteBufferAllocator());
+    Utils.writeData(writer, urls);
+    DeltaByteArrayReader reader = new DeltaByteArrayReader();
+    reader.initFromPage(urls.length, writer.getBytes().toInputStream());
+
+    Random random = new Random(42);
+    BinaryBatch batch = new BinaryBatch(4, 16);
+    int i = 0;
+    while (i < urls.length) {
+      int n = Math.min(urls.length - i, random.nextInt(3000));
+      switch (random.nextInt(3)) {
+        case 0:
+          reader.skip(n);
+          break;
+        case 1:
+          batch.clear();
+          reader.readBinaries(batch, n);
+          Assert.assertEquals(n, batch.size());
+          for (int j = 0; j < n; j++) {
+            Assert.assertEquals(Binary.fromString(urls[i + j]), batch.get(j));
+          }
+          break;
+        default:
+          n = Math.min(n, 1);
+          if (n == 1) {
+            Assert.assertEquals(Binary.fromString(urls[i]), reader.readBytes());
+          }
+      }
+      i += n;
+    }
+  }
+
   @Test
   public void testLengths() throws IOException {
     DeltaByteArrayWriter writer = new DeltaByteArrayWriter(64 * 1024, 64 * 1024, new DirectByteBufferAllocator());
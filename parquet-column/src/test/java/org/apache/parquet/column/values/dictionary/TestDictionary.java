@@ -29,6 +29,8 @@ import static org.junit.Assert.assertEquals;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.bytes.DirectByteBufferAllocator;
@@ -48,6 +50,7 @@ import org.apache.parquet.column.values.fallback.FallbackValuesWriter;
 import org.apache.parquet.column.values.plain.BinaryPlainValuesReader;
 import org.apache.parquet.column.values.plain.PlainValuesReader;
 import org.apache.parquet.column.values.plain.PlainValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridDecoder;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 import org.junit.After;
@@ -135,6 +138,52 @@ public class TestDictionary {
     }
   }
 
+  @Test
+  public void testReadDictionaryIds() throws Exception {
+    try (ValuesWriter cw = newPlainBinaryDictionaryValuesWriter(1000, 10000)) {
+      writeRepeated(96, cw, "a");
+      for (int i = 0; i < 100; i++) {
+        cw.writeBytes(Binary.fromString("a3"));
+      }
+      BytesInput bytes = getBytesAndCheckEncoding(cw, PLAIN_DICTIONARY);
+      DictionaryValuesReader cr = initDicReader(cw, BINARY);
+      Dictionary dictionary = cr.getDictionary();
+
+      cr.initFromPage(196, bytes.toInputStream());
+      int[] ids = new int[196];
+      cr.readValueDictionaryIds(ids, 0, 150);
+      cr.readValueDictionaryIds(ids, 150, 46);
+      for (int i = 0; i < 196; i++) {
+        String expected = i < 96 ? "a" + i % 10 : "a3";
+        assertEquals(expected, dictionary.decodeToBinary(ids[i]).toStringUsingUTF8());
+      }
+
+      // the last 100 ids are a single repeated run as the first ones fill whole bit-packed groups
+      cr.initFromPage(196, bytes.toInputStream());
+      List<String> runs = new ArrayList<>();
+      RunLengthBitPackingHybridDecoder.RunVisitor visitor = new RunLengthBitPackingHybridDecoder.RunVisitor() {
+        @Override
+        public void visitRepeated(int value, int count) {
+          runs.add(dictionary.decodeToBinary(value).toStringUsingUTF8() + "*" + count);
+        }
+
+        @Override
+        public void visitPacked(int[] values, int offset, int count) {
+          for (int i = 0; i < count; i++) {
+            runs.add(dictionary.decodeToBinary(values[offset + i]).toStringUsingUTF8());
+          }
+        }
+      };
+      cr.readValueDictionaryIdRuns(96, visitor);
+      cr.readValueDictionaryIdRuns(100, visitor);
+      assertEquals(97, runs.size());
+      for (int i = 0; i < 96; i++) {
+        assertEquals("a" + i % 10, runs.get(i));
+      }
+      assertEquals("a3*100", runs.get(96));
+    }
+  }
+
   @Test
   public void testSkipInBinaryDictionary() throws Exception {
     try (ValuesWriter cw = newPlainBinaryDictionaryValuesWriter(1000, 10000)) {
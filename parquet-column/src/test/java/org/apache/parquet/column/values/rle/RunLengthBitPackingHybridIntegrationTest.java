@@ -18,10 +18,13 @@
  */
 package org.apache.parquet.column.values.rle;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.bytes.DirectByteBufferAllocator;
 import org.junit.Test;
 
@@ -34,6 +37,96 @@ public class RunLengthBitPackingHybridIntegrationTest {
     }
   }
 
+  @Test
+  public void skipTest() throws Exception {
+    for (int bitWidth : new int[] {0, 1, 3, 8, 17, 32}) {
+      int[] values = expectedValues(bitWidth);
+      ByteBuffer encodedBytes = encode(bitWidth).toByteBuffer();
+      // skip within and across repeated and bit-packed runs
+      for (int skipCount : new int[] {1, 7, 8, 50, 99, 100, 250, 1001}) {
+        RunLengthBitPackingHybridDecoder decoder = new RunLengthBitPackingHybridDecoder(
+            bitWidth, ByteBufferInputStream.wrap(encodedBytes.duplicate()));
+        for (int i = 0; i < values.length; i += skipCount + 1) {
+          assertEquals("bitWidth " + bitWidth + " skipping " + skipCount, values[i], decoder.readInt());
+          decoder.skip(Math.min(skipCount, values.length - i - 1));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void bulkReadTest() throws Exception {
+    for (int bitWidth : new int[] {0, 1, 3, 8, 17, 32}) {
+      int[] values = expectedValues(bitWidth);
+      ByteBuffer encodedBytes = encode(bitWidth).toByteBuffer();
+      for (int batchSize : new int[] {1, 7, 64, 250, 1001}) {
+        RunLengthBitPackingHybridDecoder decoder = new RunLengthBitPackingHybridDecoder(
+            bitWidth, ByteBufferInputStream.wrap(encodedBytes.duplicate()));
+        int[] actual = new int[values.length];
+        for (int i = 0; i < values.length; i += batchSize) {
+          decoder.readInts(actual, i, Math.min(batchSize, values.length - i));
+        }
+        assertArrayEquals("bitWidth " + bitWidth + " batches of " + batchSize, values, actual);
+
+        decoder = new RunLengthBitPackingHybridDecoder(
+            bitWidth, ByteBufferInputStream.wrap(encodedBytes.duplicate()));
+        int[] runs = new int[values.length];
+        int[] position = new int[1];
+        RunLengthBitPackingHybridDecoder.RunVisitor visitor =
+            new RunLengthBitPackingHybridDecoder.RunVisitor() {
+              @Override
+              public void visitRepeated(int value, int count) {
+                Arrays.fill(runs, position[0], position[0] + count, value);
+                position[0] += count;
+              }
+
+              @Override
+              public void visitPacked(int[] packed, int offset, int count) {
+                System.arraycopy(packed, offset, runs, position[0], count);
+                position[0] += count;
+              }
+            };
+        for (int i = 0; i < values.length; i += batchSize) {
+          decoder.readRuns(Math.min(batchSize, values.length - i), visitor);
+        }
+        assertArrayEquals("bitWidth " + bitWidth + " runs of " + batchSize, values, runs);
+      }
+    }
+  }
+
+  private static int[] expectedValues(int bitWidth) {
+    long modValue = 1L << bitWidth;
+    int[] values = new int[4300];
+    int index = 0;
+    for (int i = 0; i < 100; i++) {
+      values[index++] = (int) (i % modValue);
+    }
+    for (int i = 0; i < 100; i++) {
+      values[index++] = (int) (77 % modValue);
+    }
+    for (int i = 0; i < 100; i++) {
+      values[index++] = (int) (88 % modValue);
+    }
+    for (int i = 0; i < 1000; i++) {
+      values[index++] = (int) (i % modValue);
+      values[index++] = (int) (i % modValue);
+      values[index++] = (int) (i % modValue);
+    }
+    for (int i = 0; i < 1000; i++) {
+      values[index++] = (int) (17 % modValue);
+    }
+    return values;
+  }
+
+  private static BytesInput encode(int bitWidth) throws Exception {
+    RunLengthBitPackingHybridEncoder encoder =
+        new RunLengthBitPackingHybridEncoder(bitWidth, 1000, 64000, new DirectByteBufferAllocator());
+    for (int value : expectedValues(bitWidth)) {
+      encoder.writeInt(value);
+    }
+    return encoder.toBytes();
+  }
+
   private void doIntegrationTest(int bitWidth) throws Exception {
     long modValue = 1L << bitWidth;
 
@@ -54,11 +54,15 @@ import it.unimi.dsi.fastutil.longs.LongList;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.LongStream;
 import org.apache.parquet.bytes.BytesUtils;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.predicate.Statistics;
 import org.apache.parquet.filter2.predicate.UserDefinedPredicate;
@@ -989,4 +993,108 @@ public class TestColumnIndexFilter {
         paths,
         TOTAL_ROW_COUNT));
   }
+
+  private static List<BloomFilter> pageBloomFilters(int[]... pageValues) {
+    List<BloomFilter> bloomFilters = new ArrayList<>();
+    for (int[] values : pageValues) {
+      BloomFilter bloomFilter = new BlockSplitBloomFilter(32);
+      for (int value : values) {
+        bloomFilter.insertHash(bloomFilter.hash(value));
+      }
+      bloomFilters.add(bloomFilter);
+    }
+    return bloomFilters;
+  }
+
+  @Test
+  public void testFilteringWithPageBloomFilters() {
+    Map<String, List<BloomFilter>> bloomFilters = new HashMap<>();
+    bloomFilters.put(
+        "column1",
+        pageBloomFilters(
+            new int[] {1},
+            new int[] {2, 3, 4, 5, 6},
+            new int[] {7},
+            new int[] {8, 9, 10},
+            new int[] {11, 17},
+            new int[] {18, 20, 23},
+            new int[] {24, 26}));
+    bloomFilters.put(
+        "column4",
+        pageBloomFilters(
+            new int[] {1},
+            new int[] {2},
+            new int[] {3},
+            new int[] {4},
+            new int[] {42},
+            new int[] {5},
+            new int[] {6},
+            new int[] {7},
+            new int[] {8}));
+    ColumnIndexStore store = new ColumnIndexStore() {
+      @Override
+      public ColumnIndex getColumnIndex(ColumnPath column) {
+        return STORE.getColumnIndex(column);
+      }
+
+      @Override
+      public OffsetIndex getOffsetIndex(ColumnPath column) {
+        return STORE.getOffsetIndex(column);
+      }
+
+      @Override
+      public List<BloomFilter> getPageBloomFilters(ColumnPath column) {
+        return bloomFilters.get(column.toDotString());
+      }
+    };
+    Set<ColumnPath> paths = paths("column1", "column2", "column3", "column4");
+
+    // the column index keeps pages 2 and 3 while the Bloom filter drops page 3
+    assertRows(
+        calculateRowRanges(FilterCompat.get(eq(intColumn("column1"), 7)), store, paths, TOTAL_ROW_COUNT), 7, 8);
+    assertRows(
+        calculateRowRanges(
+            FilterCompat.get(in(intColumn("column1"), new HashSet<>(Arrays.asList(7, 20)))),
+            store,
+            paths,
+            TOTAL_ROW_COUNT),
+        7,
+        8,
+        21,
+        22,
+        23,
+        24,
+        25,
+        26);
+    assertRows(calculateRowRanges(FilterCompat.get(eq(intColumn("column1"), 19)), store, paths, TOTAL_ROW_COUNT));
+    // pages can be dropped by the Bloom filters even without a column index
+    assertRows(
+        calculateRowRanges(FilterCompat.get(eq(intColumn("column4"), 42)), store, paths, TOTAL_ROW_COUNT),
+        7,
+        8,
+        9,
+        10,
+        11);
+    // other predicates are not affected by the Bloom filters
+    assertRows(
+        calculateRowRanges(FilterCompat.get(ltEq(intColumn("column1"), 7)), store, paths, TOTAL_ROW_COUNT),
+        0,
+        1,
+        2,
+        3,
+        4,
+        5,
+        6,
+        7,
+        8,
+        9,
+        10,
+        11,
+        12,
+        13);
+    // null values are not part of the Bloom filters
+    assertAllRows(
+        calculateRowRanges(FilterCompat.get(eq(intColumn("column4"), null)), store, paths, TOTAL_ROW_COUNT),
+        TOTAL_ROW_COUNT);
+  }
 }
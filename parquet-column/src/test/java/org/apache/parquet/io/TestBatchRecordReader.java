@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.impl.ColumnWriteStoreV1;
+import org.apache.parquet.column.page.mem.MemPageStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.GroupWriter;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.io.api.BatchRecordMaterializer;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.junit.Test;
+
+public class TestBatchRecordReader {
+
+  private static final MessageType SCHEMA = MessageTypeParser.parseMessageType("message test {\n"
+      + "  required int64 id;\n"
+      + "  optional binary name (UTF8);\n"
+      + "  optional int32 value;\n"
+      + "}");
+  private static final int RECORD_COUNT = 1000;
+
+  /**
+   * Materializes the batches as lists of rows, filling the rows column by column.
+   */
+  private static class RowsMaterializer extends BatchRecordMaterializer<List<Object[]>> {
+    private final int fieldCount;
+    private List<Object[]> rows;
+    private int[] positions;
+
+    RowsMaterializer(int fieldCount) {
+      this.fieldCount = fieldCount;
+    }
+
+    @Override
+    public void startBatch(int recordCount) {
+      rows = new ArrayList<>();
+      for (int i = 0; i < recordCount; i++) {
+        rows.add(new Object[fieldCount]);
+      }
+      positions = new int[fieldCount];
+    }
+
+    private void set(int fieldIndex, Object value) {
+      rows.get(positions[fieldIndex]++)[fieldIndex] = value;
+    }
+
+    @Override
+    public PrimitiveConverter getFieldConverter(final int fieldIndex) {
+      return new PrimitiveConverter() {
+        @Override
+        public void addBinary(Binary value) {
+          set(fieldIndex, value.toStringUsingUTF8());
+        }
+
+        @Override
+        public void addInt(int value) {
+          set(fieldIndex, value);
+        }
+
+        @Override
+        public void addLong(long value) {
+          set(fieldIndex, value);
+        }
+      };
+    }
+
+    @Override
+    public void addNull(int fieldIndex) {
+      set(fieldIndex, null);
+    }
+
+    @Override
+    public List<Object[]> getCurrentBatch() {
+      return rows;
+    }
+  }
+
+  private static MemPageStore write(MessageType schema, List<Group> groups) {
+    MemPageStore memPageStore = new MemPageStore(groups.size());
+    ColumnWriteStoreV1 columns = new ColumnWriteStoreV1(
+        memPageStore,
+        ParquetProperties.builder()
+            .withPageSize(800)
+            .withDictionaryPageSize(800)
+            .build());
+    RecordConsumer recordWriter = new ColumnIOFactory().getColumnIO(schema).getRecordWriter(columns);
+    GroupWriter groupWriter = new GroupWriter(recordWriter, schema);
+    for (Group group : groups) {
+      groupWriter.write(group);
+    }
+    recordWriter.flush();
+    columns.flush();
+    return memPageStore;
+  }
+
+  @Test
+  public void testReadBatches() {
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    List<Group> groups = new ArrayList<>();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      Group group = factory.newGroup().append("id", (long) i);
+      if (i % 3 != 0) {
+        group.append("name", "name-" + (i % 10));
+      }
+      if (i % 5 != 0) {
+        group.append("value", i * 7);
+      }
+      groups.add(group);
+    }
+    MemPageStore pages = write(SCHEMA, groups);
+
+    MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+    assertTrue(columnIO.isFlat());
+    BatchRecordReader<List<Object[]>> reader = columnIO.getBatchRecordReader(pages, new RowsMaterializer(3));
+    int i = 0;
+    List<Object[]> batch;
+    while ((batch = reader.readBatch(128)) != null) {
+      assertEquals(Math.min(128, RECORD_COUNT - i), batch.size());
+      for (Object[] row : batch) {
+        assertEquals((long) i, row[0]);
+        assertEquals(i % 3 != 0 ? "name-" + (i % 10) : null, row[1]);
+        assertEquals(i % 5 != 0 ? i * 7 : null, row[2]);
+        ++i;
+      }
+    }
+    assertEquals(RECORD_COUNT, i);
+    assertEquals(0, reader.getRemainingRecordCount());
+    assertNull(reader.readBatch(128));
+  }
+
+  @Test
+  public void testProjection() {
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    List<Group> groups = new ArrayList<>();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      groups.add(factory.newGroup().append("id", (long) i).append("value", -i));
+    }
+    MemPageStore pages = write(SCHEMA, groups);
+
+    MessageType projection = MessageTypeParser.parseMessageType("message test { optional int32 value; }");
+    MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(projection, SCHEMA);
+    List<Object[]> batch =
+        columnIO.getBatchRecordReader(pages, new RowsMaterializer(1)).readBatch(RECORD_COUNT);
+    assertEquals(RECORD_COUNT, batch.size());
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      assertEquals(-i, batch.get(i)[0]);
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testNestedSchemaIsNotSupported() {
+    MessageType nested = MessageTypeParser.parseMessageType(
+        "message test { required group g { required int64 id; } repeated int32 values; }");
+    MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(nested);
+    assertFalse(columnIO.isFlat());
+    // non-repeated groups are not flat either
+    assertFalse(new ColumnIOFactory()
+        .getColumnIO(MessageTypeParser.parseMessageType(
+            "message test { optional group g { required int64 id; } required int32 value; }"))
+        .isFlat());
+    columnIO.getBatchRecordReader(new MemPageStore(0), new RowsMaterializer(2));
+  }
+}
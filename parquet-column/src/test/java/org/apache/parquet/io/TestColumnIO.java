@@ -466,6 +466,73 @@ public class TestColumnIO {
     }
   }
 
+  @Test
+  public void testWideSparseGroups() {
+    // more fields than fit in a single word of the field presence masks, with nested repeated groups
+    List<Type> fields = new ArrayList<>();
+    for (int i = 0; i < 70; i++) {
+      fields.add(new PrimitiveType(OPTIONAL, INT32, "f" + i));
+    }
+    fields.add(new GroupType(
+        Repetition.REPEATED,
+        "nested",
+        new PrimitiveType(OPTIONAL, BINARY, "name"),
+        new GroupType(OPTIONAL, "inner", new PrimitiveType(Repetition.REPEATED, INT32, "value"))));
+    MessageType wideSchema = new MessageType(
+        "wide", new GroupType(OPTIONAL, "wide", fields), new PrimitiveType(REQUIRED, INT32, "id"));
+    GroupFactory gf = new SimpleGroupFactory(wideSchema);
+    List<Group> groups = new ArrayList<>();
+    for (int r = 0; r < 20; r++) {
+      Group root = gf.newGroup().append("id", r);
+      if (r % 4 != 3) {
+        Group wide = root.addGroup("wide");
+        for (int i = r % 7; i < 70; i += 7 + r) {
+          wide.append("f" + i, i * r);
+        }
+        for (int n = 0; n < r % 3; n++) {
+          Group nested = wide.addGroup("nested");
+          if (n % 2 == 0) {
+            nested.append("name", "n" + n);
+          }
+          if (r % 2 == 0) {
+            Group inner = nested.addGroup("inner");
+            for (int v = 0; v < n; v++) {
+              inner.append("value", v);
+            }
+          }
+        }
+      }
+      groups.add(root);
+    }
+    testSchema(wideSchema, groups);
+  }
+
+  @Test
+  public void testWideFlatSchema() {
+    // only top level non-repeated columns: records are assembled without the state machine
+    List<Type> fields = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      fields.add(new PrimitiveType(i % 3 == 0 ? REQUIRED : OPTIONAL, i % 2 == 0 ? INT32 : BINARY, "f" + i));
+    }
+    MessageType flatSchema = new MessageType("flat", fields);
+    GroupFactory gf = new SimpleGroupFactory(flatSchema);
+    List<Group> groups = new ArrayList<>();
+    for (int r = 0; r < 50; r++) {
+      Group root = gf.newGroup();
+      for (int i = 0; i < 100; i++) {
+        if (i % 3 == 0 || (i + r) % 4 != 0) {
+          if (i % 2 == 0) {
+            root.append("f" + i, i * r);
+          } else {
+            root.append("f" + i, "v" + i + "_" + r);
+          }
+        }
+      }
+      groups.add(root);
+    }
+    testSchema(flatSchema, groups);
+  }
+
   private void testSchema(MessageType messageSchema, List<Group> groups) {
     MemPageStore memPageStore = new MemPageStore(groups.size());
     ColumnWriteStoreV1 columns = newColumnWriteStore(memPageStore);
@@ -20,6 +20,7 @@ package org.apache.parquet.io.api;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -106,6 +107,17 @@ public class TestBinary {
     }
   };
 
+  private static final BinaryFactory SCOPED_BUFFER_BF = new BinaryFactory() {
+    @Override
+    public BinaryAndOriginal get(byte[] bytes, boolean reused) throws Exception {
+      byte[] orig = padded(bytes);
+      ByteBuffer buff = ByteBuffer.wrap(orig, 5, bytes.length);
+      Binary b = reused ? Binary.fromScopedByteBuffer(buff) : Binary.fromConstantByteBuffer(buff);
+      assertArrayEquals(bytes, b.getBytes());
+      return new BinaryAndOriginal(b, orig);
+    }
+  };
+
   private static final BinaryFactory STRING_BF = new BinaryFactory() {
     @Override
     public BinaryAndOriginal get(byte[] bytes, boolean reused) throws Exception {
@@ -148,6 +160,27 @@ public class TestBinary {
     testBinary(BUFFER_BF, false);
   }
 
+  @Test
+  public void testScopedByteBufferBinary() throws Exception {
+    testBinary(SCOPED_BUFFER_BF, true);
+    testBinary(SCOPED_BUFFER_BF, false);
+
+    byte[] orig = padded(testString.getBytes(UTF8));
+    Binary scoped = Binary.fromScopedByteBuffer(ByteBuffer.wrap(orig), 5, testString.length());
+    assertTrue(scoped.isBackingBytesScoped());
+    assertTrue(scoped.isBackingBytesReused());
+    assertTrue(scoped.toString().contains("scoped"));
+    assertEquals(testString, scoped.toStringUsingUTF8());
+
+    // the copy is owned so it outlives the scope
+    Binary copy = scoped.copy();
+    assertFalse(copy.isBackingBytesScoped());
+    assertFalse(copy.isBackingBytesReused());
+    mutate(orig);
+    assertEquals(testString, copy.toStringUsingUTF8());
+    assertFalse(Binary.fromConstantByteBuffer(ByteBuffer.wrap(orig)).isBackingBytesScoped());
+  }
+
   @Test
   public void testEqualityMethods() throws Exception {
     Binary bin1 = Binary.fromConstantByteArray("alice".getBytes(), 1, 3);
@@ -0,0 +1,205 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.parquet.bytes;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe {@link ByteBufferAllocator} that keeps released buffers for reuse. Requested sizes are rounded up to
+ * the next power of two (the size class) so a released buffer can serve any later request of the same class. The
+ * buffers are allocated from and, once they cannot be retained anymore, released to a "parent" allocator.
+ * <p>
+ * The returned buffers have their position at 0 and their limit at the requested size; their capacity is the size of
+ * the class. A buffer shall be released to this pool at most once and shall not be used after it has been released.
+ * Requests larger than the largest size class are served and released by the parent allocator directly.
+ */
+public class SizeClassedByteBufferPool implements ByteBufferAllocator {
+
+  public static final int DEFAULT_MIN_CLASS_SIZE = 8 * 1024;
+  public static final int DEFAULT_MAX_CLASS_SIZE = 64 * 1024 * 1024;
+  public static final long DEFAULT_MAX_RETAINED_BYTES = 256L * 1024 * 1024;
+
+  private final ByteBufferAllocator allocator;
+  private final int minClassShift;
+  private final int maxClassShift;
+  private final ConcurrentLinkedDeque<ByteBuffer>[] freeBuffers;
+  private volatile long maxRetainedBytes;
+
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final AtomicLong allocations = new AtomicLong();
+  private final AtomicLong reuses = new AtomicLong();
+  private final AtomicLong allocatedBytes = new AtomicLong();
+  private final AtomicLong discards = new AtomicLong();
+
+  /**
+   * Creates a pool with the default size classes and retained capacity.
+   *
+   * @param allocator the allocator to be used for allocating the buffers of the pool
+   */
+  public SizeClassedByteBufferPool(ByteBufferAllocator allocator) {
+    this(allocator, DEFAULT_MIN_CLASS_SIZE, DEFAULT_MAX_CLASS_SIZE, DEFAULT_MAX_RETAINED_BYTES);
+  }
+
+  /**
+   * @param allocator        the allocator to be used for allocating the buffers of the pool
+   * @param minClassSize     the smallest size class; rounded up to a power of two
+   * @param maxClassSize     the largest size class; rounded up to a power of two
+   * @param maxRetainedBytes the maximum number of bytes kept in released buffers
+   */
+  @SuppressWarnings("unchecked")
+  public SizeClassedByteBufferPool(
+      ByteBufferAllocator allocator, int minClassSize, int maxClassSize, long maxRetainedBytes) {
+    this.allocator = Objects.requireNonNull(allocator, "allocator cannot be null");
+    if (minClassSize <= 0 || maxClassSize < minClassSize || maxClassSize > (1 << 30)) {
+      throw new IllegalArgumentException("Invalid size classes: min=" + minClassSize + ", max=" + maxClassSize);
+    }
+    this.minClassShift = shiftOf(minClassSize);
+    this.maxClassShift = shiftOf(maxClassSize);
+    this.freeBuffers = new ConcurrentLinkedDeque[maxClassShift - minClassShift + 1];
+    for (int i = 0; i < freeBuffers.length; ++i) {
+      freeBuffers[i] = new ConcurrentLinkedDeque<>();
+    }
+    setMaxRetainedBytes(maxRetainedBytes);
+  }
+
+  private static int shiftOf(int size) {
+    return size == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+  }
+
+  @Override
+  public ByteBuffer allocate(int size) {
+    allocations.incrementAndGet();
+    int shift = Math.max(minClassShift, shiftOf(size));
+    if (shift > maxClassShift) {
+      allocatedBytes.addAndGet(size);
+      return allocator.allocate(size);
+    }
+    ByteBuffer buffer = freeBuffers[shift - minClassShift].pollFirst();
+    if (buffer != null) {
+      retainedBytes.addAndGet(-buffer.capacity());
+      reuses.incrementAndGet();
+    } else {
+      buffer = allocator.allocate(1 << shift);
+      allocatedBytes.addAndGet(buffer.capacity());
+    }
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  @Override
+  public void release(ByteBuffer b) {
+    int capacity = b.capacity();
+    int shift = shiftOf(capacity);
+    boolean poolable = b.isDirect() == allocator.isDirect()
+        && capacity == 1 << shift
+        && shift >= minClassShift
+        && shift <= maxClassShift;
+    if (poolable) {
+      if (retainedBytes.addAndGet(capacity) <= maxRetainedBytes) {
+        // The most recently released buffers are handed out first as they are the most likely to be cached
+        freeBuffers[shift - minClassShift].offerFirst(b);
+        return;
+      }
+      retainedBytes.addAndGet(-capacity);
+    }
+    discards.incrementAndGet();
+    allocator.release(b);
+  }
+
+  @Override
+  public boolean isDirect() {
+    return allocator.isDirect();
+  }
+
+  /**
+   * Sets the maximum number of bytes kept in released buffers. Buffers released over this limit are given back to the
+   * parent allocator. Lowering the limit does not release the buffers already retained; see {@link #clear()}.
+   *
+   * @param maxRetainedBytes the maximum number of bytes to be retained
+   */
+  public void setMaxRetainedBytes(long maxRetainedBytes) {
+    if (maxRetainedBytes < 0) {
+      throw new IllegalArgumentException("Invalid maximum retained bytes: " + maxRetainedBytes);
+    }
+    this.maxRetainedBytes = maxRetainedBytes;
+  }
+
+  public long getMaxRetainedBytes() {
+    return maxRetainedBytes;
+  }
+
+  /**
+   * Releases all the retained buffers to the parent allocator.
+   */
+  public void clear() {
+    for (ConcurrentLinkedDeque<ByteBuffer> buffers : freeBuffers) {
+      ByteBuffer buffer;
+      while ((buffer = buffers.pollFirst()) != null) {
+        retainedBytes.addAndGet(-buffer.capacity());
+        allocator.release(buffer);
+      }
+    }
+  }
+
+  /**
+   * @return the number of bytes currently kept in released buffers
+   */
+  public long getRetainedBytes() {
+    return retainedBytes.get();
+  }
+
+  /**
+   * @return the number of {@link #allocate(int)} calls
+   */
+  public long getAllocationCount() {
+    return allocations.get();
+  }
+
+  /**
+   * @return the number of {@link #allocate(int)} calls served by a previously released buffer
+   */
+  public long getReuseCount() {
+    return reuses.get();
+  }
+
+  /**
+   * @return the number of bytes allocated from the parent allocator
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes.get();
+  }
+
+  /**
+   * @return the number of released buffers given back to the parent allocator instead of being retained
+   */
+  public long getDiscardCount() {
+    return discards.get();
+  }
+
+  @Override
+  public String toString() {
+    return "SizeClassedByteBufferPool{direct=" + isDirect() + ", allocations=" + allocations + ", reuses="
+        + reuses + ", allocatedBytes=" + allocatedBytes + ", retainedBytes=" + retainedBytes + ", discards="
+        + discards + '}';
+  }
+}
@@ -18,85 +18,255 @@
  */
 package org.apache.parquet.io;
 
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.parquet.bytes.ByteBufferAllocator;
 
 /**
  * {@code LocalInputFile} is an implementation needed by Parquet to read
  * from local data files using {@link SeekableInputStream} instances.
+ * <p>
+ * The streams read through a {@link FileChannel} and support
+ * {@link SeekableInputStream#readVectored(List, ByteBufferAllocator)}: the ranges are either read with concurrent
+ * positional reads into buffers of the given allocator or, if the file is opened as memory mapped, served as
+ * read-only {@link java.nio.MappedByteBuffer} slices of the file without copying. The positional reads block, so
+ * they run on the executor given at construction or on a small shared pool of daemon threads dedicated to these
+ * reads.
  */
 public class LocalInputFile implements InputFile {
 
+  private static final int DEFAULT_READ_THREADS =
+      Math.min(Runtime.getRuntime().availableProcessors(), 8);
+
   private final Path path;
+  private final boolean memoryMapped;
+  private final Executor readExecutor;
   private long length = -1;
 
   public LocalInputFile(Path file) {
-    path = file;
+    this(file, false);
+  }
+
+  /**
+   * @param file         the file to read
+   * @param memoryMapped whether vectored reads shall return memory mapped slices of the file instead of reading
+   *                     the ranges into allocated buffers; the mappings are released when they are garbage
+   *                     collected
+   */
+  public LocalInputFile(Path file, boolean memoryMapped) {
+    this(file, memoryMapped, null);
+  }
+
+  /**
+   * @param file         the file to read
+   * @param memoryMapped whether vectored reads shall return memory mapped slices of the file instead of reading
+   *                     the ranges into allocated buffers; the mappings are released when they are garbage
+   *                     collected
+   * @param readExecutor the executor to run the positional reads of vectored reads on, or {@code null} to use the
+   *                     shared pool of this class
+   */
+  public LocalInputFile(Path file, boolean memoryMapped, Executor readExecutor) {
+    this.path = file;
+    this.memoryMapped = memoryMapped;
+    this.readExecutor = readExecutor;
   }
 
   @Override
   public long getLength() throws IOException {
     if (length == -1) {
-      try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
-        length = file.length();
-      }
+      length = Files.size(path);
     }
     return length;
   }
 
   @Override
   public SeekableInputStream newStream() throws IOException {
+    return new LocalSeekableInputStream(FileChannel.open(path, StandardOpenOption.READ));
+  }
 
-    return new SeekableInputStream() {
+  @Override
+  public String toString() {
+    return path.toString();
+  }
 
-      private final RandomAccessFile randomAccessFile = new RandomAccessFile(path.toFile(), "r");
+  private class LocalSeekableInputStream extends SeekableInputStream {
 
-      @Override
-      public int read() throws IOException {
-        return randomAccessFile.read();
-      }
+    private final FileChannel channel;
+    private final ByteBuffer singleByte = ByteBuffer.allocate(1);
 
-      @Override
-      public long getPos() throws IOException {
-        return randomAccessFile.getFilePointer();
+    private LocalSeekableInputStream(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public int read() throws IOException {
+      singleByte.clear();
+      if (channel.read(singleByte) <= 0) {
+        return -1;
       }
+      return singleByte.get(0) & 0xFF;
+    }
 
-      @Override
-      public void seek(long newPos) throws IOException {
-        randomAccessFile.seek(newPos);
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
       }
+      return channel.read(ByteBuffer.wrap(bytes, off, len));
+    }
 
-      @Override
-      public void readFully(byte[] bytes) throws IOException {
-        randomAccessFile.readFully(bytes);
+    @Override
+    public long skip(long n) throws IOException {
+      if (n <= 0) {
+        return 0;
       }
+      long pos = channel.position();
+      long skipped = Math.min(n, Math.max(channel.size() - pos, 0));
+      channel.position(pos + skipped);
+      return skipped;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return channel.position();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      channel.position(newPos);
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException {
+      readFully(ByteBuffer.wrap(bytes));
+    }
 
-      @Override
-      public void readFully(byte[] bytes, int start, int len) throws IOException {
-        randomAccessFile.readFully(bytes, start, len);
+    @Override
+    public void readFully(byte[] bytes, int start, int len) throws IOException {
+      readFully(ByteBuffer.wrap(bytes, start, len));
+    }
+
+    @Override
+    public int read(ByteBuffer buf) throws IOException {
+      return channel.read(buf);
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      while (buf.hasRemaining()) {
+        if (channel.read(buf) < 0) {
+          throw new EOFException("Reached the end of stream with " + buf.remaining() + " bytes left to read");
+        }
       }
+    }
 
-      @Override
-      public int read(ByteBuffer buf) throws IOException {
-        byte[] buffer = new byte[buf.remaining()];
-        int code = read(buffer);
-        buf.put(buffer, buf.position() + buf.arrayOffset(), buf.remaining());
-        return code;
+    @Override
+    public boolean readVectoredAvailable(ByteBufferAllocator allocator) {
+      // The buffers of vectored reads are not released by the reader
+      return memoryMapped || !allocator.isDirect();
+    }
+
+    @Override
+    public void readVectored(List<ParquetFileRange> ranges, ByteBufferAllocator allocator) throws IOException {
+      validateRanges(ranges, channel.size());
+      for (ParquetFileRange range : ranges) {
+        if (memoryMapped) {
+          range.setDataReadFuture(CompletableFuture.completedFuture(
+              channel.map(FileChannel.MapMode.READ_ONLY, range.getOffset(), range.getLength())));
+        } else {
+          // Allocate on the calling thread as allocators are not necessarily thread-safe; positional reads
+          // do not touch the position of the channel so the ranges can be read concurrently.
+          ByteBuffer buffer = allocator.allocate(range.getLength());
+          CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+          range.setDataReadFuture(future);
+          Executor executor = readExecutor != null ? readExecutor : DefaultReadExecutor.EXECUTOR;
+          executor.execute(() -> {
+            try {
+              readFully(buffer, range.getOffset());
+              buffer.flip();
+              future.complete(buffer);
+            } catch (Throwable t) {
+              future.completeExceptionally(t);
+            }
+          });
+        }
       }
+    }
 
-      @Override
-      public void readFully(ByteBuffer buf) throws IOException {
-        byte[] buffer = new byte[buf.remaining()];
-        readFully(buffer);
-        buf.put(buffer, buf.position() + buf.arrayOffset(), buf.remaining());
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer, position);
+        if (read < 0) {
+          throw new EOFException("Reached the end of file at " + position + " with " + buffer.remaining()
+              + " bytes left to read");
+        }
+        position += read;
       }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
 
-      @Override
-      public void close() throws IOException {
-        randomAccessFile.close();
+    @Override
+    public String toString() {
+      return "LocalSeekableInputStream{" + path + "}";
+    }
+  }
+
+  /**
+   * Lazily creates the shared pool so that files which are never read vectored don't start any thread.
+   */
+  private static final class DefaultReadExecutor {
+    private static final Executor EXECUTOR;
+
+    static {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          DEFAULT_READ_THREADS,
+          DEFAULT_READ_THREADS,
+          60L,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable -> {
+            Thread thread = new Thread(runnable, "parquet-local-file-reader");
+            thread.setDaemon(true);
+            return thread;
+          });
+      executor.allowCoreThreadTimeOut(true);
+      EXECUTOR = executor;
+    }
+  }
+
+  private static void validateRanges(List<ParquetFileRange> ranges, long fileLength) throws EOFException {
+    List<ParquetFileRange> sorted = new ArrayList<>(ranges);
+    sorted.sort(Comparator.comparingLong(ParquetFileRange::getOffset));
+    ParquetFileRange previous = null;
+    for (ParquetFileRange range : sorted) {
+      if (range.getOffset() < 0 || range.getLength() < 0) {
+        throw new IllegalArgumentException("Invalid range " + range);
+      }
+      if (previous != null && range.getOffset() < previous.getOffset() + previous.getLength()) {
+        throw new IllegalArgumentException("Overlapping ranges " + previous + " and " + range);
       }
-    };
+      if (range.getOffset() + range.getLength() > fileLength) {
+        throw new EOFException("Range " + range + " is past the end of file of length " + fileLength);
+      }
+      previous = range;
+    }
   }
 }
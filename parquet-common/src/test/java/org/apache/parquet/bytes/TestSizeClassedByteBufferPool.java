@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.parquet.bytes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSizeClassedByteBufferPool {
+
+  private TrackingByteBufferAllocator allocator;
+  private SizeClassedByteBufferPool pool;
+
+  @Before
+  public void initAllocator() {
+    allocator = TrackingByteBufferAllocator.wrap(new HeapByteBufferAllocator());
+    pool = new SizeClassedByteBufferPool(allocator, 1024, 64 * 1024, 128 * 1024);
+  }
+
+  @After
+  public void closeAllocator() {
+    pool.clear();
+    assertEquals(0, pool.getRetainedBytes());
+    allocator.close();
+  }
+
+  @Test
+  public void testSizeClasses() {
+    ByteBuffer small = pool.allocate(10);
+    assertEquals(1024, small.capacity());
+    assertEquals(0, small.position());
+    assertEquals(10, small.limit());
+
+    ByteBuffer exact = pool.allocate(4096);
+    assertEquals(4096, exact.capacity());
+    ByteBuffer rounded = pool.allocate(4097);
+    assertEquals(8192, rounded.capacity());
+
+    ByteBuffer large = pool.allocate(100 * 1024);
+    assertEquals(100 * 1024, large.capacity());
+
+    pool.release(small);
+    pool.release(exact);
+    pool.release(rounded);
+    pool.release(large);
+    assertEquals(1024 + 4096 + 8192, pool.getRetainedBytes());
+    assertEquals(1, pool.getDiscardCount());
+  }
+
+  @Test
+  public void testReuse() {
+    ByteBuffer first = pool.allocate(3000);
+    first.put((byte) 42);
+    first.flip();
+    pool.release(first);
+
+    ByteBuffer second = pool.allocate(2500);
+    assertSame(first, second);
+    assertEquals(0, second.position());
+    assertEquals(2500, second.limit());
+    ByteBuffer third = pool.allocate(2500);
+    assertNotSame(second, third);
+
+    pool.release(second);
+    pool.release(third);
+    assertEquals(3, pool.getAllocationCount());
+    assertEquals(1, pool.getReuseCount());
+    assertEquals(2 * 4096, pool.getAllocatedBytes());
+    assertEquals(2 * 4096, pool.getRetainedBytes());
+  }
+
+  @Test
+  public void testRetainedLimit() {
+    ByteBuffer[] buffers = new ByteBuffer[3];
+    for (int i = 0; i < buffers.length; ++i) {
+      buffers[i] = pool.allocate(64 * 1024);
+    }
+    for (ByteBuffer buffer : buffers) {
+      pool.release(buffer);
+    }
+    assertEquals(128 * 1024, pool.getRetainedBytes());
+    assertEquals(1, pool.getDiscardCount());
+
+    pool.setMaxRetainedBytes(0);
+    ByteBuffer buffer = pool.allocate(1);
+    pool.release(buffer);
+    assertEquals(128 * 1024, pool.getRetainedBytes());
+    assertEquals(2, pool.getDiscardCount());
+  }
+
+  @Test
+  public void testForeignBuffersAreNotRetained() {
+    SizeClassedByteBufferPool heapPool = new SizeClassedByteBufferPool(new HeapByteBufferAllocator());
+    heapPool.release(ByteBuffer.allocateDirect(64 * 1024));
+    heapPool.release(ByteBuffer.allocate(10_000));
+    assertEquals(0, heapPool.getRetainedBytes());
+    assertEquals(2, heapPool.getDiscardCount());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new SizeClassedByteBufferPool(allocator, 0, 1024, 0));
+    assertThrows(IllegalArgumentException.class, () -> new SizeClassedByteBufferPool(allocator, 2048, 1024, 0));
+    assertThrows(IllegalArgumentException.class, () -> pool.setMaxRetainedBytes(-1));
+  }
+}
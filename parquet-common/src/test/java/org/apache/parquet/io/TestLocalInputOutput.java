@@ -20,12 +20,23 @@ package org.apache.parquet.io;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
 import org.junit.Test;
 
 public class TestLocalInputOutput {
@@ -83,6 +94,102 @@ public class TestLocalInputOutput {
     }
   }
 
+  @Test
+  public void inputFileReadsFullyAndSeeks() throws IOException {
+    Path path = writeTestFile(1024);
+    InputFile read = new LocalInputFile(path);
+    assertEquals(1024, read.getLength());
+    try (SeekableInputStream stream = read.newStream()) {
+      stream.seek(100);
+      byte[] bytes = new byte[10];
+      stream.readFully(bytes);
+      assertEquals(110, stream.getPos());
+      assertEquals((byte) 109, bytes[9]);
+
+      ByteBuffer heap = ByteBuffer.allocate(16);
+      stream.readFully(heap);
+      heap.flip();
+      assertEquals((byte) 110, heap.get(0));
+
+      stream.seek(1020);
+      ByteBuffer direct = ByteBuffer.allocateDirect(8);
+      assertThrows(EOFException.class, () -> stream.readFully(direct));
+    }
+  }
+
+  @Test
+  public void inputFileReadsVectored() throws Exception {
+    Path path = writeTestFile(64 * 1024);
+    for (boolean memoryMapped : new boolean[] {false, true}) {
+      InputFile read = new LocalInputFile(path, memoryMapped);
+      try (SeekableInputStream stream = read.newStream()) {
+        assertTrue(stream.readVectoredAvailable(new HeapByteBufferAllocator()));
+        assertEquals(memoryMapped, stream.readVectoredAvailable(new DirectByteBufferAllocator()));
+
+        List<ParquetFileRange> ranges = Arrays.asList(
+            new ParquetFileRange(40_000, 1000),
+            new ParquetFileRange(0, 100),
+            new ParquetFileRange(100, 5000));
+        stream.readVectored(ranges, new HeapByteBufferAllocator());
+        for (ParquetFileRange range : ranges) {
+          ByteBuffer buffer = range.getDataReadFuture().get();
+          assertEquals(range.getLength(), buffer.remaining());
+          assertEquals(memoryMapped, buffer instanceof MappedByteBuffer);
+          for (int i = 0; i < range.getLength(); i++) {
+            assertEquals((byte) (range.getOffset() + i), buffer.get(buffer.position() + i));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void inputFileReadsVectoredOnGivenExecutor() throws Exception {
+    Path path = writeTestFile(8 * 1024);
+    AtomicInteger executed = new AtomicInteger();
+    Executor executor = runnable -> {
+      executed.incrementAndGet();
+      runnable.run();
+    };
+    try (SeekableInputStream stream = new LocalInputFile(path, false, executor).newStream()) {
+      List<ParquetFileRange> ranges =
+          Arrays.asList(new ParquetFileRange(0, 100), new ParquetFileRange(4000, 200));
+      stream.readVectored(ranges, new HeapByteBufferAllocator());
+      assertEquals(ranges.size(), executed.get());
+      for (ParquetFileRange range : ranges) {
+        ByteBuffer buffer = range.getDataReadFuture().get();
+        assertEquals(range.getLength(), buffer.remaining());
+        assertEquals((byte) range.getOffset(), buffer.get(buffer.position()));
+      }
+    }
+  }
+
+  @Test
+  public void inputFileRejectsInvalidVectoredRanges() throws IOException {
+    Path path = writeTestFile(1024);
+    try (SeekableInputStream stream = new LocalInputFile(path).newStream()) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> stream.readVectored(
+              Arrays.asList(new ParquetFileRange(0, 100), new ParquetFileRange(50, 100)),
+              new HeapByteBufferAllocator()));
+      assertThrows(
+          EOFException.class,
+          () -> stream.readVectored(
+              Collections.singletonList(new ParquetFileRange(1000, 100)), new HeapByteBufferAllocator()));
+    }
+  }
+
+  private Path writeTestFile(int length) throws IOException {
+    Path path = Paths.get(createTempFile().getPath());
+    try (PositionOutputStream stream = new LocalOutputFile(path).createOrOverwrite(512)) {
+      for (int i = 0; i < length; i++) {
+        stream.write(i);
+      }
+    }
+    return path;
+  }
+
   private File createTempFile() throws IOException {
     File tmp = File.createTempFile(getClass().getSimpleName(), ".tmp");
     tmp.deleteOnExit();
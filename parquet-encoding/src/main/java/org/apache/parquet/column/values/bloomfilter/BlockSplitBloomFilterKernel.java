@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bloomfilter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts hashes into and probes hashes in the bitset of a split block Bloom filter. The bitset is made of blocks of
+ * eight little endian 32-bit words; a hash selects a block with its upper half and sets or probes one bit in each word
+ * of the block with its lower half multiplied by a salt of the word.
+ * <p>
+ * The {@link #getDefault() default} kernel uses the SIMD kernels of the parquet-encoding-vector plugin if it is on the
+ * class path and the Java vector API is available (VM option --add-modules=jdk.incubator.vector); it is the
+ * {@link #scalar() scalar} one otherwise.
+ */
+public abstract class BlockSplitBloomFilterKernel {
+  private static final Logger LOG = LoggerFactory.getLogger(BlockSplitBloomFilterKernel.class);
+
+  private static final String VECTOR_KERNEL_CLASS =
+      "org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilterVectorKernel";
+
+  // Bytes in a block.
+  protected static final int BYTES_PER_BLOCK = 32;
+
+  // The number of words in a block, each one having a bit set per hash.
+  protected static final int WORDS_PER_BLOCK = 8;
+
+  // The 8 odd salt values to calculate the indexes of the bits to set, one per 32-bit word. Package-private as the
+  // array is mutable: only the kernels of this package read it.
+  static final int[] SALT = {
+    0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d, 0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+  };
+
+  private static final BlockSplitBloomFilterKernel SCALAR = new BlockSplitBloomFilterKernel() {
+    @Override
+    public void insertHashes(byte[] bitset, long[] hashes) {
+      IntBuffer words = words(bitset);
+      long numBlocks = bitset.length / BYTES_PER_BLOCK;
+      for (long hash : hashes) {
+        insertHash(words, hash, numBlocks);
+      }
+    }
+
+    @Override
+    public void findHashes(byte[] bitset, long[] hashes, boolean[] result) {
+      IntBuffer words = words(bitset);
+      long numBlocks = bitset.length / BYTES_PER_BLOCK;
+      for (int i = 0; i < hashes.length; i++) {
+        result[i] = findHash(words, hashes[i], numBlocks);
+      }
+    }
+  };
+
+  // The vector plugin is optional so it is only looked up the first time the default kernel is needed
+  private static class DefaultHolder {
+    private static final BlockSplitBloomFilterKernel DEFAULT = loadDefault();
+  }
+
+  private static BlockSplitBloomFilterKernel loadDefault() {
+    try {
+      Object kernel =
+          Class.forName(VECTOR_KERNEL_CLASS).getField("kernel").get(null);
+      if (kernel != null) {
+        LOG.debug("Using the vector Bloom filter kernel");
+        return (BlockSplitBloomFilterKernel) kernel;
+      }
+    } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+      LOG.debug("The vector Bloom filter kernel is not available", e);
+    }
+    return SCALAR;
+  }
+
+  /**
+   * @return the vector kernel if available, the scalar one otherwise
+   */
+  public static BlockSplitBloomFilterKernel getDefault() {
+    return DefaultHolder.DEFAULT;
+  }
+
+  /**
+   * @return the kernel using scalar loops only
+   */
+  public static BlockSplitBloomFilterKernel scalar() {
+    return SCALAR;
+  }
+
+  /**
+   * Sets the bits of the hashes.
+   *
+   * @param bitset the bitset of the Bloom filter, a multiple of {@value #BYTES_PER_BLOCK} bytes
+   * @param hashes the hashes to insert
+   */
+  public abstract void insertHashes(byte[] bitset, long[] hashes);
+
+  /**
+   * Probes the bits of the hashes. The bitset is not modified so it can be probed concurrently.
+   *
+   * @param bitset the bitset of the Bloom filter, a multiple of {@value #BYTES_PER_BLOCK} bytes
+   * @param hashes the hashes to look up
+   * @param result the array to set whether each hash might be in the filter, at least as long as {@code hashes}
+   */
+  public abstract void findHashes(byte[] bitset, long[] hashes, boolean[] result);
+
+  /**
+   * @param bitset the bitset of a Bloom filter
+   * @return the little endian words of the bitset, to insert or find single hashes
+   */
+  public static IntBuffer words(byte[] bitset) {
+    return ByteBuffer.wrap(bitset).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+  }
+
+  /**
+   * @param hash      the hash of a value
+   * @param numBlocks the number of blocks of the bitset
+   * @return the index of the first word of the block selected by the upper half of the hash
+   */
+  public static int blockOffset(long hash, long numBlocks) {
+    return (int) (((hash >>> 32) * numBlocks) >> 32) * WORDS_PER_BLOCK;
+  }
+
+  /**
+   * Sets the bits of a hash with a scalar loop.
+   *
+   * @param words     the words of the bitset, see {@link #words(byte[])}
+   * @param hash      the hash to insert
+   * @param numBlocks the number of blocks of the bitset
+   */
+  public static void insertHash(IntBuffer words, long hash, long numBlocks) {
+    int offset = blockOffset(hash, numBlocks);
+    int key = (int) hash;
+    // The masks are computed per word rather than into a shared array to keep lookups free of state.
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      words.put(offset + i, words.get(offset + i) | (0x1 << ((key * SALT[i]) >>> 27)));
+    }
+  }
+
+  /**
+   * Probes the bits of a hash with a scalar loop.
+   *
+   * @param words     the words of the bitset, see {@link #words(byte[])}
+   * @param hash      the hash to look up
+   * @param numBlocks the number of blocks of the bitset
+   * @return whether the hash might be in the filter
+   */
+  public static boolean findHash(IntBuffer words, long hash, long numBlocks) {
+    int offset = blockOffset(hash, numBlocks);
+    int key = (int) hash;
+    // Collect the missing bits of all words instead of returning early so the loop has no branches.
+    int missing = 0;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      missing |= ~words.get(offset + i) & (0x1 << ((key * SALT[i]) >>> 27));
+    }
+    return missing == 0;
+  }
+}
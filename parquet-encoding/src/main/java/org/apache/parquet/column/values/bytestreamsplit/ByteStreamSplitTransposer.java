@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bytestreamsplit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transposes values between their plain layout and the byte streams of the BYTE_STREAM_SPLIT encoding: the byte
+ * {@code b} of the value {@code i} of {@code valueCount} values of {@code elementSize} bytes is at
+ * {@code i * elementSize + b} in the values and at {@code b * valueCount + i} in the streams.
+ * <p>
+ * The {@link #getDefault() default} transposer uses the SIMD kernels of the parquet-encoding-vector plugin if it is on
+ * the class path and the Java vector API is available (VM option --add-modules=jdk.incubator.vector); it is the
+ * {@link #scalar() scalar} one otherwise.
+ */
+public abstract class ByteStreamSplitTransposer {
+  private static final Logger LOG = LoggerFactory.getLogger(ByteStreamSplitTransposer.class);
+
+  private static final String VECTOR_TRANSPOSER_CLASS =
+      "org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitVectorTransposer";
+
+  private static final ByteStreamSplitTransposer SCALAR = new ByteStreamSplitTransposer() {
+    @Override
+    public void decode(
+        byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int valueCount, int elementSize) {
+      decodeRange(streams, streamsOffset, valueCount, values, valuesOffset, 0, valueCount, elementSize);
+    }
+
+    @Override
+    public void encode(
+        byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int valueCount, int elementSize) {
+      encodeRange(values, valuesOffset, streams, streamsOffset, valueCount, 0, valueCount, elementSize);
+    }
+  };
+
+  // The vector plugin is optional so it is only looked up the first time the default transposer is needed
+  private static class DefaultHolder {
+    private static final ByteStreamSplitTransposer DEFAULT = loadDefault();
+  }
+
+  private static ByteStreamSplitTransposer loadDefault() {
+    try {
+      Object transposer = Class.forName(VECTOR_TRANSPOSER_CLASS)
+          .getField("transposer")
+          .get(null);
+      if (transposer != null) {
+        LOG.debug("Using the vector byte stream split transposer");
+        return (ByteStreamSplitTransposer) transposer;
+      }
+    } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+      LOG.debug("The vector byte stream split transposer is not available", e);
+    }
+    return SCALAR;
+  }
+
+  /**
+   * @return the vector transposer if available, the scalar one otherwise
+   */
+  public static ByteStreamSplitTransposer getDefault() {
+    return DefaultHolder.DEFAULT;
+  }
+
+  /**
+   * @return the transposer using scalar loops only
+   */
+  public static ByteStreamSplitTransposer scalar() {
+    return SCALAR;
+  }
+
+  /**
+   * Gathers the bytes of the values from their streams.
+   *
+   * @param streams       the array containing the {@code elementSize} streams of {@code valueCount} bytes each
+   * @param streamsOffset the index of the first stream in {@code streams}
+   * @param values        the array to write the values to
+   * @param valuesOffset  the index of the first value in {@code values}
+   * @param valueCount    the number of values
+   * @param elementSize   the size of the values in bytes
+   */
+  public abstract void decode(
+      byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int valueCount, int elementSize);
+
+  /**
+   * Scatters the bytes of the values to their streams.
+   *
+   * @param values        the array containing the {@code valueCount} values of {@code elementSize} bytes each
+   * @param valuesOffset  the index of the first value in {@code values}
+   * @param streams       the array to write the {@code elementSize} streams of {@code valueCount} bytes to
+   * @param streamsOffset the index of the first stream in {@code streams}
+   * @param valueCount    the number of values
+   * @param elementSize   the size of the values in bytes
+   */
+  public abstract void encode(
+      byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int valueCount, int elementSize);
+
+  /**
+   * Decodes the values from {@code from} (inclusive) to {@code to} (exclusive) with scalar loops.
+   *
+   * @param streamLength the number of bytes in each stream
+   * @see #decode(byte[], int, byte[], int, int, int)
+   */
+  protected static void decodeRange(
+      byte[] streams,
+      int streamsOffset,
+      int streamLength,
+      byte[] values,
+      int valuesOffset,
+      int from,
+      int to,
+      int elementSize) {
+    for (int stream = 0; stream < elementSize; ++stream) {
+      int src = streamsOffset + stream * streamLength;
+      int dest = valuesOffset + from * elementSize + stream;
+      for (int i = from; i < to; ++i, dest += elementSize) {
+        values[dest] = streams[src + i];
+      }
+    }
+  }
+
+  /**
+   * Encodes the values from {@code from} (inclusive) to {@code to} (exclusive) with scalar loops.
+   *
+   * @param streamLength the number of bytes in each stream
+   * @see #encode(byte[], int, byte[], int, int, int)
+   */
+  protected static void encodeRange(
+      byte[] values,
+      int valuesOffset,
+      byte[] streams,
+      int streamsOffset,
+      int streamLength,
+      int from,
+      int to,
+      int elementSize) {
+    for (int stream = 0; stream < elementSize; ++stream) {
+      int src = valuesOffset + from * elementSize + stream;
+      int dest = streamsOffset + stream * streamLength;
+      for (int i = from; i < to; ++i, src += elementSize) {
+        streams[dest + i] = values[src];
+      }
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.delta;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sums up the deltas of the DELTA_BINARY_PACKED encoding in place: each delta is replaced by the value it leads to,
+ * the previous value plus the minimum delta of the block plus the delta. The sums wrap around the same way as the
+ * deltas were computed by the writers.
+ * <p>
+ * The {@link #getDefault() default} implementation uses the SIMD kernels of the parquet-encoding-vector plugin if it
+ * is on the class path and the Java vector API is available (VM option --add-modules=jdk.incubator.vector); it is the
+ * {@link #scalar() scalar} one otherwise.
+ */
+public abstract class DeltaPrefixSum {
+  private static final Logger LOG = LoggerFactory.getLogger(DeltaPrefixSum.class);
+
+  private static final String VECTOR_PREFIX_SUM_CLASS = "org.apache.parquet.column.values.delta.DeltaVectorPrefixSum";
+
+  private static final DeltaPrefixSum SCALAR = new DeltaPrefixSum() {
+    @Override
+    public int prefixSum(int[] values, int offset, int count, int minDelta, int value) {
+      return prefixSumRange(values, offset, offset + count, minDelta, value);
+    }
+
+    @Override
+    public long prefixSum(long[] values, int offset, int count, long minDelta, long value) {
+      return prefixSumRange(values, offset, offset + count, minDelta, value);
+    }
+  };
+
+  // The vector plugin is optional so it is only looked up the first time the default implementation is needed
+  private static class DefaultHolder {
+    private static final DeltaPrefixSum DEFAULT = loadDefault();
+  }
+
+  private static DeltaPrefixSum loadDefault() {
+    try {
+      Object prefixSum =
+          Class.forName(VECTOR_PREFIX_SUM_CLASS).getField("prefixSum").get(null);
+      if (prefixSum != null) {
+        LOG.debug("Using the vector delta prefix sum");
+        return (DeltaPrefixSum) prefixSum;
+      }
+    } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+      LOG.debug("The vector delta prefix sum is not available", e);
+    }
+    return SCALAR;
+  }
+
+  /**
+   * @return the vector implementation if available, the scalar one otherwise
+   */
+  public static DeltaPrefixSum getDefault() {
+    return DefaultHolder.DEFAULT;
+  }
+
+  /**
+   * @return the implementation using scalar loops only
+   */
+  public static DeltaPrefixSum scalar() {
+    return SCALAR;
+  }
+
+  /**
+   * Replaces the deltas by the values they lead to.
+   *
+   * @param values   the array containing the deltas, without the minimum delta, to replace
+   * @param offset   the index of the first delta in {@code values}
+   * @param count    the number of deltas
+   * @param minDelta the minimum delta of the block, added to every delta
+   * @param value    the value preceding the first delta
+   * @return the last value, or {@code value} if {@code count} is 0
+   */
+  public abstract int prefixSum(int[] values, int offset, int count, int minDelta, int value);
+
+  /**
+   * Replaces the deltas by the values they lead to.
+   *
+   * @see #prefixSum(int[], int, int, int, int)
+   */
+  public abstract long prefixSum(long[] values, int offset, int count, long minDelta, long value);
+
+  /**
+   * Sums up the deltas from {@code from} (inclusive) to {@code to} (exclusive) with a scalar loop.
+   *
+   * @return the last value
+   * @see #prefixSum(int[], int, int, int, int)
+   */
+  protected static int prefixSumRange(int[] values, int from, int to, int minDelta, int value) {
+    for (int i = from; i < to; i++) {
+      value += minDelta + values[i];
+      values[i] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Sums up the deltas from {@code from} (inclusive) to {@code to} (exclusive) with a scalar loop.
+   *
+   * @return the last value
+   * @see #prefixSum(long[], int, int, long, long)
+   */
+  protected static long prefixSumRange(long[] values, int from, int to, long minDelta, long value) {
+    for (int i = from; i < to; i++) {
+      value += minDelta + values[i];
+      values[i] = value;
+    }
+    return value;
+  }
+}
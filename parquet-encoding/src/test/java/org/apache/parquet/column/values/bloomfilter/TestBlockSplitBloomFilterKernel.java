@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bloomfilter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.IntBuffer;
+import org.junit.Test;
+
+public class TestBlockSplitBloomFilterKernel {
+
+  @Test
+  public void testScalar() {
+    byte[] bitset = new byte[64];
+    // the upper half selects the second block, the lower one sets one bit per word
+    long hash = (3L << 62) | 1;
+    BlockSplitBloomFilterKernel.scalar().insertHashes(bitset, new long[] {hash});
+    IntBuffer words = BlockSplitBloomFilterKernel.words(bitset);
+    for (int i = 0; i < 8; i++) {
+      assertEquals(0, words.get(i));
+      assertEquals(1, Integer.bitCount(words.get(8 + i)));
+      assertEquals(1 << (BlockSplitBloomFilterKernel.SALT[i] >>> 27), words.get(8 + i));
+    }
+
+    boolean[] found = new boolean[3];
+    BlockSplitBloomFilterKernel.scalar().findHashes(bitset, new long[] {hash, 1, hash + 1}, found);
+    assertArrayEquals(new boolean[] {true, false, false}, found);
+  }
+
+  @Test
+  public void testDefaultWithoutVectorPlugin() {
+    // parquet-encoding-vector is not a dependency of this module
+    assertSame(BlockSplitBloomFilterKernel.scalar(), BlockSplitBloomFilterKernel.getDefault());
+  }
+}
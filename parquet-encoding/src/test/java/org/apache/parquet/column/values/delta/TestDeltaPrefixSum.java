@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.delta;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class TestDeltaPrefixSum {
+
+  @Test
+  public void testScalar() {
+    int[] ints = {9, 1, 2, 3, 0, 9};
+    assertEquals(12, DeltaPrefixSum.scalar().prefixSum(ints, 1, 4, -1, 10));
+    assertArrayEquals(new int[] {9, 10, 11, 13, 12, 9}, ints);
+
+    // the sums wrap around like the deltas computed by the writers
+    long[] longs = {1, Long.MAX_VALUE, 5};
+    assertEquals(Long.MIN_VALUE + 4, DeltaPrefixSum.scalar().prefixSum(longs, 0, 3, 0, -1));
+    assertArrayEquals(new long[] {0, Long.MAX_VALUE, Long.MIN_VALUE + 4}, longs);
+
+    assertEquals(7, DeltaPrefixSum.scalar().prefixSum(ints, 0, 0, 3, 7));
+  }
+
+  @Test
+  public void testDefaultWithoutVectorPlugin() {
+    // parquet-encoding-vector is not a dependency of this module
+    assertSame(DeltaPrefixSum.scalar(), DeltaPrefixSum.getDefault());
+  }
+}
@@ -52,7 +52,16 @@ public class HadoopReadOptions extends ParquetReadOptions {
       Map<String, String> properties,
       Configuration conf,
       FileDecryptionProperties fileDecryptionProperties,
-      ParquetMetricsCallback metricsCallback) {
+      ParquetMetricsCallback metricsCallback,
+      long readRangeMaxGap,
+      long readRangeMaxMergedSize,
+      long readRangeMinSize,
+      int tailReadSize,
+      boolean useStreamingRead,
+      int streamingReadAheadSize,
+      boolean usePageCache,
+      boolean pageCacheOffHeap,
+      String decompressionBufferPool) {
     super(
         useSignedStringMinMax,
         useStatsFilter,
@@ -71,7 +80,16 @@ public class HadoopReadOptions extends ParquetReadOptions {
         properties,
         fileDecryptionProperties,
         metricsCallback,
-        new HadoopParquetConfiguration(conf));
+        new HadoopParquetConfiguration(conf),
+        readRangeMaxGap,
+        readRangeMaxMergedSize,
+        readRangeMinSize,
+        tailReadSize,
+        useStreamingRead,
+        streamingReadAheadSize,
+        usePageCache,
+        pageCacheOffHeap,
+        decompressionBufferPool);
     this.conf = conf;
   }
 
@@ -134,7 +152,16 @@ public class HadoopReadOptions extends ParquetReadOptions {
           properties,
           conf,
           fileDecryptionProperties,
-          metricsCallback);
+          metricsCallback,
+          readRangeMaxGap,
+          readRangeMaxMergedSize,
+          readRangeMinSize,
+          tailReadSize,
+          useStreamingRead,
+          streamingReadAheadSize,
+          usePageCache,
+          pageCacheOffHeap,
+          decompressionBufferPool);
     }
   }
 
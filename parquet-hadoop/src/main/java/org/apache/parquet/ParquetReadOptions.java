@@ -22,28 +22,40 @@ package org.apache.parquet;
 import static org.apache.parquet.format.converter.ParquetMetadataConverter.NO_FILTER;
 import static org.apache.parquet.hadoop.ParquetInputFormat.BLOOM_FILTERING_ENABLED;
 import static org.apache.parquet.hadoop.ParquetInputFormat.COLUMN_INDEX_FILTERING_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.DECOMPRESSION_BUFFER_POOL;
 import static org.apache.parquet.hadoop.ParquetInputFormat.DICTIONARY_FILTERING_ENABLED;
 import static org.apache.parquet.hadoop.ParquetInputFormat.HADOOP_VECTORED_IO_ENABLED;
 import static org.apache.parquet.hadoop.ParquetInputFormat.OFF_HEAP_DECRYPT_BUFFER_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.PAGE_CACHE_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.PAGE_CACHE_OFF_HEAP;
 import static org.apache.parquet.hadoop.ParquetInputFormat.PAGE_VERIFY_CHECKSUM_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.READ_RANGE_MAX_GAP;
+import static org.apache.parquet.hadoop.ParquetInputFormat.READ_RANGE_MAX_MERGED_SIZE;
+import static org.apache.parquet.hadoop.ParquetInputFormat.READ_RANGE_MIN_SIZE;
 import static org.apache.parquet.hadoop.ParquetInputFormat.RECORD_FILTERING_ENABLED;
 import static org.apache.parquet.hadoop.ParquetInputFormat.STATS_FILTERING_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.STREAMING_READ_AHEAD_SIZE;
+import static org.apache.parquet.hadoop.ParquetInputFormat.STREAMING_READ_ENABLED;
+import static org.apache.parquet.hadoop.ParquetInputFormat.TAIL_READ_SIZE;
 import static org.apache.parquet.hadoop.ParquetInputFormat.getFilter;
 import static org.apache.parquet.hadoop.UnmaterializableRecordCounter.BAD_RECORD_THRESHOLD_CONF_KEY;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.bytes.SizeClassedByteBufferPool;
 import org.apache.parquet.compression.CompressionCodecFactory;
 import org.apache.parquet.conf.HadoopParquetConfiguration;
 import org.apache.parquet.conf.ParquetConfiguration;
 import org.apache.parquet.crypto.FileDecryptionProperties;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.CodecFactory;
 import org.apache.parquet.hadoop.ParquetMetricsCallback;
 import org.apache.parquet.hadoop.util.HadoopCodecs;
 
@@ -61,6 +73,17 @@ public class ParquetReadOptions {
   private static final boolean PAGE_VERIFY_CHECKSUM_ENABLED_DEFAULT = false;
   private static final boolean BLOOM_FILTER_ENABLED_DEFAULT = true;
   private static final boolean USE_OFF_HEAP_DECRYPT_BUFFER_DEFAULT = false;
+  private static final long READ_RANGE_MAX_GAP_DEFAULT = 0;
+  private static final long READ_RANGE_MAX_MERGED_SIZE_DEFAULT = 64 * 1024 * 1024;
+  private static final long READ_RANGE_MIN_SIZE_DEFAULT = 4 * 1024 * 1024;
+  private static final int TAIL_READ_SIZE_DEFAULT = 64 * 1024;
+  private static final boolean STREAMING_READ_ENABLED_DEFAULT = false;
+  private static final int STREAMING_READ_AHEAD_SIZE_DEFAULT = 1024 * 1024;
+  private static final boolean PAGE_CACHE_ENABLED_DEFAULT = false;
+  private static final boolean PAGE_CACHE_OFF_HEAP_DEFAULT = false;
+  private static final String DECOMPRESSION_BUFFER_POOL_NONE = "none";
+  private static final String DECOMPRESSION_BUFFER_POOL_HEAP = "heap";
+  private static final String DECOMPRESSION_BUFFER_POOL_DIRECT = "direct";
 
   private final boolean useSignedStringMinMax;
   private final boolean useStatsFilter;
@@ -80,6 +103,15 @@ public class ParquetReadOptions {
   private final FileDecryptionProperties fileDecryptionProperties;
   private final ParquetConfiguration conf;
   private final ParquetMetricsCallback metricsCallback;
+  private final long readRangeMaxGap;
+  private final long readRangeMaxMergedSize;
+  private final long readRangeMinSize;
+  private final int tailReadSize;
+  private final boolean useStreamingRead;
+  private final int streamingReadAheadSize;
+  private final boolean usePageCache;
+  private final boolean pageCacheOffHeap;
+  private final String decompressionBufferPool;
 
   ParquetReadOptions(
       boolean useSignedStringMinMax,
@@ -117,7 +149,16 @@ public class ParquetReadOptions {
         properties,
         fileDecryptionProperties,
         metricsCallback,
-        new HadoopParquetConfiguration());
+        new HadoopParquetConfiguration(),
+        READ_RANGE_MAX_GAP_DEFAULT,
+        READ_RANGE_MAX_MERGED_SIZE_DEFAULT,
+        READ_RANGE_MIN_SIZE_DEFAULT,
+        TAIL_READ_SIZE_DEFAULT,
+        STREAMING_READ_ENABLED_DEFAULT,
+        STREAMING_READ_AHEAD_SIZE_DEFAULT,
+        PAGE_CACHE_ENABLED_DEFAULT,
+        PAGE_CACHE_OFF_HEAP_DEFAULT,
+        DECOMPRESSION_BUFFER_POOL_NONE);
   }
 
   ParquetReadOptions(
@@ -138,7 +179,16 @@ public class ParquetReadOptions {
       Map<String, String> properties,
       FileDecryptionProperties fileDecryptionProperties,
       ParquetMetricsCallback metricsCallback,
-      ParquetConfiguration conf) {
+      ParquetConfiguration conf,
+      long readRangeMaxGap,
+      long readRangeMaxMergedSize,
+      long readRangeMinSize,
+      int tailReadSize,
+      boolean useStreamingRead,
+      int streamingReadAheadSize,
+      boolean usePageCache,
+      boolean pageCacheOffHeap,
+      String decompressionBufferPool) {
     this.useSignedStringMinMax = useSignedStringMinMax;
     this.useStatsFilter = useStatsFilter;
     this.useDictionaryFilter = useDictionaryFilter;
@@ -157,6 +207,15 @@ public class ParquetReadOptions {
     this.fileDecryptionProperties = fileDecryptionProperties;
     this.metricsCallback = metricsCallback;
     this.conf = conf;
+    this.readRangeMaxGap = readRangeMaxGap;
+    this.readRangeMaxMergedSize = readRangeMaxMergedSize;
+    this.readRangeMinSize = readRangeMinSize;
+    this.tailReadSize = tailReadSize;
+    this.useStreamingRead = useStreamingRead;
+    this.streamingReadAheadSize = streamingReadAheadSize;
+    this.usePageCache = usePageCache;
+    this.pageCacheOffHeap = pageCacheOffHeap;
+    this.decompressionBufferPool = decompressionBufferPool;
   }
 
   public boolean useSignedStringMinMax() {
@@ -215,6 +274,91 @@ public class ParquetReadOptions {
     return maxAllocationSize;
   }
 
+  /**
+   * @return the largest gap in bytes between two ranges of a row group that are read with a single request
+   */
+  public long getReadRangeMaxGap() {
+    return readRangeMaxGap;
+  }
+
+  /**
+   * @return the largest size in bytes of a request combined from ranges separated by gaps, and the size vectored
+   *     reads split larger ranges into
+   */
+  public long getReadRangeMaxMergedSize() {
+    return readRangeMaxMergedSize;
+  }
+
+  /**
+   * @return the smallest size in bytes of the requests vectored reads split a large range into
+   */
+  public long getReadRangeMinSize() {
+    return readRangeMinSize;
+  }
+
+  /**
+   * @return the number of bytes read speculatively from the end of the file when reading the footer
+   */
+  public int getTailReadSize() {
+    return tailReadSize;
+  }
+
+  /**
+   * @return whether the column chunks are read page by page as they are consumed
+   */
+  public boolean useStreamingRead() {
+    return useStreamingRead;
+  }
+
+  /**
+   * @return the number of bytes of a column chunk read ahead with a single request in streaming mode
+   */
+  public int getStreamingReadAheadSize() {
+    return streamingReadAheadSize;
+  }
+
+  /**
+   * @return whether the decompressed pages of the column chunks are cached in the process-wide page cache
+   * @see org.apache.parquet.hadoop.DecompressedPageCache
+   */
+  public boolean usePageCache() {
+    return usePageCache;
+  }
+
+  /**
+   * @return whether the pages added to the page cache are stored in direct buffers
+   */
+  public boolean isPageCacheOffHeap() {
+    return pageCacheOffHeap;
+  }
+
+  /**
+   * @return the shared pool the decompressed pages are to be allocated from or {@code null} if pooling is disabled
+   * @see CodecFactory#getDecompressionBufferPool(boolean)
+   */
+  public SizeClassedByteBufferPool getDecompressionBufferPool() {
+    switch (decompressionBufferPool) {
+      case DECOMPRESSION_BUFFER_POOL_HEAP:
+        return CodecFactory.getDecompressionBufferPool(false);
+      case DECOMPRESSION_BUFFER_POOL_DIRECT:
+        return CodecFactory.getDecompressionBufferPool(true);
+      default:
+        return null;
+    }
+  }
+
+  private static String checkDecompressionBufferPool(String mode) {
+    String normalized = mode.trim().toLowerCase(Locale.ROOT);
+    switch (normalized) {
+      case DECOMPRESSION_BUFFER_POOL_NONE:
+      case DECOMPRESSION_BUFFER_POOL_HEAP:
+      case DECOMPRESSION_BUFFER_POOL_DIRECT:
+        return normalized;
+      default:
+        throw new IllegalArgumentException("Invalid decompression buffer pool: " + mode);
+    }
+  }
+
   public Set<String> getPropertyNames() {
     return properties.keySet();
   }
@@ -268,6 +412,15 @@ public class ParquetReadOptions {
     protected FileDecryptionProperties fileDecryptionProperties = null;
     protected ParquetConfiguration conf;
     protected ParquetMetricsCallback metricsCallback;
+    protected long readRangeMaxGap = READ_RANGE_MAX_GAP_DEFAULT;
+    protected long readRangeMaxMergedSize = READ_RANGE_MAX_MERGED_SIZE_DEFAULT;
+    protected long readRangeMinSize = READ_RANGE_MIN_SIZE_DEFAULT;
+    protected int tailReadSize = TAIL_READ_SIZE_DEFAULT;
+    protected boolean useStreamingRead = STREAMING_READ_ENABLED_DEFAULT;
+    protected int streamingReadAheadSize = STREAMING_READ_AHEAD_SIZE_DEFAULT;
+    protected boolean usePageCache = PAGE_CACHE_ENABLED_DEFAULT;
+    protected boolean pageCacheOffHeap = PAGE_CACHE_OFF_HEAP_DEFAULT;
+    protected String decompressionBufferPool = DECOMPRESSION_BUFFER_POOL_NONE;
 
     public Builder() {
       this(new HadoopParquetConfiguration());
@@ -287,6 +440,15 @@ public class ParquetReadOptions {
       withRecordFilter(getFilter(conf));
       withMaxAllocationInBytes(conf.getInt(ALLOCATION_SIZE, 8388608));
       withUseHadoopVectoredIo(conf.getBoolean(HADOOP_VECTORED_IO_ENABLED, HADOOP_VECTORED_IO_ENABLED_DEFAULT));
+      withReadRangeMaxGap(conf.getLong(READ_RANGE_MAX_GAP, READ_RANGE_MAX_GAP_DEFAULT));
+      withReadRangeMaxMergedSize(conf.getLong(READ_RANGE_MAX_MERGED_SIZE, READ_RANGE_MAX_MERGED_SIZE_DEFAULT));
+      withReadRangeMinSize(conf.getLong(READ_RANGE_MIN_SIZE, READ_RANGE_MIN_SIZE_DEFAULT));
+      withTailReadSize(conf.getInt(TAIL_READ_SIZE, TAIL_READ_SIZE_DEFAULT));
+      withDecompressionBufferPool(conf.get(DECOMPRESSION_BUFFER_POOL, DECOMPRESSION_BUFFER_POOL_NONE));
+      withStreamingRead(conf.getBoolean(STREAMING_READ_ENABLED, STREAMING_READ_ENABLED_DEFAULT));
+      withStreamingReadAheadSize(conf.getInt(STREAMING_READ_AHEAD_SIZE, STREAMING_READ_AHEAD_SIZE_DEFAULT));
+      withPageCache(conf.getBoolean(PAGE_CACHE_ENABLED, PAGE_CACHE_ENABLED_DEFAULT));
+      withPageCacheOffHeap(conf.getBoolean(PAGE_CACHE_OFF_HEAP, PAGE_CACHE_OFF_HEAP_DEFAULT));
       String badRecordThresh = conf.get(BAD_RECORD_THRESHOLD_CONF_KEY);
       if (badRecordThresh != null) {
         set(BAD_RECORD_THRESHOLD_CONF_KEY, badRecordThresh);
@@ -338,6 +500,115 @@ public class ParquetReadOptions {
       return this;
     }
 
+    /**
+     * Column chunks or page ranges of a row group separated by at most this many bytes are fetched with a single
+     * request, reading and discarding the bytes in between.
+     *
+     * @param maxGap the largest gap in bytes to read over; 0 only combines adjacent ranges
+     * @return this builder for method chaining
+     */
+    public Builder withReadRangeMaxGap(long maxGap) {
+      Preconditions.checkArgument(maxGap >= 0, "Invalid read range max gap: %s", maxGap);
+      this.readRangeMaxGap = maxGap;
+      return this;
+    }
+
+    /**
+     * Ranges are not combined over gaps if the resulting request exceeds this size. Vectored reads also split
+     * ranges larger than this size into requests fetched in parallel.
+     *
+     * @param maxMergedSize the largest size in bytes of a combined request
+     * @return this builder for method chaining
+     */
+    public Builder withReadRangeMaxMergedSize(long maxMergedSize) {
+      Preconditions.checkArgument(maxMergedSize > 0, "Invalid read range max merged size: %s", maxMergedSize);
+      this.readRangeMaxMergedSize = maxMergedSize;
+      return this;
+    }
+
+    /**
+     * Vectored reads do not split large ranges into requests smaller than this size.
+     *
+     * @param minSize the smallest size in bytes of a request split off a large range
+     * @return this builder for method chaining
+     */
+    public Builder withReadRangeMinSize(long minSize) {
+      Preconditions.checkArgument(minSize > 0, "Invalid read range min size: %s", minSize);
+      this.readRangeMinSize = minSize;
+      return this;
+    }
+
+    /**
+     * When opening a file this many bytes are read from its end with a single request. The footer and the page
+     * indexes and Bloom filters contained by them are then served from memory.
+     *
+     * @param tailReadSize the number of bytes to read speculatively; if it is smaller than the footer, the rest of
+     *                     the footer is read with a second request
+     * @return this builder for method chaining
+     */
+    public Builder withTailReadSize(int tailReadSize) {
+      Preconditions.checkArgument(tailReadSize >= 0, "Invalid tail read size: %s", tailReadSize);
+      this.tailReadSize = tailReadSize;
+      return this;
+    }
+
+    /**
+     * In streaming mode the pages of a column chunk are read from the file as the column reader gets to them,
+     * within a bounded read-ahead window, instead of reading the whole chunk before decoding.
+     *
+     * @param enabled whether streaming mode is enabled
+     * @return this builder for method chaining
+     */
+    public Builder withStreamingRead(boolean enabled) {
+      this.useStreamingRead = enabled;
+      return this;
+    }
+
+    /**
+     * @param readAheadSize the number of bytes of a column chunk read ahead with a single request in streaming mode
+     * @return this builder for method chaining
+     */
+    public Builder withStreamingReadAheadSize(int readAheadSize) {
+      Preconditions.checkArgument(readAheadSize > 0, "Invalid streaming read-ahead size: %s", readAheadSize);
+      this.streamingReadAheadSize = readAheadSize;
+      return this;
+    }
+
+    /**
+     * The decompressed pages of the column chunks read in full are kept in a process-wide cache so later reads of the
+     * same unfiltered row groups of unencrypted files skip both the I/O and the decompression.
+     *
+     * @param enabled whether the page cache is used
+     * @return this builder for method chaining
+     * @see org.apache.parquet.hadoop.DecompressedPageCache
+     */
+    public Builder withPageCache(boolean enabled) {
+      this.usePageCache = enabled;
+      return this;
+    }
+
+    /**
+     * @param offHeap whether the pages added to the page cache are stored in direct buffers
+     * @return this builder for method chaining
+     */
+    public Builder withPageCacheOffHeap(boolean offHeap) {
+      this.pageCacheOffHeap = offHeap;
+      return this;
+    }
+
+    /**
+     * Decompressed pages are allocated from a process-wide pool of the specified kind and given back to it when their
+     * row group is closed. The pages shall not be referenced after closing their row group.
+     *
+     * @param mode one of {@code none}, {@code heap} or {@code direct}
+     * @return this builder for method chaining
+     * @see org.apache.parquet.hadoop.ParquetInputFormat#DECOMPRESSION_BUFFER_POOL
+     */
+    public Builder withDecompressionBufferPool(String mode) {
+      this.decompressionBufferPool = checkDecompressionBufferPool(mode);
+      return this;
+    }
+
     public Builder useColumnIndexFilter(boolean useColumnIndexFilter) {
       this.useColumnIndexFilter = useColumnIndexFilter;
       return this;
@@ -443,6 +714,15 @@ public class ParquetReadOptions {
       withPageChecksumVerification(options.usePageChecksumVerification);
       withDecryption(options.fileDecryptionProperties);
       withMetricsCallback(options.metricsCallback);
+      withReadRangeMaxGap(options.readRangeMaxGap);
+      withReadRangeMaxMergedSize(options.readRangeMaxMergedSize);
+      withReadRangeMinSize(options.readRangeMinSize);
+      withTailReadSize(options.tailReadSize);
+      withStreamingRead(options.useStreamingRead);
+      withStreamingReadAheadSize(options.streamingReadAheadSize);
+      withPageCache(options.usePageCache);
+      withPageCacheOffHeap(options.pageCacheOffHeap);
+      withDecompressionBufferPool(options.decompressionBufferPool);
       conf = options.conf;
       for (Map.Entry<String, String> keyValue : options.properties.entrySet()) {
         set(keyValue.getKey(), keyValue.getValue());
@@ -477,7 +757,16 @@ public class ParquetReadOptions {
           properties,
           fileDecryptionProperties,
           metricsCallback,
-          conf);
+          conf,
+          readRangeMaxGap,
+          readRangeMaxMergedSize,
+          readRangeMinSize,
+          tailReadSize,
+          useStreamingRead,
+          streamingReadAheadSize,
+          usePageCache,
+          pageCacheOffHeap,
+          decompressionBufferPool);
     }
   }
 }
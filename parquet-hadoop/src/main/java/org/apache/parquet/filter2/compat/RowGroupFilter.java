@@ -32,6 +32,8 @@ import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.filter2.predicate.SchemaCompatibilityValidator;
 import org.apache.parquet.filter2.statisticslevel.StatisticsFilter;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileReaderMetrics;
+import org.apache.parquet.hadoop.ParquetMetricsCallback;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.schema.MessageType;
 
@@ -45,6 +47,7 @@ public class RowGroupFilter implements Visitor<List<BlockMetaData>> {
   private final MessageType schema;
   private final List<FilterLevel> levels;
   private final ParquetFileReader reader;
+  private final ParquetMetricsCallback metricsCallback;
 
   public enum FilterLevel {
     STATISTICS,
@@ -67,8 +70,25 @@ public class RowGroupFilter implements Visitor<List<BlockMetaData>> {
 
   public static List<BlockMetaData> filterRowGroups(
       List<FilterLevel> levels, Filter filter, List<BlockMetaData> blocks, ParquetFileReader reader) {
+    return filterRowGroups(levels, filter, blocks, reader, null);
+  }
+
+  /**
+   * @param levels          the filter levels to apply
+   * @param filter          a filter
+   * @param blocks          a list of block metadata to filter
+   * @param reader          the reader of the file the blocks belong to
+   * @param metricsCallback the callback the number of row groups dropped by each level is reported to; might be null
+   * @return a filtered list of block metadata
+   */
+  public static List<BlockMetaData> filterRowGroups(
+      List<FilterLevel> levels,
+      Filter filter,
+      List<BlockMetaData> blocks,
+      ParquetFileReader reader,
+      ParquetMetricsCallback metricsCallback) {
     Objects.requireNonNull(filter, "filter cannot be null");
-    return filter.accept(new RowGroupFilter(levels, blocks, reader));
+    return filter.accept(new RowGroupFilter(levels, blocks, reader, metricsCallback));
   }
 
   @Deprecated
@@ -77,13 +97,19 @@ public class RowGroupFilter implements Visitor<List<BlockMetaData>> {
     this.schema = Objects.requireNonNull(schema, "schema cannnot be null");
     this.levels = Collections.singletonList(FilterLevel.STATISTICS);
     this.reader = null;
+    this.metricsCallback = null;
   }
 
-  private RowGroupFilter(List<FilterLevel> levels, List<BlockMetaData> blocks, ParquetFileReader reader) {
+  private RowGroupFilter(
+      List<FilterLevel> levels,
+      List<BlockMetaData> blocks,
+      ParquetFileReader reader,
+      ParquetMetricsCallback metricsCallback) {
     this.blocks = Objects.requireNonNull(blocks, "blocks cannnot be null");
     this.reader = Objects.requireNonNull(reader, "reader cannnot be null");
     this.schema = reader.getFileMetaData().getSchema();
     this.levels = levels;
+    this.metricsCallback = metricsCallback;
   }
 
   @Override
@@ -94,23 +120,35 @@ public class RowGroupFilter implements Visitor<List<BlockMetaData>> {
     SchemaCompatibilityValidator.validate(filterPredicate, schema);
 
     List<BlockMetaData> filteredBlocks = new ArrayList<BlockMetaData>();
+    int droppedByStatistics = 0;
+    int droppedByDictionary = 0;
+    int droppedByBloomFilter = 0;
 
     for (BlockMetaData block : blocks) {
       boolean drop = false;
 
       if (levels.contains(FilterLevel.STATISTICS)) {
         drop = StatisticsFilter.canDrop(filterPredicate, block.getColumns());
+        if (drop) {
+          ++droppedByStatistics;
+        }
       }
 
       if (!drop && levels.contains(FilterLevel.DICTIONARY)) {
         try (DictionaryPageReadStore dictionaryPageReadStore = reader.getDictionaryReader(block)) {
           drop = DictionaryFilter.canDrop(filterPredicate, block.getColumns(), dictionaryPageReadStore);
         }
+        if (drop) {
+          ++droppedByDictionary;
+        }
       }
 
       if (!drop && levels.contains(FilterLevel.BLOOMFILTER)) {
         drop = BloomFilterImpl.canDrop(
             filterPredicate, block.getColumns(), reader.getBloomFilterDataReader(block));
+        if (drop) {
+          ++droppedByBloomFilter;
+        }
       }
 
       if (!drop) {
@@ -118,6 +156,16 @@ public class RowGroupFilter implements Visitor<List<BlockMetaData>> {
       }
     }
 
+    if (metricsCallback != null) {
+      metricsCallback.setValueLong(
+          ParquetFileReaderMetrics.RowGroupsDroppedByStatistics.name(), droppedByStatistics);
+      metricsCallback.setValueLong(
+          ParquetFileReaderMetrics.RowGroupsDroppedByDictionary.name(), droppedByDictionary);
+      metricsCallback.setValueLong(
+          ParquetFileReaderMetrics.RowGroupsDroppedByBloomFilter.name(), droppedByBloomFilter);
+      metricsCallback.setValueLong(ParquetFileReaderMetrics.RowGroupsKept.name(), filteredBlocks.size());
+    }
+
     return filteredBlocks;
   }
 
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.filter2.statisticslevel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators.And;
+import org.apache.parquet.filter2.predicate.Operators.Column;
+import org.apache.parquet.filter2.predicate.Operators.Eq;
+import org.apache.parquet.filter2.predicate.Operators.Gt;
+import org.apache.parquet.filter2.predicate.Operators.GtEq;
+import org.apache.parquet.filter2.predicate.Operators.In;
+import org.apache.parquet.filter2.predicate.Operators.LogicalNotUserDefined;
+import org.apache.parquet.filter2.predicate.Operators.Lt;
+import org.apache.parquet.filter2.predicate.Operators.LtEq;
+import org.apache.parquet.filter2.predicate.Operators.Not;
+import org.apache.parquet.filter2.predicate.Operators.NotEq;
+import org.apache.parquet.filter2.predicate.Operators.NotIn;
+import org.apache.parquet.filter2.predicate.Operators.Or;
+import org.apache.parquet.filter2.predicate.Operators.UserDefined;
+import org.apache.parquet.filter2.predicate.UserDefinedPredicate;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+
+/**
+ * Applies a {@link org.apache.parquet.filter2.predicate.FilterPredicate} to statistics about a group of records to
+ * decide whether all the records match it; the counterpart of {@link StatisticsFilter}.
+ * <p>
+ * The nulls are handled the same way as by the record level filter: e.g. {@code lt(column, 5)} does not match the
+ * nulls while {@code notEq(column, 5)} does.
+ * <p>
+ * Note: the supplied predicate must be run through
+ * {@link org.apache.parquet.filter2.predicate.LogicalInverseRewriter} first as the not() operator is not supported
+ * by this filter.
+ * <p>
+ * Returns true if all the records represented by the statistics in the provided column metadata match the predicate,
+ * false otherwise (including when it is not known).
+ */
+public class StatisticsAllMatchFilter implements FilterPredicate.Visitor<Boolean> {
+
+  private static final boolean ALL_MATCH = true;
+  private static final boolean MIGHT_NOT_MATCH = false;
+
+  public static boolean allMatch(FilterPredicate pred, List<ColumnChunkMetaData> columns) {
+    Objects.requireNonNull(pred, "pred cannot be null");
+    Objects.requireNonNull(columns, "columns cannot be null");
+    return pred.accept(new StatisticsAllMatchFilter(columns));
+  }
+
+  private final Map<ColumnPath, ColumnChunkMetaData> columns = new HashMap<>();
+
+  private StatisticsAllMatchFilter(List<ColumnChunkMetaData> columnsList) {
+    for (ColumnChunkMetaData chunk : columnsList) {
+      columns.put(chunk.getPath(), chunk);
+    }
+  }
+
+  /**
+   * @return the statistics of the column chunk if they contain the null count and the min/max values (unless all the
+   * values are null); {@code null} otherwise
+   */
+  private static <T extends Comparable<T>> Statistics<T> usableStatistics(ColumnChunkMetaData meta) {
+    Statistics<T> stats = meta.getStatistics();
+    if (stats == null || stats.isEmpty() || !stats.isNumNullsSet()) {
+      return null;
+    }
+    if (!isAllNulls(meta, stats) && !stats.hasNonNullValue()) {
+      return null;
+    }
+    return stats;
+  }
+
+  private static boolean isAllNulls(ColumnChunkMetaData meta, Statistics<?> stats) {
+    return stats.getNumNulls() == meta.getValueCount();
+  }
+
+  private static boolean hasNulls(Statistics<?> stats) {
+    return stats.getNumNulls() > 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(Eq<T> eq) {
+    ColumnChunkMetaData meta = columns.get(eq.getColumn().getColumnPath());
+    T value = eq.getValue();
+    if (meta == null) {
+      // the column isn't in this file so all values are null
+      return value == null;
+    }
+    Statistics<T> stats = usableStatistics(meta);
+    if (stats == null) {
+      return MIGHT_NOT_MATCH;
+    }
+    if (value == null) {
+      return isAllNulls(meta, stats);
+    }
+    return !hasNulls(stats) && stats.compareMinToValue(value) == 0 && stats.compareMaxToValue(value) == 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(NotEq<T> notEq) {
+    ColumnChunkMetaData meta = columns.get(notEq.getColumn().getColumnPath());
+    T value = notEq.getValue();
+    if (meta == null) {
+      return value != null;
+    }
+    Statistics<T> stats = usableStatistics(meta);
+    if (stats == null) {
+      return MIGHT_NOT_MATCH;
+    }
+    if (value == null) {
+      return !hasNulls(stats);
+    }
+    // the nulls match notEq(someNonNull)
+    return isAllNulls(meta, stats) || stats.compareMinToValue(value) > 0 || stats.compareMaxToValue(value) < 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(Lt<T> lt) {
+    Statistics<T> stats = nonNullStatistics(lt.getColumn());
+    return stats != null && stats.compareMaxToValue(lt.getValue()) < 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(LtEq<T> ltEq) {
+    Statistics<T> stats = nonNullStatistics(ltEq.getColumn());
+    return stats != null && stats.compareMaxToValue(ltEq.getValue()) <= 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(Gt<T> gt) {
+    Statistics<T> stats = nonNullStatistics(gt.getColumn());
+    return stats != null && stats.compareMinToValue(gt.getValue()) > 0;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(GtEq<T> gtEq) {
+    Statistics<T> stats = nonNullStatistics(gtEq.getColumn());
+    return stats != null && stats.compareMinToValue(gtEq.getValue()) >= 0;
+  }
+
+  /**
+   * @return the statistics of the column chunk if they are usable and there are no nulls, which never match the
+   * inequality predicates; {@code null} otherwise
+   */
+  private <T extends Comparable<T>> Statistics<T> nonNullStatistics(Column<T> column) {
+    ColumnChunkMetaData meta = columns.get(column.getColumnPath());
+    if (meta == null) {
+      return null;
+    }
+    Statistics<T> stats = usableStatistics(meta);
+    return stats == null || hasNulls(stats) ? null : stats;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(In<T> in) {
+    ColumnChunkMetaData meta = columns.get(in.getColumn().getColumnPath());
+    Set<T> values = in.getValues();
+    if (meta == null) {
+      return values.contains(null);
+    }
+    Statistics<T> stats = usableStatistics(meta);
+    if (stats == null) {
+      return MIGHT_NOT_MATCH;
+    }
+    if (values.contains(null)) {
+      // only the nulls match a set containing null
+      return isAllNulls(meta, stats);
+    }
+    if (hasNulls(stats) || stats.compareMinToValue(stats.genericGetMax()) != 0) {
+      return MIGHT_NOT_MATCH;
+    }
+    for (T value : values) {
+      if (stats.compareMinToValue(value) == 0) {
+        return ALL_MATCH;
+      }
+    }
+    return MIGHT_NOT_MATCH;
+  }
+
+  @Override
+  public <T extends Comparable<T>> Boolean visit(NotIn<T> notIn) {
+    ColumnChunkMetaData meta = columns.get(notIn.getColumn().getColumnPath());
+    Set<T> values = notIn.getValues();
+    if (meta == null) {
+      return !values.contains(null);
+    }
+    Statistics<T> stats = usableStatistics(meta);
+    if (stats == null) {
+      return MIGHT_NOT_MATCH;
+    }
+    if (values.contains(null)) {
+      // only the non-null values match a set containing null
+      return !hasNulls(stats);
+    }
+    if (isAllNulls(meta, stats)) {
+      return ALL_MATCH;
+    }
+    for (T value : values) {
+      if (stats.compareMinToValue(value) <= 0 && stats.compareMaxToValue(value) >= 0) {
+        return MIGHT_NOT_MATCH;
+      }
+    }
+    return ALL_MATCH;
+  }
+
+  @Override
+  public Boolean visit(And and) {
+    return and.getLeft().accept(this) && and.getRight().accept(this);
+  }
+
+  @Override
+  public Boolean visit(Or or) {
+    return or.getLeft().accept(this) || or.getRight().accept(this);
+  }
+
+  @Override
+  public Boolean visit(Not not) {
+    throw new IllegalArgumentException(
+        "This predicate contains a not! Did you forget to run this predicate through LogicalInverseRewriter? "
+            + not);
+  }
+
+  @Override
+  public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Boolean visit(UserDefined<T, U> udp) {
+    return MIGHT_NOT_MATCH;
+  }
+
+  @Override
+  public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Boolean visit(LogicalNotUserDefined<T, U> udp) {
+    return MIGHT_NOT_MATCH;
+  }
+}
@@ -117,6 +117,7 @@ import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.DistinctCountSketches;
 import org.apache.parquet.hadoop.metadata.FileMetaData.EncryptionType;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.internal.column.columnindex.BinaryTruncator;
@@ -1755,6 +1756,9 @@ public class ParquetMetadataConverter {
         keyValueMetaData.put(keyValue.key, keyValue.value);
       }
     }
+    if (fileDecryptor == null) {
+      DistinctCountSketches.readSketches(keyValueMetaData, blocks);
+    }
     EncryptionType encryptionType;
     if (encryptedFooter) {
       encryptionType = EncryptionType.ENCRYPTED_FOOTER;
@@ -19,6 +19,7 @@
 package org.apache.parquet.hadoop;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -36,9 +37,13 @@ import org.apache.hadoop.util.ReflectionUtils;
 import org.apache.parquet.Preconditions;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.bytes.SizeClassedByteBufferPool;
 import org.apache.parquet.compression.CompressionCodecFactory;
 import org.apache.parquet.conf.HadoopParquetConfiguration;
 import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.hadoop.codec.CleanUtil;
 import org.apache.parquet.hadoop.codec.ZstandardCodec;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.hadoop.util.ConfigurationUtil;
@@ -128,6 +133,33 @@ public class CodecFactory implements CompressionCodecFactory {
     this.pageSize = pageSize;
   }
 
+  /**
+   * Returns the process-wide pool of decompression output buffers. The pool is shared by every reader of this JVM that
+   * has the decompression buffer pool enabled, so the buffers of the pages of a row group can be reused by the next
+   * row groups or by other readers instead of being re-allocated. Its retained capacity can be tuned by
+   * {@link SizeClassedByteBufferPool#setMaxRetainedBytes(long)} and its usage is exposed by its getters.
+   *
+   * @param direct whether the pool of direct or the pool of heap buffers is to be returned
+   * @return the shared decompression buffer pool
+   * @see org.apache.parquet.ParquetReadOptions#getDecompressionBufferPool()
+   */
+  public static SizeClassedByteBufferPool getDecompressionBufferPool(boolean direct) {
+    return direct ? DecompressionBufferPools.DIRECT : DecompressionBufferPools.HEAP;
+  }
+
+  private static final class DecompressionBufferPools {
+    private static final SizeClassedByteBufferPool HEAP =
+        new SizeClassedByteBufferPool(new HeapByteBufferAllocator());
+    private static final SizeClassedByteBufferPool DIRECT =
+        new SizeClassedByteBufferPool(new DirectByteBufferAllocator() {
+          @Override
+          public void release(ByteBuffer b) {
+            // Free the buffers dropped by the pool right away instead of waiting for the GC
+            CleanUtil.cleanDirectBuffer(b);
+          }
+        });
+  }
+
   /**
    * Create a codec factory that will provide compressors and decompressors
    * that will work natively with ByteBuffers backed by direct memory.
@@ -152,6 +184,16 @@ public class CodecFactory implements CompressionCodecFactory {
     return new DirectCodecFactory(config, allocator, pageSize);
   }
 
+  /**
+   * The decompressors of a factory are not thread-safe and are reused for all the column chunks of a given codec, so
+   * readers used concurrently need a factory of their own.
+   *
+   * @return a new factory with the same configuration as this one
+   */
+  CodecFactory newInstance() {
+    return new CodecFactory(conf, pageSize);
+  }
+
   class HeapBytesDecompressor extends BytesDecompressor {
 
     private final CompressionCodec codec;
@@ -191,9 +233,34 @@ public class CodecFactory implements CompressionCodecFactory {
       int origLimit = input.limit();
       int origPosition = input.position();
       input.limit(origPosition + compressedSize);
-      ByteBuffer decompressed =
-          decompress(BytesInput.from(input), decompressedSize).toByteBuffer();
-      output.put(decompressed);
+      if (output.hasArray()) {
+        // Decompress directly into the output array so no intermediate buffer is allocated for the page
+        Preconditions.checkArgument(
+            output.remaining() >= decompressedSize, "Not enough space available in the output buffer");
+        if (decompressor != null) {
+          decompressor.reset();
+        }
+        try (InputStream is =
+            codec.createInputStream(BytesInput.from(input).toInputStream(), decompressor)) {
+          byte[] out = output.array();
+          int offset = output.arrayOffset() + output.position();
+          int remaining = decompressedSize;
+          while (remaining > 0) {
+            int n = is.read(out, offset, remaining);
+            if (n < 0) {
+              throw new EOFException(
+                  "Reached the end of stream with " + remaining + " bytes left to read");
+            }
+            offset += n;
+            remaining -= n;
+          }
+        }
+        output.position(output.position() + decompressedSize);
+      } else {
+        ByteBuffer decompressed =
+            decompress(BytesInput.from(input), decompressedSize).toByteBuffer();
+        output.put(decompressed);
+      }
       input.limit(origLimit);
       input.position(origPosition + compressedSize);
     }
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.ByteBufferReleaser;
 import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.bytes.SizeClassedByteBufferPool;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.page.DataPage;
 import org.apache.parquet.column.page.DataPageV1;
@@ -43,9 +45,11 @@ import org.apache.parquet.compression.CompressionCodecFactory.BytesInputDecompre
 import org.apache.parquet.crypto.AesCipher;
 import org.apache.parquet.crypto.ModuleCipherFactory.ModuleType;
 import org.apache.parquet.format.BlockCipher;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.io.ParquetDecodingException;
+import org.apache.parquet.util.AutoCloseables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,13 +66,15 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
    * several pages, which are yielded one by one in order.
    * <p>
    * This implementation is provided with a list of pages, each of which
-   * is decompressed and passed through.
+   * is decompressed and passed through. The pages might also be provided lazily
+   * so they are read from the file only when the column reader gets to them.
    */
   static final class ColumnChunkPageReader implements PageReader {
 
+    private final String column;
     private final BytesInputDecompressor decompressor;
     private final long valueCount;
-    private final Queue<DataPage> compressedPages;
+    private final Iterator<DataPage> compressedPages;
     private final DictionaryPage compressedDictionaryPage;
     // null means no page synchronization is required; firstRowIndex will not be returned by the pages
     private final OffsetIndex offsetIndex;
@@ -80,8 +86,16 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
     private final byte[] dataPageAAD;
     private final byte[] dictionaryPageAAD;
     private final ByteBufferReleaser releaser;
+    // null if the decompressed pages are not pooled
+    private final SizeClassedByteBufferPool bufferPool;
+    private final ByteBufferReleaser pooledReleaser;
+    // null if the pages are not to be added to the page cache
+    private DecompressedPageCache.Recorder cacheRecorder;
+    // null if the pages are not read lazily from the file
+    private final AutoCloseable pageSource;
 
     ColumnChunkPageReader(
+        ColumnDescriptor descriptor,
         BytesInputDecompressor decompressor,
         List<DataPage> compressedPages,
         DictionaryPage compressedDictionaryPage,
@@ -92,18 +106,71 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
         int rowGroupOrdinal,
         int columnOrdinal,
         ParquetReadOptions options) {
+      this(
+          descriptor,
+          decompressor,
+          polling(compressedPages),
+          compressedPages.stream().mapToLong(DataPage::getValueCount).sum(),
+          compressedDictionaryPage,
+          offsetIndex,
+          rowCount,
+          blockDecryptor,
+          fileAAD,
+          rowGroupOrdinal,
+          columnOrdinal,
+          options,
+          null);
+    }
+
+    // Removes the pages from the queue as they are read so the compressed pages are not kept in memory after that
+    private static Iterator<DataPage> polling(List<DataPage> pages) {
+      Queue<DataPage> queue = new ArrayDeque<>(pages);
+      return new Iterator<DataPage>() {
+        @Override
+        public boolean hasNext() {
+          return !queue.isEmpty();
+        }
+
+        @Override
+        public DataPage next() {
+          return queue.remove();
+        }
+      };
+    }
+
+    /**
+     * @param compressedPages the pages of the column chunk; they are pulled one at a time as they are read so they
+     *                        might be loaded lazily
+     * @param valueCount      the number of values in all the pages
+     * @param pageSource      closed with the row group to release the buffers the pages were read into; might be
+     *                        null
+     */
+    ColumnChunkPageReader(
+        ColumnDescriptor descriptor,
+        BytesInputDecompressor decompressor,
+        Iterator<DataPage> compressedPages,
+        long valueCount,
+        DictionaryPage compressedDictionaryPage,
+        OffsetIndex offsetIndex,
+        long rowCount,
+        BlockCipher.Decryptor blockDecryptor,
+        byte[] fileAAD,
+        int rowGroupOrdinal,
+        int columnOrdinal,
+        ParquetReadOptions options,
+        AutoCloseable pageSource) {
+      this.column = ColumnPath.get(descriptor.getPath()).toDotString();
       this.decompressor = decompressor;
-      this.compressedPages = new ArrayDeque<DataPage>(compressedPages);
+      this.compressedPages = compressedPages;
       this.compressedDictionaryPage = compressedDictionaryPage;
-      long count = 0;
-      for (DataPage p : compressedPages) {
-        count += p.getValueCount();
-      }
-      this.valueCount = count;
+      this.valueCount = valueCount;
       this.offsetIndex = offsetIndex;
       this.rowCount = rowCount;
       this.options = options;
       this.releaser = new ByteBufferReleaser(options.getAllocator());
+      this.bufferPool = options.getDecompressionBufferPool();
+      this.pooledReleaser = bufferPool == null ? null : new ByteBufferReleaser(bufferPool);
+      this.pageSource = pageSource;
       this.blockDecryptor = blockDecryptor;
       if (null != blockDecryptor) {
         dataPageAAD =
@@ -129,12 +196,43 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
       return valueCount;
     }
 
+    /**
+     * The buffers of the pages are handed back to the allocator or to the decompression buffer pool when the row group
+     * is closed so they might be reused by others afterwards. Heap buffers not pooled are left to the garbage collector,
+     * direct ones are released.
+     */
+    @Override
+    public boolean hasScopedBuffers() {
+      return bufferPool != null || options.getAllocator().isDirect();
+    }
+
+    /**
+     * Records the decompressed pages so the column chunk is added to the page cache once all of its pages are read.
+     */
+    void recordInto(DecompressedPageCache cache, DecompressedPageCache.Key key, boolean offHeap) {
+      this.cacheRecorder = cache.newRecorder(key, valueCount, compressedDictionaryPage != null, offHeap);
+    }
+
     @Override
     public DataPage readPage() {
-      final DataPage compressedPage = compressedPages.poll();
-      if (compressedPage == null) {
+      if (!compressedPages.hasNext()) {
         return null;
       }
+      DataPage page = decompress(compressedPages.next());
+      if (cacheRecorder != null) {
+        page = cacheRecorder.record(page);
+        if (!compressedPages.hasNext()) {
+          if (cacheRecorder.needsDictionary()) {
+            readDictionaryPage();
+          }
+          cacheRecorder.complete();
+          cacheRecorder = null;
+        }
+      }
+      return page;
+    }
+
+    private DataPage decompress(DataPage compressedPage) {
       final int currentPageIndex = pageIndex++;
 
       if (null != blockDecryptor) {
@@ -158,9 +256,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
               }
               long compressedSize = byteBuffer.limit();
 
-              ByteBuffer decompressedBuffer =
-                  options.getAllocator().allocate(dataPageV1.getUncompressedSize());
-              releaser.releaseLater(decompressedBuffer);
+              ByteBuffer decompressedBuffer = allocateDirect(dataPageV1.getUncompressedSize());
               long start = System.nanoTime();
               decompressor.decompress(
                   byteBuffer,
@@ -175,7 +271,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
                 bytes = BytesInput.from(blockDecryptor.decrypt(bytes.toByteArray(), dataPageAAD));
               }
               long start = System.nanoTime();
-              decompressed = decompressor.decompress(bytes, dataPageV1.getUncompressedSize());
+              decompressed = decompressOnHeap(bytes, dataPageV1.getUncompressedSize());
               setDecompressMetrics(bytes, start);
             }
 
@@ -233,9 +329,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
                 int uncompressedSize = Math.toIntExact(dataPageV2.getUncompressedSize()
                     - dataPageV2.getDefinitionLevels().size()
                     - dataPageV2.getRepetitionLevels().size());
-                ByteBuffer decompressedBuffer =
-                    options.getAllocator().allocate(uncompressedSize);
-                releaser.releaseLater(decompressedBuffer);
+                ByteBuffer decompressedBuffer = allocateDirect(uncompressedSize);
                 long start = System.nanoTime();
                 decompressor.decompress(
                     byteBuffer, (int) compressedSize, decompressedBuffer, uncompressedSize);
@@ -255,7 +349,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
                     - dataPageV2.getDefinitionLevels().size()
                     - dataPageV2.getRepetitionLevels().size());
                 long start = System.nanoTime();
-                pageBytes = decompressor.decompress(pageBytes, uncompressedSize);
+                pageBytes = decompressOnHeap(pageBytes, uncompressedSize);
                 setDecompressMetrics(pageBytes, start);
               }
             }
@@ -308,6 +402,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
         metricsCallback.setDuration(ParquetFileReaderMetrics.DecompressTime.name(), time);
         metricsCallback.setValueLong(ParquetFileReaderMetrics.DecompressSize.name(), len);
         metricsCallback.setValueDouble(ParquetFileReaderMetrics.DecompressThroughput.name(), throughput);
+        metricsCallback.setColumnDuration(column, ParquetFileReaderMetrics.ColumnDecompressTime.name(), time);
       }
     }
 
@@ -322,27 +417,71 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
           bytes = BytesInput.from(blockDecryptor.decrypt(bytes.toByteArray(), dictionaryPageAAD));
         }
         long start = System.nanoTime();
+        BytesInput decompressed =
+            decompressor.decompress(bytes, compressedDictionaryPage.getUncompressedSize());
         setDecompressMetrics(bytes, start);
         DictionaryPage decompressedPage = new DictionaryPage(
-            decompressor.decompress(bytes, compressedDictionaryPage.getUncompressedSize()),
+            decompressed,
             compressedDictionaryPage.getDictionarySize(),
             compressedDictionaryPage.getEncoding());
+        final ParquetMetricsCallback metricsCallback = options.getMetricsCallback();
+        if (metricsCallback != null) {
+          metricsCallback.setColumnValueLong(
+              column,
+              ParquetFileReaderMetrics.ColumnDictionarySize.name(),
+              compressedDictionaryPage.getUncompressedSize());
+          metricsCallback.setColumnValueLong(
+              column,
+              ParquetFileReaderMetrics.ColumnDictionaryEntries.name(),
+              compressedDictionaryPage.getDictionarySize());
+        }
         if (compressedDictionaryPage.getCrc().isPresent()) {
           decompressedPage.setCrc(compressedDictionaryPage.getCrc().getAsInt());
         }
-        return decompressedPage;
+        return cacheRecorder == null ? decompressedPage : cacheRecorder.recordDictionary(decompressedPage);
       } catch (IOException e) {
         throw new ParquetDecodingException("Could not decompress dictionary page", e);
       }
     }
 
+    private ByteBuffer allocateDirect(int size) {
+      if (bufferPool != null && bufferPool.isDirect()) {
+        ByteBuffer buffer = bufferPool.allocate(size);
+        pooledReleaser.releaseLater(buffer);
+        return buffer;
+      }
+      ByteBuffer buffer = options.getAllocator().allocate(size);
+      releaser.releaseLater(buffer);
+      return buffer;
+    }
+
+    private BytesInput decompressOnHeap(BytesInput bytes, int decompressedSize) throws IOException {
+      // Only the Hadoop codecs are known to decompress into heap buffers without allocating an intermediate one
+      if (bufferPool == null
+          || bufferPool.isDirect()
+          || !(decompressor instanceof CodecFactory.HeapBytesDecompressor)) {
+        return decompressor.decompress(bytes, decompressedSize);
+      }
+      ByteBuffer input = bytes.toByteBuffer(releaser);
+      ByteBuffer output = bufferPool.allocate(decompressedSize);
+      pooledReleaser.releaseLater(output);
+      decompressor.decompress(input, input.remaining(), output, decompressedSize);
+      output.flip();
+      return BytesInput.from(output);
+    }
+
     private void releaseBuffers() {
       releaser.close();
+      if (pooledReleaser != null) {
+        pooledReleaser.close();
+      }
+      if (pageSource != null) {
+        AutoCloseables.uncheckedClose(pageSource);
+      }
     }
   }
 
-  private final Map<ColumnDescriptor, ColumnChunkPageReader> readers =
-      new HashMap<ColumnDescriptor, ColumnChunkPageReader>();
+  private final Map<ColumnDescriptor, PageReader> readers = new HashMap<ColumnDescriptor, PageReader>();
   private final long rowCount;
   private final long rowIndexOffset;
   private final RowRanges rowRanges;
@@ -398,7 +537,7 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
     return rowRanges == null ? Optional.empty() : Optional.of(rowRanges.iterator());
   }
 
-  void addColumn(ColumnDescriptor path, ColumnChunkPageReader reader) {
+  void addColumn(ColumnDescriptor path, PageReader reader) {
     if (readers.put(path, reader) != null) {
       throw new RuntimeException(path + " was added twice");
     }
@@ -410,8 +549,10 @@ class ColumnChunkPageReadStore implements PageReadStore, DictionaryPageReadStore
 
   @Override
   public void close() {
-    for (ColumnChunkPageReader reader : readers.values()) {
-      reader.releaseBuffers();
+    for (PageReader reader : readers.values()) {
+      if (reader instanceof ColumnChunkPageReader) {
+        ((ColumnChunkPageReader) reader).releaseBuffers();
+      }
     }
     releaser.close();
   }
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.ByteBufferReleaser;
@@ -38,6 +40,7 @@ import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.page.DictionaryPage;
 import org.apache.parquet.column.page.PageWriteStore;
 import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
@@ -88,6 +91,8 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
     private List<Encoding> dataEncodings = new ArrayList<Encoding>();
 
     private BloomFilter bloomFilter;
+    private final List<BloomFilter> pageBloomFilters = new ArrayList<>();
+    private HyperLogLog distinctCountSketch;
     private ColumnIndexBuilder columnIndexBuilder;
     private OffsetIndexBuilder offsetIndexBuilder;
     private Statistics totalStatistics;
@@ -106,6 +111,12 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
     private final byte[] dataPageHeaderAAD;
     private final byte[] fileAAD;
 
+    private final String column;
+    private final boolean dictionaryEnabled;
+    private final ParquetMetricsCallback metricsCallback;
+    private long compressTime;
+    private int dictionaryFallbackPageCount;
+
     private ColumnChunkPageWriter(
         ColumnDescriptor path,
         BytesInputCompressor compressor,
@@ -116,7 +127,9 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
         BlockCipher.Encryptor pageBlockEncryptor,
         byte[] fileAAD,
         int rowGroupOrdinal,
-        int columnOrdinal) {
+        int columnOrdinal,
+        boolean dictionaryEnabled,
+        ParquetMetricsCallback metricsCallback) {
       this.path = path;
       this.compressor = compressor;
       this.releaser = new ByteBufferReleaser(allocator);
@@ -134,6 +147,9 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       this.rowGroupOrdinal = rowGroupOrdinal;
       this.columnOrdinal = columnOrdinal;
       this.pageOrdinal = -1;
+      this.column = ColumnPath.get(path.getPath()).toDotString();
+      this.dictionaryEnabled = dictionaryEnabled;
+      this.metricsCallback = metricsCallback;
       if (null != headerBlockEncryptor) {
         dataPageHeaderAAD = AesCipher.createModuleAAD(
             fileAAD, ModuleType.DataPageHeader, rowGroupOrdinal, columnOrdinal, 0);
@@ -195,7 +211,7 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
         throw new ParquetEncodingException(
             "Cannot write page larger than Integer.MAX_VALUE or negative bytes: " + uncompressedSize);
       }
-      BytesInput compressedBytes = compressor.compress(bytes);
+      BytesInput compressedBytes = compress(bytes);
       if (null != pageBlockEncryptor) {
         AesCipher.quickUpdatePageAAD(dataPageAAD, pageOrdinal);
         compressedBytes =
@@ -253,6 +269,9 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       rlEncodings.add(rlEncoding);
       dlEncodings.add(dlEncoding);
       dataEncodings.add(valuesEncoding);
+      if (dictionaryEnabled && !valuesEncoding.usesDictionary()) {
+        ++dictionaryFallbackPageCount;
+      }
     }
 
     @Override
@@ -296,7 +315,7 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       int dlByteLength = toIntWithCheck(definitionLevels.size());
       int uncompressedSize = toIntWithCheck(data.size() + repetitionLevels.size() + definitionLevels.size());
       // TODO: decide if we compress
-      BytesInput compressedData = compressor.compress(data);
+      BytesInput compressedData = compress(data);
       if (null != pageBlockEncryptor) {
         AesCipher.quickUpdatePageAAD(dataPageAAD, pageOrdinal);
         compressedData = BytesInput.from(pageBlockEncryptor.encrypt(compressedData.toByteArray(), dataPageAAD));
@@ -361,6 +380,19 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       buf.collect(BytesInput.concat(
           BytesInput.from(tempOutputStream), repetitionLevels, definitionLevels, compressedData));
       dataEncodings.add(dataEncoding);
+      if (dictionaryEnabled && !dataEncoding.usesDictionary()) {
+        ++dictionaryFallbackPageCount;
+      }
+    }
+
+    private BytesInput compress(BytesInput bytes) throws IOException {
+      if (metricsCallback == null) {
+        return compressor.compress(bytes);
+      }
+      long start = System.nanoTime();
+      BytesInput compressedBytes = compressor.compress(bytes);
+      compressTime += Math.max(System.nanoTime() - start, 0);
+      return compressedBytes;
     }
 
     private int toIntWithCheck(long size) {
@@ -461,11 +493,52 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
                     dictionaryPage.getDictionarySize())
                 : ""));
       }
+      if (!pageBloomFilters.isEmpty()) {
+        // a Bloom filter is required for every page so the list is aligned with the offset index
+        while (pageBloomFilters.size() < pageCount) {
+          pageBloomFilters.add(null);
+        }
+        writer.addPageBloomFilters(column, pageBloomFilters);
+        pageBloomFilters.clear();
+      }
+      if (distinctCountSketch != null) {
+        writer.addDistinctCountSketch(column, distinctCountSketch);
+        distinctCountSketch = null;
+      }
+      reportMetrics();
       rlEncodings.clear();
       dlEncodings.clear();
       dataEncodings.clear();
       pageCount = 0;
       pageOrdinal = -1;
+      compressTime = 0;
+      dictionaryFallbackPageCount = 0;
+    }
+
+    private void reportMetrics() {
+      if (metricsCallback == null) {
+        return;
+      }
+      metricsCallback.setColumnValueLong(
+          column, ParquetFileWriterMetrics.ColumnEncodedSize.name(), uncompressedLength);
+      metricsCallback.setColumnValueLong(
+          column, ParquetFileWriterMetrics.ColumnCompressedSize.name(), compressedLength);
+      metricsCallback.setColumnValueLong(column, ParquetFileWriterMetrics.ColumnPagesWritten.name(), pageCount);
+      metricsCallback.setColumnDuration(column, ParquetFileWriterMetrics.ColumnCompressTime.name(), compressTime);
+      metricsCallback.setColumnValueLong(
+          column,
+          ParquetFileWriterMetrics.ColumnDictionarySize.name(),
+          dictionaryPage == null ? 0 : dictionaryPage.getUncompressedSize());
+      metricsCallback.setColumnValueLong(
+          column, ParquetFileWriterMetrics.ColumnDictionaryFallbackPages.name(), dictionaryFallbackPageCount);
+      metricsCallback.setColumnValueString(
+          column,
+          ParquetFileWriterMetrics.ColumnCodec.name(),
+          compressor.getCodecName().name());
+      metricsCallback.setColumnValueString(
+          column,
+          ParquetFileWriterMetrics.ColumnEncodings.name(),
+          new TreeSet<>(dataEncodings).stream().map(Encoding::name).collect(Collectors.joining(",")));
     }
 
     @Override
@@ -480,7 +553,7 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       }
       BytesInput dictionaryBytes = dictionaryPage.getBytes();
       int uncompressedSize = (int) dictionaryBytes.size();
-      BytesInput compressedBytes = compressor.compress(dictionaryBytes);
+      BytesInput compressedBytes = compress(dictionaryBytes);
       if (null != pageBlockEncryptor) {
         byte[] dictonaryPageAAD = AesCipher.createModuleAAD(
             fileAAD, ModuleType.DictionaryPage, rowGroupOrdinal, columnOrdinal, -1);
@@ -508,6 +581,20 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
     public void writeBloomFilter(BloomFilter bloomFilter) {
       this.bloomFilter = bloomFilter;
     }
+
+    @Override
+    public void writeDistinctCountSketch(HyperLogLog sketch) {
+      this.distinctCountSketch = sketch;
+    }
+
+    @Override
+    public void writePageBloomFilter(BloomFilter bloomFilter) {
+      // the filter belongs to the page written last; pages without a filter are marked by null
+      while (pageBloomFilters.size() < pageCount - 1) {
+        pageBloomFilters.add(null);
+      }
+      pageBloomFilters.add(bloomFilter);
+    }
   }
 
   private final Map<ColumnDescriptor, ColumnChunkPageWriter> writers =
@@ -571,7 +658,9 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
               null,
               null,
               -1,
-              -1));
+              -1,
+              false,
+              null));
     }
   }
 
@@ -602,6 +691,55 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
       boolean pageWriteChecksumEnabled,
       InternalFileEncryptor fileEncryptor,
       int rowGroupOrdinal) {
+    this(
+        compressor,
+        schema,
+        allocator,
+        columnIndexTruncateLength,
+        pageWriteChecksumEnabled,
+        fileEncryptor,
+        rowGroupOrdinal,
+        null,
+        null);
+  }
+
+  /**
+   * @param compressor      the compressor used to compress the pages
+   * @param schema          the schema of the records
+   * @param props           the properties of the writer
+   * @param fileEncryptor   the encryptor of the file or {@code null} if the file is not encrypted
+   * @param rowGroupOrdinal the ordinal of the row group the pages are written to
+   * @param metricsCallback the callback to report the metrics of the written column chunks to or {@code null}
+   */
+  public ColumnChunkPageWriteStore(
+      BytesInputCompressor compressor,
+      MessageType schema,
+      ParquetProperties props,
+      InternalFileEncryptor fileEncryptor,
+      int rowGroupOrdinal,
+      ParquetMetricsCallback metricsCallback) {
+    this(
+        compressor,
+        schema,
+        props.getAllocator(),
+        props.getColumnIndexTruncateLength(),
+        props.getPageWriteChecksumEnabled(),
+        fileEncryptor,
+        rowGroupOrdinal,
+        props,
+        metricsCallback);
+  }
+
+  private ColumnChunkPageWriteStore(
+      BytesInputCompressor compressor,
+      MessageType schema,
+      ByteBufferAllocator allocator,
+      int columnIndexTruncateLength,
+      boolean pageWriteChecksumEnabled,
+      InternalFileEncryptor fileEncryptor,
+      int rowGroupOrdinal,
+      ParquetProperties props,
+      ParquetMetricsCallback metricsCallback) {
     this.schema = schema;
     if (null == fileEncryptor) {
       for (ColumnDescriptor path : schema.getColumns()) {
@@ -617,7 +755,9 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
                 null,
                 null,
                 -1,
-                -1));
+                -1,
+                isDictionaryEnabled(props, path),
+                metricsCallback));
       }
       return;
     }
@@ -649,7 +789,24 @@ public class ColumnChunkPageWriteStore implements PageWriteStore, BloomFilterWri
               pageBlockEncryptor,
               fileAAD,
               rowGroupOrdinal,
-              columnOrdinal));
+              columnOrdinal,
+              isDictionaryEnabled(props, path),
+              metricsCallback));
+    }
+  }
+
+  private static boolean isDictionaryEnabled(ParquetProperties props, ColumnDescriptor path) {
+    if (props == null || !props.isDictionaryEnabled(path)) {
+      return false;
+    }
+    // boolean columns are never dictionary encoded, fixed length byte arrays only since PARQUET 2.0
+    switch (path.getPrimitiveType().getPrimitiveTypeName()) {
+      case BOOLEAN:
+        return false;
+      case FIXED_LEN_BYTE_ARRAY:
+        return props.getWriterVersion() != ParquetProperties.WriterVersion.PARQUET_1_0;
+      default:
+        return true;
     }
   }
 
@@ -22,8 +22,10 @@ import static java.util.Collections.emptySet;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
@@ -42,6 +44,8 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
     ColumnIndex getColumnIndex();
 
     OffsetIndex getOffsetIndex();
+
+    List<BloomFilter> getPageBloomFilters();
   }
 
   private class IndexStoreImpl implements IndexStore {
@@ -49,6 +53,8 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
     private ColumnIndex columnIndex;
     private boolean columnIndexRead;
     private final OffsetIndex offsetIndex;
+    private List<BloomFilter> pageBloomFilters;
+    private boolean pageBloomFiltersRead;
 
     IndexStoreImpl(ColumnChunkMetaData meta) {
       this.meta = meta;
@@ -86,6 +92,22 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
     public OffsetIndex getOffsetIndex() {
       return offsetIndex;
     }
+
+    @Override
+    public List<BloomFilter> getPageBloomFilters() {
+      if (!pageBloomFiltersRead) {
+        if (usePageBloomFilters) {
+          try {
+            pageBloomFilters = reader.readPageBloomFilters(meta);
+          } catch (IOException e) {
+            // Page Bloom filters are optional; we only skip filtering the pages by them.
+            LOGGER.warn("Unable to read page bloom filters for column {}", meta.getPath(), e);
+          }
+        }
+        pageBloomFiltersRead = true;
+      }
+      return pageBloomFilters;
+    }
   }
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ColumnIndexStoreImpl.class);
@@ -100,20 +122,27 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
     public OffsetIndex getOffsetIndex() {
       return null;
     }
-  };
-  private static final ColumnIndexStoreImpl EMPTY = new ColumnIndexStoreImpl(null, new BlockMetaData(), emptySet()) {
-    @Override
-    public ColumnIndex getColumnIndex(ColumnPath column) {
-      return null;
-    }
 
     @Override
-    public OffsetIndex getOffsetIndex(ColumnPath column) {
-      throw new MissingOffsetIndexException(column);
+    public List<BloomFilter> getPageBloomFilters() {
+      return null;
     }
   };
+  private static final ColumnIndexStoreImpl EMPTY =
+      new ColumnIndexStoreImpl(null, new BlockMetaData(), emptySet(), false) {
+        @Override
+        public ColumnIndex getColumnIndex(ColumnPath column) {
+          return null;
+        }
+
+        @Override
+        public OffsetIndex getOffsetIndex(ColumnPath column) {
+          throw new MissingOffsetIndexException(column);
+        }
+      };
 
   private final ParquetFileReader reader;
+  private final boolean usePageBloomFilters;
   private final Map<ColumnPath, IndexStore> store;
 
   /*
@@ -121,17 +150,28 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
    * of columns used for the projection)
    */
   static ColumnIndexStore create(ParquetFileReader reader, BlockMetaData block, Set<ColumnPath> paths) {
+    return create(reader, block, paths, false);
+  }
+
+  /*
+   * Same as create(reader, block, paths) while the page Bloom filters of the columns are also provided if
+   * usePageBloomFilters is set.
+   */
+  static ColumnIndexStore create(
+      ParquetFileReader reader, BlockMetaData block, Set<ColumnPath> paths, boolean usePageBloomFilters) {
     try {
-      return new ColumnIndexStoreImpl(reader, block, paths);
+      return new ColumnIndexStoreImpl(reader, block, paths, usePageBloomFilters);
     } catch (MissingOffsetIndexException e) {
       return EMPTY;
     }
   }
 
-  private ColumnIndexStoreImpl(ParquetFileReader reader, BlockMetaData block, Set<ColumnPath> paths) {
-    // TODO[GS]: Offset index for every paths will be required; pre-read the consecutive ones at once?
+  private ColumnIndexStoreImpl(
+      ParquetFileReader reader, BlockMetaData block, Set<ColumnPath> paths, boolean usePageBloomFilters) {
+    // The reader prefetches the consecutive indexes of all the paths at once
     // TODO[GS]: Pre-read column index based on filter?
     this.reader = reader;
+    this.usePageBloomFilters = usePageBloomFilters;
     Map<ColumnPath, IndexStore> store = new HashMap<>();
     for (ColumnChunkMetaData column : block.getColumns()) {
       ColumnPath path = column.getPath();
@@ -151,4 +191,9 @@ class ColumnIndexStoreImpl implements ColumnIndexStore {
   public OffsetIndex getOffsetIndex(ColumnPath column) {
     return store.getOrDefault(column, MISSING_INDEX_STORE).getOffsetIndex();
   }
+
+  @Override
+  public List<BloomFilter> getPageBloomFilters(ColumnPath column) {
+    return store.getOrDefault(column, MISSING_INDEX_STORE).getPageBloomFilters();
+  }
 }
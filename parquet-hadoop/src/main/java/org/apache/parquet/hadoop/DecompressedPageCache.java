@@ -0,0 +1,477 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.ParquetDecodingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A process-wide cache of the decompressed pages of column chunks, used by {@link ParquetFileReader} when
+ * {@link ParquetInputFormat#PAGE_CACHE_ENABLED} is set. A column chunk is cached once all of its pages have been read;
+ * later reads of the same chunk are served from memory without reading or decompressing anything. The column chunks
+ * are keyed by the identity of their file (path, length and modification time), their column and their offset in the
+ * file, so only files with such an identity are cached. The least recently used chunks are evicted once the total size
+ * of the cached pages exceeds the capacity.
+ * <p>
+ * The capacity is a setting of the process rather than of the readers: it is read from the
+ * {@link ParquetInputFormat#PAGE_CACHE_SIZE} system property when the cache is first used and can be changed by the
+ * application with {@link #setMaxSize(long)}.
+ * <p>
+ * The cached pages are copies so they do not depend on the lifetime of the row group they were read from. Evicted
+ * pages are left to the garbage collector as readers might still use them.
+ */
+public final class DecompressedPageCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DecompressedPageCache.class);
+
+  private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+  private static final DecompressedPageCache INSTANCE =
+      new DecompressedPageCache(Long.getLong(ParquetInputFormat.PAGE_CACHE_SIZE, DEFAULT_MAX_SIZE));
+
+  /**
+   * @return the cache shared by the readers of the process
+   */
+  public static DecompressedPageCache getInstance() {
+    return INSTANCE;
+  }
+
+  private final LinkedHashMap<Key, CachedColumnChunk> chunks = new LinkedHashMap<>(16, 0.75f, true);
+  private long maxSize;
+  private long size;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  DecompressedPageCache(long maxSize) {
+    setMaxSize(maxSize);
+  }
+
+  /**
+   * Sets the capacity of the cache. The least recently used column chunks are evicted if the cache is larger. As the
+   * cache is shared by all the readers of the process, this is meant to be called by the application, not per reader.
+   *
+   * @param maxSize the maximum number of bytes of the cached pages
+   */
+  public synchronized void setMaxSize(long maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Invalid page cache size: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    evict();
+  }
+
+  public synchronized long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return the number of bytes of the cached pages
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * @return the number of column chunks cached
+   */
+  public synchronized int getColumnChunkCount() {
+    return chunks.size();
+  }
+
+  /**
+   * @return the number of column chunk reads served by the cache
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of column chunk reads not found in the cache
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return the ratio of the column chunk reads served by the cache; 0 if there were no reads
+   */
+  public double getHitRate() {
+    long hitCount = hits.get();
+    long total = hitCount + misses.get();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * @return the number of column chunks evicted to keep the cache in its capacity
+   */
+  public long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /**
+   * Removes all the column chunks from the cache.
+   */
+  public synchronized void clear() {
+    chunks.clear();
+    size = 0;
+  }
+
+  /**
+   * Removes the column chunks of the specified file from the cache, e.g. after it was overwritten.
+   *
+   * @param file the path of the file as returned by {@code HadoopInputFile.getPath().toString()}
+   */
+  public synchronized void invalidate(String file) {
+    Iterator<Map.Entry<Key, CachedColumnChunk>> entries = chunks.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<Key, CachedColumnChunk> entry = entries.next();
+      if (entry.getKey().file.equals(file)) {
+        size -= entry.getValue().size;
+        entries.remove();
+      }
+    }
+  }
+
+  /**
+   * @return a reader of the cached pages of the specified column chunk or {@code null} if it is not cached
+   */
+  PageReader getPageReader(Key key) {
+    CachedColumnChunk chunk;
+    synchronized (this) {
+      chunk = chunks.get(key);
+    }
+    if (chunk == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return chunk.newPageReader();
+  }
+
+  /**
+   * @param key           the column chunk to be recorded
+   * @param valueCount    the number of values in the column chunk
+   * @param hasDictionary whether the column chunk has a dictionary page
+   * @param offHeap       whether the pages shall be copied to direct buffers
+   * @return a recorder of the pages of the column chunk as they are decompressed
+   */
+  Recorder newRecorder(Key key, long valueCount, boolean hasDictionary, boolean offHeap) {
+    return new Recorder(
+        key,
+        valueCount,
+        hasDictionary,
+        offHeap ? new DirectByteBufferAllocator() : new HeapByteBufferAllocator());
+  }
+
+  private synchronized void put(Key key, CachedColumnChunk chunk) {
+    if (chunk.size > maxSize) {
+      return;
+    }
+    CachedColumnChunk previous = chunks.put(key, chunk);
+    size += chunk.size - (previous == null ? 0 : previous.size);
+    evict();
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<Key, CachedColumnChunk>> entries = chunks.entrySet().iterator();
+    while (size > maxSize && entries.hasNext()) {
+      Map.Entry<Key, CachedColumnChunk> eldest = entries.next();
+      LOG.debug("Evicting column chunk from the page cache: {}", eldest.getKey());
+      size -= eldest.getValue().size;
+      entries.remove();
+      evictions.incrementAndGet();
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "DecompressedPageCache{chunks=" + chunks.size() + ", size=" + size + ", maxSize=" + maxSize + ", hits="
+        + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+  }
+
+  /**
+   * Identifies a column chunk of a file.
+   */
+  static final class Key {
+    private final String file;
+    private final long fileLength;
+    private final long modificationTime;
+    private final String column;
+    private final long offset;
+
+    Key(String file, long fileLength, long modificationTime, String column, long offset) {
+      this.file = file;
+      this.fileLength = fileLength;
+      this.modificationTime = modificationTime;
+      this.column = column;
+      this.offset = offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return fileLength == other.fileLength
+          && modificationTime == other.modificationTime
+          && offset == other.offset
+          && file.equals(other.file)
+          && column.equals(other.column);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(file, fileLength, modificationTime, column, offset);
+    }
+
+    @Override
+    public String toString() {
+      return file + ":" + column + "@" + offset;
+    }
+  }
+
+  /**
+   * Collects copies of the pages of a column chunk as they are decompressed and adds the chunk to the cache once all
+   * of its pages have been recorded. The chunk is dropped if it is larger than the capacity of the cache.
+   */
+  final class Recorder {
+    private final Key key;
+    private final long valueCount;
+    private final boolean hasDictionary;
+    private final ByteBufferAllocator allocator;
+    private DictionaryPage dictionary;
+    private List<DataPage> pages = new ArrayList<>();
+    private long recordedSize;
+
+    private Recorder(Key key, long valueCount, boolean hasDictionary, ByteBufferAllocator allocator) {
+      this.key = key;
+      this.valueCount = valueCount;
+      this.hasDictionary = hasDictionary;
+      this.allocator = allocator;
+    }
+
+    /**
+     * @return the page to be used instead of the specified one (its copy if the chunk is still being recorded)
+     */
+    DataPage record(DataPage page) {
+      if (pages == null || !fits(page.getCompressedSize())) {
+        return page;
+      }
+      DataPage copy = copy(page);
+      pages.add(copy);
+      return duplicate(copy);
+    }
+
+    /**
+     * @return the page to be used instead of the specified one (its copy if the chunk is still being recorded)
+     */
+    DictionaryPage recordDictionary(DictionaryPage page) {
+      if (pages == null || dictionary != null || !fits(page.getCompressedSize())) {
+        return page;
+      }
+      dictionary = copy(page);
+      return duplicate(dictionary);
+    }
+
+    boolean needsDictionary() {
+      return pages != null && hasDictionary && dictionary == null;
+    }
+
+    /**
+     * Adds the column chunk to the cache; to be called once all of its pages have been recorded.
+     */
+    void complete() {
+      if (pages != null && (dictionary != null || !hasDictionary)) {
+        put(key, new CachedColumnChunk(dictionary, pages, valueCount, recordedSize));
+      }
+      pages = null;
+    }
+
+    private boolean fits(long pageSize) {
+      recordedSize += pageSize;
+      if (recordedSize > getMaxSize()) {
+        // the chunk would not be kept anyway
+        pages = null;
+        dictionary = null;
+        return false;
+      }
+      return true;
+    }
+
+    private BytesInput copy(BytesInput bytes) {
+      ByteBuffer[] copy = new ByteBuffer[1];
+      bytes.copy(allocator, buffer -> copy[0] = buffer);
+      return BytesInput.from(copy[0]);
+    }
+
+    private DictionaryPage copy(DictionaryPage page) {
+      DictionaryPage copy =
+          new DictionaryPage(copy(page.getBytes()), page.getDictionarySize(), page.getEncoding());
+      if (page.getCrc().isPresent()) {
+        copy.setCrc(page.getCrc().getAsInt());
+      }
+      return copy;
+    }
+
+    private DataPage copy(DataPage page) {
+      DataPage copy = page.accept(new DataPage.Visitor<DataPage>() {
+        @Override
+        public DataPage visit(DataPageV1 page) {
+          return new DataPageV1(
+              copy(page.getBytes()),
+              page.getValueCount(),
+              page.getUncompressedSize(),
+              page.getStatistics(),
+              page.getRlEncoding(),
+              page.getDlEncoding(),
+              page.getValueEncoding());
+        }
+
+        @Override
+        public DataPage visit(DataPageV2 page) {
+          return DataPageV2.uncompressed(
+              page.getRowCount(),
+              page.getNullCount(),
+              page.getValueCount(),
+              copy(page.getRepetitionLevels()),
+              copy(page.getDefinitionLevels()),
+              page.getDataEncoding(),
+              copy(page.getData()),
+              page.getStatistics());
+        }
+      });
+      if (page.getCrc().isPresent()) {
+        copy.setCrc(page.getCrc().getAsInt());
+      }
+      return copy;
+    }
+  }
+
+  // The pages handed out are backed by duplicates of the cached buffers so their readers cannot move the cached ones
+  private static BytesInput duplicate(BytesInput bytes) {
+    try {
+      // slices the cached buffer without copying it
+      return BytesInput.from(bytes.toByteBuffer());
+    } catch (IOException e) {
+      throw new ParquetDecodingException("Could not read cached page", e);
+    }
+  }
+
+  private static DictionaryPage duplicate(DictionaryPage page) {
+    DictionaryPage duplicate =
+        new DictionaryPage(duplicate(page.getBytes()), page.getDictionarySize(), page.getEncoding());
+    if (page.getCrc().isPresent()) {
+      duplicate.setCrc(page.getCrc().getAsInt());
+    }
+    return duplicate;
+  }
+
+  private static DataPage duplicate(DataPage page) {
+    DataPage duplicate = page.accept(new DataPage.Visitor<DataPage>() {
+      @Override
+      public DataPage visit(DataPageV1 page) {
+        return new DataPageV1(
+            duplicate(page.getBytes()),
+            page.getValueCount(),
+            page.getUncompressedSize(),
+            page.getStatistics(),
+            page.getRlEncoding(),
+            page.getDlEncoding(),
+            page.getValueEncoding());
+      }
+
+      @Override
+      public DataPage visit(DataPageV2 page) {
+        return DataPageV2.uncompressed(
+            page.getRowCount(),
+            page.getNullCount(),
+            page.getValueCount(),
+            duplicate(page.getRepetitionLevels()),
+            duplicate(page.getDefinitionLevels()),
+            page.getDataEncoding(),
+            duplicate(page.getData()),
+            page.getStatistics());
+      }
+    });
+    if (page.getCrc().isPresent()) {
+      duplicate.setCrc(page.getCrc().getAsInt());
+    }
+    return duplicate;
+  }
+
+  private static final class CachedColumnChunk {
+    private final DictionaryPage dictionary;
+    private final List<DataPage> pages;
+    private final long valueCount;
+    private final long size;
+
+    private CachedColumnChunk(DictionaryPage dictionary, List<DataPage> pages, long valueCount, long size) {
+      this.dictionary = dictionary;
+      this.pages = pages;
+      this.valueCount = valueCount;
+      this.size = size;
+    }
+
+    private PageReader newPageReader() {
+      return new PageReader() {
+        private int nextPage;
+
+        @Override
+        public DictionaryPage readDictionaryPage() {
+          return dictionary == null ? null : duplicate(dictionary);
+        }
+
+        @Override
+        public long getTotalValueCount() {
+          return valueCount;
+        }
+
+        @Override
+        public DataPage readPage() {
+          return nextPage < pages.size() ? duplicate(pages.get(nextPage++)) : null;
+        }
+      };
+    }
+  }
+}
@@ -95,6 +95,11 @@ class DirectCodecFactory extends CodecFactory implements AutoCloseable {
         getClass().getSimpleName());
   }
 
+  @Override
+  CodecFactory newInstance() {
+    return new DirectCodecFactory(configuration, allocator, pageSize);
+  }
+
   @Override
   protected BytesCompressor createCompressor(final CompressionCodecName codecName) {
     switch (codecName) {
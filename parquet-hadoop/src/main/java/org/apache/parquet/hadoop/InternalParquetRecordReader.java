@@ -83,6 +83,9 @@ class InternalParquetRecordReader<T> {
 
   private UnmaterializableRecordCounter unmaterializableRecordCounter;
   private PageReadStore currentRowGroup;
+  private ParquetMetricsCallback metricsCallback;
+  private long startedAssemblingCurrentBlockAtNanos;
+  private long recordsFilteredOutOfCurrentBlock;
 
   /**
    * @param readSupport Object which helps reads files of the given type, e.g. Thrift, Avro.
@@ -132,6 +135,7 @@ class InternalParquetRecordReader<T> {
       }
 
       if (currentRowGroup != null) {
+        reportRowGroupMetrics();
         currentRowGroup.close();
       }
 
@@ -156,13 +160,26 @@ class InternalParquetRecordReader<T> {
       recordReader = columnIO.getRecordReader(
           currentRowGroup, recordConverter, filterRecords ? filter : FilterCompat.NOOP);
       startedAssemblingCurrentBlockAt = System.currentTimeMillis();
+      startedAssemblingCurrentBlockAtNanos = System.nanoTime();
+      recordsFilteredOutOfCurrentBlock = 0;
       totalCountLoadedSoFar += currentRowGroup.getRowCount();
       ++currentBlock;
     }
   }
 
+  private void reportRowGroupMetrics() {
+    if (metricsCallback != null) {
+      metricsCallback.setDuration(
+          ParquetFileReaderMetrics.RecordAssemblyTime.name(),
+          Math.max(System.nanoTime() - startedAssemblingCurrentBlockAtNanos, 0));
+      metricsCallback.setValueLong(
+          ParquetFileReaderMetrics.RecordsFilteredOut.name(), recordsFilteredOutOfCurrentBlock);
+    }
+  }
+
   public void close() throws IOException {
     if (currentRowGroup != null) {
+      reportRowGroupMetrics();
       currentRowGroup.close();
     }
     if (reader != null) {
@@ -207,6 +224,7 @@ class InternalParquetRecordReader<T> {
     this.total = reader.getFilteredRecordCount();
     this.unmaterializableRecordCounter = new UnmaterializableRecordCounter(options, total);
     this.filterRecords = options.useRecordFilter();
+    this.metricsCallback = options.getMetricsCallback();
     LOG.info("RecordReader initialized will read a total of {} records.", total);
   }
 
@@ -262,6 +280,7 @@ class InternalParquetRecordReader<T> {
         if (recordReader.shouldSkipCurrentRecord()) {
           // this record is being filtered via the filter2 package
           LOG.debug("skipping record");
+          ++recordsFilteredOutOfCurrentBlock;
           continue;
         }
 
@@ -54,6 +54,7 @@ class InternalParquetRecordWriter<T> {
   private final BytesInputCompressor compressor;
   private final boolean validating;
   private final ParquetProperties props;
+  private final ParquetMetricsCallback metricsCallback;
 
   private boolean closed;
 
@@ -87,6 +88,28 @@ class InternalParquetRecordWriter<T> {
       BytesInputCompressor compressor,
       boolean validating,
       ParquetProperties props) {
+    this(parquetFileWriter, writeSupport, schema, extraMetaData, rowGroupSize, compressor, validating, props, null);
+  }
+
+  /**
+   * @param parquetFileWriter the file to write to
+   * @param writeSupport      the class to convert incoming records
+   * @param schema            the schema of the records
+   * @param extraMetaData     extra meta data to write in the footer of the file
+   * @param rowGroupSize      the size of a block in the file (this will be approximate)
+   * @param compressor        the codec used to compress
+   * @param metricsCallback   the callback to report the write metrics to or {@code null}
+   */
+  public InternalParquetRecordWriter(
+      ParquetFileWriter parquetFileWriter,
+      WriteSupport<T> writeSupport,
+      MessageType schema,
+      Map<String, String> extraMetaData,
+      long rowGroupSize,
+      BytesInputCompressor compressor,
+      boolean validating,
+      ParquetProperties props,
+      ParquetMetricsCallback metricsCallback) {
     this.parquetFileWriter = parquetFileWriter;
     this.writeSupport = Objects.requireNonNull(writeSupport, "writeSupport cannot be null");
     this.schema = schema;
@@ -97,6 +120,7 @@ class InternalParquetRecordWriter<T> {
     this.compressor = compressor;
     this.validating = validating;
     this.props = props;
+    this.metricsCallback = metricsCallback;
     this.fileEncryptor = parquetFileWriter.getEncryptor();
     this.rowGroupOrdinal = 0;
     initStore();
@@ -109,13 +133,7 @@ class InternalParquetRecordWriter<T> {
 
   private void initStore() {
     ColumnChunkPageWriteStore columnChunkPageWriteStore = new ColumnChunkPageWriteStore(
-        compressor,
-        schema,
-        props.getAllocator(),
-        props.getColumnIndexTruncateLength(),
-        props.getPageWriteChecksumEnabled(),
-        fileEncryptor,
-        rowGroupOrdinal);
+        compressor, schema, props, fileEncryptor, rowGroupOrdinal, metricsCallback);
     pageStore = columnChunkPageWriteStore;
     bloomFilterWriteStore = columnChunkPageWriteStore;
 
@@ -204,12 +222,20 @@ class InternalParquetRecordWriter<T> {
       }
 
       if (recordCount > 0) {
+        long bufferedSize = metricsCallback == null ? 0 : columnStore.getBufferedSize();
+        long start = System.nanoTime();
         rowGroupOrdinal++;
         parquetFileWriter.startBlock(recordCount);
         columnStore.flush();
         pageStore.flushToFileWriter(parquetFileWriter);
-        recordCount = 0;
         parquetFileWriter.endBlock();
+        if (metricsCallback != null) {
+          metricsCallback.setDuration(
+              ParquetFileWriterMetrics.RowGroupFlushTime.name(), Math.max(System.nanoTime() - start, 0));
+          metricsCallback.setValueLong(ParquetFileWriterMetrics.RowGroupBufferedSize.name(), bufferedSize);
+          metricsCallback.setValueLong(ParquetFileWriterMetrics.RowGroupRecordCount.name(), recordCount);
+        }
+        recordCount = 0;
         this.nextRowGroupSize = Math.min(parquetFileWriter.getNextRowGroupSize(), rowGroupSizeThreshold);
       }
     } finally {
@@ -220,6 +246,18 @@ class InternalParquetRecordWriter<T> {
     }
   }
 
+  /**
+   * Reports the time the {@link MemoryManager} spent in rescaling the row group sizes when this writer was added to
+   * or removed from it.
+   *
+   * @param rescaleTime the time spent in rescaling in nanoseconds
+   */
+  void reportMemoryManagerRescaleTime(long rescaleTime) {
+    if (metricsCallback != null) {
+      metricsCallback.setDuration(ParquetFileWriterMetrics.MemoryManagerRescaleTime.name(), rescaleTime);
+    }
+  }
+
   long getRowGroupSizeThreshold() {
     return rowGroupSizeThreshold;
   }
@@ -18,8 +18,10 @@
  */
 package org.apache.parquet.hadoop;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.ToLongFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +42,9 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
   private static final float DEFAULT_LOAD_FACTOR = 0.75f;
 
   private final LinkedHashMap<K, V> cacheMap;
+  private final ToLongFunction<V> weigher;
+  private final long maxWeight;
+  private long totalWeight;
 
   /**
    * Constructs an access-order based LRU cache with {@code maxSize} entries.
@@ -59,6 +64,8 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
    *                    {@code false} for insertion-order
    */
   public LruCache(final int maxSize, final float loadFactor, final boolean accessOrder) {
+    this.weigher = null;
+    this.maxWeight = Long.MAX_VALUE;
     int initialCapacity = Math.round(maxSize / loadFactor);
     cacheMap = new LinkedHashMap<K, V>(initialCapacity, loadFactor, accessOrder) {
       @Override
@@ -74,6 +81,42 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
     };
   }
 
+  /**
+   * Constructs an access-order based LRU cache bounded by the total weight of
+   * its entries instead of their number. The least recently used entries are
+   * evicted until the total weight is at most {@code maxWeight}; the most
+   * recently added entry is always kept even if it is heavier than that.
+   *
+   * @param maxWeight The maximum total weight of the entries in the cache.
+   * @param weigher   Computes the weight of an entry (e.g. an estimate of its
+   *                  size in bytes); shall return the same value for a given
+   *                  entry each time.
+   */
+  public LruCache(final long maxWeight, final ToLongFunction<V> weigher) {
+    if (maxWeight < 0) {
+      throw new IllegalArgumentException("Invalid maximum weight: " + maxWeight);
+    }
+    this.weigher = weigher;
+    this.maxWeight = maxWeight;
+    this.cacheMap = new LinkedHashMap<K, V>(16, DEFAULT_LOAD_FACTOR, true);
+  }
+
+  private long weigh(final V value) {
+    return weigher == null ? 0 : weigher.applyAsLong(value);
+  }
+
+  private void evictOverweight() {
+    Iterator<Map.Entry<K, V>> entries = cacheMap.entrySet().iterator();
+    while (totalWeight > maxWeight && cacheMap.size() > 1) {
+      Map.Entry<K, V> eldest = entries.next();
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Removing eldest entry in cache: " + eldest.getKey());
+      }
+      totalWeight -= weigh(eldest.getValue());
+      entries.remove();
+    }
+  }
+
   /**
    * Removes the mapping for the specified key from this cache if present.
    *
@@ -84,6 +127,7 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
   public V remove(final K key) {
     V oldValue = cacheMap.remove(key);
     if (oldValue != null) {
+      totalWeight -= weigh(oldValue);
       LOG.debug("Removed cache entry for '{}'", key);
     }
     return oldValue;
@@ -119,6 +163,10 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
 
     // no existing value or new value is newer than old value
     oldValue = cacheMap.put(key, newValue);
+    if (weigher != null) {
+      totalWeight += weigh(newValue) - (oldValue == null ? 0 : weigh(oldValue));
+      evictOverweight();
+    }
     if (LOG.isDebugEnabled()) {
       if (oldValue == null) {
         LOG.debug("Added new cache entry for '{}'", key);
@@ -134,6 +182,7 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
    */
   public void clear() {
     cacheMap.clear();
+    totalWeight = 0;
   }
 
   /**
@@ -165,6 +214,16 @@ final class LruCache<K, V extends LruCache.Value<K, V>> {
     return cacheMap.size();
   }
 
+  /**
+   * Returns the total weight of the entries in this cache; always 0 if the
+   * cache is bounded by the number of its entries.
+   *
+   * @return the total weight of the entries in this cache.
+   */
+  public long weight() {
+    return totalWeight;
+  }
+
   /**
    * {@link org.apache.parquet.hadoop.LruCache} expects all values to follow this
    * interface so the cache can determine 1) whether values are current (e.g.
@@ -84,7 +84,9 @@ public class MemoryManager {
           + "the writer: "
           + writer);
     }
+    long start = System.nanoTime();
     updateAllocation();
+    writer.reportMemoryManagerRescaleTime(Math.max(System.nanoTime() - start, 0));
   }
 
   /**
@@ -95,7 +97,9 @@ public class MemoryManager {
   synchronized void removeWriter(InternalParquetRecordWriter<?> writer) {
     writerList.remove(writer);
     if (!writerList.isEmpty()) {
+      long start = System.nanoTime();
       updateAllocation();
+      writer.reportMemoryManagerRescaleTime(Math.max(System.nanoTime() - start, 0));
     }
   }
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.util.Map;
+import org.apache.parquet.hadoop.metadata.ColumnChunkKeyValueMetadata;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Page Bloom filters are not part of the Parquet format. The Bloom filters of the data pages of a column chunk are
+ * written one after the other (header and bitset each, the same way as the column level Bloom filters) after the
+ * column level Bloom filters. Their location is referenced from the key-value metadata of the footer, see
+ * {@link ColumnChunkKeyValueMetadata}.
+ */
+final class PageBloomFilters {
+  private static final Logger LOG = LoggerFactory.getLogger(PageBloomFilters.class);
+
+  static final String KEY_PREFIX = "parquet.page.bloom.filter.";
+
+  private static final ColumnChunkKeyValueMetadata METADATA = new ColumnChunkKeyValueMetadata(KEY_PREFIX);
+
+  final long offset;
+  final int length;
+  final int pageCount;
+
+  private PageBloomFilters(long offset, int length, int pageCount) {
+    this.offset = offset;
+    this.length = length;
+    this.pageCount = pageCount;
+  }
+
+  static String key(ColumnChunkMetaData column) {
+    return METADATA.key(column);
+  }
+
+  static String reference(ColumnChunkMetaData column, long offset, int length, int pageCount) {
+    return METADATA.value(column, offset + "," + length + "," + pageCount);
+  }
+
+  /**
+   * @param column           the column chunk the reference is looked up for
+   * @param keyValueMetaData the key-value metadata of the footer
+   * @return the location of the page Bloom filters or {@code null} if the reference is missing or does not belong to
+   * the column chunk
+   */
+  static PageBloomFilters read(ColumnChunkMetaData column, Map<String, String> keyValueMetaData) {
+    String reference = METADATA.getPayload(column, keyValueMetaData);
+    if (reference == null) {
+      return null;
+    }
+    String[] values = reference.split(",");
+    try {
+      if (values.length == 3) {
+        return new PageBloomFilters(
+            Long.parseLong(values[0]), Integer.parseInt(values[1]), Integer.parseInt(values[2]));
+      }
+    } catch (NumberFormatException e) {
+      // handled as an invalid reference below
+    }
+    LOG.warn("Ignoring invalid page Bloom filter reference {} for column {}", reference, column.getPath());
+    return null;
+  }
+}
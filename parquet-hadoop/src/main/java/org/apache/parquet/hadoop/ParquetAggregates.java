@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * The row count and the min/max values and null counts of some columns of the row groups of a file matching the
+ * filter of the reader. See {@link ParquetFileReader#aggregate(java.util.Collection)} for details.
+ */
+public final class ParquetAggregates {
+
+  private final Map<ColumnPath, Statistics<?>> statistics = new LinkedHashMap<>();
+  private long rowCount;
+  private int rowGroupsFromFooter;
+  private int rowGroupsRead;
+
+  ParquetAggregates(List<ColumnDescriptor> columns) {
+    for (ColumnDescriptor column : columns) {
+      statistics.put(ColumnPath.get(column.getPath()), Statistics.createStats(column.getPrimitiveType()));
+    }
+  }
+
+  /**
+   * @return the number of rows matching the filter
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @return the paths of the aggregated columns
+   */
+  public Set<ColumnPath> getColumns() {
+    return Collections.unmodifiableSet(statistics.keySet());
+  }
+
+  /**
+   * @param column the path of an aggregated column
+   * @return the min/max values and the null count of the values of the column in the matching rows; the min/max
+   * values are not set if all the values are null
+   * @throws IllegalArgumentException if the column is not aggregated
+   */
+  public Statistics<?> getStatistics(ColumnPath column) {
+    Statistics<?> stats = statistics.get(column);
+    if (stats == null) {
+      throw new IllegalArgumentException("Column " + column + " is not aggregated");
+    }
+    return stats;
+  }
+
+  /**
+   * @return the number of row groups aggregated from the footer only
+   */
+  public int getRowGroupsFromFooter() {
+    return rowGroupsFromFooter;
+  }
+
+  /**
+   * @return the number of row groups which pages were read to be aggregated
+   */
+  public int getRowGroupsRead() {
+    return rowGroupsRead;
+  }
+
+  /**
+   * @return whether the statistics of the aggregated columns of the row group can be used to aggregate it
+   */
+  boolean canAggregateFromFooter(BlockMetaData block) {
+    for (ColumnChunkMetaData chunk : block.getColumns()) {
+      if (statistics.containsKey(chunk.getPath()) && !isComplete(chunk)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isComplete(ColumnChunkMetaData chunk) {
+    Statistics<?> stats = chunk.getStatistics();
+    return stats != null
+        && stats.isNumNullsSet()
+        && (stats.hasNonNullValue() || stats.getNumNulls() == chunk.getValueCount());
+  }
+
+  void aggregateFromFooter(BlockMetaData block) {
+    ++rowGroupsFromFooter;
+    rowCount += block.getRowCount();
+    for (ColumnChunkMetaData chunk : block.getColumns()) {
+      Statistics<?> stats = statistics.get(chunk.getPath());
+      if (stats != null) {
+        stats.mergeStatistics(chunk.getStatistics());
+      }
+    }
+  }
+
+  /**
+   * @param schema the schema of the records to be read
+   * @return a materializer aggregating the records it builds
+   */
+  RecordMaterializer<Void> newMaterializer(MessageType schema) {
+    ++rowGroupsRead;
+    return new AggregatingMaterializer(schema);
+  }
+
+  /**
+   * Keeps the values of the current record until it is built so the values of the filtered out records are dropped.
+   */
+  private class AggregatingMaterializer extends RecordMaterializer<Void> {
+
+    private final List<ValueConverter> values = new ArrayList<>();
+    private final GroupConverter root;
+
+    AggregatingMaterializer(MessageType schema) {
+      this.root = new AggregatingGroupConverter(schema, new ArrayList<>());
+    }
+
+    @Override
+    public Void getCurrentRecord() {
+      ++rowCount;
+      for (ValueConverter value : values) {
+        value.aggregate();
+      }
+      return null;
+    }
+
+    @Override
+    public void skipCurrentRecord() {
+      // the values are reset at the start of the next record
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+      return root;
+    }
+
+    private class AggregatingGroupConverter extends GroupConverter {
+      private final Converter[] converters;
+      private final boolean isRoot;
+
+      AggregatingGroupConverter(GroupType type, List<String> path) {
+        this.isRoot = path.isEmpty();
+        this.converters = new Converter[type.getFieldCount()];
+        for (int i = 0; i < converters.length; i++) {
+          Type field = type.getType(i);
+          path.add(field.getName());
+          if (field.isPrimitive()) {
+            ValueConverter converter = new ValueConverter(
+                field.asPrimitiveType(), statistics.get(ColumnPath.get(path.toArray(new String[0]))));
+            values.add(converter);
+            converters[i] = converter;
+          } else {
+            converters[i] = new AggregatingGroupConverter(field.asGroupType(), path);
+          }
+          path.remove(path.size() - 1);
+        }
+      }
+
+      @Override
+      public Converter getConverter(int fieldIndex) {
+        return converters[fieldIndex];
+      }
+
+      @Override
+      public void start() {
+        if (isRoot) {
+          for (ValueConverter value : values) {
+            value.reset();
+          }
+        }
+      }
+
+      @Override
+      public void end() {}
+    }
+  }
+
+  /**
+   * Keeps the value of a non-repeated column in the current record; no value means null.
+   */
+  private static class ValueConverter extends PrimitiveConverter {
+    private final PrimitiveType type;
+    private final Statistics<?> stats; // null if the column is not aggregated
+    private boolean isSet;
+    private long bits;
+    private Binary binary;
+
+    ValueConverter(PrimitiveType type, Statistics<?> stats) {
+      this.type = type;
+      this.stats = stats;
+    }
+
+    void reset() {
+      isSet = false;
+      binary = null;
+    }
+
+    void aggregate() {
+      if (stats == null) {
+        return;
+      }
+      if (!isSet) {
+        stats.incrementNumNulls();
+        return;
+      }
+      switch (type.getPrimitiveTypeName()) {
+        case INT32:
+          stats.updateStats((int) bits);
+          break;
+        case INT64:
+          stats.updateStats(bits);
+          break;
+        case FLOAT:
+          stats.updateStats(Float.intBitsToFloat((int) bits));
+          break;
+        case DOUBLE:
+          stats.updateStats(Double.longBitsToDouble(bits));
+          break;
+        case BOOLEAN:
+          stats.updateStats(bits != 0);
+          break;
+        default:
+          stats.updateStats(binary);
+      }
+    }
+
+    @Override
+    public void addBinary(Binary value) {
+      isSet = true;
+      binary = value;
+    }
+
+    @Override
+    public void addBoolean(boolean value) {
+      isSet = true;
+      bits = value ? 1 : 0;
+    }
+
+    @Override
+    public void addDouble(double value) {
+      isSet = true;
+      bits = Double.doubleToRawLongBits(value);
+    }
+
+    @Override
+    public void addFloat(float value) {
+      isSet = true;
+      bits = Float.floatToRawIntBits(value);
+    }
+
+    @Override
+    public void addInt(int value) {
+      isSet = true;
+      bits = value;
+    }
+
+    @Override
+    public void addLong(long value) {
+      isSet = true;
+      bits = value;
+    }
+  }
+}
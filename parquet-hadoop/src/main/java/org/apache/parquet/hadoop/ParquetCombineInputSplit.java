@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapreduce.InputSplit;
+
+/**
+ * An input split combining the row groups of several files, created by {@link ParquetInputFormat} when
+ * {@link ParquetInputFormat#SPLIT_COMBINE_ENABLED} is set. It contains one {@link ParquetInputSplit} per file, read
+ * one after the other by a {@link ParquetCombineRecordReader}.
+ */
+public class ParquetCombineInputSplit extends InputSplit implements Writable {
+
+  private List<ParquetInputSplit> splits;
+  private String[] hosts;
+
+  /**
+   * Writables must have a parameterless constructor
+   */
+  public ParquetCombineInputSplit() {
+    this(Collections.<ParquetInputSplit>emptyList(), new String[0]);
+  }
+
+  /**
+   * @param splits the splits of the files to read, one per file
+   * @param hosts  the hosts with the replicas of most of the data
+   */
+  public ParquetCombineInputSplit(List<ParquetInputSplit> splits, String[] hosts) {
+    this.splits = splits;
+    this.hosts = hosts;
+  }
+
+  /**
+   * @return the splits of the files to read
+   */
+  public List<ParquetInputSplit> getSplits() {
+    return splits;
+  }
+
+  @Override
+  public long getLength() {
+    long length = 0;
+    for (ParquetInputSplit split : splits) {
+      length += split.getLength();
+    }
+    return length;
+  }
+
+  @Override
+  public String[] getLocations() {
+    return hosts;
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(splits.size());
+    for (ParquetInputSplit split : splits) {
+      split.write(out);
+    }
+    // The hosts are only used for scheduling so they are not serialized, like for the file splits
+  }
+
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    int count = in.readInt();
+    List<ParquetInputSplit> splits = new ArrayList<ParquetInputSplit>(count);
+    for (int i = 0; i < count; i++) {
+      ParquetInputSplit split = new ParquetInputSplit();
+      split.readFields(in);
+      splits.add(split);
+    }
+    this.splits = splits;
+    this.hosts = new String[0];
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "{" + "splits: " + splits + " hosts: " + Arrays.toString(hosts) + "}";
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.parquet.filter2.compat.FilterCompat.Filter;
+import org.apache.parquet.hadoop.api.ReadSupport;
+
+/**
+ * Reads the records of a {@link ParquetCombineInputSplit}: the files of the split are read one after the other, each
+ * of them opened once for all its row groups of the split. Only one file is open at a time and the read support is
+ * shared by the readers of the files.
+ *
+ * @param <T> type of the materialized records
+ */
+public class ParquetCombineRecordReader<T> extends RecordReader<Void, T> {
+
+  private final ReadSupport<T> readSupport;
+  private final Filter filter;
+
+  private TaskAttemptContext context;
+  private List<ParquetInputSplit> splits;
+  private long totalLength;
+  private long completedLength;
+  private int nextSplit;
+  private ParquetRecordReader<T> currentReader;
+  private long currentLength;
+
+  /**
+   * @param readSupport Object which helps reads files of the given type, e.g. Thrift, Avro.
+   * @param filter      for filtering individual records
+   */
+  public ParquetCombineRecordReader(ReadSupport<T> readSupport, Filter filter) {
+    this.readSupport = readSupport;
+    this.filter = filter;
+  }
+
+  @Override
+  public void initialize(InputSplit inputSplit, TaskAttemptContext context) throws IOException, InterruptedException {
+    if (!(inputSplit instanceof ParquetCombineInputSplit)) {
+      throw new IllegalArgumentException("Invalid split (not a ParquetCombineInputSplit): " + inputSplit);
+    }
+    this.context = context;
+    this.splits = ((ParquetCombineInputSplit) inputSplit).getSplits();
+    this.totalLength = inputSplit.getLength();
+  }
+
+  @Override
+  public boolean nextKeyValue() throws IOException, InterruptedException {
+    while (true) {
+      if (currentReader != null) {
+        if (currentReader.nextKeyValue()) {
+          return true;
+        }
+        closeCurrentReader();
+      }
+      if (nextSplit >= splits.size()) {
+        return false;
+      }
+      ParquetInputSplit split = splits.get(nextSplit++);
+      currentReader = new ParquetRecordReader<T>(readSupport, filter);
+      currentLength = split.getLength();
+      currentReader.initialize(split, context);
+    }
+  }
+
+  @Override
+  public Void getCurrentKey() throws IOException, InterruptedException {
+    return null;
+  }
+
+  @Override
+  public T getCurrentValue() throws IOException, InterruptedException {
+    return currentReader == null ? null : currentReader.getCurrentValue();
+  }
+
+  /**
+   * @return the row index of the current row in its file. If no row has been processed, returns -1.
+   */
+  public long getCurrentRowIndex() throws IOException {
+    return currentReader == null ? -1 : currentReader.getCurrentRowIndex();
+  }
+
+  @Override
+  public float getProgress() throws IOException, InterruptedException {
+    if (totalLength == 0) {
+      return nextSplit >= splits.size() && currentReader == null ? 1.0f : 0.0f;
+    }
+    float current = currentReader == null ? 0 : currentReader.getProgress() * currentLength;
+    return Math.min(1.0f, (completedLength + current) / totalLength);
+  }
+
+  private void closeCurrentReader() throws IOException {
+    try {
+      currentReader.close();
+    } finally {
+      currentReader = null;
+      completedLength += currentLength;
+      currentLength = 0;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (currentReader != null) {
+      closeCurrentReader();
+    }
+  }
+}
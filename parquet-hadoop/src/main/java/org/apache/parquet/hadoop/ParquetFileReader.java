@@ -34,28 +34,39 @@ import static org.apache.parquet.hadoop.ParquetFileWriter.PARQUET_METADATA_FILE;
 
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import org.apache.hadoop.conf.Configuration;
@@ -65,6 +76,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.Preconditions;
+import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.ByteBufferReleaser;
 import org.apache.parquet.bytes.BytesInput;
@@ -76,8 +88,10 @@ import org.apache.parquet.column.page.DataPageV2;
 import org.apache.parquet.column.page.DictionaryPage;
 import org.apache.parquet.column.page.DictionaryPageReadStore;
 import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
 import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.compression.CompressionCodecFactory;
 import org.apache.parquet.compression.CompressionCodecFactory.BytesInputDecompressor;
 import org.apache.parquet.crypto.AesCipher;
 import org.apache.parquet.crypto.FileDecryptionProperties;
@@ -87,6 +101,9 @@ import org.apache.parquet.crypto.ModuleCipherFactory.ModuleType;
 import org.apache.parquet.crypto.ParquetCryptoRuntimeException;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.LogicalInverseRewriter;
+import org.apache.parquet.filter2.statisticslevel.StatisticsAllMatchFilter;
 import org.apache.parquet.format.BlockCipher;
 import org.apache.parquet.format.BloomFilterHeader;
 import org.apache.parquet.format.DataPageHeader;
@@ -102,6 +119,7 @@ import org.apache.parquet.hadoop.ColumnIndexFilterUtils.OffsetRange;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -113,12 +131,17 @@ import org.apache.parquet.internal.filter2.columnindex.ColumnIndexFilter;
 import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
 import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.internal.hadoop.metadata.IndexReference;
+import org.apache.parquet.io.ColumnIOFactory;
 import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.MessageColumnIO;
 import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.io.ParquetFileRange;
+import org.apache.parquet.io.RecordReader;
 import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 import org.apache.parquet.util.AutoCloseables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -241,25 +264,66 @@ public class ParquetFileReader implements Closeable {
     return result;
   }
 
-  private static <T> List<T> runAllInParallel(int parallelism, List<Callable<T>> toRun) throws ExecutionException {
+  /**
+   * Runs the specified tasks with at most {@code parallelism} of them at a time on the threads shared by all the
+   * metadata reads of the JVM. Each task is submitted by itself once a previous one has completed.
+   *
+   * @param parallelism the maximum number of tasks run concurrently
+   * @param toRun       the tasks to run
+   * @return the results of the tasks in the order of the tasks
+   * @throws ExecutionException wrapping the exception thrown by the first failed task; the tasks not started yet are
+   *                            not run after a failure
+   */
+  static <T> List<T> runAllInParallel(int parallelism, List<Callable<T>> toRun) throws ExecutionException {
     LOG.info("Initiating action with parallelism: {}", parallelism);
-    ExecutorService threadPool = Executors.newFixedThreadPool(parallelism);
+    int maxRunning = Math.max(1, Math.min(parallelism, toRun.size()));
+    Object[] results = new Object[toRun.size()];
+    CompletionService<Void> completionService = new ExecutorCompletionService<>(MetadataReadExecutor.INSTANCE);
+    List<Future<Void>> submitted = new ArrayList<>(toRun.size());
     try {
-      List<Future<T>> futures = new ArrayList<Future<T>>();
-      for (Callable<T> callable : toRun) {
-        futures.add(threadPool.submit(callable));
-      }
-      List<T> result = new ArrayList<T>(toRun.size());
-      for (Future<T> future : futures) {
-        try {
-          result.add(future.get());
-        } catch (InterruptedException e) {
-          throw new RuntimeException("The thread was interrupted", e);
+      for (int completed = 0; completed < results.length; ++completed) {
+        while (submitted.size() < results.length && submitted.size() - completed < maxRunning) {
+          int index = submitted.size();
+          submitted.add(completionService.submit(() -> {
+            results[index] = toRun.get(index).call();
+            return null;
+          }));
         }
+        completionService.take().get();
       }
-      return result;
+    } catch (InterruptedException e) {
+      throw new RuntimeException("The thread was interrupted", e);
     } finally {
-      threadPool.shutdownNow();
+      // nothing is left running or queued after a failure
+      for (Future<Void> future : submitted) {
+        future.cancel(false);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    List<T> result = (List<T>) Arrays.asList(results);
+    return result;
+  }
+
+  /**
+   * The threads running the parallel metadata reads, shared by the JVM instead of creating a pool for each call. The
+   * number of threads is bounded; the tasks wait in the queue when all of them are busy. The queue is bounded in
+   * practice as each call to {@link #runAllInParallel(int, List)} queues at most its parallelism of tasks at a time.
+   */
+  private static final class MetadataReadExecutor {
+    private static final int MAX_THREADS = 64;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService INSTANCE = newExecutor();
+
+    private static ExecutorService newExecutor() {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread =
+                new Thread(runnable, "parquet-metadata-reader-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
     }
   }
 
@@ -574,6 +638,21 @@ public class ParquetFileReader implements Closeable {
   private static final ParquetMetadata readFooter(
       InputFile file, ParquetReadOptions options, SeekableInputStream f, ParquetMetadataConverter converter)
       throws IOException {
+    return readFooter(file, options, f, converter, null);
+  }
+
+  /**
+   * Reads the footer together with the speculatively read tail of the file.
+   *
+   * @param prefetched if not null, the part of the tail preceding the footer is added to it
+   */
+  private static ParquetMetadata readFooter(
+      InputFile file,
+      ParquetReadOptions options,
+      SeekableInputStream f,
+      ParquetMetadataConverter converter,
+      NavigableMap<Long, ByteBuffer> prefetched)
+      throws IOException {
 
     long fileLen = file.getLength();
     String filePath = file.toString();
@@ -584,13 +663,17 @@ public class ParquetFileReader implements Closeable {
       throw new RuntimeException(filePath + " is not a Parquet file (length is too low: " + fileLen + ")");
     }
 
-    // Read footer length and magic string - with a single seek
-    byte[] magic = new byte[MAGIC.length];
+    // Read footer length and magic string together with the requested part of the tail - with a single seek
+    int tailLength =
+        (int) Math.min(fileLen, Math.max(options.getTailReadSize(), FOOTER_LENGTH_SIZE + MAGIC.length));
+    long tailOffset = fileLen - tailLength;
+    LOG.debug("reading {} bytes of the file tail at {}", tailLength, tailOffset);
+    byte[] tail = new byte[tailLength];
+    f.seek(tailOffset);
+    f.readFully(tail);
+    byte[] magic = Arrays.copyOfRange(tail, tailLength - MAGIC.length, tailLength);
     long fileMetadataLengthIndex = fileLen - magic.length - FOOTER_LENGTH_SIZE;
-    LOG.debug("reading footer index at {}", fileMetadataLengthIndex);
-    f.seek(fileMetadataLengthIndex);
-    int fileMetadataLength = readIntLittleEndian(f);
-    f.readFully(magic);
+    int fileMetadataLength = readIntLittleEndian(tail, (int) (fileMetadataLengthIndex - tailOffset));
 
     boolean encryptedFooterMode;
     if (Arrays.equals(MAGIC, magic)) {
@@ -607,7 +690,9 @@ public class ParquetFileReader implements Closeable {
     if (fileMetadataIndex < magic.length || fileMetadataIndex >= fileMetadataLengthIndex) {
       throw new RuntimeException("corrupted file: the footer index is not within the file: " + fileMetadataIndex);
     }
-    f.seek(fileMetadataIndex);
+    if (prefetched != null && tailOffset < fileMetadataIndex) {
+      prefetched.put(tailOffset, ByteBuffer.wrap(tail, 0, (int) (fileMetadataIndex - tailOffset)));
+    }
 
     FileDecryptionProperties fileDecryptionProperties = options.getDecryptionProperties();
     InternalFileDecryptor fileDecryptor = null;
@@ -615,14 +700,24 @@ public class ParquetFileReader implements Closeable {
       fileDecryptor = new InternalFileDecryptor(fileDecryptionProperties);
     }
 
-    // Read all the footer bytes in one time to avoid multiple read operations,
+    // Read all the footer bytes not in the tail in one time to avoid multiple read operations,
     // since it can be pretty time consuming for a single read operation in HDFS.
-    ByteBuffer footerBytesBuffer = options.getAllocator().allocate(fileMetadataLength);
+    int footerStartInTail = (int) Math.max(fileMetadataIndex - tailOffset, 0);
+    int footerLengthInTail = (int) (fileMetadataLengthIndex - tailOffset) - footerStartInTail;
+    ByteBuffer footerBytesBuffer = options.getAllocator().allocate(fileMetadataLength - footerLengthInTail);
     try {
-      f.readFully(footerBytesBuffer);
+      if (footerBytesBuffer.hasRemaining()) {
+        f.seek(fileMetadataIndex);
+        f.readFully(footerBytesBuffer);
+      }
       LOG.debug("Finished to read all footer bytes.");
       footerBytesBuffer.flip();
-      InputStream footerBytesStream = ByteBufferInputStream.wrap(footerBytesBuffer);
+      List<ByteBuffer> footerBuffers = new ArrayList<>(2);
+      if (footerBytesBuffer.hasRemaining()) {
+        footerBuffers.add(footerBytesBuffer);
+      }
+      footerBuffers.add(ByteBuffer.wrap(tail, footerStartInTail, footerLengthInTail));
+      InputStream footerBytesStream = ByteBufferInputStream.wrap(footerBuffers);
 
       // Regular file, or encrypted file with plaintext footer
       if (!encryptedFooterMode) {
@@ -728,6 +823,16 @@ public class ParquetFileReader implements Closeable {
 
   private InternalFileDecryptor fileDecryptor = null;
 
+  // Only set for the readers opened by newConcurrentReader(): the reader they were opened from, which reads and
+  // caches the page indexes for all of them, and their own codec factory.
+  private ParquetFileReader parent = null;
+  private CompressionCodecFactory codecFactory = null;
+
+  // Parts of the file read ahead of time keyed by their offsets: the tail read together with the footer and the
+  // page indexes of the row group last filtered. The metadata structures they contain are served from memory.
+  private final NavigableMap<Long, ByteBuffer> prefetchedTail = new TreeMap<>();
+  private final NavigableMap<Long, ByteBuffer> prefetchedIndexes = new TreeMap<>();
+
   /**
    * @param configuration the Hadoop conf
    * @param filePath      Path for the parquet file
@@ -899,7 +1004,7 @@ public class ParquetFileReader implements Closeable {
     this.f = file.newStream();
     this.options = options;
     try {
-      this.footer = readFooter(file, options, f, converter);
+      this.footer = readFooter(file, options, f, converter, prefetchedTail);
     } catch (Exception e) {
       // In case that reading footer throws an exception in the constructor, the new stream
       // should be closed. Otherwise, there's no way to close this outside.
@@ -935,6 +1040,36 @@ public class ParquetFileReader implements Closeable {
     }
   }
 
+  /**
+   * Opens a reader of the row groups of the file of {@code parent} for {@link #newConcurrentReader()}. It shares the
+   * footer, the requested schema and the page indexes of {@code parent} but has a stream, a codec factory and a
+   * cursor of its own.
+   */
+  private ParquetFileReader(ParquetFileReader parent) throws IOException {
+    this.parent = parent;
+    this.converter = parent.converter;
+    this.file = parent.file;
+    this.options = parent.options;
+    this.footer = parent.footer;
+    this.fileMetaData = parent.fileMetaData;
+    this.fileDecryptor = parent.fileDecryptor;
+    this.blocks = parent.blocks;
+    this.blockIndexStores = parent.blockIndexStores;
+    this.blockRowRanges = parent.blockRowRanges;
+    this.paths.putAll(parent.paths);
+    CompressionCodecFactory codecs = options.getCodecFactory();
+    // other factories are expected to be thread-safe
+    this.codecFactory = codecs instanceof CodecFactory ? ((CodecFactory) codecs).newInstance() : codecs;
+    if (options.usePageChecksumVerification()) {
+      this.crc = new CRC32();
+      this.crcAllocator = ReusingByteBufferAllocator.strict(options.getAllocator());
+    } else {
+      this.crc = null;
+      this.crcAllocator = null;
+    }
+    this.f = file.newStream();
+  }
+
   private static <T> List<T> listWithNulls(int size) {
     return new ArrayList<>(Collections.nCopies(size, null));
   }
@@ -977,6 +1112,93 @@ public class ParquetFileReader implements Closeable {
     return total;
   }
 
+  /**
+   * Aggregates the row count and the min/max values and null counts of the specified columns over the rows matching
+   * the record filter of this reader. The row groups entirely matching the filter according to their statistics are
+   * aggregated from the footer; only the other row groups not dropped by the row group filters are read, skipping
+   * their pages based on the column indexes if enabled.
+   * <p>
+   * The min/max values aggregated from the footer are the ones of the statistics, which may be truncated for the binary
+   * columns written with a statistics truncate length. The columns of the filter are to be requested as well as the
+   * aggregated ones; all the requested columns are read from the row groups which are not aggregated from the footer.
+   *
+   * @param columns the paths of the columns to be aggregated; they are to be requested and not repeated
+   * @return the aggregates
+   * @throws IOException                   if an error occurs while reading
+   * @throws IllegalArgumentException      if a column is not requested or is repeated
+   * @throws UnsupportedOperationException if the record filter is an unbound record filter
+   */
+  public ParquetAggregates aggregate(Collection<ColumnPath> columns) throws IOException {
+    List<ColumnDescriptor> descriptors = new ArrayList<>();
+    for (ColumnPath column : columns) {
+      ColumnDescriptor descriptor = paths.get(column);
+      Preconditions.checkArgument(descriptor != null, "Column %s is not requested", column);
+      Preconditions.checkArgument(descriptor.getMaxRepetitionLevel() == 0, "Column %s is repeated", column);
+      descriptors.add(descriptor);
+    }
+    FilterCompat.Filter recordFilter = options.getRecordFilter();
+    FilterPredicate predicate = null;
+    if (recordFilter instanceof FilterCompat.FilterPredicateCompat) {
+      predicate = LogicalInverseRewriter.rewrite(
+          ((FilterCompat.FilterPredicateCompat) recordFilter).getFilterPredicate());
+    } else if (FilterCompat.isFilteringRequired(recordFilter)) {
+      throw new UnsupportedOperationException("Aggregates cannot be computed under an unbound record filter");
+    }
+
+    ParquetAggregates aggregates = new ParquetAggregates(descriptors);
+    MessageColumnIO columnIO = null;
+    for (int i = 0, n = blocks.size(); i < n; ++i) {
+      BlockMetaData block = blocks.get(i);
+      if (block.getRowCount() == 0) {
+        continue;
+      }
+      if (aggregates.canAggregateFromFooter(block)
+          && (predicate == null || StatisticsAllMatchFilter.allMatch(predicate, block.getColumns()))) {
+        aggregates.aggregateFromFooter(block);
+        continue;
+      }
+      if (columnIO == null) {
+        FileMetaData metaData = getFileMetaData();
+        MessageType fileSchema = metaData.getSchema();
+        columnIO = new ColumnIOFactory(metaData.getCreatedBy())
+            .getColumnIO(requestedSchema(fileSchema), fileSchema);
+      }
+      try (PageReadStore pages = readFilteredRowGroup(i)) {
+        if (pages != null) {
+          RecordReader<Void> recordReader = columnIO.getRecordReader(
+              pages, aggregates.newMaterializer(columnIO.getType()), recordFilter);
+          for (long row = 0, rows = pages.getRowCount(); row < rows; ++row) {
+            recordReader.read();
+          }
+        }
+      }
+    }
+    return aggregates;
+  }
+
+  private MessageType requestedSchema(MessageType fileSchema) {
+    return new MessageType(fileSchema.getName(), requestedFields(fileSchema, new ArrayList<>()));
+  }
+
+  private List<Type> requestedFields(GroupType group, List<String> path) {
+    List<Type> fields = new ArrayList<>();
+    for (Type field : group.getFields()) {
+      path.add(field.getName());
+      if (field.isPrimitive()) {
+        if (paths.containsKey(ColumnPath.get(path.toArray(new String[0])))) {
+          fields.add(field);
+        }
+      } else {
+        List<Type> children = requestedFields(field.asGroupType(), path);
+        if (!children.isEmpty()) {
+          fields.add(field.asGroupType().withNewFields(children));
+        }
+      }
+      path.remove(path.size() - 1);
+    }
+    return fields;
+  }
+
   /**
    * @return the path for this file
    * @deprecated will be removed in 2.0.0; use {@link #getFile()} instead
@@ -1007,7 +1229,7 @@ public class ParquetFileReader implements Closeable {
       if (options.useBloomFilter()) {
         levels.add(BLOOMFILTER);
       }
-      return RowGroupFilter.filterRowGroups(levels, recordFilter, blocks, this);
+      return RowGroupFilter.filterRowGroups(levels, recordFilter, blocks, this, options.getMetricsCallback());
     }
 
     return blocks;
@@ -1018,6 +1240,10 @@ public class ParquetFileReader implements Closeable {
   }
 
   public void setRequestedSchema(MessageType projection) {
+    if (parent != null) {
+      // the page indexes shared with the parent reader are only read for the columns requested from it
+      throw new UnsupportedOperationException("The requested schema of a concurrent reader cannot be changed");
+    }
     paths.clear();
     for (ColumnDescriptor col : projection.getColumns()) {
       paths.put(ColumnPath.get(col.getPath()), col);
@@ -1039,6 +1265,33 @@ public class ParquetFileReader implements Closeable {
     return internalReadRowGroup(blockIndex);
   }
 
+  /**
+   * Opens another reader of this file for reading row groups from a different thread. The new reader reuses the
+   * footer, the requested schema and the page indexes already read by this one, so reading the row groups of a file
+   * from several threads does not require opening the file and parsing its footer once per thread. Each reader has a
+   * stream, decompressors and a current row group of its own; a reader is still to be used by one thread at a time.
+   * <p>
+   * The page indexes needed for filtering are read and cached by this reader for all the readers opened from it, so
+   * while they are in use this reader should only be used to open other readers. They are to be closed before this
+   * one. The requested schema of the new reader cannot be changed; the row groups of encrypted files cannot be read
+   * concurrently.
+   *
+   * @return a reader of the row groups of this file to be closed by the caller
+   * @throws IOException                   if the file cannot be opened
+   * @throws UnsupportedOperationException if the file is encrypted
+   */
+  public ParquetFileReader newConcurrentReader() throws IOException {
+    if (fileDecryptor != null && !fileDecryptor.plaintextFile()) {
+      throw new UnsupportedOperationException(
+          "Concurrent readers are not supported for encrypted files: " + file);
+    }
+    return new ParquetFileReader(parent != null ? parent : this);
+  }
+
+  private CompressionCodecFactory getCodecFactory() {
+    return codecFactory != null ? codecFactory : options.getCodecFactory();
+  }
+
   /**
    * Reads all the columns requested from the row group at the current file position.
    *
@@ -1079,17 +1332,26 @@ public class ParquetFileReader implements Closeable {
     }
     ColumnChunkPageReadStore rowGroup =
         new ColumnChunkPageReadStore(block.getRowCount(), block.getRowIndexOffset());
+    DecompressedPageCache pageCache = getPageCache();
+    if (options.useStreamingRead()) {
+      return readRowGroupStreaming(block, rowGroup, pageCache);
+    }
     // prepare the list of consecutive parts to read them in one scan
     List<ConsecutivePartList> allParts = new ArrayList<>();
     ConsecutivePartList currentParts = null;
+    int cacheHits = 0;
     for (ColumnChunkMetaData mc : block.getColumns()) {
       ColumnPath pathKey = mc.getPath();
       ColumnDescriptor columnDescriptor = paths.get(pathKey);
       if (columnDescriptor != null) {
+        if (addCachedColumn(pageCache, mc, columnDescriptor, rowGroup)) {
+          ++cacheHits;
+          continue;
+        }
         BenchmarkCounter.incrementTotalBytes(mc.getTotalSize());
         long startingPos = mc.getStartingPos();
-        // first part or not consecutive => new list
-        if (currentParts == null || currentParts.endPos() != startingPos) {
+        // first part or too far from the previous one => new list
+        if (currentParts == null || !currentParts.canAppend(startingPos, mc.getTotalSize())) {
           currentParts = new ConsecutivePartList(startingPos);
           allParts.add(currentParts);
         }
@@ -1100,13 +1362,97 @@ public class ParquetFileReader implements Closeable {
     ChunkListBuilder builder = new ChunkListBuilder(block.getRowCount());
     readAllPartsVectoredOrNormal(allParts, builder);
     rowGroup.setReleaser(builder.releaser);
-    for (Chunk chunk : builder.build()) {
-      readChunkPages(chunk, block, rowGroup);
+    List<Chunk> chunks = builder.build();
+    for (Chunk chunk : chunks) {
+      readChunkPages(chunk, block, rowGroup, pageCache);
     }
+    setPageCacheMetrics(pageCache, cacheHits, chunks.size());
 
     return rowGroup;
   }
 
+  private ColumnChunkPageReadStore readRowGroupStreaming(
+      BlockMetaData block, ColumnChunkPageReadStore rowGroup, DecompressedPageCache pageCache)
+      throws IOException {
+    ByteBufferReleaser releaser = new ByteBufferReleaser(options.getAllocator());
+    rowGroup.setReleaser(releaser);
+    int cacheHits = 0;
+    int cacheMisses = 0;
+    for (ColumnChunkMetaData mc : block.getColumns()) {
+      ColumnDescriptor columnDescriptor = paths.get(mc.getPath());
+      if (columnDescriptor != null) {
+        if (addCachedColumn(pageCache, mc, columnDescriptor, rowGroup)) {
+          ++cacheHits;
+          continue;
+        }
+        ++cacheMisses;
+        BenchmarkCounter.incrementTotalBytes(mc.getTotalSize());
+        ChunkDescriptor descriptor =
+            new ChunkDescriptor(columnDescriptor, mc, mc.getStartingPos(), mc.getTotalSize());
+        readChunkPages(
+            new StreamingChunk(
+                descriptor, options.getStreamingReadAheadSize(), releaser, block.getRowCount()),
+            block,
+            rowGroup,
+            pageCache);
+      }
+    }
+    setPageCacheMetrics(pageCache, cacheHits, cacheMisses);
+    return rowGroup;
+  }
+
+  /**
+   * @return the page cache to be used for reading the unfiltered row groups or {@code null} if it is disabled, the
+   * file is encrypted or it has no stable identity
+   */
+  private DecompressedPageCache getPageCache() {
+    if (!options.usePageCache() || (fileDecryptor != null && !fileDecryptor.plaintextFile())) {
+      return null;
+    }
+    // Only the Hadoop files have a path and a modification time to tell a rewritten file from the cached one
+    if (!(file instanceof HadoopInputFile)) {
+      return null;
+    }
+    return DecompressedPageCache.getInstance();
+  }
+
+  private DecompressedPageCache.Key getPageCacheKey(ColumnChunkMetaData mc) throws IOException {
+    HadoopInputFile hadoopFile = (HadoopInputFile) file;
+    return new DecompressedPageCache.Key(
+        hadoopFile.getPath().toString(),
+        hadoopFile.getLength(),
+        hadoopFile.getModificationTime(),
+        mc.getPath().toDotString(),
+        mc.getStartingPos());
+  }
+
+  private boolean addCachedColumn(
+      DecompressedPageCache pageCache,
+      ColumnChunkMetaData mc,
+      ColumnDescriptor columnDescriptor,
+      ColumnChunkPageReadStore rowGroup)
+      throws IOException {
+    if (pageCache == null) {
+      return false;
+    }
+    PageReader cached = pageCache.getPageReader(getPageCacheKey(mc));
+    if (cached == null) {
+      return false;
+    }
+    rowGroup.addColumn(columnDescriptor, cached);
+    return true;
+  }
+
+  private void setPageCacheMetrics(DecompressedPageCache pageCache, int hits, int misses) {
+    ParquetMetricsCallback metricsCallback = options.getMetricsCallback();
+    if (pageCache != null && metricsCallback != null) {
+      metricsCallback.setValueLong(ParquetFileReaderMetrics.PageCacheHits.name(), hits);
+      metricsCallback.setValueLong(ParquetFileReaderMetrics.PageCacheMisses.name(), misses);
+      metricsCallback.setValueDouble(ParquetFileReaderMetrics.PageCacheHitRate.name(), pageCache.getHitRate());
+      metricsCallback.setValueLong(ParquetFileReaderMetrics.PageCacheSize.name(), pageCache.getSize());
+    }
+  }
+
   /**
    * Reads all the columns requested from the specified row group. It may skip specific pages based on the column
    * indexes according to the actual filter. As the rows are not aligned among the pages of the different columns row
@@ -1230,7 +1576,9 @@ public class ParquetFileReader implements Closeable {
    */
   private boolean arePartsValidForVectoredIo(List<ConsecutivePartList> allParts) {
     for (ConsecutivePartList consecutivePart : allParts) {
-      if (consecutivePart.length >= Integer.MAX_VALUE) {
+      long[] splits = splitRange(
+          consecutivePart.length, options.getReadRangeMaxMergedSize(), options.getReadRangeMinSize());
+      if (splits[0] >= Integer.MAX_VALUE) {
         LOG.debug(
             "Part length {} greater than Integer.MAX_VALUE thus disabling vectored IO",
             consecutivePart.length);
@@ -1240,6 +1588,25 @@ public class ParquetFileReader implements Closeable {
     return true;
   }
 
+  /**
+   * Splits a range into requests of at most maxSize bytes that can be fetched in parallel, unless the requests
+   * would get smaller than minSize bytes.
+   *
+   * @param length  the length of the range
+   * @param maxSize the size of the requests to split the range into
+   * @param minSize the smallest size of a request
+   * @return the lengths of the requests; the first one is the largest
+   */
+  static long[] splitRange(long length, long maxSize, long minSize) {
+    long count = Math.max(1, Math.min(length / maxSize + (length % maxSize == 0 ? 0 : 1), length / minSize));
+    long[] lengths = new long[Math.toIntExact(count)];
+    long remainder = length % count;
+    for (int i = 0; i < lengths.length; i++) {
+      lengths[i] = length / count + (i < remainder ? 1 : 0);
+    }
+    return lengths;
+  }
+
   /**
    * Read all parts through vectored IO.
    * <p>
@@ -1257,24 +1624,31 @@ public class ParquetFileReader implements Closeable {
    */
   private void readVectored(List<ConsecutivePartList> allParts, ChunkListBuilder builder) throws IOException {
 
+    List<List<ParquetFileRange>> partRanges = new ArrayList<>(allParts.size());
     List<ParquetFileRange> ranges = new ArrayList<>(allParts.size());
     long totalSize = 0;
     for (ConsecutivePartList consecutiveChunks : allParts) {
-      final long len = consecutiveChunks.length;
-      Preconditions.checkArgument(
-          len < Integer.MAX_VALUE,
-          "Invalid length %s for vectored read operation. It must be less than max integer value.",
-          len);
-      ranges.add(new ParquetFileRange(consecutiveChunks.offset, (int) len));
-      totalSize += len;
+      List<ParquetFileRange> currRanges = new ArrayList<>();
+      long offset = consecutiveChunks.offset;
+      for (long len : splitRange(
+          consecutiveChunks.length, options.getReadRangeMaxMergedSize(), options.getReadRangeMinSize())) {
+        Preconditions.checkArgument(
+            len < Integer.MAX_VALUE,
+            "Invalid length %s for vectored read operation. It must be less than max integer value.",
+            len);
+        currRanges.add(new ParquetFileRange(offset, (int) len));
+        offset += len;
+      }
+      partRanges.add(currRanges);
+      ranges.addAll(currRanges);
+      totalSize += consecutiveChunks.length;
     }
     LOG.debug("Reading {} bytes of data with vectored IO in {} ranges", totalSize, ranges.size());
     // Request a vectored read;
     f.readVectored(ranges, options.getAllocator());
     int k = 0;
     for (ConsecutivePartList consecutivePart : allParts) {
-      ParquetFileRange currRange = ranges.get(k++);
-      consecutivePart.readFromVectoredRange(currRange, builder);
+      consecutivePart.readFromVectoredRanges(partRanges.get(k++), builder);
     }
   }
 
@@ -1340,11 +1714,18 @@ public class ParquetFileReader implements Closeable {
         OffsetIndex offsetIndex = ciStore.getOffsetIndex(mc.getPath());
 
         OffsetIndex filteredOffsetIndex = filterOffsetIndex(offsetIndex, rowRanges, block.getRowCount());
+        ParquetMetricsCallback metricsCallback = options.getMetricsCallback();
+        if (metricsCallback != null) {
+          metricsCallback.setColumnValueLong(
+              pathKey.toDotString(),
+              ParquetFileReaderMetrics.ColumnPagesSkipped.name(),
+              offsetIndex.getPageCount() - filteredOffsetIndex.getPageCount());
+        }
         for (OffsetRange range : calculateOffsetRanges(filteredOffsetIndex, mc, offsetIndex.getOffset(0))) {
           BenchmarkCounter.incrementTotalBytes(range.getLength());
           long startingPos = range.getOffset();
-          // first part or not consecutive => new list
-          if (currentParts == null || currentParts.endPos() != startingPos) {
+          // first part or too far from the previous one => new list
+          if (currentParts == null || !currentParts.canAppend(startingPos, range.getLength())) {
             currentParts = new ConsecutivePartList(startingPos);
             allParts.add(currentParts);
           }
@@ -1358,16 +1739,25 @@ public class ParquetFileReader implements Closeable {
     readAllPartsVectoredOrNormal(allParts, builder);
     rowGroup.setReleaser(builder.releaser);
     for (Chunk chunk : builder.build()) {
-      readChunkPages(chunk, block, rowGroup);
+      readChunkPages(chunk, block, rowGroup, null);
     }
 
     return rowGroup;
   }
 
-  private void readChunkPages(Chunk chunk, BlockMetaData block, ColumnChunkPageReadStore rowGroup)
+  /**
+   * @param pageCache the cache the pages are to be recorded into once read or {@code null}
+   */
+  private void readChunkPages(
+      Chunk chunk, BlockMetaData block, ColumnChunkPageReadStore rowGroup, DecompressedPageCache pageCache)
       throws IOException {
     if (null == fileDecryptor || fileDecryptor.plaintextFile()) {
-      rowGroup.addColumn(chunk.descriptor.col, chunk.readAllPages());
+      ColumnChunkPageReader pageReader = chunk.readAllPages();
+      if (pageCache != null) {
+        pageReader.recordInto(
+            pageCache, getPageCacheKey(chunk.descriptor.metadata), options.isPageCacheOffHeap());
+      }
+      rowGroup.addColumn(chunk.descriptor.col, pageReader);
       return;
     }
     // Encrypted file
@@ -1388,27 +1778,46 @@ public class ParquetFileReader implements Closeable {
   }
 
   public ColumnIndexStore getColumnIndexStore(int blockIndex) {
-    ColumnIndexStore ciStore = blockIndexStores.get(blockIndex);
-    if (ciStore == null) {
-      ciStore = ColumnIndexStoreImpl.create(this, blocks.get(blockIndex), paths.keySet());
-      blockIndexStores.set(blockIndex, ciStore);
+    if (parent != null) {
+      return parent.getColumnIndexStore(blockIndex);
+    }
+    // the concurrent readers might request the indexes as well; they are read through the stream of this reader
+    synchronized (blockIndexStores) {
+      ColumnIndexStore ciStore = blockIndexStores.get(blockIndex);
+      if (ciStore == null) {
+        try {
+          prefetchIndexes(blocks.get(blockIndex));
+        } catch (IOException e) {
+          // the indexes are read one by one if the I/O issue does not stand
+          LOG.warn("Unable to prefetch the page indexes of row group {} in {}", blockIndex, file, e);
+        }
+        ciStore = ColumnIndexStoreImpl.create(
+            this, blocks.get(blockIndex), paths.keySet(), options.useBloomFilter());
+        blockIndexStores.set(blockIndex, ciStore);
+      }
+      return ciStore;
     }
-    return ciStore;
   }
 
   private RowRanges getRowRanges(int blockIndex) {
     assert FilterCompat.isFilteringRequired(options.getRecordFilter())
         : "Should not be invoked if filter is null or NOOP";
-    RowRanges rowRanges = blockRowRanges.get(blockIndex);
-    if (rowRanges == null) {
-      rowRanges = ColumnIndexFilter.calculateRowRanges(
-          options.getRecordFilter(),
-          getColumnIndexStore(blockIndex),
-          paths.keySet(),
-          blocks.get(blockIndex).getRowCount());
-      blockRowRanges.set(blockIndex, rowRanges);
+    if (parent != null) {
+      return parent.getRowRanges(blockIndex);
+    }
+    // the column indexes are read lazily while calculating the row ranges so the same lock is held
+    synchronized (blockIndexStores) {
+      RowRanges rowRanges = blockRowRanges.get(blockIndex);
+      if (rowRanges == null) {
+        rowRanges = ColumnIndexFilter.calculateRowRanges(
+            options.getRecordFilter(),
+            getColumnIndexStore(blockIndex),
+            paths.keySet(),
+            blocks.get(blockIndex).getRowCount());
+        blockRowRanges.set(blockIndex, rowRanges);
+      }
+      return rowRanges;
     }
-    return rowRanges;
   }
 
   public boolean skipNextRowGroup() {
@@ -1511,7 +1920,7 @@ public class ParquetFileReader implements Closeable {
     }
 
     DictionaryPage compressedPage = readCompressedDictionary(pageHeader, f, pageDecryptor, dictionaryPageAAD);
-    BytesInputDecompressor decompressor = options.getCodecFactory().getDecompressor(meta.getCodec());
+    BytesInputDecompressor decompressor = getCodecFactory().getDecompressor(meta.getCodec());
 
     return new DictionaryPage(
         decompressor.decompress(compressedPage.getBytes(), compressedPage.getUncompressedSize()),
@@ -1587,20 +1996,12 @@ public class ParquetFileReader implements Closeable {
       }
     }
 
-    // Seek to Bloom filter offset.
-    f.seek(bloomFilterOffset);
-
     // Read Bloom filter length.
     int bloomFilterLength = meta.getBloomFilterLength();
 
     // If it is set, read Bloom filter header and bitset together.
     // Otherwise, read Bloom filter header first and then bitset.
-    InputStream in = f;
-    if (bloomFilterLength > 0) {
-      byte[] headerAndBitSet = new byte[bloomFilterLength];
-      f.readFully(headerAndBitSet);
-      in = new ByteArrayInputStream(headerAndBitSet);
-    }
+    InputStream in = readMetadata(bloomFilterOffset, bloomFilterLength);
 
     BloomFilterHeader bloomFilterHeader;
     try {
@@ -1616,14 +2017,7 @@ public class ParquetFileReader implements Closeable {
       return null;
     }
 
-    if (!bloomFilterHeader.getHash().isSetXXHASH()
-        || !bloomFilterHeader.getAlgorithm().isSetBLOCK()
-        || !bloomFilterHeader.getCompression().isSetUNCOMPRESSED()) {
-      LOG.warn(
-          "the read bloom filter is not supported yet,  algorithm = {}, hash = {}, compression = {}",
-          bloomFilterHeader.getAlgorithm(),
-          bloomFilterHeader.getHash(),
-          bloomFilterHeader.getCompression());
+    if (!isSupported(bloomFilterHeader)) {
       return null;
     }
 
@@ -1640,6 +2034,174 @@ public class ParquetFileReader implements Closeable {
     return new BlockSplitBloomFilter(bitset);
   }
 
+  /**
+   * Reads the Bloom filters of the data pages of a column chunk.
+   *
+   * @param meta the column chunk metadata
+   * @return the Bloom filters of the data pages in the order of the pages in the offset index or {@code null} if the
+   * file contains no page Bloom filters for the column chunk
+   * @throws IOException if any I/O error occurs during reading the file
+   */
+  public List<BloomFilter> readPageBloomFilters(ColumnChunkMetaData meta) throws IOException {
+    if (null != fileDecryptor && !fileDecryptor.plaintextFile()) {
+      // page Bloom filters are not written for encrypted files
+      return null;
+    }
+    PageBloomFilters location =
+        PageBloomFilters.read(meta, getFileMetaData().getKeyValueMetaData());
+    if (location == null) {
+      return null;
+    }
+
+    DataInputStream in = new DataInputStream(readMetadata(location.offset, location.length));
+    List<BloomFilter> pageBloomFilters = new ArrayList<>(location.pageCount);
+    for (int i = 0; i < location.pageCount; ++i) {
+      BloomFilterHeader bloomFilterHeader = Util.readBloomFilterHeader(in);
+      int numBytes = bloomFilterHeader.getNumBytes();
+      // a wrong filter would drop pages containing the searched values, so none of them is used then
+      if (numBytes <= 0 || numBytes > BlockSplitBloomFilter.UPPER_BOUND_BYTES || numBytes > in.available()) {
+        LOG.warn("the read page bloom filter size is wrong, size is {}", numBytes);
+        return null;
+      }
+      if (!isSupported(bloomFilterHeader)) {
+        return null;
+      }
+      byte[] bitset = new byte[numBytes];
+      in.readFully(bitset);
+      pageBloomFilters.add(new BlockSplitBloomFilter(bitset));
+    }
+    return pageBloomFilters;
+  }
+
+  private static boolean isSupported(BloomFilterHeader bloomFilterHeader) {
+    if (!bloomFilterHeader.getHash().isSetXXHASH()
+        || !bloomFilterHeader.getAlgorithm().isSetBLOCK()
+        || !bloomFilterHeader.getCompression().isSetUNCOMPRESSED()) {
+      LOG.warn(
+          "the read bloom filter is not supported yet,  algorithm = {}, hash = {}, compression = {}",
+          bloomFilterHeader.getAlgorithm(),
+          bloomFilterHeader.getHash(),
+          bloomFilterHeader.getCompression());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the column indexes, offset indexes and page Bloom filters of the projected columns of a row group that are
+   * not part of the prefetched tail. These are stored consecutively for the columns of a row group, so they are
+   * read with a single vectored request or a few sequential reads instead of a read per structure and column.
+   */
+  private void prefetchIndexes(BlockMetaData block) throws IOException {
+    prefetchedIndexes.clear();
+    List<ParquetFileRange> ranges = new ArrayList<>();
+    boolean pageBloomFilters = options.useBloomFilter() && (null == fileDecryptor || fileDecryptor.plaintextFile());
+    for (ColumnChunkMetaData column : block.getColumns()) {
+      if (!paths.containsKey(column.getPath())) {
+        continue;
+      }
+      IndexReference columnIndexRef = column.getColumnIndexReference();
+      if (columnIndexRef != null) {
+        addMetadataRange(ranges, columnIndexRef.getOffset(), columnIndexRef.getLength());
+      }
+      IndexReference offsetIndexRef = column.getOffsetIndexReference();
+      if (offsetIndexRef != null) {
+        addMetadataRange(ranges, offsetIndexRef.getOffset(), offsetIndexRef.getLength());
+      }
+      if (pageBloomFilters) {
+        PageBloomFilters location =
+            PageBloomFilters.read(column, getFileMetaData().getKeyValueMetaData());
+        if (location != null) {
+          addMetadataRange(ranges, location.offset, location.length);
+        }
+      }
+    }
+    if (ranges.isEmpty()) {
+      return;
+    }
+
+    ranges.sort(Comparator.comparingLong(ParquetFileRange::getOffset));
+    List<ParquetFileRange> merged = new ArrayList<>();
+    long start = ranges.get(0).getOffset();
+    long end = start;
+    for (ParquetFileRange range : ranges) {
+      long gap = range.getOffset() - end;
+      long mergedEnd = Math.max(end, range.getOffset() + range.getLength());
+      if (gap > 0
+          && (gap > options.getReadRangeMaxGap()
+              || mergedEnd - start > options.getReadRangeMaxMergedSize())) {
+        merged.add(new ParquetFileRange(start, Math.toIntExact(end - start)));
+        start = range.getOffset();
+        mergedEnd = range.getOffset() + range.getLength();
+      }
+      end = mergedEnd;
+    }
+    merged.add(new ParquetFileRange(start, Math.toIntExact(end - start)));
+
+    if (options.useHadoopVectoredIo() && f.readVectoredAvailable(options.getAllocator())) {
+      try {
+        f.readVectored(merged, options.getAllocator());
+        for (ParquetFileRange range : merged) {
+          prefetchedIndexes.put(
+              range.getOffset(),
+              FutureIO.awaitFuture(
+                  range.getDataReadFuture(), HADOOP_VECTORED_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+        return;
+      } catch (TimeoutException e) {
+        throw new IOException("Timeout while prefetching page indexes " + merged, e);
+      } catch (IllegalArgumentException | UnsupportedOperationException e) {
+        LOG.warn("readVectored() failed; falling back to normal IO against {}", f, e);
+        prefetchedIndexes.clear();
+      }
+    }
+    for (ParquetFileRange range : merged) {
+      f.seek(range.getOffset());
+      byte[] bytes = new byte[range.getLength()];
+      f.readFully(bytes);
+      prefetchedIndexes.put(range.getOffset(), ByteBuffer.wrap(bytes));
+    }
+  }
+
+  private void addMetadataRange(List<ParquetFileRange> ranges, long offset, int length) {
+    if (length > 0 && findPrefetched(prefetchedTail, offset, length) == null) {
+      ranges.add(new ParquetFileRange(offset, length));
+    }
+  }
+
+  /**
+   * @return a stream of the given part of the file containing a metadata structure; it is served from the prefetched
+   * parts of the file if possible. If the length is unknown the file stream is returned positioned at the offset.
+   */
+  private InputStream readMetadata(long offset, int length) throws IOException {
+    if (length <= 0) {
+      f.seek(offset);
+      return f;
+    }
+    ByteBuffer prefetched = findPrefetched(prefetchedTail, offset, length);
+    if (prefetched == null) {
+      prefetched = findPrefetched(prefetchedIndexes, offset, length);
+    }
+    if (prefetched != null) {
+      return ByteBufferInputStream.wrap(prefetched);
+    }
+    f.seek(offset);
+    byte[] bytes = new byte[length];
+    f.readFully(bytes);
+    return new ByteArrayInputStream(bytes);
+  }
+
+  private static ByteBuffer findPrefetched(NavigableMap<Long, ByteBuffer> prefetched, long offset, int length) {
+    Entry<Long, ByteBuffer> entry = prefetched.floorEntry(offset);
+    if (entry == null || offset + length > entry.getKey() + entry.getValue().remaining()) {
+      return null;
+    }
+    ByteBuffer buffer = entry.getValue().duplicate();
+    buffer.position(buffer.position() + (int) (offset - entry.getKey()));
+    buffer.limit(buffer.position() + length);
+    return buffer;
+  }
+
   /**
    * Class should be considered private
    *
@@ -1652,7 +2214,7 @@ public class ParquetFileReader implements Closeable {
     if (ref == null) {
       return null;
     }
-    f.seek(ref.getOffset());
+    InputStream in = readMetadata(ref.getOffset(), ref.getLength());
 
     BlockCipher.Decryptor columnIndexDecryptor = null;
     byte[] columnIndexAAD = null;
@@ -1669,7 +2231,7 @@ public class ParquetFileReader implements Closeable {
       }
     }
     return ParquetMetadataConverter.fromParquetColumnIndex(
-        column.getPrimitiveType(), Util.readColumnIndex(f, columnIndexDecryptor, columnIndexAAD));
+        column.getPrimitiveType(), Util.readColumnIndex(in, columnIndexDecryptor, columnIndexAAD));
   }
 
   /**
@@ -1684,7 +2246,7 @@ public class ParquetFileReader implements Closeable {
     if (ref == null) {
       return null;
     }
-    f.seek(ref.getOffset());
+    InputStream in = readMetadata(ref.getOffset(), ref.getLength());
 
     BlockCipher.Decryptor offsetIndexDecryptor = null;
     byte[] offsetIndexAAD = null;
@@ -1701,7 +2263,7 @@ public class ParquetFileReader implements Closeable {
       }
     }
     return ParquetMetadataConverter.fromParquetOffsetIndex(
-        Util.readOffsetIndex(f, offsetIndexDecryptor, offsetIndexAAD));
+        Util.readOffsetIndex(in, offsetIndexDecryptor, offsetIndexAAD));
   }
 
   @Override
@@ -1712,7 +2274,9 @@ public class ParquetFileReader implements Closeable {
       }
     } finally {
       AutoCloseables.uncheckedClose(nextDictionaryReader, crcAllocator);
-      options.getCodecFactory().release();
+      if (parent == null || codecFactory != options.getCodecFactory()) {
+        getCodecFactory().release();
+      }
     }
   }
 
@@ -1828,147 +2392,35 @@ public class ParquetFileReader implements Closeable {
         int rowGroupOrdinal,
         int columnOrdinal)
         throws IOException {
-      List<DataPage> pagesInChunk = new ArrayList<>();
-      DictionaryPage dictionaryPage = null;
-      PrimitiveType type = getFileMetaData()
-          .getSchema()
-          .getType(descriptor.col.getPath())
-          .asPrimitiveType();
-      long valuesCountReadSoFar = 0L;
-      int dataPageCountReadSoFar = 0;
-      byte[] dataPageHeaderAAD = null;
-      if (null != headerBlockDecryptor) {
-        dataPageHeaderAAD = AesCipher.createModuleAAD(
+      PageIterator pages = new PageIterator(headerBlockDecryptor, aadPrefix, rowGroupOrdinal, columnOrdinal);
+      BytesInputDecompressor decompressor = getCodecFactory().getDecompressor(descriptor.metadata.getCodec());
+      if (isStreaming()) {
+        // the pages are read as the column reader gets to them; the iterator already reads the first one so
+        // the dictionary page (if any) is available
+        return new ColumnChunkPageReader(
+            descriptor.col,
+            decompressor,
+            pages,
+            descriptor.metadata.getValueCount(),
+            pages.dictionaryPage,
+            offsetIndex,
+            rowCount,
+            pageBlockDecryptor,
             aadPrefix,
-            ModuleType.DataPageHeader,
             rowGroupOrdinal,
             columnOrdinal,
-            getPageOrdinal(dataPageCountReadSoFar));
-      }
-      while (hasMorePages(valuesCountReadSoFar, dataPageCountReadSoFar)) {
-        byte[] pageHeaderAAD = dataPageHeaderAAD;
-        if (null != headerBlockDecryptor) {
-          // Important: this verifies file integrity (makes sure dictionary page had not been removed)
-          if (null == dictionaryPage && descriptor.metadata.hasDictionaryPage()) {
-            pageHeaderAAD = AesCipher.createModuleAAD(
-                aadPrefix, ModuleType.DictionaryPageHeader, rowGroupOrdinal, columnOrdinal, -1);
-          } else {
-            int pageOrdinal = getPageOrdinal(dataPageCountReadSoFar);
-            AesCipher.quickUpdatePageAAD(dataPageHeaderAAD, pageOrdinal);
-          }
-        }
-        PageHeader pageHeader = readPageHeader(headerBlockDecryptor, pageHeaderAAD);
-        int uncompressedPageSize = pageHeader.getUncompressed_page_size();
-        int compressedPageSize = pageHeader.getCompressed_page_size();
-        final BytesInput pageBytes;
-        switch (pageHeader.type) {
-          case DICTIONARY_PAGE:
-            // there is only one dictionary page per column chunk
-            if (dictionaryPage != null) {
-              throw new ParquetDecodingException(
-                  "more than one dictionary page in column " + descriptor.col);
-            }
-            pageBytes = this.readAsBytesInput(compressedPageSize);
-            if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
-              verifyCrc(
-                  pageHeader.getCrc(),
-                  pageBytes,
-                  "could not verify dictionary page integrity, CRC checksum verification failed");
-            }
-            DictionaryPageHeader dicHeader = pageHeader.getDictionary_page_header();
-            dictionaryPage = new DictionaryPage(
-                pageBytes,
-                uncompressedPageSize,
-                dicHeader.getNum_values(),
-                converter.getEncoding(dicHeader.getEncoding()));
-            // Copy crc to new page, used for testing
-            if (pageHeader.isSetCrc()) {
-              dictionaryPage.setCrc(pageHeader.getCrc());
-            }
-            break;
-          case DATA_PAGE:
-            DataPageHeader dataHeaderV1 = pageHeader.getData_page_header();
-            pageBytes = this.readAsBytesInput(compressedPageSize);
-            if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
-              verifyCrc(
-                  pageHeader.getCrc(),
-                  pageBytes,
-                  "could not verify page integrity, CRC checksum verification failed");
-            }
-            DataPageV1 dataPageV1 = new DataPageV1(
-                pageBytes,
-                dataHeaderV1.getNum_values(),
-                uncompressedPageSize,
-                converter.fromParquetStatistics(
-                    getFileMetaData().getCreatedBy(), dataHeaderV1.getStatistics(), type),
-                converter.getEncoding(dataHeaderV1.getRepetition_level_encoding()),
-                converter.getEncoding(dataHeaderV1.getDefinition_level_encoding()),
-                converter.getEncoding(dataHeaderV1.getEncoding()));
-            // Copy crc to new page, used for testing
-            if (pageHeader.isSetCrc()) {
-              dataPageV1.setCrc(pageHeader.getCrc());
-            }
-            pagesInChunk.add(dataPageV1);
-            valuesCountReadSoFar += dataHeaderV1.getNum_values();
-            ++dataPageCountReadSoFar;
-            break;
-          case DATA_PAGE_V2:
-            DataPageHeaderV2 dataHeaderV2 = pageHeader.getData_page_header_v2();
-            int dataSize = compressedPageSize
-                - dataHeaderV2.getRepetition_levels_byte_length()
-                - dataHeaderV2.getDefinition_levels_byte_length();
-            final BytesInput repetitionLevels =
-                this.readAsBytesInput(dataHeaderV2.getRepetition_levels_byte_length());
-            final BytesInput definitionLevels =
-                this.readAsBytesInput(dataHeaderV2.getDefinition_levels_byte_length());
-            final BytesInput values = this.readAsBytesInput(dataSize);
-            if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
-              pageBytes = BytesInput.concat(repetitionLevels, definitionLevels, values);
-              verifyCrc(
-                  pageHeader.getCrc(),
-                  pageBytes,
-                  "could not verify page integrity, CRC checksum verification failed");
-            }
-            DataPageV2 dataPageV2 = new DataPageV2(
-                dataHeaderV2.getNum_rows(),
-                dataHeaderV2.getNum_nulls(),
-                dataHeaderV2.getNum_values(),
-                repetitionLevels,
-                definitionLevels,
-                converter.getEncoding(dataHeaderV2.getEncoding()),
-                values,
-                uncompressedPageSize,
-                converter.fromParquetStatistics(
-                    getFileMetaData().getCreatedBy(), dataHeaderV2.getStatistics(), type),
-                dataHeaderV2.isIs_compressed());
-            // Copy crc to new page, used for testing
-            if (pageHeader.isSetCrc()) {
-              dataPageV2.setCrc(pageHeader.getCrc());
-            }
-            pagesInChunk.add(dataPageV2);
-            valuesCountReadSoFar += dataHeaderV2.getNum_values();
-            ++dataPageCountReadSoFar;
-            break;
-          default:
-            LOG.debug("skipping page of type {} of size {}", pageHeader.getType(), compressedPageSize);
-            stream.skipFully(compressedPageSize);
-            break;
-        }
+            options,
+            this::releaseBuffers);
       }
-      if (offsetIndex == null && valuesCountReadSoFar != descriptor.metadata.getValueCount()) {
-        // Would be nice to have a CorruptParquetFileException or something as a subclass?
-        throw new IOException(
-            "Expected " + descriptor.metadata.getValueCount() + " values in column chunk at " + getPath()
-                + " offset " + descriptor.metadata.getFirstDataPageOffset() + " but got "
-                + valuesCountReadSoFar + " values instead over " + pagesInChunk.size()
-                + " pages ending at file offset " + (descriptor.fileOffset + stream.position()));
+      List<DataPage> pagesInChunk = new ArrayList<>();
+      while (pages.hasNextPage()) {
+        pagesInChunk.add(pages.nextPage());
       }
-      BytesInputDecompressor decompressor =
-          options.getCodecFactory().getDecompressor(descriptor.metadata.getCodec());
       return new ColumnChunkPageReader(
+          descriptor.col,
           decompressor,
           pagesInChunk,
-          dictionaryPage,
+          pages.dictionaryPage,
           offsetIndex,
           rowCount,
           pageBlockDecryptor,
@@ -1978,6 +2430,240 @@ public class ParquetFileReader implements Closeable {
           options);
     }
 
+    /**
+     * @return whether the pages are read from the file lazily instead of from buffers holding the whole chunk
+     */
+    boolean isStreaming() {
+      return false;
+    }
+
+    /**
+     * Called when the data page starting at the specified position is handed to the page reader. The pages before it
+     * have been decompressed by then so the buffers they were read into are no longer needed.
+     *
+     * @param position the position relative to the start of the chunk
+     */
+    protected void releaseBefore(long position) {}
+
+    /**
+     * Releases the buffers of the chunk not released yet; called when the row group is closed.
+     */
+    protected void releaseBuffers() {}
+
+    /**
+     * Reads the pages of the chunk one by one. The next data page is always read in advance so the dictionary page
+     * is available right after creating the iterator.
+     */
+    private class PageIterator implements Iterator<DataPage> {
+      private final BlockCipher.Decryptor headerBlockDecryptor;
+      private final byte[] aadPrefix;
+      private final int rowGroupOrdinal;
+      private final int columnOrdinal;
+      private final PrimitiveType type;
+      // the decompressed pages of uncompressed chunks are the pages read
+      private final boolean uncompressed = descriptor.metadata.getCodec() == CompressionCodecName.UNCOMPRESSED;
+      private final byte[] dataPageHeaderAAD;
+      private long valuesCountReadSoFar = 0L;
+      private int dataPageCountReadSoFar = 0;
+      private DictionaryPage dictionaryPage;
+      private DataPage next;
+      // the position of the header of the next data page relative to the start of the chunk
+      private long nextPosition;
+
+      PageIterator(
+          BlockCipher.Decryptor headerBlockDecryptor,
+          byte[] aadPrefix,
+          int rowGroupOrdinal,
+          int columnOrdinal)
+          throws IOException {
+        this.headerBlockDecryptor = headerBlockDecryptor;
+        this.aadPrefix = aadPrefix;
+        this.rowGroupOrdinal = rowGroupOrdinal;
+        this.columnOrdinal = columnOrdinal;
+        this.type = getFileMetaData()
+            .getSchema()
+            .getType(descriptor.col.getPath())
+            .asPrimitiveType();
+        if (null != headerBlockDecryptor) {
+          dataPageHeaderAAD = AesCipher.createModuleAAD(
+              aadPrefix,
+              ModuleType.DataPageHeader,
+              rowGroupOrdinal,
+              columnOrdinal,
+              getPageOrdinal(dataPageCountReadSoFar));
+        } else {
+          dataPageHeaderAAD = null;
+        }
+        next = readNextDataPage();
+      }
+
+      boolean hasNextPage() {
+        return next != null;
+      }
+
+      DataPage nextPage() throws IOException {
+        DataPage page = next;
+        if (page == null) {
+          throw new NoSuchElementException();
+        }
+        releaseBefore(nextPosition);
+        next = readNextDataPage();
+        return page;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return hasNextPage();
+      }
+
+      @Override
+      public DataPage next() {
+        try {
+          return nextPage();
+        } catch (IOException e) {
+          throw new ParquetDecodingException("Unable to read the next page of column " + descriptor.col, e);
+        }
+      }
+
+      private DataPage readNextDataPage() throws IOException {
+        while (hasMorePages(valuesCountReadSoFar, dataPageCountReadSoFar)) {
+          nextPosition = position();
+          byte[] pageHeaderAAD = dataPageHeaderAAD;
+          if (null != headerBlockDecryptor) {
+            // Important: this verifies file integrity (makes sure dictionary page had not been removed)
+            if (null == dictionaryPage && descriptor.metadata.hasDictionaryPage()) {
+              pageHeaderAAD = AesCipher.createModuleAAD(
+                  aadPrefix, ModuleType.DictionaryPageHeader, rowGroupOrdinal, columnOrdinal, -1);
+            } else {
+              int pageOrdinal = getPageOrdinal(dataPageCountReadSoFar);
+              AesCipher.quickUpdatePageAAD(dataPageHeaderAAD, pageOrdinal);
+            }
+          }
+          PageHeader pageHeader = readPageHeader(headerBlockDecryptor, pageHeaderAAD);
+          int uncompressedPageSize = pageHeader.getUncompressed_page_size();
+          int compressedPageSize = pageHeader.getCompressed_page_size();
+          final BytesInput pageBytes;
+          switch (pageHeader.type) {
+            case DICTIONARY_PAGE:
+              // there is only one dictionary page per column chunk
+              if (dictionaryPage != null) {
+                throw new ParquetDecodingException(
+                    "more than one dictionary page in column " + descriptor.col);
+              }
+              // the dictionary page might be decompressed only after the data pages
+              pageBytes = readAsRetainedBytesInput(compressedPageSize);
+              if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
+                verifyCrc(
+                    pageHeader.getCrc(),
+                    pageBytes,
+                    "could not verify dictionary page integrity, CRC checksum verification failed");
+              }
+              DictionaryPageHeader dicHeader = pageHeader.getDictionary_page_header();
+              dictionaryPage = new DictionaryPage(
+                  pageBytes,
+                  uncompressedPageSize,
+                  dicHeader.getNum_values(),
+                  converter.getEncoding(dicHeader.getEncoding()));
+              // Copy crc to new page, used for testing
+              if (pageHeader.isSetCrc()) {
+                dictionaryPage.setCrc(pageHeader.getCrc());
+              }
+              break;
+            case DATA_PAGE:
+              DataPageHeader dataHeaderV1 = pageHeader.getData_page_header();
+              pageBytes = uncompressed
+                  ? readAsRetainedBytesInput(compressedPageSize)
+                  : readAsBytesInput(compressedPageSize);
+              if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
+                verifyCrc(
+                    pageHeader.getCrc(),
+                    pageBytes,
+                    "could not verify page integrity, CRC checksum verification failed");
+              }
+              DataPageV1 dataPageV1 = new DataPageV1(
+                  pageBytes,
+                  dataHeaderV1.getNum_values(),
+                  uncompressedPageSize,
+                  converter.fromParquetStatistics(
+                      getFileMetaData().getCreatedBy(), dataHeaderV1.getStatistics(), type),
+                  converter.getEncoding(dataHeaderV1.getRepetition_level_encoding()),
+                  converter.getEncoding(dataHeaderV1.getDefinition_level_encoding()),
+                  converter.getEncoding(dataHeaderV1.getEncoding()));
+              // Copy crc to new page, used for testing
+              if (pageHeader.isSetCrc()) {
+                dataPageV1.setCrc(pageHeader.getCrc());
+              }
+              valuesCountReadSoFar += dataHeaderV1.getNum_values();
+              ++dataPageCountReadSoFar;
+              return dataPageV1;
+            case DATA_PAGE_V2:
+              DataPageHeaderV2 dataHeaderV2 = pageHeader.getData_page_header_v2();
+              int dataSize = compressedPageSize
+                  - dataHeaderV2.getRepetition_levels_byte_length()
+                  - dataHeaderV2.getDefinition_levels_byte_length();
+              // the levels are never compressed so the decompressed page references them
+              final BytesInput repetitionLevels =
+                  readAsRetainedBytesInput(dataHeaderV2.getRepetition_levels_byte_length());
+              final BytesInput definitionLevels =
+                  readAsRetainedBytesInput(dataHeaderV2.getDefinition_levels_byte_length());
+              final BytesInput values = uncompressed || !dataHeaderV2.isIs_compressed()
+                  ? readAsRetainedBytesInput(dataSize)
+                  : readAsBytesInput(dataSize);
+              if (options.usePageChecksumVerification() && pageHeader.isSetCrc()) {
+                pageBytes = BytesInput.concat(repetitionLevels, definitionLevels, values);
+                verifyCrc(
+                    pageHeader.getCrc(),
+                    pageBytes,
+                    "could not verify page integrity, CRC checksum verification failed");
+              }
+              DataPageV2 dataPageV2 = new DataPageV2(
+                  dataHeaderV2.getNum_rows(),
+                  dataHeaderV2.getNum_nulls(),
+                  dataHeaderV2.getNum_values(),
+                  repetitionLevels,
+                  definitionLevels,
+                  converter.getEncoding(dataHeaderV2.getEncoding()),
+                  values,
+                  uncompressedPageSize,
+                  converter.fromParquetStatistics(
+                      getFileMetaData().getCreatedBy(), dataHeaderV2.getStatistics(), type),
+                  dataHeaderV2.isIs_compressed());
+              // Copy crc to new page, used for testing
+              if (pageHeader.isSetCrc()) {
+                dataPageV2.setCrc(pageHeader.getCrc());
+              }
+              valuesCountReadSoFar += dataHeaderV2.getNum_values();
+              ++dataPageCountReadSoFar;
+              return dataPageV2;
+            default:
+              LOG.debug("skipping page of type {} of size {}", pageHeader.getType(), compressedPageSize);
+              skipPageBytes(compressedPageSize);
+              break;
+          }
+        }
+        finish();
+        return null;
+      }
+
+      private void finish() throws IOException {
+        if (offsetIndex == null && valuesCountReadSoFar != descriptor.metadata.getValueCount()) {
+          // Would be nice to have a CorruptParquetFileException or something as a subclass?
+          throw new IOException("Expected " + descriptor.metadata.getValueCount()
+              + " values in column chunk at " + getPath()
+              + " offset " + descriptor.metadata.getFirstDataPageOffset() + " but got "
+              + valuesCountReadSoFar + " values instead over " + dataPageCountReadSoFar
+              + " pages ending at file offset " + (descriptor.fileOffset + position()));
+        }
+        ParquetMetricsCallback metricsCallback = options.getMetricsCallback();
+        if (metricsCallback != null) {
+          metricsCallback.setColumnValueLong(
+              descriptor.metadata.getPath().toDotString(),
+              ParquetFileReaderMetrics.ColumnPagesRead.name(),
+              dataPageCountReadSoFar);
+        }
+      }
+    }
+
     private boolean hasMorePages(long valuesCountReadSoFar, int dataPageCountReadSoFar) {
       return offsetIndex == null
           ? valuesCountReadSoFar < descriptor.metadata.getValueCount()
@@ -2000,6 +2686,29 @@ public class ParquetFileReader implements Closeable {
     public BytesInput readAsBytesInput(int size) throws IOException {
       return BytesInput.from(stream.sliceBuffers(size));
     }
+
+    /**
+     * Reads bytes the pages handed out by the page reader keep referencing after decompression, e.g. the levels of
+     * the data pages v2 or the pages of uncompressed chunks. They stay valid until the row group is closed.
+     *
+     * @param size the number of bytes to read
+     * @return the bytes
+     * @throws IOException if there is an error while reading from the file stream
+     */
+    protected BytesInput readAsRetainedBytesInput(int size) throws IOException {
+      return readAsBytesInput(size);
+    }
+
+    protected void skipPageBytes(int size) throws IOException {
+      stream.skipFully(size);
+    }
+
+    /**
+     * @return the position relative to the start of the chunk
+     */
+    protected long position() {
+      return stream.position();
+    }
   }
 
   /**
@@ -2068,6 +2777,205 @@ public class ParquetFileReader implements Closeable {
     }
   }
 
+  /**
+   * A column chunk that is read from the file page by page as the pages are consumed instead of being read at once.
+   * The bytes of the chunk are fetched in windows of the read-ahead size; pages larger than the read-ahead size are
+   * read by themselves. Once the pages sliced from a window have been decompressed the window is reused for reading
+   * ahead, and the buffers of the large pages are released. Reader memory is thus bounded by the windows and the pages
+   * being decoded instead of the size of the row group.
+   */
+  private class StreamingChunk extends Chunk {
+    private final ByteBufferAllocator allocator = options.getAllocator();
+    private final ByteBufferReleaser releaser;
+    private final int readAheadSize;
+    private final long end;
+    // the buffers that might still back pages not decompressed yet, in the order of the file
+    private final ArrayDeque<ReadBuffer> inUse = new ArrayDeque<>();
+    // the windows whose pages have all been decompressed
+    private final List<ByteBuffer> free = new ArrayList<>();
+    // the absolute position of the start of the current window
+    private long windowOffset;
+    private ByteBuffer window = ByteBuffer.allocate(0);
+
+    private final InputStream windowStream = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        if (!window.hasRemaining() && !fill()) {
+          return -1;
+        }
+        return window.get() & 0xFF;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+          return 0;
+        }
+        if (!window.hasRemaining() && !fill()) {
+          return -1;
+        }
+        int n = Math.min(len, window.remaining());
+        window.get(b, off, n);
+        return n;
+      }
+    };
+
+    /**
+     * A buffer read from the file and the absolute position of its end.
+     */
+    private class ReadBuffer {
+      private final ByteBuffer buffer;
+      private final long end;
+
+      private ReadBuffer(ByteBuffer buffer, long end) {
+        this.buffer = buffer;
+        this.end = end;
+      }
+    }
+
+    StreamingChunk(ChunkDescriptor descriptor, int readAheadSize, ByteBufferReleaser releaser, long rowCount) {
+      super(descriptor, Collections.emptyList(), null, rowCount);
+      this.releaser = releaser;
+      this.readAheadSize = readAheadSize;
+      this.end = descriptor.fileOffset + descriptor.size;
+      this.windowOffset = descriptor.fileOffset;
+    }
+
+    @Override
+    boolean isStreaming() {
+      return true;
+    }
+
+    private long filePosition() {
+      return windowOffset + window.position();
+    }
+
+    /**
+     * Reads the next window starting with the unread bytes of the current one.
+     *
+     * @return whether there are more bytes to read
+     */
+    private boolean fill() throws IOException {
+      long pos = filePosition();
+      // headers past the end of the chunk are still readable (see WorkaroundChunk)
+      long limit = pos < end ? end : file.getLength();
+      int size = Math.toIntExact(Math.min(readAheadSize, limit - pos));
+      int carried = window.remaining();
+      if (size <= carried) {
+        return false;
+      }
+      ByteBuffer buffer = newWindow(size);
+      buffer.put(window);
+      f.seek(pos + carried);
+      f.readFully(buffer);
+      buffer.flip();
+      BenchmarkCounter.incrementBytesRead(size - carried);
+      inUse.add(new ReadBuffer(buffer, pos + size));
+      window = buffer;
+      windowOffset = pos;
+      return true;
+    }
+
+    private ByteBuffer newWindow(int size) {
+      for (int i = 0; i < free.size(); ++i) {
+        ByteBuffer buffer = free.get(i);
+        if (buffer.capacity() >= size) {
+          free.remove(i);
+          buffer.clear();
+          buffer.limit(size);
+          return buffer;
+        }
+      }
+      return allocator.allocate(size);
+    }
+
+    @Override
+    protected PageHeader readPageHeader(BlockCipher.Decryptor blockDecryptor, byte[] pageHeaderAAD)
+        throws IOException {
+      return Util.readPageHeader(windowStream, blockDecryptor, pageHeaderAAD);
+    }
+
+    @Override
+    public BytesInput readAsBytesInput(int size) throws IOException {
+      if (window.remaining() < size && size <= readAheadSize) {
+        fill();
+      }
+      if (window.remaining() >= size) {
+        ByteBuffer slice = window.slice();
+        slice.limit(size);
+        window.position(window.position() + size);
+        return BytesInput.from(slice);
+      }
+      // the page is larger than a window so it is read by itself
+      long pos = filePosition();
+      ByteBuffer page = allocator.allocate(size);
+      inUse.add(new ReadBuffer(page, pos + size));
+      page.put(window);
+      f.seek(pos + page.position());
+      f.readFully(page);
+      page.flip();
+      BenchmarkCounter.incrementBytesRead(size);
+      window = ByteBuffer.allocate(0);
+      windowOffset = pos + size;
+      return BytesInput.from(page);
+    }
+
+    @Override
+    protected BytesInput readAsRetainedBytesInput(int size) throws IOException {
+      // copied as the buffers the bytes are read into are reused
+      ByteBuffer bytes = readAsBytesInput(size).toByteBuffer();
+      ByteBuffer copy;
+      if (allocator.isDirect()) {
+        copy = allocator.allocate(size);
+        releaser.releaseLater(copy);
+      } else {
+        copy = ByteBuffer.allocate(size);
+      }
+      copy.put(bytes);
+      copy.flip();
+      return BytesInput.from(copy);
+    }
+
+    @Override
+    protected void skipPageBytes(int size) throws IOException {
+      if (window.remaining() >= size) {
+        window.position(window.position() + size);
+      } else {
+        windowOffset = filePosition() + size;
+        window = ByteBuffer.allocate(0);
+      }
+    }
+
+    @Override
+    protected long position() {
+      return filePosition() - descriptor.fileOffset;
+    }
+
+    @Override
+    protected void releaseBefore(long position) {
+      long filePosition = descriptor.fileOffset + position;
+      while (!inUse.isEmpty() && inUse.peek().end <= filePosition && inUse.peek().buffer != window) {
+        ByteBuffer buffer = inUse.poll().buffer;
+        if (buffer.capacity() <= readAheadSize) {
+          free.add(buffer);
+        } else {
+          allocator.release(buffer);
+        }
+      }
+    }
+
+    @Override
+    protected void releaseBuffers() {
+      for (ReadBuffer buffer : inUse) {
+        allocator.release(buffer.buffer);
+      }
+      inUse.clear();
+      free.forEach(allocator::release);
+      free.clear();
+      window = ByteBuffer.allocate(0);
+    }
+  }
+
   /**
    * Information needed to read a column chunk or a part of it.
    */
@@ -2111,7 +3019,8 @@ public class ParquetFileReader implements Closeable {
 
   /**
    * Describes a list of consecutive parts to be read at once. A consecutive part may contain whole column chunks or
-   * only parts of them (some pages).
+   * only parts of them (some pages). The parts may be separated by small gaps that are read and skipped over to save
+   * requests.
    */
   private class ConsecutivePartList {
 
@@ -2126,15 +3035,38 @@ public class ParquetFileReader implements Closeable {
       this.offset = offset;
     }
 
+    /**
+     * @param startingPos where the next chunk starts
+     * @param size        the size of the next chunk
+     * @return whether the chunk directly follows this list or the gap before it is small enough to read over
+     */
+    boolean canAppend(long startingPos, long size) {
+      long gap = startingPos - endPos();
+      return gap == 0
+          || (gap > 0
+              && gap <= options.getReadRangeMaxGap()
+              && length + gap + size <= options.getReadRangeMaxMergedSize());
+    }
+
     /**
      * adds a chunk to the list.
-     * It must be consecutive to the previous chunk
+     * It must be after the previous chunk, see {@link #canAppend(long, long)}
      *
      * @param descriptor a chunk descriptor
      */
     public void addChunk(ChunkDescriptor descriptor) {
       chunks.add(descriptor);
-      length += descriptor.size;
+      length = descriptor.fileOffset + descriptor.size - offset;
+    }
+
+    private void addChunks(ByteBufferInputStream stream, ChunkListBuilder builder) throws IOException {
+      long pos = offset;
+      for (final ChunkDescriptor descriptor : chunks) {
+        // skip the gap read together with the chunks
+        stream.skipFully(descriptor.fileOffset - pos);
+        builder.add(descriptor, stream.sliceBuffers(descriptor.size), f);
+        pos = descriptor.fileOffset + descriptor.size;
+      }
     }
 
     /**
@@ -2169,10 +3101,7 @@ public class ParquetFileReader implements Closeable {
 
       // report in a counter the data we just scanned
       BenchmarkCounter.incrementBytesRead(length);
-      ByteBufferInputStream stream = ByteBufferInputStream.wrap(buffers);
-      for (final ChunkDescriptor descriptor : chunks) {
-        builder.add(descriptor, stream.sliceBuffers(descriptor.size), f);
-      }
+      addChunks(ByteBufferInputStream.wrap(buffers), builder);
     }
 
     private void setReadMetrics(long startNs, long len) {
@@ -2190,39 +3119,50 @@ public class ParquetFileReader implements Closeable {
         metricsCallback.setDuration(ParquetFileReaderMetrics.ReadTime.name(), totalFileReadTimeNs);
         metricsCallback.setValueLong(ParquetFileReaderMetrics.ReadSize.name(), length);
         metricsCallback.setValueDouble(ParquetFileReaderMetrics.ReadThroughput.name(), throughput);
+        // the parts are read at once so the time is attributed to the columns proportionally to their sizes
+        for (ChunkDescriptor descriptor : chunks) {
+          String column = descriptor.metadata.getPath().toDotString();
+          metricsCallback.setColumnValueLong(
+              column, ParquetFileReaderMetrics.ColumnReadSize.name(), descriptor.size);
+          metricsCallback.setColumnDuration(
+              column,
+              ParquetFileReaderMetrics.ColumnReadTime.name(),
+              len == 0 ? 0 : (long) ((double) totalFileReadTimeNs * descriptor.size / len));
+        }
       }
     }
 
     /**
-     * Populate data in a parquet file range from a vectored range; will block for up
-     * to {@link #HADOOP_VECTORED_READ_TIMEOUT_SECONDS} seconds.
-     * @param currRange range to populated.
+     * Populate data in a parquet file range from the vectored ranges it was split into; will block for up
+     * to {@link #HADOOP_VECTORED_READ_TIMEOUT_SECONDS} seconds for each range.
+     * @param currRanges consecutive ranges covering this part.
      * @param builder used to build chunk list to read the pages for the different columns.
      * @throws IOException if there is an error while reading from the stream, including a timeout.
      */
-    public void readFromVectoredRange(ParquetFileRange currRange, ChunkListBuilder builder) throws IOException {
-      ByteBuffer buffer;
+    public void readFromVectoredRanges(List<ParquetFileRange> currRanges, ChunkListBuilder builder)
+        throws IOException {
+      List<ByteBuffer> buffers = new ArrayList<>(currRanges.size());
       final long timeoutSeconds = HADOOP_VECTORED_READ_TIMEOUT_SECONDS;
       long readStart = System.nanoTime();
-      try {
-        LOG.debug(
-            "Waiting for vectored read to finish for range {} with timeout {} seconds",
-            currRange,
-            timeoutSeconds);
-        buffer = FutureIO.awaitFuture(currRange.getDataReadFuture(), timeoutSeconds, TimeUnit.SECONDS);
-        setReadMetrics(readStart, currRange.getLength());
-        // report in a counter the data we just scanned
-        BenchmarkCounter.incrementBytesRead(currRange.getLength());
-      } catch (TimeoutException e) {
-        String error = String.format(
-            "Timeout while fetching result for %s with time limit %d seconds", currRange, timeoutSeconds);
-        LOG.error(error, e);
-        throw new IOException(error, e);
-      }
-      ByteBufferInputStream stream = ByteBufferInputStream.wrap(buffer);
-      for (ChunkDescriptor descriptor : chunks) {
-        builder.add(descriptor, stream.sliceBuffers(descriptor.size), f);
+      for (ParquetFileRange currRange : currRanges) {
+        try {
+          LOG.debug(
+              "Waiting for vectored read to finish for range {} with timeout {} seconds",
+              currRange,
+              timeoutSeconds);
+          buffers.add(FutureIO.awaitFuture(currRange.getDataReadFuture(), timeoutSeconds, TimeUnit.SECONDS));
+        } catch (TimeoutException e) {
+          String error = String.format(
+              "Timeout while fetching result for %s with time limit %d seconds",
+              currRange, timeoutSeconds);
+          LOG.error(error, e);
+          throw new IOException(error, e);
+        }
       }
+      setReadMetrics(readStart, length);
+      // report in a counter the data we just scanned
+      BenchmarkCounter.incrementBytesRead(length);
+      addChunks(ByteBufferInputStream.wrap(buffers), builder);
     }
 
     /**
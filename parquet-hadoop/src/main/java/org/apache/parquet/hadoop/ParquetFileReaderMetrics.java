@@ -27,7 +27,30 @@ public enum ParquetFileReaderMetrics {
   ReadThroughput("read throughput when reading Parquet file from storage (MB/sec)"),
   DecompressTime("time spent in block decompression"),
   DecompressSize("decompressed data size (MB)"),
-  DecompressThroughput("block decompression throughput (MB/sec)");
+  DecompressThroughput("block decompression throughput (MB/sec)"),
+
+  // per column chunk metrics, reported through ParquetMetricsCallback.setColumnValueLong/setColumnDuration
+  ColumnReadSize("bytes of the column chunk read from storage"),
+  ColumnReadTime("time spent waiting for the column chunk to be read from storage"),
+  ColumnPagesRead("number of data pages of the column chunk read from storage"),
+  ColumnPagesSkipped("number of data pages of the column chunk skipped by the column index filter"),
+  ColumnDecompressTime("time spent in decompressing the pages of the column chunk"),
+  ColumnDictionarySize("size of the decompressed dictionary page of the column chunk (bytes)"),
+  ColumnDictionaryEntries("number of entries in the dictionary page of the column chunk"),
+
+  // row group level metrics
+  RowGroupsDroppedByStatistics("number of row groups dropped by the statistics filter"),
+  RowGroupsDroppedByDictionary("number of row groups dropped by the dictionary filter"),
+  RowGroupsDroppedByBloomFilter("number of row groups dropped by the bloom filter"),
+  RowGroupsKept("number of row groups kept after row group filtering"),
+  RecordAssemblyTime("time spent in decoding the pages and assembling the records of a row group"),
+  RecordsFilteredOut("number of records of a row group discarded by the record filter"),
+
+  // decompressed page cache metrics, reported per row group
+  PageCacheHits("number of column chunks of a row group served by the decompressed page cache"),
+  PageCacheMisses("number of column chunks of a row group not found in the decompressed page cache"),
+  PageCacheHitRate("ratio of the column chunk reads served by the decompressed page cache since the process started"),
+  PageCacheSize("number of bytes of the pages kept in the decompressed page cache");
 
   private final String desc;
 
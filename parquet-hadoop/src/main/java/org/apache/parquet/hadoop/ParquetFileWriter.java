@@ -54,6 +54,7 @@ import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
@@ -73,6 +74,7 @@ import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.DistinctCountSketches;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.GlobalMetaData;
 import org.apache.parquet.hadoop.metadata.KeyValueMetadataMergeStrategy;
@@ -133,6 +135,10 @@ public class ParquetFileWriter implements AutoCloseable {
 
   // The Bloom filters
   private final List<Map<String, BloomFilter>> bloomFilters = new ArrayList<>();
+  private final List<Map<String, List<BloomFilter>>> pageBloomFilters = new ArrayList<>();
+
+  // The distinct count sketches
+  private final List<Map<String, HyperLogLog>> distinctCountSketches = new ArrayList<>();
 
   // The file encryptor
   private final InternalFileEncryptor fileEncryptor;
@@ -146,6 +152,8 @@ public class ParquetFileWriter implements AutoCloseable {
 
   // The Bloom filter for the actual block
   private Map<String, BloomFilter> currentBloomFilters;
+  private Map<String, List<BloomFilter>> currentPageBloomFilters;
+  private Map<String, HyperLogLog> currentDistinctCountSketches;
 
   // row group data set at the start of a row group
   private long currentRecordCount; // set in startBlock
@@ -594,6 +602,8 @@ public class ParquetFileWriter implements AutoCloseable {
     currentOffsetIndexes = new ArrayList<>();
 
     currentBloomFilters = new HashMap<>();
+    currentPageBloomFilters = new HashMap<>();
+    currentDistinctCountSketches = new HashMap<>();
   }
 
   /**
@@ -1029,6 +1039,28 @@ public class ParquetFileWriter implements AutoCloseable {
     currentBloomFilters.put(column, bloomFilter);
   }
 
+  /**
+   * Add the Bloom filters of the data pages of a column chunk of the current block; page Bloom filters are not
+   * written for encrypted files.
+   *
+   * @param column            the column name
+   * @param pageBloomFilters  the Bloom filters of the data pages in the order the pages were written
+   */
+  void addPageBloomFilters(String column, List<BloomFilter> pageBloomFilters) {
+    currentPageBloomFilters.put(column, new ArrayList<>(pageBloomFilters));
+  }
+
+  /**
+   * Add the sketch of the distinct values of a column chunk of the current block; the sketches are not written for
+   * encrypted files.
+   *
+   * @param column the column name
+   * @param sketch the sketch of the distinct values of the column chunk
+   */
+  void addDistinctCountSketch(String column, HyperLogLog sketch) {
+    currentDistinctCountSketches.put(column, sketch);
+  }
+
   /**
    * Writes a single v2 data page
    *
@@ -1417,9 +1449,13 @@ public class ParquetFileWriter implements AutoCloseable {
     columnIndexes.add(currentColumnIndexes);
     offsetIndexes.add(currentOffsetIndexes);
     bloomFilters.add(currentBloomFilters);
+    pageBloomFilters.add(currentPageBloomFilters);
+    distinctCountSketches.add(currentDistinctCountSketches);
     currentColumnIndexes = null;
     currentOffsetIndexes = null;
     currentBloomFilters = null;
+    currentPageBloomFilters = null;
+    currentDistinctCountSketches = null;
     currentBlock = null;
   }
 
@@ -1647,6 +1683,18 @@ public class ParquetFileWriter implements AutoCloseable {
     serializeColumnIndexes(columnIndexes, blocks, out, fileEncryptor);
     serializeOffsetIndexes(offsetIndexes, blocks, out, fileEncryptor);
     serializeBloomFilters(bloomFilters, blocks, out, fileEncryptor);
+    if (null == fileEncryptor) {
+      Map<String, String> pageBloomFilterReferences = serializePageBloomFilters(pageBloomFilters, blocks, out);
+      if (!pageBloomFilterReferences.isEmpty()) {
+        extraMetaData = new HashMap<>(extraMetaData);
+        extraMetaData.putAll(pageBloomFilterReferences);
+      }
+      Map<String, String> sketches = serializeDistinctCountSketches(distinctCountSketches, blocks);
+      if (!sketches.isEmpty()) {
+        extraMetaData = new HashMap<>(extraMetaData);
+        extraMetaData.putAll(sketches);
+      }
+    }
     LOG.debug("{}: end", out.getPos());
     this.footer = new ParquetMetadata(new FileMetaData(schema, extraMetaData, Version.FULL_VERSION), blocks);
     serializeFooter(footer, out, fileEncryptor, metadataConverter);
@@ -1849,6 +1897,53 @@ public class ParquetFileWriter implements AutoCloseable {
     }
   }
 
+  private static Map<String, String> serializePageBloomFilters(
+      List<Map<String, List<BloomFilter>>> pageBloomFilters, List<BlockMetaData> blocks, PositionOutputStream out)
+      throws IOException {
+    LOG.debug("{}: page bloom filters", out.getPos());
+    Map<String, String> references = new HashMap<>();
+    for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+      Map<String, List<BloomFilter>> blockPageBloomFilters = pageBloomFilters.get(bIndex);
+      if (blockPageBloomFilters.isEmpty()) continue;
+      for (ColumnChunkMetaData column : blocks.get(bIndex).getColumns()) {
+        List<BloomFilter> columnPageBloomFilters =
+            blockPageBloomFilters.get(column.getPath().toDotString());
+        if (columnPageBloomFilters == null || columnPageBloomFilters.contains(null)) {
+          continue;
+        }
+
+        long offset = out.getPos();
+        for (BloomFilter bloomFilter : columnPageBloomFilters) {
+          Util.writeBloomFilterHeader(ParquetMetadataConverter.toBloomFilterHeader(bloomFilter), out);
+          bloomFilter.writeTo(out);
+        }
+        references.put(
+            PageBloomFilters.key(column),
+            PageBloomFilters.reference(
+                column, offset, (int) (out.getPos() - offset), columnPageBloomFilters.size()));
+      }
+    }
+    return references;
+  }
+
+  private static Map<String, String> serializeDistinctCountSketches(
+      List<Map<String, HyperLogLog>> distinctCountSketches, List<BlockMetaData> blocks) {
+    Map<String, String> sketches = new HashMap<>();
+    for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+      Map<String, HyperLogLog> blockSketches = distinctCountSketches.get(bIndex);
+      if (blockSketches.isEmpty()) continue;
+      for (ColumnChunkMetaData column : blocks.get(bIndex).getColumns()) {
+        HyperLogLog sketch = blockSketches.get(column.getPath().toDotString());
+        if (sketch == null) {
+          continue;
+        }
+        column.setDistinctCountSketch(sketch);
+        sketches.put(DistinctCountSketches.key(column), DistinctCountSketches.value(column, sketch));
+      }
+    }
+    return sketches;
+  }
+
   private static void serializeFooter(
       ParquetMetadata footer,
       PositionOutputStream out,
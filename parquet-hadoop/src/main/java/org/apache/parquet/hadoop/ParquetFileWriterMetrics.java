@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+public enum ParquetFileWriterMetrics {
+
+  // row group level metrics
+  RowGroupFlushTime("time spent in encoding the buffered pages of a row group and writing them to the file"),
+  RowGroupBufferedSize("size of the data buffered in memory for a row group before it is flushed (bytes)"),
+  RowGroupRecordCount("number of records in a row group written to the file"),
+  MemoryManagerRescaleTime("time spent by the MemoryManager in rescaling the row group size of the writers"),
+
+  // per column chunk metrics, reported through ParquetMetricsCallback.setColumnValueLong/setColumnDuration
+  ColumnEncodedSize("size of the encoded but uncompressed pages of the column chunk (bytes)"),
+  ColumnCompressedSize("size of the compressed pages of the column chunk (bytes)"),
+  ColumnPagesWritten("number of data pages of the column chunk"),
+  ColumnCompressTime("time spent in compressing the pages of the column chunk"),
+  ColumnDictionarySize("size of the uncompressed dictionary page of the column chunk (bytes)"),
+  ColumnDictionaryFallbackPages(
+      "number of data pages of a dictionary enabled column chunk written with a non-dictionary encoding"),
+
+  // per column chunk values, reported through ParquetMetricsCallback.setColumnValueString
+  ColumnCodec("name of the compression codec of the column chunk"),
+  ColumnEncodings("comma separated list of the encodings of the data pages of the column chunk");
+
+  private final String desc;
+
+  ParquetFileWriterMetrics(String desc) {
+    this.desc = desc;
+  }
+
+  public String description() {
+    return desc;
+  }
+}
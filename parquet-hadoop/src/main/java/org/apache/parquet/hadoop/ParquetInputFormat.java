@@ -34,6 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FileStatus;
@@ -61,6 +64,7 @@ import org.apache.parquet.hadoop.api.ReadSupport;
 import org.apache.parquet.hadoop.api.ReadSupport.ReadContext;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.GlobalMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.ConfigurationUtil;
@@ -159,7 +163,35 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
    */
   public static final String SPLIT_FILES = "parquet.split.files";
 
-  private static final int MIN_FOOTER_CACHE_SIZE = 100;
+  /**
+   * Key to pack the row groups of several files into a single {@link ParquetCombineInputSplit}: {@value}. The splits
+   * of small files are combined up to {@link #SPLIT_COMBINE_MAX_SIZE}, preferring the files stored on the same hosts,
+   * so tables made of many small files do not create a task per file.
+   */
+  public static final String SPLIT_COMBINE_ENABLED = "parquet.split.combine.enabled";
+
+  /**
+   * Key for the target size in bytes of a combined split: {@value}. Splits larger than this are not combined.
+   */
+  public static final String SPLIT_COMBINE_MAX_SIZE = "parquet.split.combine.max.size";
+
+  /**
+   * Default value of parquet.split.combine.max.size is {@value}.
+   */
+  public static final long SPLIT_COMBINE_MAX_SIZE_DEFAULT = 128L * 1024 * 1024;
+
+  private static final int MAX_COMBINED_SPLIT_HOSTS = 3;
+
+  /**
+   * Key for the capacity of the footer cache of an input format, as the estimated number of bytes of the cached
+   * footers: {@value}. The least recently used footers are evicted once the capacity is exceeded.
+   */
+  public static final String FOOTER_CACHE_SIZE = "parquet.footer.cache.size";
+
+  /**
+   * Default value of parquet.footer.cache.size is {@value}.
+   */
+  public static final long FOOTER_CACHE_SIZE_DEFAULT = 128L * 1024 * 1024;
 
   /**
    * Key to enable/disable vectored io while reading parquet files:
@@ -172,6 +204,71 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
    */
   public static final boolean HADOOP_VECTORED_IO_DEFAULT = false;
 
+  /**
+   * Key for the largest gap in bytes between two column chunks (or page ranges) of a row group that is read
+   * and discarded to fetch both with a single request: {@value}. The default of 0 only combines adjacent ones.
+   */
+  public static final String READ_RANGE_MAX_GAP = "parquet.read.range.max.gap";
+
+  /**
+   * Key for the largest size in bytes of a read request combined from several ranges: {@value}. Vectored reads
+   * also split larger ranges into requests of about this size to fetch them in parallel.
+   */
+  public static final String READ_RANGE_MAX_MERGED_SIZE = "parquet.read.range.max.merged.size";
+
+  /**
+   * Key for the smallest size in bytes of a request created by splitting a large range for vectored reads: {@value}.
+   */
+  public static final String READ_RANGE_MIN_SIZE = "parquet.read.range.min.size";
+
+  /**
+   * Key for the number of bytes read speculatively from the end of a file when opening it: {@value}. The footer and
+   * any page index or Bloom filter contained by this tail are served from memory.
+   */
+  public static final String TAIL_READ_SIZE = "parquet.read.tail.size";
+
+  /**
+   * Key for the process-wide pool the decompressed pages are allocated from: {@value}. It is one of {@code none} (the
+   * default, pages are allocated per read), {@code heap} or {@code direct}. The pool of heap buffers serves the pages
+   * decompressed on heap while the pool of direct buffers serves the ones decompressed off-heap (see
+   * {@link #OFF_HEAP_DECRYPT_BUFFER_ENABLED}). The buffers of a row group are given back to the pool when the row
+   * group is closed, so values referencing the page data must not be used after that.
+   */
+  public static final String DECOMPRESSION_BUFFER_POOL = "parquet.read.decompression.buffer.pool";
+
+  /**
+   * Key to enable reading the column chunks of a row group page by page as the column readers get to the pages
+   * instead of reading the whole chunks before decoding: {@value}. It bounds the memory used by the reader
+   * independently of the size of the row groups. Row groups filtered by the column indexes are read as before.
+   */
+  public static final String STREAMING_READ_ENABLED = "parquet.read.streaming.enabled";
+
+  /**
+   * Key for the number of bytes of a column chunk read ahead with a single request when streaming is enabled: {@value}.
+   * Pages larger than this are read by themselves.
+   */
+  public static final String STREAMING_READ_AHEAD_SIZE = "parquet.read.streaming.read-ahead.size";
+
+  /**
+   * Key to enable the process-wide cache of decompressed pages: {@value}. The pages of the column chunks read in full
+   * from unfiltered row groups of unencrypted files are kept so later reads of the same chunks skip the I/O and the
+   * decompression.
+   */
+  public static final String PAGE_CACHE_ENABLED = "parquet.read.page.cache.enabled";
+
+  /**
+   * System property for the capacity in bytes of the process-wide page cache: {@value}. It is read once when the
+   * cache is first used; it is not a per-reader setting.
+   *
+   * @see DecompressedPageCache#setMaxSize(long)
+   */
+  public static final String PAGE_CACHE_SIZE = "parquet.read.page.cache.size";
+
+  /**
+   * Key to store the cached pages in direct buffers instead of heap ones: {@value}.
+   */
+  public static final String PAGE_CACHE_OFF_HEAP = "parquet.read.page.cache.off-heap";
+
   public static void setTaskSideMetaData(Job job, boolean taskSideMetadata) {
     ContextUtil.getConfiguration(job).setBoolean(TASK_SIDE_METADATA, taskSideMetadata);
   }
@@ -297,6 +394,9 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
       throws IOException, InterruptedException {
     Configuration conf = ContextUtil.getConfiguration(taskAttemptContext);
     ReadSupport<T> readSupport = getReadSupport(conf);
+    if (inputSplit instanceof ParquetCombineInputSplit) {
+      return new ParquetCombineRecordReader<T>(readSupport, getFilter(conf));
+    }
     return new ParquetRecordReader<T>(readSupport, getFilter(conf));
   }
 
@@ -351,21 +451,138 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
     Configuration configuration = ContextUtil.getConfiguration(jobContext);
     List<InputSplit> splits = new ArrayList<InputSplit>();
 
+    List<ParquetInputSplit> fileSplits = new ArrayList<ParquetInputSplit>();
     if (isTaskSideMetaData(configuration)) {
       // Although not required by the API, some clients may depend on always
       // receiving ParquetInputSplit. Translation is required at some point.
       for (InputSplit split : super.getSplits(jobContext)) {
         Preconditions.checkArgument(split instanceof FileSplit, "Cannot wrap non-FileSplit: %s", split);
-        splits.add(ParquetInputSplit.from((FileSplit) split));
+        fileSplits.add(ParquetInputSplit.from((FileSplit) split));
       }
-      return splits;
     } else {
-      splits.addAll(getSplits(configuration, getFooters(jobContext)));
+      fileSplits.addAll(getSplits(configuration, getFooters(jobContext)));
     }
 
+    if (configuration.getBoolean(SPLIT_COMBINE_ENABLED, false)) {
+      long maxCombinedSize = configuration.getLong(SPLIT_COMBINE_MAX_SIZE, SPLIT_COMBINE_MAX_SIZE_DEFAULT);
+      checkArgument(maxCombinedSize > 0, "Invalid %s: %s", SPLIT_COMBINE_MAX_SIZE, maxCombinedSize);
+      splits.addAll(combineSplits(fileSplits, maxCombinedSize));
+    } else {
+      splits.addAll(fileSplits);
+    }
     return splits;
   }
 
+  /**
+   * Packs the splits into combined splits of at most {@code maxCombinedSize} bytes (unless a single split is larger).
+   * The splits are grouped by their first host so that the combined splits keep their locality; the splits of a file
+   * packed together are merged so the file is opened once.
+   *
+   * @param splits          the splits of the files
+   * @param maxCombinedSize the target size in bytes of the combined splits
+   * @return the combined splits
+   * @throws IOException if the locations of a split cannot be retrieved
+   */
+  static List<ParquetCombineInputSplit> combineSplits(List<ParquetInputSplit> splits, long maxCombinedSize)
+      throws IOException {
+    Map<String, List<ParquetInputSplit>> splitsByHost = new TreeMap<String, List<ParquetInputSplit>>();
+    for (ParquetInputSplit split : splits) {
+      String[] hosts = split.getLocations();
+      String host = hosts == null || hosts.length == 0 ? "" : hosts[0];
+      List<ParquetInputSplit> hostSplits = splitsByHost.get(host);
+      if (hostSplits == null) {
+        hostSplits = new ArrayList<ParquetInputSplit>();
+        splitsByHost.put(host, hostSplits);
+      }
+      hostSplits.add(split);
+    }
+
+    List<ParquetCombineInputSplit> combinedSplits = new ArrayList<ParquetCombineInputSplit>();
+    for (List<ParquetInputSplit> hostSplits : splitsByHost.values()) {
+      List<ParquetInputSplit> current = new ArrayList<ParquetInputSplit>();
+      long currentSize = 0;
+      for (ParquetInputSplit split : hostSplits) {
+        if (!current.isEmpty() && currentSize + split.getLength() > maxCombinedSize) {
+          combinedSplits.add(combine(current));
+          current = new ArrayList<ParquetInputSplit>();
+          currentSize = 0;
+        }
+        current.add(split);
+        currentSize += split.getLength();
+      }
+      if (!current.isEmpty()) {
+        combinedSplits.add(combine(current));
+      }
+    }
+    LOG.info("Combined {} splits into {} splits", splits.size(), combinedSplits.size());
+    return combinedSplits;
+  }
+
+  private static ParquetCombineInputSplit combine(List<ParquetInputSplit> splits) throws IOException {
+    // Merge the splits of the same file and count the bytes stored on each host
+    Map<Path, ParquetInputSplit> splitsByFile = new LinkedHashMap<Path, ParquetInputSplit>();
+    List<ParquetInputSplit> unmerged = new ArrayList<ParquetInputSplit>();
+    Map<String, Long> bytesByHost = new HashMap<String, Long>();
+    for (ParquetInputSplit split : splits) {
+      for (String host : split.getLocations()) {
+        Long bytes = bytesByHost.get(host);
+        bytesByHost.put(host, (bytes == null ? 0 : bytes) + split.getLength());
+      }
+      ParquetInputSplit previous = splitsByFile.get(split.getPath());
+      if (previous == null) {
+        splitsByFile.put(split.getPath(), split);
+      } else {
+        ParquetInputSplit merged = merge(previous, split);
+        if (merged == null) {
+          unmerged.add(split);
+        } else {
+          splitsByFile.put(split.getPath(), merged);
+        }
+      }
+    }
+    List<ParquetInputSplit> fileSplits = new ArrayList<ParquetInputSplit>(splitsByFile.values());
+    fileSplits.addAll(unmerged);
+
+    List<Entry<String, Long>> hosts = new ArrayList<Entry<String, Long>>(bytesByHost.entrySet());
+    Collections.sort(hosts, new Comparator<Entry<String, Long>>() {
+      @Override
+      public int compare(Entry<String, Long> h1, Entry<String, Long> h2) {
+        int cmp = Long.compare(h2.getValue(), h1.getValue());
+        return cmp != 0 ? cmp : h1.getKey().compareTo(h2.getKey());
+      }
+    });
+    String[] topHosts = new String[Math.min(MAX_COMBINED_SPLIT_HOSTS, hosts.size())];
+    for (int i = 0; i < topHosts.length; i++) {
+      topHosts[i] = hosts.get(i).getKey();
+    }
+    return new ParquetCombineInputSplit(fileSplits, topHosts);
+  }
+
+  /**
+   * Merges two splits of the same file: either both list their row groups (client side metadata) or they are
+   * adjacent ranges (task side metadata).
+   *
+   * @return the merged split or null if the splits cannot be merged
+   */
+  private static ParquetInputSplit merge(ParquetInputSplit first, ParquetInputSplit second) throws IOException {
+    long[] firstOffsets = first.getRowGroupOffsets();
+    long[] secondOffsets = second.getRowGroupOffsets();
+    long start = Math.min(first.getStart(), second.getStart());
+    long end = Math.max(first.getEnd(), second.getEnd());
+    long length = first.getLength() + second.getLength();
+    String[] hosts = first.getLocations();
+    if (firstOffsets != null && secondOffsets != null) {
+      long[] offsets = Arrays.copyOf(firstOffsets, firstOffsets.length + secondOffsets.length);
+      System.arraycopy(secondOffsets, 0, offsets, firstOffsets.length, secondOffsets.length);
+      Arrays.sort(offsets);
+      return new ParquetInputSplit(first.getPath(), start, end, length, hosts, offsets);
+    }
+    if (firstOffsets == null && secondOffsets == null && first.getEnd() == second.getStart()) {
+      return new ParquetInputSplit(first.getPath(), start, end, length, hosts, null);
+    }
+    return null;
+  }
+
   /**
    * @param configuration the configuration to connect to the file system
    * @param footers       the footers of the files to read
@@ -445,7 +662,7 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
 
     if (footersCache == null) {
       footersCache = new LruCache<FileStatusWrapper, FootersCacheValue>(
-          Math.max(statuses.size(), MIN_FOOTER_CACHE_SIZE));
+          config.getLong(FOOTER_CACHE_SIZE, FOOTER_CACHE_SIZE_DEFAULT), FootersCacheValue::getEstimatedSize);
     }
     for (FileStatus status : statuses) {
       FileStatusWrapper statusWrapper = new FileStatusWrapper(status);
@@ -518,7 +735,30 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
    * @throws IOException if there is an error while reading
    */
   public GlobalMetaData getGlobalMetaData(JobContext jobContext) throws IOException {
-    return ParquetFileWriter.getGlobalMetaData(getFooters(jobContext));
+    List<FileStatus> statuses = listStatus(jobContext);
+    // Only the schemas and the key-value metadata are merged so the footers not cached are read without their row
+    // groups and are not added to the cache
+    Footer[] footers = new Footer[statuses.size()];
+    List<FileStatus> missingStatuses = new ArrayList<FileStatus>();
+    Map<Path, Integer> missingIndexes = new HashMap<Path, Integer>();
+    for (int i = 0; i < footers.length; i++) {
+      FileStatus status = statuses.get(i);
+      FootersCacheValue cacheEntry =
+          footersCache == null ? null : footersCache.getCurrentValue(new FileStatusWrapper(status));
+      if (cacheEntry != null) {
+        footers[i] = cacheEntry.getFooter();
+      } else {
+        missingStatuses.add(status);
+        missingIndexes.put(status.getPath(), i);
+      }
+    }
+    if (!missingStatuses.isEmpty()) {
+      for (Footer footer : ParquetFileReader.readAllFootersInParallelUsingSummaryFiles(
+          ContextUtil.getConfiguration(jobContext), missingStatuses, true)) {
+        footers[missingIndexes.get(footer.getFile())] = footer;
+      }
+    }
+    return ParquetFileWriter.getGlobalMetaData(Arrays.asList(footers));
   }
 
   /**
@@ -527,12 +767,22 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
    * used to determine whether the footer is still current.
    */
   static final class FootersCacheValue implements LruCache.Value<FileStatusWrapper, FootersCacheValue> {
+    // Rough sizes in bytes of the objects retained by a footer, used to estimate its memory footprint
+    private static final long FOOTER_OVERHEAD = 1024;
+    private static final long COLUMN_DESCRIPTOR_SIZE = 128;
+    // key-value metadata strings are stored as UTF-16
+    private static final long BYTES_PER_CHAR = 2;
+    private static final long BLOCK_OVERHEAD = 128;
+    private static final long COLUMN_CHUNK_METADATA_SIZE = 512;
+
     private final long modificationTime;
     private final Footer footer;
+    private final long estimatedSize;
 
     public FootersCacheValue(FileStatusWrapper status, Footer footer) {
       this.modificationTime = status.getModificationTime();
       this.footer = new Footer(footer.getFile(), footer.getParquetMetadata());
+      this.estimatedSize = estimateSize(footer.getParquetMetadata());
     }
 
     @Override
@@ -561,6 +811,32 @@ public class ParquetInputFormat<T> extends FileInputFormat<Void, T> {
     public Path getPath() {
       return footer.getFile();
     }
+
+    /**
+     * @return a rough estimate of the number of bytes retained by the footer
+     */
+    long getEstimatedSize() {
+      return estimatedSize;
+    }
+
+    private static long estimateSize(ParquetMetadata metadata) {
+      long size = FOOTER_OVERHEAD;
+      FileMetaData fileMetaData = metadata.getFileMetaData();
+      if (fileMetaData != null) {
+        size += COLUMN_DESCRIPTOR_SIZE
+            * fileMetaData.getSchema().getColumns().size();
+        for (Entry<String, String> entry :
+            fileMetaData.getKeyValueMetaData().entrySet()) {
+          size += BYTES_PER_CHAR
+              * (entry.getKey().length() + entry.getValue().length());
+        }
+      }
+      for (BlockMetaData block : metadata.getBlocks()) {
+        size += BLOCK_OVERHEAD
+            + COLUMN_CHUNK_METADATA_SIZE * block.getColumns().size();
+      }
+      return size;
+    }
   }
 
   /**
@@ -723,40 +999,42 @@ class ClientSideMetadataSplitStrategy {
       long minSplitSize,
       ReadContext readContext)
       throws IOException {
-    List<ParquetInputSplit> splits = new ArrayList<ParquetInputSplit>();
     Filter filter = ParquetInputFormat.getFilter(configuration);
+    String requestedSchema = readContext.getRequestedSchema().toString();
 
-    long rowGroupsDropped = 0;
-    long totalRowGroups = 0;
-
+    // The files are planned in parallel as getting their status and block locations are remote calls
+    List<Callable<FileSplits>> tasks = new ArrayList<Callable<FileSplits>>(footers.size());
     for (Footer footer : footers) {
-      final Path file = footer.getFile();
-      LOG.debug("{}", file);
-      FileSystem fs = file.getFileSystem(configuration);
-      FileStatus fileStatus = fs.getFileStatus(file);
-      ParquetMetadata parquetMetaData = footer.getParquetMetadata();
-      List<BlockMetaData> blocks = parquetMetaData.getBlocks();
-
-      List<BlockMetaData> filteredBlocks;
-
-      totalRowGroups += blocks.size();
-      filteredBlocks = RowGroupFilter.filterRowGroups(
-          filter, blocks, parquetMetaData.getFileMetaData().getSchema());
-      rowGroupsDropped += blocks.size() - filteredBlocks.size();
-
-      if (filteredBlocks.isEmpty()) {
-        continue;
+      tasks.add(() -> getSplits(
+          configuration,
+          footer,
+          filter,
+          requestedSchema,
+          readContext.getReadSupportMetadata(),
+          maxSplitSize,
+          minSplitSize));
+    }
+    List<FileSplits> fileSplits;
+    try {
+      fileSplits = ParquetFileReader.runAllInParallel(
+          configuration.getInt(ParquetFileReader.PARQUET_READ_PARALLELISM, 5), tasks);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
       }
+      throw new IOException("Could not compute the splits", e.getCause());
+    }
 
-      BlockLocation[] fileBlockLocations = fs.getFileBlockLocations(fileStatus, 0, fileStatus.getLen());
-      splits.addAll(generateSplits(
-          filteredBlocks,
-          fileBlockLocations,
-          fileStatus,
-          readContext.getRequestedSchema().toString(),
-          readContext.getReadSupportMetadata(),
-          minSplitSize,
-          maxSplitSize));
+    List<ParquetInputSplit> splits = new ArrayList<ParquetInputSplit>();
+    long rowGroupsDropped = 0;
+    long totalRowGroups = 0;
+    for (FileSplits file : fileSplits) {
+      splits.addAll(file.splits);
+      totalRowGroups += file.totalRowGroups;
+      rowGroupsDropped += file.rowGroupsDropped;
     }
 
     if (rowGroupsDropped > 0 && totalRowGroups > 0) {
@@ -770,6 +1048,54 @@ class ClientSideMetadataSplitStrategy {
     return splits;
   }
 
+  private static final class FileSplits {
+    private final List<ParquetInputSplit> splits;
+    private final int totalRowGroups;
+    private final int rowGroupsDropped;
+
+    private FileSplits(List<ParquetInputSplit> splits, int totalRowGroups, int rowGroupsDropped) {
+      this.splits = splits;
+      this.totalRowGroups = totalRowGroups;
+      this.rowGroupsDropped = rowGroupsDropped;
+    }
+  }
+
+  private static FileSplits getSplits(
+      Configuration configuration,
+      Footer footer,
+      Filter filter,
+      String requestedSchema,
+      Map<String, String> readSupportMetadata,
+      long maxSplitSize,
+      long minSplitSize)
+      throws IOException {
+    final Path file = footer.getFile();
+    LOG.debug("{}", file);
+    FileSystem fs = file.getFileSystem(configuration);
+    FileStatus fileStatus = fs.getFileStatus(file);
+    ParquetMetadata parquetMetaData = footer.getParquetMetadata();
+    List<BlockMetaData> blocks = parquetMetaData.getBlocks();
+
+    List<BlockMetaData> filteredBlocks = RowGroupFilter.filterRowGroups(
+        filter, blocks, parquetMetaData.getFileMetaData().getSchema());
+    int rowGroupsDropped = blocks.size() - filteredBlocks.size();
+
+    if (filteredBlocks.isEmpty()) {
+      return new FileSplits(Collections.<ParquetInputSplit>emptyList(), blocks.size(), rowGroupsDropped);
+    }
+
+    BlockLocation[] fileBlockLocations = fs.getFileBlockLocations(fileStatus, 0, fileStatus.getLen());
+    List<ParquetInputSplit> splits = generateSplits(
+        filteredBlocks,
+        fileBlockLocations,
+        fileStatus,
+        requestedSchema,
+        readSupportMetadata,
+        minSplitSize,
+        maxSplitSize);
+    return new FileSplits(splits, blocks.size(), rowGroupsDropped);
+  }
+
   /**
    * groups together all the data blocks for the same HDFS block
    *
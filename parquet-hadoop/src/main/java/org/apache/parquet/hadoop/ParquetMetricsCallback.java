@@ -43,4 +43,31 @@ public interface ParquetMetricsCallback {
   void setValueDouble(String name, double value);
 
   void setDuration(String name, long value);
+
+  /**
+   * Passes a metric value that belongs to a single column chunk.
+   *
+   * @param column the dot separated path of the column
+   * @param name   the name of the metric; see {@link ParquetFileReaderMetrics} and {@link ParquetFileWriterMetrics}
+   * @param value  the value of the metric
+   */
+  default void setColumnValueLong(String column, String name, long value) {}
+
+  /**
+   * Passes a duration (in nanoseconds) that belongs to a single column chunk.
+   *
+   * @param column the dot separated path of the column
+   * @param name   the name of the metric; see {@link ParquetFileReaderMetrics} and {@link ParquetFileWriterMetrics}
+   * @param value  the duration in nanoseconds
+   */
+  default void setColumnDuration(String column, String name, long value) {}
+
+  /**
+   * Passes a descriptive value (e.g. the codec or the encodings) that belongs to a single column chunk.
+   *
+   * @param column the dot separated path of the column
+   * @param name   the name of the metric; see {@link ParquetFileWriterMetrics}
+   * @param value  the value of the metric
+   */
+  default void setColumnValueString(String column, String name, String value) {}
 }
@@ -20,6 +20,8 @@ package org.apache.parquet.hadoop;
 
 import static org.apache.parquet.column.ParquetProperties.DEFAULT_ADAPTIVE_BLOOM_FILTER_ENABLED;
 import static org.apache.parquet.column.ParquetProperties.DEFAULT_BLOOM_FILTER_ENABLED;
+import static org.apache.parquet.column.ParquetProperties.DEFAULT_DISTINCT_COUNT_SKETCH_ENABLED;
+import static org.apache.parquet.column.ParquetProperties.DEFAULT_PAGE_BLOOM_FILTER_ENABLED;
 import static org.apache.parquet.hadoop.ParquetWriter.DEFAULT_BLOCK_SIZE;
 import static org.apache.parquet.hadoop.util.ContextUtil.getConfiguration;
 
@@ -155,8 +157,11 @@ public class ParquetOutputFormat<T> extends FileOutputFormat<Void, T> {
   public static final String BLOOM_FILTER_FPP = "parquet.bloom.filter.fpp";
   public static final String ADAPTIVE_BLOOM_FILTER_ENABLED = "parquet.bloom.filter.adaptive.enabled";
   public static final String BLOOM_FILTER_CANDIDATES_NUMBER = "parquet.bloom.filter.candidates.number";
+  public static final String PAGE_BLOOM_FILTER_ENABLED = "parquet.bloom.filter.page.enabled";
+  public static final String DISTINCT_COUNT_SKETCH_ENABLED = "parquet.distinct.count.sketch.enabled";
   public static final String PAGE_ROW_COUNT_LIMIT = "parquet.page.row.count.limit";
   public static final String PAGE_WRITE_CHECKSUM_ENABLED = "parquet.page.write-checksum.enabled";
+  public static final String METRICS_CALLBACK_CLASS = "parquet.write.metrics-callback.class";
 
   public static JobSummaryLevel getJobSummaryLevel(Configuration conf) {
     String level = conf.get(JOB_SUMMARY_LEVEL);
@@ -236,6 +241,14 @@ public class ParquetOutputFormat<T> extends FileOutputFormat<Void, T> {
     return conf.getBoolean(ADAPTIVE_BLOOM_FILTER_ENABLED, DEFAULT_ADAPTIVE_BLOOM_FILTER_ENABLED);
   }
 
+  public static boolean getPageBloomFilterEnabled(Configuration conf) {
+    return conf.getBoolean(PAGE_BLOOM_FILTER_ENABLED, DEFAULT_PAGE_BLOOM_FILTER_ENABLED);
+  }
+
+  public static boolean getDistinctCountSketchEnabled(Configuration conf) {
+    return conf.getBoolean(DISTINCT_COUNT_SKETCH_ENABLED, DEFAULT_DISTINCT_COUNT_SKETCH_ENABLED);
+  }
+
   public static int getBlockSize(JobContext jobContext) {
     return getBlockSize(getConfiguration(jobContext));
   }
@@ -463,6 +476,8 @@ public class ParquetOutputFormat<T> extends FileOutputFormat<Void, T> {
         .withMaxBloomFilterBytes(getBloomFilterMaxBytes(conf))
         .withBloomFilterEnabled(getBloomFilterEnabled(conf))
         .withAdaptiveBloomFilterEnabled(getAdaptiveBloomFilterEnabled(conf))
+        .withPageBloomFilterEnabled(getPageBloomFilterEnabled(conf))
+        .withDistinctCountSketchEnabled(getDistinctCountSketchEnabled(conf))
         .withPageRowCountLimit(getPageRowCountLimit(conf))
         .withPageWriteChecksumEnabled(getPageWriteChecksumEnabled(conf));
     new ColumnConfigParser()
@@ -470,6 +485,14 @@ public class ParquetOutputFormat<T> extends FileOutputFormat<Void, T> {
             ENABLE_DICTIONARY, key -> conf.getBoolean(key, false), propsBuilder::withDictionaryEncoding)
         .withColumnConfig(
             BLOOM_FILTER_ENABLED, key -> conf.getBoolean(key, false), propsBuilder::withBloomFilterEnabled)
+        .withColumnConfig(
+            PAGE_BLOOM_FILTER_ENABLED,
+            key -> conf.getBoolean(key, false),
+            propsBuilder::withPageBloomFilterEnabled)
+        .withColumnConfig(
+            DISTINCT_COUNT_SKETCH_ENABLED,
+            key -> conf.getBoolean(key, false),
+            propsBuilder::withDistinctCountSketchEnabled)
         .withColumnConfig(
             BLOOM_FILTER_EXPECTED_NDV, key -> conf.getLong(key, -1L), propsBuilder::withBloomFilterNDV)
         .withColumnConfig(
@@ -532,7 +555,27 @@ public class ParquetOutputFormat<T> extends FileOutputFormat<Void, T> {
         validating,
         props,
         memoryManager,
-        conf);
+        conf,
+        getMetricsCallback(conf));
+  }
+
+  /**
+   * @param configuration to find the configuration for the metrics callback class
+   * @return a new instance of the configured metrics callback or {@code null} if it is not set
+   */
+  public static ParquetMetricsCallback getMetricsCallback(Configuration configuration) {
+    if (configuration.get(METRICS_CALLBACK_CLASS) == null) {
+      return null;
+    }
+    Class<?> metricsCallbackClass = ConfigurationUtil.getClassFromConfig(
+        configuration, METRICS_CALLBACK_CLASS, ParquetMetricsCallback.class);
+    try {
+      return (ParquetMetricsCallback)
+          metricsCallbackClass.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new BadConfigurationException(
+          "could not instantiate metrics callback class: " + metricsCallbackClass, e);
+    }
   }
 
   /**
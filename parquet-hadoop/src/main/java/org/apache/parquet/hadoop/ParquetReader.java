@@ -367,6 +367,11 @@ public class ParquetReader<T> implements Closeable {
       return this;
     }
 
+    public Builder<T> withMetricsCallback(ParquetMetricsCallback metricsCallback) {
+      optionsBuilder.withMetricsCallback(metricsCallback);
+      return this;
+    }
+
     public Builder<T> withDecryption(FileDecryptionProperties fileDecryptionProperties) {
       optionsBuilder.withDecryption(fileDecryptionProperties);
       return this;
@@ -188,6 +188,7 @@ public class ParquetRecordWriter<T> extends RecordWriter<Void, T> {
    * @param codec         the compression codec used to compress the pages
    * @param validating    if schema validation should be turned on
    * @param props         parquet encoding properties
+   * @param metricsCallback the callback to report the write metrics to or {@code null}
    */
   ParquetRecordWriter(
       ParquetFileWriter w,
@@ -199,7 +200,8 @@ public class ParquetRecordWriter<T> extends RecordWriter<Void, T> {
       boolean validating,
       ParquetProperties props,
       MemoryManager memoryManager,
-      Configuration conf) {
+      Configuration conf,
+      ParquetMetricsCallback metricsCallback) {
     this.codecFactory = new CodecFactory(conf, props.getPageSizeThreshold());
     internalWriter = new InternalParquetRecordWriter<T>(
         w,
@@ -209,7 +211,8 @@ public class ParquetRecordWriter<T> extends RecordWriter<Void, T> {
         blockSize,
         codecFactory.getCompressor(codec),
         validating,
-        props);
+        props,
+        metricsCallback);
     this.memoryManager = Objects.requireNonNull(memoryManager, "memoryManager cannot be null");
     memoryManager.addWriter(internalWriter, blockSize);
   }
@@ -380,6 +380,35 @@ public class ParquetWriter<T> implements Closeable {
       ParquetProperties encodingProps,
       FileEncryptionProperties encryptionProperties)
       throws IOException {
+    this(
+        file,
+        mode,
+        writeSupport,
+        compressionCodecName,
+        codecFactory,
+        rowGroupSize,
+        validating,
+        conf,
+        maxPaddingSize,
+        encodingProps,
+        encryptionProperties,
+        null);
+  }
+
+  ParquetWriter(
+      OutputFile file,
+      ParquetFileWriter.Mode mode,
+      WriteSupport<T> writeSupport,
+      CompressionCodecName compressionCodecName,
+      CompressionCodecFactory codecFactory,
+      long rowGroupSize,
+      boolean validating,
+      ParquetConfiguration conf,
+      int maxPaddingSize,
+      ParquetProperties encodingProps,
+      FileEncryptionProperties encryptionProperties,
+      ParquetMetricsCallback metricsCallback)
+      throws IOException {
     WriteSupport.WriteContext writeContext = writeSupport.init(conf);
     MessageType schema = writeContext.getSchema();
 
@@ -420,7 +449,15 @@ public class ParquetWriter<T> implements Closeable {
     }
 
     this.writer = new InternalParquetRecordWriter<T>(
-        fileWriter, writeSupport, schema, extraMetadata, rowGroupSize, compressor, validating, encodingProps);
+        fileWriter,
+        writeSupport,
+        schema,
+        extraMetadata,
+        rowGroupSize,
+        compressor,
+        validating,
+        encodingProps,
+        metricsCallback);
   }
 
   public void write(T object) throws IOException {
@@ -478,6 +515,7 @@ public class ParquetWriter<T> implements Closeable {
     private int maxPaddingSize = MAX_PADDING_SIZE_DEFAULT;
     private boolean enableValidation = DEFAULT_IS_VALIDATING_ENABLED;
     private ParquetProperties.Builder encodingPropsBuilder = ParquetProperties.builder();
+    private ParquetMetricsCallback metricsCallback = null;
 
     protected Builder(Path path) {
       this.path = path;
@@ -814,6 +852,58 @@ public class ParquetWriter<T> implements Closeable {
       return self();
     }
 
+    /**
+     * Sets writing a bloom filter for every data page enabled/disabled for the columns having bloom filters enabled.
+     * Page bloom filters let the readers skip the pages not containing the values of equality predicates.
+     *
+     * @param enabled whether to write page bloom filters
+     * @return this builder for method chaining
+     */
+    public SELF withPageBloomFilterEnabled(boolean enabled) {
+      encodingPropsBuilder.withPageBloomFilterEnabled(enabled);
+      return self();
+    }
+
+    /**
+     * Sets writing a bloom filter for every data page enabled/disabled for the specified column. Enabling it also
+     * enables the bloom filter of the column. See {@link #withPageBloomFilterEnabled(boolean)}.
+     *
+     * @param columnPath the path of the column (dot-string)
+     * @param enabled    whether to write page bloom filters for the column
+     * @return this builder for method chaining
+     */
+    public SELF withPageBloomFilterEnabled(String columnPath, boolean enabled) {
+      encodingPropsBuilder.withPageBloomFilterEnabled(columnPath, enabled);
+      return self();
+    }
+
+    /**
+     * Sets writing a HyperLogLog sketch of the distinct values of every column chunk enabled/disabled for all the
+     * columns. The sketches are exposed by
+     * {@link org.apache.parquet.hadoop.metadata.ColumnChunkMetaData#getDistinctCountSketch()} when reading the
+     * footer.
+     *
+     * @param enabled whether to write distinct count sketches
+     * @return this builder for method chaining
+     */
+    public SELF withDistinctCountSketchEnabled(boolean enabled) {
+      encodingPropsBuilder.withDistinctCountSketchEnabled(enabled);
+      return self();
+    }
+
+    /**
+     * Sets writing a HyperLogLog sketch of the distinct values of every column chunk enabled/disabled for the
+     * specified column. See {@link #withDistinctCountSketchEnabled(boolean)}.
+     *
+     * @param columnPath the path of the column (dot-string)
+     * @param enabled    whether to write distinct count sketches for the column
+     * @return this builder for method chaining
+     */
+    public SELF withDistinctCountSketchEnabled(String columnPath, boolean enabled) {
+      encodingPropsBuilder.withDistinctCountSketchEnabled(columnPath, enabled);
+      return self();
+    }
+
     /**
      * Sets the minimum number of rows to write before a page size check is done.
      *
@@ -880,6 +970,18 @@ public class ParquetWriter<T> implements Closeable {
       return self();
     }
 
+    /**
+     * Sets the callback to report the metrics of the writer to, e.g. the encoded and compressed sizes or the
+     * compression time of the column chunks. See {@link ParquetFileWriterMetrics} for the reported metrics.
+     *
+     * @param metricsCallback the callback to report the metrics to
+     * @return this builder for method chaining
+     */
+    public SELF withMetricsCallback(ParquetMetricsCallback metricsCallback) {
+      this.metricsCallback = metricsCallback;
+      return self();
+    }
+
     /**
      * Set a property that will be available to the read path. For writers that use a Hadoop
      * configuration, this is the recommended way to add configuration values.
@@ -922,7 +1024,8 @@ public class ParquetWriter<T> implements Closeable {
             conf,
             maxPaddingSize,
             encodingProps,
-            encryptionProperties);
+            encryptionProperties,
+            metricsCallback);
       } else {
         return new ParquetWriter<>(
             HadoopOutputFile.fromPath(path, ConfigurationUtil.createHadoopConfiguration(conf)),
@@ -935,7 +1038,8 @@ public class ParquetWriter<T> implements Closeable {
             conf,
             maxPaddingSize,
             encodingProps,
-            encryptionProperties);
+            encryptionProperties,
+            metricsCallback);
       }
     }
   }
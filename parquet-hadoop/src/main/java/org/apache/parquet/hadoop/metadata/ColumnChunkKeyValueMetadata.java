@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop.metadata;
+
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores data of column chunks which is not part of the Parquet format in the key-value metadata of the footer. The
+ * value of a column chunk is keyed by a prefix and the starting position of the column chunk. It starts with the size
+ * and value count of the column chunk so a stale value (e.g. copied over by a tool rewriting the file) is ignored
+ * instead of being applied to a different column chunk.
+ * <p>
+ * Method should be considered private
+ */
+public final class ColumnChunkKeyValueMetadata {
+  private static final Logger LOG = LoggerFactory.getLogger(ColumnChunkKeyValueMetadata.class);
+
+  private final String keyPrefix;
+
+  /**
+   * @param keyPrefix the prefix of the keys, followed by the starting position of the column chunks
+   */
+  public ColumnChunkKeyValueMetadata(String keyPrefix) {
+    this.keyPrefix = keyPrefix;
+  }
+
+  public String key(ColumnChunkMetaData column) {
+    return keyPrefix + column.getStartingPos();
+  }
+
+  /**
+   * @param column  the column chunk the data belongs to
+   * @param payload the data of the column chunk
+   * @return the value to store in the key-value metadata for the column chunk
+   */
+  public String value(ColumnChunkMetaData column, String payload) {
+    return column.getTotalSize() + "," + column.getValueCount() + "," + payload;
+  }
+
+  /**
+   * @param keyValueMetaData the key-value metadata of the footer
+   * @return whether the key-value metadata contains any value of this prefix
+   */
+  public boolean isPresent(Map<String, String> keyValueMetaData) {
+    return keyValueMetaData.keySet().stream().anyMatch(key -> key.startsWith(keyPrefix));
+  }
+
+  /**
+   * @param column           the column chunk the data is looked up for
+   * @param keyValueMetaData the key-value metadata of the footer
+   * @return the data of the column chunk or {@code null} if it is missing or the value does not belong to the column
+   * chunk
+   */
+  public String getPayload(ColumnChunkMetaData column, Map<String, String> keyValueMetaData) {
+    String value = keyValueMetaData.get(key(column));
+    if (value == null) {
+      return null;
+    }
+    String[] values = value.split(",", 3);
+    try {
+      if (values.length == 3
+          && Long.parseLong(values[0]) == column.getTotalSize()
+          && Long.parseLong(values[1]) == column.getValueCount()) {
+        return values[2];
+      }
+    } catch (NumberFormatException e) {
+      // handled as a stale value below
+    }
+    LOG.warn("Ignoring {} for column {} as it does not belong to the column chunk", key(column), column.getPath());
+    return null;
+  }
+}
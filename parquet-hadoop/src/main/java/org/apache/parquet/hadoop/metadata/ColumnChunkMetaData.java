@@ -28,6 +28,7 @@ import java.util.Set;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.statistics.BooleanStatistics;
+import org.apache.parquet.column.statistics.HyperLogLog;
 import org.apache.parquet.column.statistics.SizeStatistics;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.crypto.AesCipher;
@@ -307,6 +308,8 @@ public abstract class ColumnChunkMetaData {
 
   private long bloomFilterOffset = -1;
   private int bloomFilterLength = -1;
+  private HyperLogLog distinctCountSketch;
+  private String encodedDistinctCountSketch;
 
   protected ColumnChunkMetaData(ColumnChunkProperties columnChunkProperties) {
     this(null, columnChunkProperties);
@@ -462,6 +465,40 @@ public abstract class ColumnChunkMetaData {
     return bloomFilterLength;
   }
 
+  /**
+   * Method should be considered private
+   *
+   * @param distinctCountSketch the sketch of the distinct values of the column chunk
+   */
+  public synchronized void setDistinctCountSketch(HyperLogLog distinctCountSketch) {
+    this.distinctCountSketch = distinctCountSketch;
+    this.encodedDistinctCountSketch = null;
+  }
+
+  /**
+   * Method should be considered private
+   *
+   * @param encodedDistinctCountSketch the sketch of the distinct values of the column chunk as read from the footer,
+   *                                   decoded by the first call to {@link #getDistinctCountSketch()}
+   */
+  public synchronized void setEncodedDistinctCountSketch(String encodedDistinctCountSketch) {
+    this.distinctCountSketch = null;
+    this.encodedDistinctCountSketch = encodedDistinctCountSketch;
+  }
+
+  /**
+   * @return the sketch of the distinct values of this column chunk or {@code null} if it was not written or is invalid;
+   * the sketches of several column chunks of the same column can be {@link HyperLogLog#merge(HyperLogLog) merged}
+   */
+  public synchronized HyperLogLog getDistinctCountSketch() {
+    if (encodedDistinctCountSketch != null) {
+      // decoded on first use as most readers of the footer never look at the sketches
+      distinctCountSketch = DistinctCountSketches.decode(this, encodedDistinctCountSketch);
+      encodedDistinctCountSketch = null;
+    }
+    return distinctCountSketch;
+  }
+
   /**
    * @return all the encodings used in this column
    */
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop.metadata;
+
+import java.util.Base64;
+import java.util.Map;
+import org.apache.parquet.column.statistics.HyperLogLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Distinct count sketches are not part of the Parquet format. The sketch of a column chunk is stored Base64 encoded in
+ * the key-value metadata of the footer, see {@link ColumnChunkKeyValueMetadata}.
+ * <p>
+ * Method should be considered private
+ */
+public final class DistinctCountSketches {
+  private static final Logger LOG = LoggerFactory.getLogger(DistinctCountSketches.class);
+
+  public static final String KEY_PREFIX = "parquet.distinct.count.sketch.";
+
+  private static final ColumnChunkKeyValueMetadata METADATA = new ColumnChunkKeyValueMetadata(KEY_PREFIX);
+
+  private DistinctCountSketches() {}
+
+  public static String key(ColumnChunkMetaData column) {
+    return METADATA.key(column);
+  }
+
+  public static String value(ColumnChunkMetaData column, HyperLogLog sketch) {
+    return METADATA.value(column, Base64.getEncoder().encodeToString(sketch.toBytes()));
+  }
+
+  /**
+   * Sets the sketches stored in the key-value metadata to their column chunks. They are only decoded when
+   * {@link ColumnChunkMetaData#getDistinctCountSketch() requested}.
+   *
+   * @param keyValueMetaData the key-value metadata of the footer
+   * @param blocks           the row groups of the file
+   */
+  public static void readSketches(Map<String, String> keyValueMetaData, Iterable<BlockMetaData> blocks) {
+    if (!METADATA.isPresent(keyValueMetaData)) {
+      return;
+    }
+    for (BlockMetaData block : blocks) {
+      for (ColumnChunkMetaData column : block.getColumns()) {
+        column.setEncodedDistinctCountSketch(METADATA.getPayload(column, keyValueMetaData));
+      }
+    }
+  }
+
+  /**
+   * @param column the column chunk of the sketch
+   * @param sketch the Base64 encoded sketch
+   * @return the sketch or {@code null} if it is invalid
+   */
+  public static HyperLogLog decode(ColumnChunkMetaData column, String sketch) {
+    try {
+      return HyperLogLog.fromBytes(Base64.getDecoder().decode(sketch));
+    } catch (IllegalArgumentException e) {
+      LOG.warn("Ignoring invalid distinct count sketch for column {}", column.getPath(), e);
+      return null;
+    }
+  }
+}
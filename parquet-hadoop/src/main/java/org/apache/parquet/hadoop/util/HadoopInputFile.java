@@ -70,6 +70,13 @@ public class HadoopInputFile implements InputFile {
     return stat.getLen();
   }
 
+  /**
+   * @return the modification time of the file when this input file was created
+   */
+  public long getModificationTime() {
+    return stat.getModificationTime();
+  }
+
   @Override
   public SeekableInputStream newStream() throws IOException {
     return HadoopStreams.wrap(fs.open(stat.getPath()));
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.filter2.statisticslevel;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.and;
+import static org.apache.parquet.filter2.predicate.FilterApi.eq;
+import static org.apache.parquet.filter2.predicate.FilterApi.gt;
+import static org.apache.parquet.filter2.predicate.FilterApi.gtEq;
+import static org.apache.parquet.filter2.predicate.FilterApi.in;
+import static org.apache.parquet.filter2.predicate.FilterApi.intColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.lt;
+import static org.apache.parquet.filter2.predicate.FilterApi.ltEq;
+import static org.apache.parquet.filter2.predicate.FilterApi.not;
+import static org.apache.parquet.filter2.predicate.FilterApi.notEq;
+import static org.apache.parquet.filter2.predicate.FilterApi.notIn;
+import static org.apache.parquet.filter2.predicate.FilterApi.or;
+import static org.apache.parquet.filter2.statisticslevel.StatisticsAllMatchFilter.allMatch;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.statistics.IntStatistics;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.LogicalInverseRewriter;
+import org.apache.parquet.filter2.predicate.Operators.IntColumn;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.Test;
+
+public class TestStatisticsAllMatchFilter {
+
+  private static final IntColumn intColumn = intColumn("int.column");
+  private static final IntColumn missingColumn = intColumn("missing");
+
+  private static List<ColumnChunkMetaData> intColumnMeta(Integer min, Integer max, long numNulls) {
+    IntStatistics stats = new IntStatistics();
+    if (min != null) {
+      stats.setMinMax(min, max);
+    }
+    stats.setNumNulls(numNulls);
+    return Collections.singletonList(ColumnChunkMetaData.get(
+        ColumnPath.get("int", "column"),
+        PrimitiveTypeName.INT32,
+        CompressionCodecName.GZIP,
+        new HashSet<Encoding>(Arrays.asList(Encoding.PLAIN)),
+        stats,
+        0L,
+        0L,
+        177L,
+        0L,
+        0L));
+  }
+
+  private static final List<ColumnChunkMetaData> noNulls = intColumnMeta(10, 100, 0);
+  private static final List<ColumnChunkMetaData> someNulls = intColumnMeta(10, 100, 3);
+  private static final List<ColumnChunkMetaData> allNulls = intColumnMeta(null, null, 177);
+  private static final List<ColumnChunkMetaData> allSevens = intColumnMeta(7, 7, 0);
+
+  private static boolean matches(FilterPredicate pred, List<ColumnChunkMetaData> columns) {
+    return allMatch(LogicalInverseRewriter.rewrite(pred), columns);
+  }
+
+  @Test
+  public void testEq() {
+    assertTrue(matches(eq(intColumn, 7), allSevens));
+    assertFalse(matches(eq(intColumn, 10), noNulls));
+    assertFalse(matches(eq(intColumn, 7), allNulls));
+    assertTrue(matches(eq(intColumn, null), allNulls));
+    assertFalse(matches(eq(intColumn, null), someNulls));
+    assertTrue(matches(eq(missingColumn, null), noNulls));
+    assertFalse(matches(eq(missingColumn, 7), noNulls));
+  }
+
+  @Test
+  public void testNotEq() {
+    assertTrue(matches(notEq(intColumn, 9), noNulls));
+    assertTrue(matches(notEq(intColumn, 101), someNulls));
+    assertFalse(matches(notEq(intColumn, 50), noNulls));
+    assertTrue(matches(notEq(intColumn, 7), allNulls));
+    assertTrue(matches(notEq(intColumn, null), noNulls));
+    assertFalse(matches(notEq(intColumn, null), someNulls));
+    assertTrue(matches(notEq(missingColumn, 7), noNulls));
+  }
+
+  @Test
+  public void testInequalities() {
+    assertTrue(matches(lt(intColumn, 101), noNulls));
+    assertFalse(matches(lt(intColumn, 100), noNulls));
+    assertTrue(matches(ltEq(intColumn, 100), noNulls));
+    assertTrue(matches(gt(intColumn, 9), noNulls));
+    assertFalse(matches(gt(intColumn, 10), noNulls));
+    assertTrue(matches(gtEq(intColumn, 10), noNulls));
+    // the nulls do not match
+    assertFalse(matches(gtEq(intColumn, 10), someNulls));
+    assertFalse(matches(gtEq(intColumn, 10), allNulls));
+    assertFalse(matches(gtEq(missingColumn, 10), noNulls));
+  }
+
+  @Test
+  public void testInNotIn() {
+    assertTrue(matches(in(intColumn, new HashSet<>(Arrays.asList(3, 7))), allSevens));
+    assertFalse(matches(in(intColumn, new HashSet<>(Arrays.asList(10, 100))), noNulls));
+    assertTrue(matches(in(intColumn, new HashSet<>(Arrays.asList(3, null))), allNulls));
+    assertTrue(matches(notIn(intColumn, new HashSet<>(Arrays.asList(3, 101))), someNulls));
+    assertFalse(matches(notIn(intColumn, new HashSet<>(Arrays.asList(3, 50))), noNulls));
+    assertTrue(matches(notIn(intColumn, new HashSet<>(Arrays.asList(50, null))), noNulls));
+    assertFalse(matches(notIn(intColumn, new HashSet<>(Arrays.asList(50, null))), someNulls));
+  }
+
+  @Test
+  public void testLogicalOperators() {
+    assertTrue(matches(and(gtEq(intColumn, 10), ltEq(intColumn, 100)), noNulls));
+    assertFalse(matches(and(gtEq(intColumn, 10), ltEq(intColumn, 50)), noNulls));
+    assertTrue(matches(or(gtEq(intColumn, 50), ltEq(intColumn, 100)), noNulls));
+    assertTrue(matches(not(lt(intColumn, 10)), noNulls));
+    assertFalse(matches(not(lt(intColumn, 50)), noNulls));
+  }
+
+  @Test
+  public void testIncompleteStatistics() {
+    IntStatistics noNullCount = new IntStatistics();
+    noNullCount.setMinMax(10, 100);
+    noNullCount.setNumNulls(-1);
+    List<ColumnChunkMetaData> columns = Collections.singletonList(ColumnChunkMetaData.get(
+        ColumnPath.get("int", "column"),
+        PrimitiveTypeName.INT32,
+        CompressionCodecName.GZIP,
+        new HashSet<Encoding>(Arrays.asList(Encoding.PLAIN)),
+        noNullCount,
+        0L,
+        0L,
+        177L,
+        0L,
+        0L));
+    assertFalse(matches(gtEq(intColumn, 10), columns));
+    assertFalse(matches(notEq(intColumn, 5), intColumnMeta(null, null, 3)));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.ParquetFileRange;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * A local input file counting the seeks and the vectored read ranges of its streams. It also tracks the largest
+ * buffer filled by a single read.
+ */
+class CountingInputFile implements InputFile {
+  private final InputFile file;
+  int seeks;
+  int vectoredRanges;
+  int maxBufferRead;
+
+  CountingInputFile(Path path) {
+    this.file = new LocalInputFile(path);
+  }
+
+  @Override
+  public long getLength() throws IOException {
+    return file.getLength();
+  }
+
+  @Override
+  public SeekableInputStream newStream() throws IOException {
+    SeekableInputStream stream = file.newStream();
+    return new SeekableInputStream() {
+      @Override
+      public long getPos() throws IOException {
+        return stream.getPos();
+      }
+
+      @Override
+      public void seek(long newPos) throws IOException {
+        seeks++;
+        stream.seek(newPos);
+      }
+
+      @Override
+      public int read() throws IOException {
+        return stream.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return stream.read(b, off, len);
+      }
+
+      @Override
+      public void readFully(byte[] bytes) throws IOException {
+        stream.readFully(bytes);
+      }
+
+      @Override
+      public void readFully(byte[] bytes, int start, int len) throws IOException {
+        stream.readFully(bytes, start, len);
+      }
+
+      @Override
+      public int read(ByteBuffer buf) throws IOException {
+        return stream.read(buf);
+      }
+
+      @Override
+      public void readFully(ByteBuffer buf) throws IOException {
+        maxBufferRead = Math.max(maxBufferRead, buf.remaining());
+        stream.readFully(buf);
+      }
+
+      @Override
+      public boolean readVectoredAvailable(ByteBufferAllocator allocator) {
+        return stream.readVectoredAvailable(allocator);
+      }
+
+      @Override
+      public void readVectored(List<ParquetFileRange> ranges, ByteBufferAllocator allocator) throws IOException {
+        vectoredRanges += ranges.size();
+        stream.readVectored(ranges, allocator);
+      }
+
+      @Override
+      public void close() throws IOException {
+        stream.close();
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return file.toString();
+  }
+}
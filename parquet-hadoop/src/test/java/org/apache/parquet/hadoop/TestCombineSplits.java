@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.util.ContextUtil;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestCombineSplits {
+
+  private static final MessageType SCHEMA = parseMessageType("message test { required int64 id; }");
+  private static final int FILE_COUNT = 6;
+  private static final int RECORDS_PER_FILE = 100;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testCombineSplits() throws IOException {
+    Path file1 = new Path("/tmp/file1");
+    Path file2 = new Path("/tmp/file2");
+    Path file3 = new Path("/tmp/file3");
+    List<ParquetInputSplit> splits = Arrays.asList(
+        new ParquetInputSplit(file1, 0, 100, 100, new String[] {"host1", "host2"}, new long[] {4}),
+        new ParquetInputSplit(file2, 0, 100, 100, new String[] {"host2"}, new long[] {4}),
+        new ParquetInputSplit(file1, 100, 200, 100, new String[] {"host1", "host3"}, new long[] {100}),
+        new ParquetInputSplit(file3, 0, 500, 500, new String[] {"host1"}, new long[] {4}),
+        new ParquetInputSplit(file3, 500, 600, 100, new String[] {"host2", "host1"}, null));
+
+    List<ParquetCombineInputSplit> combined = ParquetInputFormat.combineSplits(splits, 300);
+    assertEquals(3, combined.size());
+
+    // the splits of host1 fitting into the target size, with the row groups of file1 merged
+    ParquetCombineInputSplit first = combined.get(0);
+    assertEquals(1, first.getSplits().size());
+    assertEquals(file1, first.getSplits().get(0).getPath());
+    assertArrayEquals(new long[] {4, 100}, first.getSplits().get(0).getRowGroupOffsets());
+    assertEquals(200, first.getLength());
+    assertArrayEquals(new String[] {"host1", "host2", "host3"}, first.getLocations());
+
+    // the split larger than the target size is not combined with the next one
+    ParquetCombineInputSplit second = combined.get(1);
+    assertEquals(1, second.getSplits().size());
+    assertEquals(500, second.getLength());
+    ParquetCombineInputSplit third = combined.get(2);
+    assertEquals(2, third.getSplits().size());
+    assertEquals(file2, third.getSplits().get(0).getPath());
+    assertEquals(file3, third.getSplits().get(1).getPath());
+    assertArrayEquals(new String[] {"host2", "host1"}, third.getLocations());
+  }
+
+  @Test
+  public void testSerialization() throws IOException {
+    ParquetCombineInputSplit split = new ParquetCombineInputSplit(
+        Arrays.asList(
+            new ParquetInputSplit(new Path("/tmp/file1"), 0, 100, 100, new String[0], new long[] {4, 50}),
+            new ParquetInputSplit(new Path("/tmp/file2"), 0, 80, 80, new String[0], null)),
+        new String[] {"host1"});
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    split.write(new DataOutputStream(bytes));
+    ParquetCombineInputSplit read = new ParquetCombineInputSplit();
+    read.readFields(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    assertEquals(2, read.getSplits().size());
+    assertEquals(180, read.getLength());
+    assertEquals(new Path("/tmp/file1"), read.getSplits().get(0).getPath());
+    assertArrayEquals(new long[] {4, 50}, read.getSplits().get(0).getRowGroupOffsets());
+    assertEquals(null, read.getSplits().get(1).getRowGroupOffsets());
+  }
+
+  @Test
+  public void testReadClientSideMetadata() throws Exception {
+    testRead(false);
+  }
+
+  @Test
+  public void testReadTaskSideMetadata() throws Exception {
+    testRead(true);
+  }
+
+  private void testRead(boolean taskSideMetadata) throws Exception {
+    File dir = temp.newFolder();
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    for (int f = 0; f < FILE_COUNT; f++) {
+      try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(
+              new Path(new File(dir, "part-" + f + ".parquet").getAbsolutePath()))
+          .withType(SCHEMA)
+          .build()) {
+        for (int i = 0; i < RECORDS_PER_FILE; i++) {
+          writer.write(factory.newGroup().append("id", (long) f * RECORDS_PER_FILE + i));
+        }
+      }
+    }
+
+    Configuration conf = new Configuration();
+    conf.setBoolean(ParquetInputFormat.TASK_SIDE_METADATA, taskSideMetadata);
+    conf.setBoolean(ParquetInputFormat.SPLIT_COMBINE_ENABLED, true);
+    Job job = Job.getInstance(conf);
+    FileInputFormat.setInputPaths(job, new Path(dir.getAbsolutePath()));
+    ParquetInputFormat.setReadSupportClass(job, GroupReadSupport.class);
+    ParquetInputFormat<Group> inputFormat = new ParquetInputFormat<Group>();
+
+    List<InputSplit> splits = inputFormat.getSplits(job);
+    // all the small files are packed into a single split
+    assertEquals(1, splits.size());
+    assertTrue(splits.get(0) instanceof ParquetCombineInputSplit);
+    assertEquals(
+        FILE_COUNT,
+        ((ParquetCombineInputSplit) splits.get(0)).getSplits().size());
+
+    Configuration taskConf = ContextUtil.getConfiguration(job);
+    TaskAttemptContext context = ContextUtil.newTaskAttemptContext(taskConf, new TaskAttemptID());
+    Set<Long> ids = new HashSet<Long>();
+    List<Float> progress = new ArrayList<Float>();
+    try (RecordReader<Void, Group> reader = inputFormat.createRecordReader(splits.get(0), context)) {
+      assertTrue(reader instanceof ParquetCombineRecordReader);
+      reader.initialize(splits.get(0), context);
+      while (reader.nextKeyValue()) {
+        ids.add(reader.getCurrentValue().getLong("id", 0));
+        progress.add(reader.getProgress());
+      }
+      assertEquals(1.0f, reader.getProgress(), 0.0f);
+    }
+    assertEquals(FILE_COUNT * RECORDS_PER_FILE, ids.size());
+    for (int i = 1; i < progress.size(); i++) {
+      assertTrue(progress.get(i) >= progress.get(i - 1));
+    }
+  }
+}
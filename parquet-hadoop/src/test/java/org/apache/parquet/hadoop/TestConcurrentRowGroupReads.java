@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.lt;
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestConcurrentRowGroupReads {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 seq; required int64 id; }");
+  private static final int RECORD_COUNT = 50_000;
+  private static final int THREADS = 4;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile() throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        RECORD_COUNT,
+        builder -> builder.withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withRowGroupSize(32 * 1024),
+        (factory, i) -> factory.newGroup().append("seq", (long) i).append("id", scrambled(i)));
+  }
+
+  @Test
+  public void testConcurrentReads() throws Exception {
+    Path file = writeFile();
+    try (ParquetFileReader reader = new ParquetFileReader(
+        new CountingInputFile(file), ParquetReadOptions.builder().build())) {
+      int rowGroups = reader.getRowGroups().size();
+      assertTrue(rowGroups > THREADS);
+      assertEquals(RECORD_COUNT, readConcurrently(reader, false));
+    }
+  }
+
+  @Test
+  public void testConcurrentFilteredReads() throws Exception {
+    Path file = writeFile();
+    long limit = RECORD_COUNT / 3;
+    ParquetReadOptions options = ParquetReadOptions.builder()
+        .withRecordFilter(FilterCompat.get(lt(longColumn("seq"), limit)))
+        .build();
+    try (ParquetFileReader reader = new ParquetFileReader(new CountingInputFile(file), options)) {
+      // the pages are skipped based on the column indexes so only the rows of the matching pages are read
+      long rows = readConcurrently(reader, true);
+      assertTrue(rows >= limit);
+      assertTrue(rows < RECORD_COUNT);
+    }
+  }
+
+  @Test
+  public void testNestedConcurrentReader() throws Exception {
+    Path file = writeFile();
+    try (ParquetFileReader reader = new ParquetFileReader(
+            new CountingInputFile(file),
+            ParquetReadOptions.builder().build());
+        ParquetFileReader first = reader.newConcurrentReader();
+        ParquetFileReader second = first.newConcurrentReader()) {
+      long rows = 0;
+      PageReadStore pages;
+      while ((pages = second.readNextRowGroup()) != null) {
+        try (PageReadStore rowGroup = pages) {
+          rows += verify(rowGroup);
+        }
+      }
+      assertEquals(RECORD_COUNT, rows);
+      assertEquals(reader.getFooter(), second.getFooter());
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testRequestedSchemaCannotBeChanged() throws Exception {
+    Path file = writeFile();
+    try (ParquetFileReader reader = new ParquetFileReader(
+            new CountingInputFile(file),
+            ParquetReadOptions.builder().build());
+        ParquetFileReader concurrent = reader.newConcurrentReader()) {
+      concurrent.setRequestedSchema(parseMessageType("message test { required int64 id; }"));
+    }
+  }
+
+  private static long readConcurrently(ParquetFileReader reader, boolean filtered) throws Exception {
+    int rowGroups = reader.getRowGroups().size();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int first = t;
+        results.add(executor.submit(() -> {
+          long rows = 0;
+          try (ParquetFileReader concurrent = reader.newConcurrentReader()) {
+            for (int block = first; block < rowGroups; block += THREADS) {
+              PageReadStore pages =
+                  filtered ? concurrent.readFilteredRowGroup(block) : concurrent.readRowGroup(block);
+              if (pages == null) {
+                continue;
+              }
+              try (PageReadStore rowGroup = pages) {
+                rows += verify(rowGroup);
+              }
+            }
+          }
+          return rows;
+        }));
+      }
+      long rows = 0;
+      for (Future<Long> result : results) {
+        rows += result.get();
+      }
+      return rows;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static long verify(PageReadStore rowGroup) {
+    MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+    RecordReader<Group> recordReader = columnIO.getRecordReader(rowGroup, new GroupRecordConverter(SCHEMA));
+    long rows = rowGroup.getRowCount();
+    for (long i = 0; i < rows; i++) {
+      Group group = recordReader.read();
+      long seq = group.getLong("seq", 0);
+      assertEquals(scrambled(seq), group.getLong("id", 0));
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ParquetProperties.WriterVersion;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestDecompressedPageCache {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; optional binary name (UTF8); }");
+  private static final int RECORD_COUNT = 20_000;
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<WriterVersion> versions() {
+    return Arrays.asList(WriterVersion.PARQUET_1_0, WriterVersion.PARQUET_2_0);
+  }
+
+  private final WriterVersion writerVersion;
+
+  public TestDecompressedPageCache(WriterVersion writerVersion) {
+    this.writerVersion = writerVersion;
+  }
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @After
+  public void clearCache() {
+    DecompressedPageCache cache = DecompressedPageCache.getInstance();
+    cache.clear();
+    cache.setMaxSize(256L * 1024 * 1024);
+  }
+
+  private Path writeFile() throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        RECORD_COUNT,
+        builder -> builder.withWriterVersion(writerVersion)
+            .withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withRowGroupSize(16 * 1024),
+        (factory, i) -> {
+          Group group = factory.newGroup().append("id", scrambled(i));
+          if (i % 5 != 0) {
+            group.append("name", "name-" + (i % 50));
+          }
+          return group;
+        });
+  }
+
+  @Test
+  public void testRepeatedScansAreServedFromTheCache() throws IOException {
+    Path file = writeFile();
+    DecompressedPageCache cache = DecompressedPageCache.getInstance();
+    cache.clear();
+    long hits = cache.getHitCount();
+    for (boolean offHeap : new boolean[] {false, true}) {
+      cache.clear();
+      ParquetReadOptions options = ParquetReadOptions.builder()
+          .withPageCache(true)
+          .withPageCacheOffHeap(offHeap)
+          .build();
+
+      int rowGroups = readAndVerify(hadoopFile(file), options, null);
+      assertTrue(rowGroups > 1);
+      assertEquals(2 * rowGroups, cache.getColumnChunkCount());
+      assertEquals(hits, cache.getHitCount());
+
+      Map<String, Long> metrics = new HashMap<>();
+      readAndVerify(hadoopFile(file), options, metrics);
+      hits += 2 * rowGroups;
+      assertEquals(hits, cache.getHitCount());
+      assertEquals(2L, (long) metrics.get(ParquetFileReaderMetrics.PageCacheHits.name()));
+      assertEquals(0L, (long) metrics.get(ParquetFileReaderMetrics.PageCacheMisses.name()));
+    }
+  }
+
+  @Test
+  public void testStreamingReadsAreCached() throws IOException {
+    Path file = writeFile();
+    DecompressedPageCache cache = DecompressedPageCache.getInstance();
+    cache.clear();
+    ParquetReadOptions options = ParquetReadOptions.builder()
+        .withPageCache(true)
+        .withStreamingRead(true)
+        .build();
+    int rowGroups = readAndVerify(hadoopFile(file), options, null);
+    assertEquals(2 * rowGroups, cache.getColumnChunkCount());
+    long hits = cache.getHitCount();
+    readAndVerify(hadoopFile(file), options, null);
+    assertEquals(hits + 2 * rowGroups, cache.getHitCount());
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    Path file = writeFile();
+    DecompressedPageCache cache = DecompressedPageCache.getInstance();
+    cache.clear();
+    ParquetReadOptions options =
+        ParquetReadOptions.builder().withPageCache(true).build();
+    readAndVerify(hadoopFile(file), options, null);
+    long maxSize = cache.getSize() / 2;
+    long evictions = cache.getEvictionCount();
+
+    cache.setMaxSize(maxSize);
+    assertTrue(cache.getSize() <= maxSize);
+    assertTrue(cache.getEvictionCount() > evictions);
+    // the scan is still correct when served partially from the cache
+    readAndVerify(hadoopFile(file), options, null);
+    assertTrue(cache.getSize() <= maxSize);
+    readAndVerify(hadoopFile(file), options, null);
+    // the readers do not resize the cache
+    assertEquals(maxSize, cache.getMaxSize());
+  }
+
+  @Test
+  public void testFilesWithoutIdentityAreNotCached() throws IOException {
+    Path file = writeFile();
+    DecompressedPageCache cache = DecompressedPageCache.getInstance();
+    cache.clear();
+    ParquetReadOptions options =
+        ParquetReadOptions.builder().withPageCache(true).build();
+    long misses = cache.getMissCount();
+    readAndVerify(new CountingInputFile(file), options, null);
+    readAndVerify(new LocalInputFile(file), options, null);
+    assertEquals(0, cache.getColumnChunkCount());
+    assertEquals(misses, cache.getMissCount());
+  }
+
+  @Test
+  public void testPageCacheOptions() {
+    Configuration conf = new Configuration();
+    conf.setBoolean(ParquetInputFormat.PAGE_CACHE_ENABLED, true);
+    conf.setBoolean(ParquetInputFormat.PAGE_CACHE_OFF_HEAP, true);
+    ParquetReadOptions options = HadoopReadOptions.builder(conf).build();
+    assertTrue(options.usePageCache());
+    assertTrue(options.isPageCacheOffHeap());
+    ParquetReadOptions copy = ParquetReadOptions.builder().copy(options).build();
+    assertTrue(copy.usePageCache());
+    assertTrue(copy.isPageCacheOffHeap());
+    assertFalse(ParquetReadOptions.builder().build().usePageCache());
+  }
+
+  private static InputFile hadoopFile(Path file) throws IOException {
+    return HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(file.toUri()), new Configuration());
+  }
+
+  private int readAndVerify(InputFile inputFile, ParquetReadOptions options, Map<String, Long> metrics)
+      throws IOException {
+    if (metrics != null) {
+      options = ParquetReadOptions.builder()
+          .copy(options)
+          .withMetricsCallback(new ParquetMetricsCallback() {
+            @Override
+            public void setValueInt(String name, int value) {}
+
+            @Override
+            public void setValueLong(String name, long value) {
+              metrics.put(name, value);
+            }
+
+            @Override
+            public void setValueFloat(String name, float value) {}
+
+            @Override
+            public void setValueDouble(String name, double value) {}
+
+            @Override
+            public void setDuration(String name, long value) {}
+          })
+          .build();
+    }
+    long recordCount = 0;
+    int rowGroupCount = 0;
+    try (ParquetFileReader reader = new ParquetFileReader(inputFile, options)) {
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        try (PageReadStore rowGroup = pages) {
+          ++rowGroupCount;
+          RecordReader<Group> recordReader =
+              columnIO.getRecordReader(rowGroup, new GroupRecordConverter(SCHEMA));
+          for (long i = 0; i < rowGroup.getRowCount(); i++) {
+            Group group = recordReader.read();
+            assertEquals(scrambled(recordCount), group.getLong("id", 0));
+            if (recordCount % 5 == 0) {
+              assertEquals(0, group.getFieldRepetitionCount("name"));
+            } else {
+              assertEquals("name-" + (recordCount % 50), group.getString("name", 0));
+            }
+            recordCount++;
+          }
+        }
+      }
+    }
+    assertEquals(RECORD_COUNT, recordCount);
+    return rowGroupCount;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.bytes.SizeClassedByteBufferPool;
+import org.apache.parquet.column.ParquetProperties.WriterVersion;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestDecompressionBufferPool {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; required binary name (UTF8); }");
+  private static final int RECORD_COUNT = 20_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile(boolean pageV2) throws IOException {
+    java.nio.file.Path file = GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        RECORD_COUNT,
+        builder -> builder.withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withWriterVersion(pageV2 ? WriterVersion.PARQUET_2_0 : WriterVersion.PARQUET_1_0)
+            .withDictionaryEncoding(false)
+            .withRowGroupSize(32 * 1024),
+        (factory, i) -> factory.newGroup().append("id", scrambled(i)).append("name", name(i)));
+    return new Path(file.toString());
+  }
+
+  private static String name(long i) {
+    return Long.toHexString(scrambled(i));
+  }
+
+  @Test
+  public void testHeapPool() throws IOException {
+    for (boolean pageV2 : new boolean[] {false, true}) {
+      Path path = writeFile(pageV2);
+      SizeClassedByteBufferPool pool = CodecFactory.getDecompressionBufferPool(false);
+      long reuses = pool.getReuseCount();
+      readAndVerify(
+          path,
+          HadoopReadOptions.builder(new Configuration())
+              .withDecompressionBufferPool("heap")
+              .build());
+      // the pages of the later row groups are decompressed into the buffers of the earlier ones
+      assertTrue(pool.getReuseCount() > reuses);
+    }
+  }
+
+  @Test
+  public void testDirectPool() throws IOException {
+    Configuration conf = new Configuration();
+    DirectByteBufferAllocator allocator = new DirectByteBufferAllocator();
+    for (boolean pageV2 : new boolean[] {false, true}) {
+      Path path = writeFile(pageV2);
+      SizeClassedByteBufferPool pool = CodecFactory.getDecompressionBufferPool(true);
+      long reuses = pool.getReuseCount();
+      readAndVerify(
+          path,
+          HadoopReadOptions.builder(conf)
+              .withAllocator(allocator)
+              .useOffHeapDecryptBuffer(true)
+              .withCodecFactory(CodecFactory.createDirectCodecFactory(conf, allocator, 0))
+              .withDecompressionBufferPool("direct")
+              .build());
+      assertTrue(pool.getReuseCount() > reuses);
+    }
+  }
+
+  @Test
+  public void testPoolSelection() {
+    Configuration conf = new Configuration();
+    assertNull(HadoopReadOptions.builder(conf).build().getDecompressionBufferPool());
+    assertNull(HadoopReadOptions.builder(conf)
+        .withDecompressionBufferPool("none")
+        .build()
+        .getDecompressionBufferPool());
+    conf.set(ParquetInputFormat.DECOMPRESSION_BUFFER_POOL, "Direct");
+    assertSame(
+        CodecFactory.getDecompressionBufferPool(true),
+        HadoopReadOptions.builder(conf).build().getDecompressionBufferPool());
+    assertSame(
+        CodecFactory.getDecompressionBufferPool(true),
+        ParquetReadOptions.builder()
+            .copy(HadoopReadOptions.builder(conf).build())
+            .build()
+            .getDecompressionBufferPool());
+    assertThrows(IllegalArgumentException.class, () -> ParquetReadOptions.builder()
+        .withDecompressionBufferPool("offheap"));
+  }
+
+  private void readAndVerify(Path path, ParquetReadOptions options) throws IOException {
+    long recordCount = 0;
+    try (ParquetFileReader reader =
+        new ParquetFileReader(HadoopInputFile.fromPath(path, new Configuration()), options)) {
+      assertTrue(reader.getRowGroups().size() > 2);
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        // the records shall be consumed before the row group is closed and its buffers are given back to the
+        // pool
+        try (PageReadStore rowGroup = pages) {
+          RecordReader<Group> recordReader =
+              columnIO.getRecordReader(rowGroup, new GroupRecordConverter(SCHEMA));
+          for (long i = 0; i < rowGroup.getRowCount(); i++) {
+            Group group = recordReader.read();
+            assertEquals(scrambled(recordCount), group.getLong("id", 0));
+            assertEquals(name(recordCount), group.getString("name", 0));
+            recordCount++;
+          }
+        }
+      }
+    }
+    assertEquals(RECORD_COUNT, recordCount);
+  }
+}
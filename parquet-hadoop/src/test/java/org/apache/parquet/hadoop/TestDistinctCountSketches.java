@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.statistics.HyperLogLog;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.DistinctCountSketches;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestDistinctCountSketches {
+
+  private static final MessageType SCHEMA = parseMessageType(
+      "message test { required int64 id; optional binary category (UTF8); required int32 other; }");
+  private static final int RECORD_COUNT = 50_000;
+  private static final int CATEGORY_COUNT = 300;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile(int records, int firstId) throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        records,
+        builder -> builder.withDistinctCountSketchEnabled(true)
+            .withDistinctCountSketchEnabled("other", false)
+            .withRowGroupSize(64 * 1024),
+        (factory, i) -> {
+          int id = firstId + i;
+          Group group = factory.newGroup().append("id", scrambled(id));
+          if (id % 10 != 0) {
+            group.append("category", "category-" + (id % CATEGORY_COUNT));
+          }
+          return group.append("other", id);
+        });
+  }
+
+  private static ParquetMetadata readFooter(Path file) throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(
+        new CountingInputFile(file), ParquetReadOptions.builder().build())) {
+      return reader.getFooter();
+    }
+  }
+
+  private static HyperLogLog merge(List<BlockMetaData> blocks, int column) {
+    HyperLogLog merged = new HyperLogLog();
+    for (BlockMetaData block : blocks) {
+      merged.merge(block.getColumns().get(column).getDistinctCountSketch());
+    }
+    return merged;
+  }
+
+  private static void assertEstimate(long expected, HyperLogLog sketch) {
+    long estimate = sketch.getEstimate();
+    assertTrue(
+        "estimate " + estimate + " too far from " + expected, Math.abs(estimate - expected) <= expected * 0.1);
+  }
+
+  @Test
+  public void testSketchesInFooter() throws IOException {
+    ParquetMetadata footer = readFooter(writeFile(RECORD_COUNT, 0));
+    List<BlockMetaData> blocks = footer.getBlocks();
+    assertTrue(blocks.size() > 1);
+    for (BlockMetaData block : blocks) {
+      ColumnChunkMetaData id = block.getColumns().get(0);
+      assertNotNull(id.getDistinctCountSketch());
+      assertEstimate(block.getRowCount(), id.getDistinctCountSketch());
+      assertNotNull(block.getColumns().get(1).getDistinctCountSketch());
+      assertNull(block.getColumns().get(2).getDistinctCountSketch());
+    }
+    assertEstimate(RECORD_COUNT, merge(blocks, 0));
+    assertEstimate(CATEGORY_COUNT, merge(blocks, 1));
+  }
+
+  @Test
+  public void testMergeAcrossFiles() throws IOException {
+    // the second file overlaps the second half of the first one
+    ParquetMetadata first = readFooter(writeFile(RECORD_COUNT, 0));
+    ParquetMetadata second = readFooter(writeFile(RECORD_COUNT, RECORD_COUNT / 2));
+    HyperLogLog ids = merge(first.getBlocks(), 0);
+    ids.merge(merge(second.getBlocks(), 0));
+    assertEstimate(RECORD_COUNT * 3 / 2, ids);
+    HyperLogLog categories = merge(first.getBlocks(), 1);
+    categories.merge(merge(second.getBlocks(), 1));
+    assertEstimate(CATEGORY_COUNT, categories);
+  }
+
+  @Test
+  public void testInvalidSketchesAreIgnored() throws IOException {
+    List<BlockMetaData> blocks = readFooter(writeFile(RECORD_COUNT, 0)).getBlocks();
+    ColumnChunkMetaData id = blocks.get(0).getColumns().get(0);
+    Map<String, String> keyValueMetaData = new HashMap<>();
+    keyValueMetaData.put(
+        DistinctCountSketches.key(id), id.getTotalSize() + "," + id.getValueCount() + ",not a sketch");
+    // the sketches are only decoded when requested
+    DistinctCountSketches.readSketches(keyValueMetaData, blocks);
+    assertNull(id.getDistinctCountSketch());
+    assertNull(blocks.get(0).getColumns().get(1).getDistinctCountSketch());
+  }
+
+  @Test
+  public void testNoSketchesByDefault() throws IOException {
+    Path file = GeneratedFiles.write(temp, SCHEMA, 1, UnaryOperator.identity(), (factory, i) -> factory.newGroup()
+        .append("id", 1L)
+        .append("other", 2));
+    ParquetMetadata footer = readFooter(file);
+    for (ColumnChunkMetaData column : footer.getBlocks().get(0).getColumns()) {
+      assertNull(column.getDistinctCountSketch());
+    }
+  }
+}
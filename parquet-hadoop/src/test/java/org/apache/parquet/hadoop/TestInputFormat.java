@@ -42,6 +42,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FileStatus;
@@ -421,6 +426,42 @@ public class TestInputFormat {
     }
   }
 
+  @Test
+  public void testRunAllInParallelRunsTasksConcurrently() throws Exception {
+    int parallelism = 4;
+    CountDownLatch running = new CountDownLatch(parallelism);
+    List<Callable<Integer>> tasks = new ArrayList<>();
+    for (int i = 0; i < 3 * parallelism; i++) {
+      int index = i;
+      tasks.add(() -> {
+        running.countDown();
+        // every task waits for the first ones, which only returns if they run at the same time
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+        return index;
+      });
+    }
+    List<Integer> results = ParquetFileReader.runAllInParallel(parallelism, tasks);
+    for (int i = 0; i < tasks.size(); i++) {
+      assertEquals(i, results.get(i).intValue());
+    }
+
+    AtomicInteger started = new AtomicInteger();
+    List<Callable<Integer>> failing = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      failing.add(() -> {
+        started.incrementAndGet();
+        throw new IOException("failed");
+      });
+    }
+    try {
+      ParquetFileReader.runAllInParallel(1, failing);
+      fail("the failure of the task should be thrown");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+    assertEquals(1, started.get());
+  }
+
   private void createParquetFile(File file) throws IOException {
     Path path = new Path(file.toURI());
     Configuration configuration = new Configuration();
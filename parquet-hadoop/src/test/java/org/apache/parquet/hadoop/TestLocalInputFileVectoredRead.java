@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestLocalInputFileVectoredRead {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; required binary name (UTF8); required double score; }");
+  private static final MessageType PROJECTION =
+      parseMessageType("message test { required int64 id; required double score; }");
+  private static final int RECORD_COUNT = 50_000;
+
+  @Parameterized.Parameters(name = "memoryMapped={0}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(new Object[][] {{false}, {true}});
+  }
+
+  private final boolean memoryMapped;
+
+  public TestLocalInputFileVectoredRead(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+  }
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testReadProjectedColumns() throws IOException {
+    File file = temp.newFile();
+    file.delete();
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new Path(file.getAbsolutePath()))
+        .withType(SCHEMA)
+        .withRowGroupSize(64 * 1024)
+        .build()) {
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        writer.write(factory.newGroup()
+            .append("id", (long) i)
+            .append("name", "name " + i)
+            .append("score", i / 2.0));
+      }
+    }
+
+    ParquetReadOptions options =
+        ParquetReadOptions.builder().withUseHadoopVectoredIo(true).build();
+    long recordCount = 0;
+    try (ParquetFileReader reader =
+        new ParquetFileReader(new LocalInputFile(Paths.get(file.getAbsolutePath()), memoryMapped), options)) {
+      reader.setRequestedSchema(PROJECTION);
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(PROJECTION);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        RecordReader<Group> recordReader =
+            columnIO.getRecordReader(pages, new GroupRecordConverter(PROJECTION));
+        for (long i = 0; i < pages.getRowCount(); i++) {
+          Group group = recordReader.read();
+          assertEquals(recordCount, group.getLong("id", 0));
+          assertEquals(recordCount / 2.0, group.getDouble("score", 0), 0.0);
+          recordCount++;
+        }
+      }
+    }
+    assertEquals(RECORD_COUNT, recordCount);
+  }
+}
@@ -69,6 +69,42 @@ public class TestLruCache {
     assertEquals(1, cache.size());
   }
 
+  @Test
+  public void testMaxWeight() {
+    LruCache<String, SimpleValue> cache = new LruCache<String, SimpleValue>(100, value -> 40);
+
+    SimpleValue first = new SimpleValue(true, true);
+    SimpleValue second = new SimpleValue(true, true);
+    SimpleValue third = new SimpleValue(true, true);
+    cache.put("first", first);
+    cache.put("second", second);
+    assertEquals(80, cache.weight());
+
+    // the first entry is the most recently used one so the second is evicted
+    assertEquals(first, cache.getCurrentValue("first"));
+    cache.put("third", third);
+    assertEquals(2, cache.size());
+    assertEquals(80, cache.weight());
+    assertNull(cache.getCurrentValue("second"));
+
+    cache.remove("first");
+    assertEquals(40, cache.weight());
+    cache.clear();
+    assertEquals(0, cache.weight());
+  }
+
+  @Test
+  public void testEntryHeavierThanMaxWeightIsKept() {
+    LruCache<String, SimpleValue> cache = new LruCache<String, SimpleValue>(10, value -> 40);
+
+    SimpleValue oldValue = new SimpleValue(true, true);
+    SimpleValue newValue = new SimpleValue(true, true);
+    cache.put("old", oldValue);
+    cache.put("new", newValue);
+    assertEquals(1, cache.size());
+    assertEquals(newValue, cache.getCurrentValue("new"));
+  }
+
   @Test
   public void testOlderValueIsIgnored() {
     LruCache<String, SimpleValue> cache = new LruCache<String, SimpleValue>(1);
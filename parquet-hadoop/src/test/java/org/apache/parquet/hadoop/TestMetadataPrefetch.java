@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestMetadataPrefetch {
+
+  private static final MessageType SCHEMA = parseMessageType(
+      "message test { required int64 a; required int64 b; required int64 c; required int64 d; }");
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile(int recordCount) throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        recordCount,
+        builder -> builder.withDictionaryEncoding(false)
+            .withBloomFilterEnabled("a", true)
+            .withBloomFilterNDV("a", recordCount)
+            .withRowGroupSize(256 * 1024),
+        (factory, i) -> factory.newGroup()
+            .append("a", (long) i)
+            .append("b", i * 31L)
+            .append("c", (long) -i)
+            .append("d", i * 17L));
+  }
+
+  @Test
+  public void testMetadataServedFromTail() throws IOException {
+    Path file = writeFile(10_000);
+    CountingInputFile inputFile = new CountingInputFile(file);
+    try (ParquetFileReader reader = new ParquetFileReader(
+            inputFile, ParquetReadOptions.builder().build());
+        ParquetFileReader reference = new ParquetFileReader(
+            new CountingInputFile(file),
+            ParquetReadOptions.builder().withTailReadSize(0).build())) {
+      // the footer is read with a single request
+      assertEquals(1, inputFile.seeks);
+      for (int i = 0; i < reader.getRowGroups().size(); i++) {
+        BlockMetaData block = reader.getRowGroups().get(i);
+        BlockMetaData referenceBlock = reference.getRowGroups().get(i);
+        for (int j = 0; j < block.getColumns().size(); j++) {
+          ColumnChunkMetaData column = block.getColumns().get(j);
+          ColumnChunkMetaData referenceColumn =
+              referenceBlock.getColumns().get(j);
+          assertEquals(
+              reference.readColumnIndex(referenceColumn).toString(),
+              reader.readColumnIndex(column).toString());
+          assertEquals(
+              reference.readOffsetIndex(referenceColumn).toString(),
+              reader.readOffsetIndex(column).toString());
+        }
+        BloomFilter bloomFilter =
+            reader.readBloomFilter(block.getColumns().get(0));
+        assertNotNull(bloomFilter);
+        assertEquals(
+            reference.readBloomFilter(referenceBlock.getColumns().get(0)), bloomFilter);
+      }
+      // all the metadata was in the tail
+      assertEquals(1, inputFile.seeks);
+    }
+  }
+
+  @Test
+  public void testTailSmallerThanFooter() throws IOException {
+    Path file = writeFile(10_000);
+    for (int tailSize : new int[] {0, 8, 64, 512}) {
+      CountingInputFile inputFile = new CountingInputFile(file);
+      try (ParquetFileReader reader = new ParquetFileReader(
+          inputFile,
+          ParquetReadOptions.builder().withTailReadSize(tailSize).build())) {
+        assertEquals(2, inputFile.seeks);
+        assertEquals(10_000, reader.getRecordCount());
+      }
+    }
+  }
+
+  @Test
+  public void testTailReadSizeOption() {
+    Configuration conf = new Configuration();
+    conf.setInt(ParquetInputFormat.TAIL_READ_SIZE, 4096);
+    ParquetReadOptions options = HadoopReadOptions.builder(conf).build();
+    assertEquals(4096, options.getTailReadSize());
+    assertEquals(4096, ParquetReadOptions.builder().copy(options).build().getTailReadSize());
+
+    conf.set(ParquetInputFormat.TAIL_READ_SIZE, "4k");
+    assertThrows(NumberFormatException.class, () -> HadoopReadOptions.builder(conf));
+  }
+
+  @Test
+  public void testIndexesPrefetchedPerRowGroup() throws IOException {
+    Path file = writeFile(50_000);
+    CountingInputFile inputFile = new CountingInputFile(file);
+    try (ParquetFileReader reader = new ParquetFileReader(
+        inputFile, ParquetReadOptions.builder().withTailReadSize(0).build())) {
+      assertTrue(reader.getRowGroups().size() > 1);
+      for (int i = 0; i < reader.getRowGroups().size(); i++) {
+        int seeks = inputFile.seeks;
+        ColumnIndexStore store = reader.getColumnIndexStore(i);
+        for (ColumnChunkMetaData column : reader.getRowGroups().get(i).getColumns()) {
+          ColumnIndex columnIndex = store.getColumnIndex(column.getPath());
+          OffsetIndex offsetIndex = store.getOffsetIndex(column.getPath());
+          assertNotNull(columnIndex);
+          assertEquals(
+              offsetIndex.getPageCount(),
+              columnIndex.getMinValues().size());
+        }
+        // one read for the column indexes and one for the offset indexes of the row group
+        assertEquals(2, inputFile.seeks - seeks);
+      }
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.eq;
+import static org.apache.parquet.filter2.predicate.FilterApi.in;
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestPageBloomFiltering {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; required binary payload (UTF8); }");
+  private static final int RECORD_COUNT = 20_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile(boolean pageBloomFilters) throws IOException {
+    List<Long> ids = new ArrayList<>(RECORD_COUNT);
+    for (long i = 0; i < RECORD_COUNT; ++i) {
+      ids.add(i);
+    }
+    // unsorted ids so the column index cannot filter the pages
+    Collections.shuffle(ids, new Random(42));
+
+    File file = temp.newFile();
+    file.delete();
+    Path path = new Path(file.getAbsolutePath());
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path)
+        .withType(SCHEMA)
+        .withDictionaryEncoding(false)
+        .withPageSize(4 * 1024)
+        .withPageBloomFilterEnabled("id", pageBloomFilters)
+        .build()) {
+      for (long id : ids) {
+        writer.write(factory.newGroup().append("id", id).append("payload", "payload_" + id));
+      }
+    }
+    return path;
+  }
+
+  private static long readFilteredRowCount(Path path, FilterCompat.Filter filter, boolean useBloomFilter)
+      throws IOException {
+    ParquetReadOptions options = ParquetReadOptions.builder()
+        .withRecordFilter(filter)
+        .useBloomFilter(useBloomFilter)
+        .build();
+    long rowCount = 0;
+    try (ParquetFileReader reader =
+        new ParquetFileReader(HadoopInputFile.fromPath(path, new Configuration()), options)) {
+      PageReadStore rowGroup;
+      while ((rowGroup = reader.readNextFilteredRowGroup()) != null) {
+        rowCount += rowGroup.getRowCount();
+      }
+    }
+    return rowCount;
+  }
+
+  private static List<Long> readIds(Path path, FilterCompat.Filter filter) throws IOException {
+    List<Long> ids = new ArrayList<>();
+    try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), path)
+        .withFilter(filter)
+        .build()) {
+      Group group;
+      while ((group = reader.read()) != null) {
+        ids.add(group.getLong("id", 0));
+      }
+    }
+    return ids;
+  }
+
+  @Test
+  public void testPageBloomFiltersAreWritten() throws IOException {
+    Path path = writeFile(true);
+    try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(path, new Configuration()))) {
+      ColumnChunkMetaData id = reader.getRowGroups().get(0).getColumns().get(0);
+      ColumnChunkMetaData payload =
+          reader.getRowGroups().get(0).getColumns().get(1);
+      List<BloomFilter> bloomFilters = reader.readPageBloomFilters(id);
+      assertNotNull(bloomFilters);
+      assertEquals(reader.readOffsetIndex(id).getPageCount(), bloomFilters.size());
+      assertTrue(bloomFilters.size() > 1);
+      assertNull(reader.readPageBloomFilters(payload));
+      // the column level Bloom filter is written as well
+      assertNotNull(reader.readBloomFilter(id));
+    }
+  }
+
+  @Test
+  public void testPointLookup() throws IOException {
+    Path path = writeFile(true);
+    FilterCompat.Filter filter = FilterCompat.get(eq(longColumn("id"), 1234L));
+
+    assertEquals(Collections.singletonList(1234L), readIds(path, filter));
+    long rowCount = readFilteredRowCount(path, filter, true);
+    assertTrue("Too many rows read: " + rowCount, rowCount < RECORD_COUNT / 10);
+    assertEquals(RECORD_COUNT, readFilteredRowCount(path, filter, false));
+
+    FilterCompat.Filter inFilter =
+        FilterCompat.get(in(longColumn("id"), new HashSet<>(Arrays.asList(7L, 19_999L))));
+    List<Long> ids = readIds(path, inFilter);
+    Collections.sort(ids);
+    assertEquals(Arrays.asList(7L, 19_999L), ids);
+    assertTrue(readFilteredRowCount(path, inFilter, true) < RECORD_COUNT / 5);
+
+    // a value not written drops every page
+    assertEquals(0, readFilteredRowCount(path, FilterCompat.get(eq(longColumn("id"), -1L)), true));
+  }
+
+  @Test
+  public void testWithoutPageBloomFilters() throws IOException {
+    Path path = writeFile(false);
+    FilterCompat.Filter filter = FilterCompat.get(eq(longColumn("id"), 1234L));
+
+    assertEquals(Collections.singletonList(1234L), readIds(path, filter));
+    assertEquals(RECORD_COUNT, readFilteredRowCount(path, filter, true));
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.and;
+import static org.apache.parquet.filter2.predicate.FilterApi.binaryColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.eq;
+import static org.apache.parquet.filter2.predicate.FilterApi.gtEq;
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.lt;
+import static org.apache.parquet.filter2.predicate.FilterApi.not;
+import static org.apache.parquet.filter2.predicate.FilterApi.notEq;
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetAggregates {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 seq; required int64 id; optional binary name (UTF8); }");
+  private static final int RECORD_COUNT = 50_000;
+  private static final ColumnPath SEQ = ColumnPath.get("seq");
+  private static final ColumnPath ID = ColumnPath.get("id");
+  private static final ColumnPath NAME = ColumnPath.get("name");
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile() throws IOException {
+    return GeneratedFiles.write(
+        temp, SCHEMA, RECORD_COUNT, builder -> builder.withRowGroupSize(64 * 1024), (factory, i) -> {
+          Group group = factory.newGroup().append("seq", (long) i).append("id", scrambled(i));
+          if (name(i) != null) {
+            group.append("name", name(i));
+          }
+          return group;
+        });
+  }
+
+  private static String name(long i) {
+    return i % 7 == 0 ? null : "name-" + (i % 1000);
+  }
+
+  @Test
+  public void testNoFilter() throws IOException {
+    ParquetAggregates aggregates = aggregate(null);
+    verify(aggregates, i -> true);
+    assertTrue(aggregates.getRowGroupsFromFooter() > 3);
+    assertEquals(0, aggregates.getRowGroupsRead());
+  }
+
+  @Test
+  public void testFullyMatchingRowGroups() throws IOException {
+    ParquetAggregates aggregates = aggregate(gtEq(longColumn("seq"), 0L));
+    verify(aggregates, i -> true);
+    assertEquals(0, aggregates.getRowGroupsRead());
+  }
+
+  @Test
+  public void testPartiallyMatchingRowGroups() throws IOException {
+    long from = RECORD_COUNT / 5 + 123;
+    long to = RECORD_COUNT / 2 + 456;
+    // dropped, partially and fully matching row groups
+    ParquetAggregates aggregates = aggregate(and(gtEq(longColumn("seq"), from), not(gtEq(longColumn("seq"), to))));
+    verify(aggregates, i -> i >= from && i < to);
+    assertTrue(aggregates.getRowGroupsFromFooter() > 0);
+    assertEquals(2, aggregates.getRowGroupsRead());
+  }
+
+  @Test
+  public void testFilterOnNullableColumn() throws IOException {
+    // the nulls match notEq(someNonNull)
+    ParquetAggregates aggregates = aggregate(notEq(binaryColumn("name"), Binary.fromString("name-3")));
+    verify(aggregates, i -> !"name-3".equals(name(i)));
+    // the statistics cannot tell whether name-3 is in the row groups
+    assertTrue(aggregates.getRowGroupsRead() > 0);
+
+    aggregates = aggregate(eq(binaryColumn("name"), null));
+    verify(aggregates, i -> name(i) == null);
+  }
+
+  @Test
+  public void testRowGroupsFilteredOutByStatistics() throws IOException {
+    ParquetAggregates aggregates = aggregate(lt(longColumn("seq"), 0L));
+    assertEquals(0, aggregates.getRowCount());
+    assertEquals(0, aggregates.getRowGroupsFromFooter());
+    assertEquals(0, aggregates.getRowGroupsRead());
+    assertFalse(aggregates.getStatistics(ID).hasNonNullValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testColumnNotRequested() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(
+        new CountingInputFile(writeFile()), ParquetReadOptions.builder().build())) {
+      reader.setRequestedSchema(parseMessageType("message test { required int64 seq; }"));
+      reader.aggregate(Arrays.asList(ID));
+    }
+  }
+
+  private ParquetAggregates aggregate(FilterPredicate filter) throws IOException {
+    ParquetReadOptions.Builder options = ParquetReadOptions.builder();
+    if (filter != null) {
+      options.withRecordFilter(FilterCompat.get(filter));
+    }
+    try (ParquetFileReader reader = new ParquetFileReader(new CountingInputFile(writeFile()), options.build())) {
+      return reader.aggregate(Arrays.asList(SEQ, ID, NAME));
+    }
+  }
+
+  private static void verify(ParquetAggregates aggregates, LongPredicate matches) {
+    long count = 0;
+    long nulls = 0;
+    long minSeq = Long.MAX_VALUE;
+    long maxSeq = Long.MIN_VALUE;
+    long minId = Long.MAX_VALUE;
+    long maxId = Long.MIN_VALUE;
+    Binary minName = null;
+    Binary maxName = null;
+    for (long i = 0; i < RECORD_COUNT; i++) {
+      if (!matches.test(i)) {
+        continue;
+      }
+      ++count;
+      minSeq = Math.min(minSeq, i);
+      maxSeq = Math.max(maxSeq, i);
+      minId = Math.min(minId, scrambled(i));
+      maxId = Math.max(maxId, scrambled(i));
+      if (name(i) == null) {
+        ++nulls;
+      } else {
+        Binary name = Binary.fromString(name(i));
+        if (minName == null || name.compareTo(minName) < 0) {
+          minName = name;
+        }
+        if (maxName == null || name.compareTo(maxName) > 0) {
+          maxName = name;
+        }
+      }
+    }
+    assertEquals(count, aggregates.getRowCount());
+    Statistics<?> seq = aggregates.getStatistics(SEQ);
+    assertEquals(0, seq.getNumNulls());
+    assertEquals(minSeq, seq.genericGetMin());
+    assertEquals(maxSeq, seq.genericGetMax());
+    Statistics<?> id = aggregates.getStatistics(ID);
+    assertEquals(minId, id.genericGetMin());
+    assertEquals(maxId, id.genericGetMax());
+    Statistics<?> name = aggregates.getStatistics(NAME);
+    assertEquals(nulls, name.getNumNulls());
+    assertEquals(minName != null, name.hasNonNullValue());
+    if (minName != null) {
+      assertEquals(minName, name.genericGetMin());
+      assertEquals(maxName, name.genericGetMax());
+    }
+  }
+}
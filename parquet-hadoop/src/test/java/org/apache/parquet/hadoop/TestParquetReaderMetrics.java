@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.filter2.predicate.FilterApi.and;
+import static org.apache.parquet.filter2.predicate.FilterApi.binaryColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.eq;
+import static org.apache.parquet.filter2.predicate.FilterApi.longColumn;
+import static org.apache.parquet.filter2.predicate.FilterApi.lt;
+import static org.apache.parquet.filter2.predicate.FilterApi.notEq;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.ColumnDictionaryEntries;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.ColumnPagesRead;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.ColumnPagesSkipped;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.ColumnReadSize;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.ColumnReadTime;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.RecordAssemblyTime;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.RecordsFilteredOut;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.RowGroupsDroppedByStatistics;
+import static org.apache.parquet.hadoop.ParquetFileReaderMetrics.RowGroupsKept;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetReaderMetrics {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; required binary name (UTF8); }");
+  private static final int RECORD_COUNT = 10_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  /**
+   * Sums up the values reported to it by metric name, and by column and metric name for column level metrics.
+   */
+  private static class CollectingMetricsCallback implements ParquetMetricsCallback {
+    private final Map<String, Long> values = new HashMap<>();
+    private final Map<String, Long> columnValues = new HashMap<>();
+
+    @Override
+    public void setValueInt(String name, int value) {
+      values.merge(name, (long) value, Long::sum);
+    }
+
+    @Override
+    public void setValueLong(String name, long value) {
+      values.merge(name, value, Long::sum);
+    }
+
+    @Override
+    public void setValueFloat(String name, float value) {}
+
+    @Override
+    public void setValueDouble(String name, double value) {}
+
+    @Override
+    public void setDuration(String name, long value) {
+      values.merge(name, value, Long::sum);
+    }
+
+    @Override
+    public void setColumnValueLong(String column, String name, long value) {
+      columnValues.merge(column + ':' + name, value, Long::sum);
+    }
+
+    @Override
+    public void setColumnDuration(String column, String name, long value) {
+      columnValues.merge(column + ':' + name, value, Long::sum);
+    }
+
+    long get(ParquetFileReaderMetrics metric) {
+      return values.getOrDefault(metric.name(), -1L);
+    }
+
+    long get(String column, ParquetFileReaderMetrics metric) {
+      return columnValues.getOrDefault(column + ':' + metric.name(), -1L);
+    }
+  }
+
+  private Path writeFile() throws IOException {
+    File file = temp.newFile();
+    file.delete();
+    Path path = new Path(file.getAbsolutePath());
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path)
+        .withType(SCHEMA)
+        .withRowGroupSize(16 * 1024)
+        .withPageSize(1024)
+        .build()) {
+      for (long i = 0; i < RECORD_COUNT; ++i) {
+        writer.write(factory.newGroup().append("id", i).append("name", "name_" + (i % 10)));
+      }
+    }
+    return path;
+  }
+
+  @Test
+  public void testColumnAndFilterMetrics() throws IOException {
+    Path path = writeFile();
+    CollectingMetricsCallback callback = new CollectingMetricsCallback();
+    FilterCompat.Filter filter = FilterCompat.get(and(lt(longColumn("id"), 100L), notEq(longColumn("id"), 42L)));
+
+    long recordCount = 0;
+    try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), path)
+        .withFilter(filter)
+        .withMetricsCallback(callback)
+        .build()) {
+      while (reader.read() != null) {
+        ++recordCount;
+      }
+    }
+    assertEquals(99, recordCount);
+
+    int rowGroupCount;
+    try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(path, new Configuration()))) {
+      rowGroupCount = reader.getRowGroups().size();
+    }
+    assertTrue("the test requires multiple row groups", rowGroupCount > 1);
+
+    // all row groups but the first one are dropped by the statistics filter
+    assertEquals(rowGroupCount - 1, callback.get(RowGroupsDroppedByStatistics));
+    assertEquals(1, callback.get(RowGroupsKept));
+    assertTrue(callback.get(RecordAssemblyTime) >= 0);
+    assertTrue(callback.get(RecordsFilteredOut) > 0);
+
+    for (String column : new String[] {"id", "name"}) {
+      assertTrue(callback.get(column, ColumnReadSize) > 0);
+      assertTrue(callback.get(column, ColumnReadTime) >= 0);
+      assertTrue(callback.get(column, ColumnPagesRead) > 0);
+      assertTrue(callback.get(column, ColumnPagesSkipped) >= 0);
+    }
+    // pages of the first row group not containing ids below 100 are skipped by the column index filter
+    assertTrue(callback.get("id", ColumnPagesSkipped) > 0);
+    assertEquals(10, callback.get("name", ColumnDictionaryEntries));
+  }
+
+  @Test
+  public void testRowGroupMetricsWithoutFiltering() throws IOException {
+    Path path = writeFile();
+    CollectingMetricsCallback callback = new CollectingMetricsCallback();
+    try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), path)
+        .withMetricsCallback(callback)
+        .build()) {
+      while (reader.read() != null) {}
+    }
+    // no row group filtering is done without a filter
+    assertEquals(-1, callback.get(RowGroupsKept));
+    assertEquals(0, callback.get(RecordsFilteredOut));
+    assertEquals(-1, callback.get("id", ColumnPagesSkipped));
+    assertTrue(callback.get("name", ColumnReadSize) > 0);
+  }
+
+  @Test
+  public void testEqualityFilterOnDictionary() throws IOException {
+    Path path = writeFile();
+    CollectingMetricsCallback callback = new CollectingMetricsCallback();
+    try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), path)
+        .withFilter(FilterCompat.get(eq(binaryColumn("name"), Binary.fromString("missing"))))
+        .withMetricsCallback(callback)
+        .build()) {
+      while (reader.read() != null) {}
+    }
+    assertEquals(0, callback.get(RowGroupsKept));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnCodec;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnCompressTime;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnCompressedSize;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnDictionaryFallbackPages;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnDictionarySize;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnEncodedSize;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnEncodings;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.ColumnPagesWritten;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.RowGroupBufferedSize;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.RowGroupFlushTime;
+import static org.apache.parquet.hadoop.ParquetFileWriterMetrics.RowGroupRecordCount;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetWriterMetrics {
+
+  private static final MessageType SCHEMA = parseMessageType(
+      "message test { required int64 id; required binary category (UTF8); required boolean flag; }");
+  private static final int RECORD_COUNT = 10_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  /**
+   * Sums up the numeric values reported to it and keeps the last reported string values.
+   */
+  public static class CollectingMetricsCallback implements ParquetMetricsCallback {
+    private final Map<String, Long> values = new HashMap<>();
+    private final Map<String, Long> columnValues = new HashMap<>();
+    private final Map<String, String> columnStrings = new HashMap<>();
+
+    @Override
+    public void setValueInt(String name, int value) {
+      values.merge(name, (long) value, Long::sum);
+    }
+
+    @Override
+    public void setValueLong(String name, long value) {
+      values.merge(name, value, Long::sum);
+    }
+
+    @Override
+    public void setValueFloat(String name, float value) {}
+
+    @Override
+    public void setValueDouble(String name, double value) {}
+
+    @Override
+    public void setDuration(String name, long value) {
+      values.merge(name, value, Long::sum);
+    }
+
+    @Override
+    public void setColumnValueLong(String column, String name, long value) {
+      columnValues.merge(column + ':' + name, value, Long::sum);
+    }
+
+    @Override
+    public void setColumnDuration(String column, String name, long value) {
+      columnValues.merge(column + ':' + name, value, Long::sum);
+    }
+
+    @Override
+    public void setColumnValueString(String column, String name, String value) {
+      columnStrings.put(column + ':' + name, value);
+    }
+
+    long get(ParquetFileWriterMetrics metric) {
+      return values.getOrDefault(metric.name(), -1L);
+    }
+
+    long get(String column, ParquetFileWriterMetrics metric) {
+      return columnValues.getOrDefault(column + ':' + metric.name(), -1L);
+    }
+
+    String getString(String column, ParquetFileWriterMetrics metric) {
+      return columnStrings.get(column + ':' + metric.name());
+    }
+  }
+
+  @Test
+  public void testWriteMetrics() throws IOException {
+    File file = temp.newFile();
+    file.delete();
+    Path path = new Path(file.getAbsolutePath());
+    CollectingMetricsCallback callback = new CollectingMetricsCallback();
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    int rowGroupCount;
+    try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(path)
+        .withType(SCHEMA)
+        .withCompressionCodec(CompressionCodecName.GZIP)
+        .withRowGroupSize(8 * 1024)
+        .withPageSize(1024)
+        .withDictionaryPageSize(1024)
+        .withDictionaryEncoding(true)
+        .withMetricsCallback(callback)
+        .build()) {
+      for (long i = 0; i < RECORD_COUNT; ++i) {
+        writer.write(factory.newGroup()
+            .append("id", i)
+            .append("category", "category_" + (i % 10))
+            .append("flag", i % 2 == 0));
+      }
+      writer.close();
+      rowGroupCount = writer.getFooter().getBlocks().size();
+    }
+
+    assertTrue("the test requires multiple row groups", rowGroupCount > 1);
+    assertEquals(RECORD_COUNT, callback.get(RowGroupRecordCount));
+    assertTrue(callback.get(RowGroupBufferedSize) > 0);
+    assertTrue(callback.get(RowGroupFlushTime) > 0);
+
+    for (String column : new String[] {"id", "category", "flag"}) {
+      assertTrue(callback.get(column, ColumnEncodedSize) > 0);
+      assertTrue(callback.get(column, ColumnCompressedSize) > 0);
+      assertTrue(callback.get(column, ColumnPagesWritten) >= rowGroupCount);
+      assertTrue(callback.get(column, ColumnCompressTime) > 0);
+      assertEquals("GZIP", callback.getString(column, ColumnCodec));
+    }
+
+    // the unique ids do not fit into the small dictionary page, so the pages fall back to plain encoding
+    assertTrue(callback.get("id", ColumnDictionaryFallbackPages) > 0);
+    assertTrue(callback.getString("id", ColumnEncodings).contains("PLAIN"));
+    // the low cardinality column stays dictionary encoded
+    assertEquals(0, callback.get("category", ColumnDictionaryFallbackPages));
+    assertTrue(callback.get("category", ColumnDictionarySize) > 0);
+    assertEquals("PLAIN_DICTIONARY", callback.getString("category", ColumnEncodings));
+    // boolean columns are never dictionary encoded
+    assertEquals(0, callback.get("flag", ColumnDictionaryFallbackPages));
+    assertEquals(0, callback.get("flag", ColumnDictionarySize));
+  }
+
+  @Test
+  public void testMetricsCallbackFromConfiguration() {
+    Configuration conf = new Configuration();
+    assertNull(ParquetOutputFormat.getMetricsCallback(conf));
+    conf.set(ParquetOutputFormat.METRICS_CALLBACK_CLASS, CollectingMetricsCallback.class.getName());
+    assertTrue(ParquetOutputFormat.getMetricsCallback(conf) instanceof CollectingMetricsCallback);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestReadRangeCoalescing {
+
+  private static final MessageType SCHEMA = parseMessageType(
+      "message test { required int64 a; required int64 b; required int64 c; required int64 d; }");
+  // a and c are not adjacent in the file
+  private static final MessageType PROJECTION =
+      parseMessageType("message test { required int64 a; required int64 c; }");
+  private static final int RECORD_COUNT = 100_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private java.nio.file.Path file;
+  private int rowGroupCount;
+
+  @Before
+  public void writeFile() throws IOException {
+    File f = temp.newFile();
+    f.delete();
+    SimpleGroupFactory factory = new SimpleGroupFactory(SCHEMA);
+    try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new Path(f.getAbsolutePath()))
+        .withType(SCHEMA)
+        .withDictionaryEncoding(false)
+        .withRowGroupSize(512 * 1024)
+        .build()) {
+      for (long i = 0; i < RECORD_COUNT; i++) {
+        writer.write(factory.newGroup()
+            .append("a", i)
+            .append("b", i * 31)
+            .append("c", -i)
+            .append("d", i * 17));
+      }
+    }
+    file = Paths.get(f.getAbsolutePath());
+    try (ParquetFileReader reader = new ParquetFileReader(
+        new LocalInputFile(file), ParquetReadOptions.builder().build())) {
+      rowGroupCount = reader.getRowGroups().size();
+    }
+  }
+
+  @Test
+  public void testSplitRange() {
+    assertArrayEquals(new long[] {10}, ParquetFileReader.splitRange(10, 10, 1));
+    assertArrayEquals(new long[] {6, 5}, ParquetFileReader.splitRange(11, 10, 1));
+    assertArrayEquals(new long[] {34, 33, 33}, ParquetFileReader.splitRange(100, 40, 10));
+    // not split below the min size
+    assertArrayEquals(new long[] {50, 50}, ParquetFileReader.splitRange(100, 10, 50));
+    assertArrayEquals(new long[] {100}, ParquetFileReader.splitRange(100, 10, 200));
+    assertArrayEquals(new long[] {0}, ParquetFileReader.splitRange(0, 10, 1));
+  }
+
+  @Test
+  public void testOptionsAreParsedOnce() {
+    Configuration conf = new Configuration();
+    conf.setLong(ParquetInputFormat.READ_RANGE_MAX_GAP, 4096);
+    conf.setLong(ParquetInputFormat.READ_RANGE_MIN_SIZE, 1024);
+    ParquetReadOptions options = HadoopReadOptions.builder(conf).build();
+    assertEquals(4096, options.getReadRangeMaxGap());
+    assertEquals(1024, options.getReadRangeMinSize());
+
+    ParquetReadOptions copy = ParquetReadOptions.builder()
+        .copy(options)
+        .withReadRangeMaxMergedSize(8192)
+        .build();
+    assertEquals(4096, copy.getReadRangeMaxGap());
+    assertEquals(8192, copy.getReadRangeMaxMergedSize());
+
+    conf.set(ParquetInputFormat.READ_RANGE_MAX_GAP, "4k");
+    assertThrows(NumberFormatException.class, () -> HadoopReadOptions.builder(conf));
+  }
+
+  @Test
+  public void testGapsAreReadOver() throws IOException {
+    CountingInputFile separate = new CountingInputFile(file);
+    readAndVerify(separate, ParquetReadOptions.builder().build());
+    CountingInputFile merged = new CountingInputFile(file);
+    readAndVerify(
+        merged,
+        ParquetReadOptions.builder().withReadRangeMaxGap(1024 * 1024).build());
+    // one request less per row group
+    assertEquals(separate.seeks - rowGroupCount, merged.seeks);
+
+    // the merged size limit prevents reading over the gap
+    CountingInputFile limited = new CountingInputFile(file);
+    readAndVerify(
+        limited,
+        ParquetReadOptions.builder()
+            .withReadRangeMaxGap(1024 * 1024)
+            .withReadRangeMaxMergedSize(1024)
+            .build());
+    assertEquals(separate.seeks, limited.seeks);
+  }
+
+  @Test
+  public void testVectoredRanges() throws IOException {
+    CountingInputFile separate = new CountingInputFile(file);
+    readAndVerify(
+        separate,
+        ParquetReadOptions.builder().withUseHadoopVectoredIo(true).build());
+    assertEquals(2 * rowGroupCount, separate.vectoredRanges);
+
+    CountingInputFile merged = new CountingInputFile(file);
+    readAndVerify(
+        merged,
+        ParquetReadOptions.builder()
+            .withUseHadoopVectoredIo(true)
+            .withReadRangeMaxGap(1024 * 1024)
+            .build());
+    assertEquals(rowGroupCount, merged.vectoredRanges);
+
+    CountingInputFile split = new CountingInputFile(file);
+    readAndVerify(
+        split,
+        ParquetReadOptions.builder()
+            .withUseHadoopVectoredIo(true)
+            .withReadRangeMaxMergedSize(16 * 1024)
+            .withReadRangeMinSize(1024)
+            .build());
+    assertTrue(split.vectoredRanges > 2 * rowGroupCount);
+  }
+
+  private void readAndVerify(InputFile inputFile, ParquetReadOptions options) throws IOException {
+    long recordCount = 0;
+    try (ParquetFileReader reader = new ParquetFileReader(inputFile, options)) {
+      reader.setRequestedSchema(PROJECTION);
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(PROJECTION);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        RecordReader<Group> recordReader =
+            columnIO.getRecordReader(pages, new GroupRecordConverter(PROJECTION));
+        for (long i = 0; i < pages.getRowCount(); i++) {
+          Group group = recordReader.read();
+          assertEquals(recordCount, group.getLong("a", 0));
+          assertEquals(-recordCount, group.getLong("c", 0));
+          recordCount++;
+        }
+      }
+    }
+    assertEquals(RECORD_COUNT, recordCount);
+  }
+}
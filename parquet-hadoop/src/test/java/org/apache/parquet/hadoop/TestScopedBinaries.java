@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.hadoop.util.GeneratedFiles.scrambled;
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestScopedBinaries {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required binary plain (UTF8); required binary dict (UTF8); }");
+  private static final int RECORD_COUNT = 20_000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile() throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        RECORD_COUNT,
+        builder -> builder.withCompressionCodec(CompressionCodecName.GZIP)
+            .withDictionaryEncoding("plain", false)
+            .withRowGroupSize(64 * 1024),
+        (factory, i) -> factory.newGroup().append("plain", plain(i)).append("dict", dict(i)));
+  }
+
+  private static String plain(int i) {
+    return "plain-" + Long.toHexString(scrambled(i));
+  }
+
+  private static String dict(int i) {
+    return "dict-" + (i % 20);
+  }
+
+  @Test
+  public void testValuesAreConstantByDefault() throws IOException {
+    List<Binary> retained = read(ParquetReadOptions.builder().build(), false);
+    verifyRetained(retained);
+  }
+
+  @Test
+  public void testPooledPageValuesAreScoped() throws IOException {
+    ParquetReadOptions options =
+        ParquetReadOptions.builder().withDecompressionBufferPool("heap").build();
+    // the values copied before closing their row groups are still valid after their buffers are reused
+    List<Binary> retained = read(options, true);
+    verifyRetained(retained);
+  }
+
+  @Test
+  public void testDirectPageValuesAreScoped() throws IOException {
+    ParquetReadOptions options = ParquetReadOptions.builder()
+        .withAllocator(new DirectByteBufferAllocator())
+        .build();
+    List<Binary> retained = read(options, true);
+    verifyRetained(retained);
+  }
+
+  private List<Binary> read(ParquetReadOptions options, boolean scoped) throws IOException {
+    List<Binary> retained = new ArrayList<>();
+    int rowGroups = 0;
+    try (ParquetFileReader reader = new ParquetFileReader(new CountingInputFile(writeFile()), options)) {
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        try (PageReadStore rowGroup = pages) {
+          ++rowGroups;
+          RecordReader<Group> recordReader =
+              columnIO.getRecordReader(rowGroup, new GroupRecordConverter(SCHEMA));
+          for (long i = 0; i < rowGroup.getRowCount(); i++) {
+            Group group = recordReader.read();
+            Binary plain = group.getBinary("plain", 0);
+            Binary dict = group.getBinary("dict", 0);
+            assertEquals(scoped, plain.isBackingBytesScoped());
+            // the dictionary is copied once for its values to outlive the pages
+            assertFalse(dict.isBackingBytesScoped());
+            assertFalse(dict.isBackingBytesReused());
+            int index = retained.size() / 2;
+            assertEquals(plain(index), plain.toStringUsingUTF8());
+            assertEquals(dict(index), dict.toStringUsingUTF8());
+            retained.add(plain.copy());
+            retained.add(dict.copy());
+          }
+        }
+      }
+    }
+    assertTrue(rowGroups > 1);
+    return retained;
+  }
+
+  private static void verifyRetained(List<Binary> retained) {
+    assertEquals(2 * RECORD_COUNT, retained.size());
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      assertEquals(plain(i), retained.get(2 * i).toStringUsingUTF8());
+      assertEquals(dict(i), retained.get(2 * i + 1).toStringUsingUTF8());
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop;
+
+import static org.apache.parquet.schema.MessageTypeParser.parseMessageType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.bytes.TrackingByteBufferAllocator;
+import org.apache.parquet.column.ParquetProperties.WriterVersion;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.GeneratedFiles;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestStreamingRead {
+
+  private static final MessageType SCHEMA =
+      parseMessageType("message test { required int64 id; optional binary name (UTF8); required double value; }");
+  private static final int RECORD_COUNT = 50_000;
+
+  @Parameterized.Parameters(name = "{0}")
+  public static List<WriterVersion> versions() {
+    return Arrays.asList(WriterVersion.PARQUET_1_0, WriterVersion.PARQUET_2_0);
+  }
+
+  private final WriterVersion writerVersion;
+
+  public TestStreamingRead(WriterVersion writerVersion) {
+    this.writerVersion = writerVersion;
+  }
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Path writeFile(CompressionCodecName codec) throws IOException {
+    return GeneratedFiles.write(
+        temp,
+        SCHEMA,
+        RECORD_COUNT,
+        builder -> builder.withWriterVersion(writerVersion)
+            .withCompressionCodec(codec)
+            .withRowGroupSize(4 * 1024 * 1024),
+        (factory, i) -> {
+          Group group = factory.newGroup().append("id", (long) i).append("value", i * 0.5);
+          if (i % 7 != 0) {
+            group.append("name", "name-" + (i % 100));
+          }
+          return group;
+        });
+  }
+
+  @Test
+  public void testStreamingRead() throws IOException {
+    testStreamingRead(writeFile(CompressionCodecName.SNAPPY), true);
+  }
+
+  @Test
+  public void testStreamingReadUncompressed() throws IOException {
+    testStreamingRead(writeFile(CompressionCodecName.UNCOMPRESSED), false);
+  }
+
+  private void testStreamingRead(Path file, boolean compressed) throws IOException {
+
+    CountingInputFile wholeChunks = new CountingInputFile(file);
+    RetainedBytesAllocator wholeChunksAllocator = new RetainedBytesAllocator(new HeapByteBufferAllocator());
+    readAndVerify(
+        wholeChunks,
+        ParquetReadOptions.builder().withAllocator(wholeChunksAllocator).build());
+    wholeChunksAllocator.close();
+
+    for (int readAheadSize : new int[] {100, 4096, 1024 * 1024}) {
+      for (ByteBufferAllocator allocator :
+          new ByteBufferAllocator[] {new HeapByteBufferAllocator(), new DirectByteBufferAllocator()}) {
+        CountingInputFile streaming = new CountingInputFile(file);
+        RetainedBytesAllocator streamingAllocator = new RetainedBytesAllocator(allocator);
+        readAndVerify(
+            streaming,
+            ParquetReadOptions.builder()
+                .withStreamingRead(true)
+                .withStreamingReadAheadSize(readAheadSize)
+                .withAllocator(streamingAllocator)
+                .build());
+        // all the buffers are released
+        streamingAllocator.close();
+        if (readAheadSize < 1024 * 1024) {
+          // only the read-ahead windows or single pages are read at once instead of the whole row group
+          assertTrue(streaming.maxBufferRead < wholeChunks.maxBufferRead / 4);
+        }
+        if (readAheadSize < 1024 * 1024 && (compressed || !allocator.isDirect())) {
+          // and the buffers are reused or released once their pages are decompressed; uncompressed pages read
+          // into
+          // direct buffers are kept until the row group is closed
+          assertTrue(streamingAllocator.maxRetained < wholeChunksAllocator.maxRetained / 4);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testStreamingReadOptions() {
+    Configuration conf = new Configuration();
+    conf.setBoolean(ParquetInputFormat.STREAMING_READ_ENABLED, true);
+    conf.setInt(ParquetInputFormat.STREAMING_READ_AHEAD_SIZE, 4096);
+    ParquetReadOptions options = HadoopReadOptions.builder(conf).build();
+    assertTrue(options.useStreamingRead());
+    assertEquals(4096, options.getStreamingReadAheadSize());
+    ParquetReadOptions copy = ParquetReadOptions.builder().copy(options).build();
+    assertTrue(copy.useStreamingRead());
+    assertEquals(4096, copy.getStreamingReadAheadSize());
+
+    conf.set(ParquetInputFormat.STREAMING_READ_AHEAD_SIZE, "4k");
+    assertThrows(NumberFormatException.class, () -> HadoopReadOptions.builder(conf));
+  }
+
+  /**
+   * Tracks the number of bytes allocated and not released yet.
+   */
+  private static class RetainedBytesAllocator implements ByteBufferAllocator, AutoCloseable {
+    private final TrackingByteBufferAllocator allocator;
+    private long retained;
+    private long maxRetained;
+
+    RetainedBytesAllocator(ByteBufferAllocator allocator) {
+      this.allocator = TrackingByteBufferAllocator.wrap(allocator);
+    }
+
+    @Override
+    public ByteBuffer allocate(int size) {
+      ByteBuffer buffer = allocator.allocate(size);
+      retained += buffer.capacity();
+      maxRetained = Math.max(maxRetained, retained);
+      return buffer;
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+      retained -= buffer.capacity();
+      allocator.release(buffer);
+    }
+
+    @Override
+    public boolean isDirect() {
+      return allocator.isDirect();
+    }
+
+    @Override
+    public void close() {
+      allocator.close();
+    }
+  }
+
+  private void readAndVerify(CountingInputFile inputFile, ParquetReadOptions options) throws IOException {
+    long recordCount = 0;
+    try (ParquetFileReader reader = new ParquetFileReader(inputFile, options)) {
+      MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(SCHEMA);
+      PageReadStore pages;
+      while ((pages = reader.readNextRowGroup()) != null) {
+        try (PageReadStore rowGroup = pages) {
+          RecordReader<Group> recordReader =
+              columnIO.getRecordReader(rowGroup, new GroupRecordConverter(SCHEMA));
+          for (long i = 0; i < rowGroup.getRowCount(); i++) {
+            Group group = recordReader.read();
+            assertEquals(recordCount, group.getLong("id", 0));
+            assertEquals(recordCount * 0.5, group.getDouble("value", 0), 0.0);
+            if (recordCount % 7 == 0) {
+              assertEquals(0, group.getFieldRepetitionCount("name"));
+            } else {
+              assertEquals("name-" + (recordCount % 100), group.getString("name", 0));
+            }
+            recordCount++;
+          }
+        }
+      }
+    }
+    assertEquals(RECORD_COUNT, recordCount);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop.metadata;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.parquet.column.statistics.BinaryStatistics;
+import org.junit.Test;
+
+public class TestColumnChunkKeyValueMetadata {
+
+  private static final ColumnChunkKeyValueMetadata METADATA = new ColumnChunkKeyValueMetadata("test.prefix.");
+
+  @Test
+  public void testValueOfColumnChunk() {
+    ColumnChunkMetaData column = newMD(4, 100, 1000);
+    Map<String, String> keyValueMetaData = new HashMap<>();
+    assertFalse(METADATA.isPresent(keyValueMetaData));
+    keyValueMetaData.put(METADATA.key(column), METADATA.value(column, "a,b"));
+    assertEquals("test.prefix.4", METADATA.key(column));
+    assertTrue(METADATA.isPresent(keyValueMetaData));
+    assertEquals("a,b", METADATA.getPayload(column, keyValueMetaData));
+
+    // another column chunk starting at the same position, e.g. after the file is rewritten
+    assertNull(METADATA.getPayload(newMD(4, 101, 1000), keyValueMetaData));
+    assertNull(METADATA.getPayload(newMD(4, 100, 999), keyValueMetaData));
+    assertNull(METADATA.getPayload(newMD(5, 100, 1000), keyValueMetaData));
+  }
+
+  @Test
+  public void testInvalidValue() {
+    ColumnChunkMetaData column = newMD(4, 100, 1000);
+    assertNull(METADATA.getPayload(column, Collections.singletonMap(METADATA.key(column), "1000")));
+    assertNull(METADATA.getPayload(column, Collections.singletonMap(METADATA.key(column), "x,100,a")));
+  }
+
+  private static ColumnChunkMetaData newMD(long startingPos, long valueCount, long totalSize) {
+    return ColumnChunkMetaData.get(
+        ColumnPath.get("foo"),
+        BINARY,
+        CompressionCodecName.GZIP,
+        Collections.emptySet(),
+        new BinaryStatistics(),
+        startingPos,
+        0,
+        valueCount,
+        totalSize,
+        totalSize);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.hadoop.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.UnaryOperator;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Writes test files of generated records with pages of at most 1000 rows, so a few thousand records span several
+ * pages. The callers configure the rest of the writer, usually a small row group size to get several row groups.
+ */
+public final class GeneratedFiles {
+
+  /**
+   * Generates the record {@code i} of a file.
+   */
+  public interface RecordGenerator {
+    Group generate(SimpleGroupFactory factory, int i);
+  }
+
+  private GeneratedFiles() {}
+
+  /**
+   * @param i the index of a record
+   * @return a value scrambling the bits of the index, so the values do not compress to almost nothing and the
+   * files have several row groups
+   */
+  public static long scrambled(long i) {
+    return i * 0x9E3779B97F4A7C15L;
+  }
+
+  /**
+   * Writes the records to a new file of the folder.
+   *
+   * @param temp        the folder to create the file in
+   * @param schema      the schema of the records
+   * @param recordCount the number of records to write
+   * @param configure   configures the writer, e.g. its row group size, codec or writer version
+   * @param records     generates the records
+   * @return the path of the file
+   */
+  public static Path write(
+      TemporaryFolder temp,
+      MessageType schema,
+      int recordCount,
+      UnaryOperator<ExampleParquetWriter.Builder> configure,
+      RecordGenerator records)
+      throws IOException {
+    File f = temp.newFile();
+    f.delete();
+    SimpleGroupFactory factory = new SimpleGroupFactory(schema);
+    ExampleParquetWriter.Builder builder = ExampleParquetWriter.builder(
+            new org.apache.hadoop.fs.Path(f.getAbsolutePath()))
+        .withType(schema)
+        .withPageRowCountLimit(1000)
+        .withMaxRowCountForPageSizeCheck(1000);
+    try (ParquetWriter<Group> writer = configure.apply(builder).build()) {
+      for (int i = 0; i < recordCount; i++) {
+        writer.write(records.generate(factory, i));
+      }
+    }
+    return Paths.get(f.getAbsolutePath());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bloomfilter;
+
+import java.nio.ByteOrder;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Inserts and probes the hashes of a split block Bloom filter with the java vector API. A block of eight 32-bit words
+ * is a single 256 bit int vector: the masks of the eight words are computed at once by multiplying the key with the
+ * vector of the salts, and the block is updated or compared with a single load.
+ */
+public class BlockSplitBloomFilterVectorKernel extends BlockSplitBloomFilterKernel {
+
+  private static final VectorSpecies<Integer> BLOCK = IntVector.SPECIES_256;
+
+  private static final IntVector SALTS = IntVector.fromArray(BLOCK, SALT, 0);
+  private static final IntVector ONES = IntVector.broadcast(BLOCK, 1);
+
+  /**
+   * The vector kernel or null if the platform does not support 256 bit vectors
+   */
+  public static final BlockSplitBloomFilterKernel kernel =
+      VectorShape.preferredShape().vectorBitSize() >= 256 ? new BlockSplitBloomFilterVectorKernel() : null;
+
+  private static IntVector mask(long hash) {
+    IntVector indexes = SALTS.mul((int) hash).lanewise(VectorOperators.LSHR, 27);
+    return ONES.lanewise(VectorOperators.LSHL, indexes);
+  }
+
+  @Override
+  public void insertHashes(byte[] bitset, long[] hashes) {
+    long numBlocks = bitset.length / BYTES_PER_BLOCK;
+    for (long hash : hashes) {
+      int offset = blockOffset(hash, numBlocks) * Integer.BYTES;
+      IntVector.fromByteArray(BLOCK, bitset, offset, ByteOrder.LITTLE_ENDIAN)
+          .or(mask(hash))
+          .intoByteArray(bitset, offset, ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  @Override
+  public void findHashes(byte[] bitset, long[] hashes, boolean[] result) {
+    long numBlocks = bitset.length / BYTES_PER_BLOCK;
+    for (int i = 0; i < hashes.length; i++) {
+      long hash = hashes[i];
+      int offset = blockOffset(hash, numBlocks) * Integer.BYTES;
+      IntVector mask = mask(hash);
+      result[i] = IntVector.fromByteArray(BLOCK, bitset, offset, ByteOrder.LITTLE_ENDIAN)
+          .and(mask)
+          .eq(mask)
+          .allTrue();
+    }
+  }
+}
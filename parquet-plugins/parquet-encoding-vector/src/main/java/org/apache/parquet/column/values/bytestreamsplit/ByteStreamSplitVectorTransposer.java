@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bytestreamsplit;
+
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Transposes the values of 2, 4 and 8 bytes (FLOAT, DOUBLE, INT32, INT64 and FIXED_LEN_BYTE_ARRAY of these lengths)
+ * with the java vector API using the preferred vector shape of the platform. To decode, the bytes of each stream are
+ * widened to the lanes of a short, int or long vector and shifted into place; to encode, the lanes are shifted and
+ * narrowed to the bytes of each stream. The other sizes and the values left over by the vectors are transposed with
+ * scalar loops.
+ */
+public class ByteStreamSplitVectorTransposer extends ByteStreamSplitTransposer {
+
+  private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+  // The bytes of a stream are loaded and stored for at least 8 values, the lanes of the smallest byte vector; the
+  // values of these bytes are then spread over several parts of the wider vectors if they have fewer lanes.
+  private static final VectorSpecies<Byte> SHORT_BYTES = byteSpecies(SHORTS);
+  private static final VectorSpecies<Byte> INT_BYTES = byteSpecies(INTS);
+  private static final VectorSpecies<Byte> LONG_BYTES = byteSpecies(LONGS);
+
+  /**
+   * The vector transposer or null if the platform has no SIMD support
+   */
+  public static final ByteStreamSplitTransposer transposer =
+      VectorShape.preferredShape().vectorBitSize() >= 128 ? new ByteStreamSplitVectorTransposer() : null;
+
+  private static VectorSpecies<Byte> byteSpecies(VectorSpecies<?> species) {
+    return VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(species.length(), 8) * Byte.SIZE));
+  }
+
+  @Override
+  public void decode(
+      byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int valueCount, int elementSize) {
+    int decoded;
+    switch (elementSize) {
+      case Short.BYTES:
+        decoded = decodeShorts(streams, streamsOffset, values, valuesOffset, valueCount);
+        break;
+      case Integer.BYTES:
+        decoded = decodeInts(streams, streamsOffset, values, valuesOffset, valueCount);
+        break;
+      case Long.BYTES:
+        decoded = decodeLongs(streams, streamsOffset, values, valuesOffset, valueCount);
+        break;
+      default:
+        decoded = 0;
+    }
+    decodeRange(streams, streamsOffset, valueCount, values, valuesOffset, decoded, valueCount, elementSize);
+  }
+
+  @Override
+  public void encode(
+      byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int valueCount, int elementSize) {
+    int encoded;
+    switch (elementSize) {
+      case Short.BYTES:
+        encoded = encodeShorts(values, valuesOffset, streams, streamsOffset, valueCount);
+        break;
+      case Integer.BYTES:
+        encoded = encodeInts(values, valuesOffset, streams, streamsOffset, valueCount);
+        break;
+      case Long.BYTES:
+        encoded = encodeLongs(values, valuesOffset, streams, streamsOffset, valueCount);
+        break;
+      default:
+        encoded = 0;
+    }
+    encodeRange(values, valuesOffset, streams, streamsOffset, valueCount, encoded, valueCount, elementSize);
+  }
+
+  // Each method returns the number of values transposed; the remaining ones are left to the scalar loops
+
+  private static int decodeShorts(byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int count) {
+    int step = SHORT_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int part = 0, value = i; value < i + step; ++part, value += SHORTS.length()) {
+        ShortVector v = ShortVector.zero(SHORTS);
+        for (int stream = 0; stream < Short.BYTES; ++stream) {
+          ShortVector b =
+              (ShortVector) ByteVector.fromArray(SHORT_BYTES, streams, streamsOffset + stream * count + i)
+                  .convertShape(VectorOperators.B2S, SHORTS, part);
+          v = v.or(b.and((short) 0xFF).lanewise(VectorOperators.LSHL, stream * Byte.SIZE));
+        }
+        v.intoByteArray(values, valuesOffset + value * Short.BYTES, ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    return i;
+  }
+
+  private static int decodeInts(byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int count) {
+    int step = INT_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int part = 0, value = i; value < i + step; ++part, value += INTS.length()) {
+        IntVector v = IntVector.zero(INTS);
+        for (int stream = 0; stream < Integer.BYTES; ++stream) {
+          IntVector b =
+              (IntVector) ByteVector.fromArray(INT_BYTES, streams, streamsOffset + stream * count + i)
+                  .convertShape(VectorOperators.B2I, INTS, part);
+          v = v.or(b.and(0xFF).lanewise(VectorOperators.LSHL, stream * Byte.SIZE));
+        }
+        v.intoByteArray(values, valuesOffset + value * Integer.BYTES, ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    return i;
+  }
+
+  private static int decodeLongs(byte[] streams, int streamsOffset, byte[] values, int valuesOffset, int count) {
+    int step = LONG_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int part = 0, value = i; value < i + step; ++part, value += LONGS.length()) {
+        LongVector v = LongVector.zero(LONGS);
+        for (int stream = 0; stream < Long.BYTES; ++stream) {
+          LongVector b =
+              (LongVector) ByteVector.fromArray(LONG_BYTES, streams, streamsOffset + stream * count + i)
+                  .convertShape(VectorOperators.B2L, LONGS, part);
+          v = v.or(b.and(0xFFL).lanewise(VectorOperators.LSHL, stream * Byte.SIZE));
+        }
+        v.intoByteArray(values, valuesOffset + value * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    return i;
+  }
+
+  private static int encodeShorts(byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int count) {
+    int step = SHORT_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int stream = 0; stream < Short.BYTES; ++stream) {
+        ByteVector b = ByteVector.zero(SHORT_BYTES);
+        for (int part = 0, value = i; value < i + step; ++part, value += SHORTS.length()) {
+          ShortVector v = ShortVector.fromByteArray(
+              SHORTS, values, valuesOffset + value * Short.BYTES, ByteOrder.LITTLE_ENDIAN);
+          b = b.or((ByteVector) v.lanewise(VectorOperators.LSHR, stream * Byte.SIZE)
+              .convertShape(VectorOperators.S2B, SHORT_BYTES, -part));
+        }
+        b.intoArray(streams, streamsOffset + stream * count + i);
+      }
+    }
+    return i;
+  }
+
+  private static int encodeInts(byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int count) {
+    int step = INT_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int stream = 0; stream < Integer.BYTES; ++stream) {
+        ByteVector b = ByteVector.zero(INT_BYTES);
+        for (int part = 0, value = i; value < i + step; ++part, value += INTS.length()) {
+          IntVector v = IntVector.fromByteArray(
+              INTS, values, valuesOffset + value * Integer.BYTES, ByteOrder.LITTLE_ENDIAN);
+          b = b.or((ByteVector) v.lanewise(VectorOperators.LSHR, stream * Byte.SIZE)
+              .convertShape(VectorOperators.I2B, INT_BYTES, -part));
+        }
+        b.intoArray(streams, streamsOffset + stream * count + i);
+      }
+    }
+    return i;
+  }
+
+  private static int encodeLongs(byte[] values, int valuesOffset, byte[] streams, int streamsOffset, int count) {
+    int step = LONG_BYTES.length();
+    int i = 0;
+    for (; i <= count - step; i += step) {
+      for (int stream = 0; stream < Long.BYTES; ++stream) {
+        ByteVector b = ByteVector.zero(LONG_BYTES);
+        for (int part = 0, value = i; value < i + step; ++part, value += LONGS.length()) {
+          LongVector v = LongVector.fromByteArray(
+              LONGS, values, valuesOffset + value * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+          b = b.or((ByteVector) v.lanewise(VectorOperators.LSHR, stream * Byte.SIZE)
+              .convertShape(VectorOperators.L2B, LONG_BYTES, -part));
+        }
+        b.intoArray(streams, streamsOffset + stream * count + i);
+      }
+    }
+    return i;
+  }
+}
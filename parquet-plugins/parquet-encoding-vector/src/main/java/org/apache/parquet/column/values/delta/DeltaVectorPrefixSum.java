@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.delta;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Sums up the deltas with the java vector API using the preferred vector shape of the platform. Each vector of deltas
+ * is scanned in log2(lanes) steps, adding the vector shifted by 1, 2, 4... lanes to itself, and the last value of the
+ * previous vector, broadcast to all lanes, is added to the result. The deltas left over by the vectors are summed up
+ * with scalar loops.
+ */
+public class DeltaVectorPrefixSum extends DeltaPrefixSum {
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+  private static final VectorShuffle<Integer> LAST_INT = VectorShuffle.fromOp(INTS, i -> INTS.length() - 1);
+  private static final VectorShuffle<Long> LAST_LONG = VectorShuffle.fromOp(LONGS, i -> LONGS.length() - 1);
+
+  /**
+   * The vector prefix sum or null if the platform has no SIMD support
+   */
+  public static final DeltaPrefixSum prefixSum =
+      VectorShape.preferredShape().vectorBitSize() >= 128 ? new DeltaVectorPrefixSum() : null;
+
+  @Override
+  public int prefixSum(int[] values, int offset, int count, int minDelta, int value) {
+    int lanes = INTS.length();
+    int end = offset + INTS.loopBound(count);
+    IntVector zero = IntVector.zero(INTS);
+    IntVector last = IntVector.broadcast(INTS, value);
+    int i = offset;
+    for (; i < end; i += lanes) {
+      IntVector sums = IntVector.fromArray(INTS, values, i).add(minDelta);
+      for (int shift = 1; shift < lanes; shift <<= 1) {
+        // the lanes shifted up by shift, with zeros shifted in
+        sums = sums.add(zero.slice(lanes - shift, sums));
+      }
+      sums = sums.add(last);
+      sums.intoArray(values, i);
+      last = sums.rearrange(LAST_INT);
+    }
+    return prefixSumRange(values, i, offset + count, minDelta, i == offset ? value : last.lane(0));
+  }
+
+  @Override
+  public long prefixSum(long[] values, int offset, int count, long minDelta, long value) {
+    int lanes = LONGS.length();
+    int end = offset + LONGS.loopBound(count);
+    LongVector zero = LongVector.zero(LONGS);
+    LongVector last = LongVector.broadcast(LONGS, value);
+    int i = offset;
+    for (; i < end; i += lanes) {
+      LongVector sums = LongVector.fromArray(LONGS, values, i).add(minDelta);
+      for (int shift = 1; shift < lanes; shift <<= 1) {
+        sums = sums.add(zero.slice(lanes - shift, sums));
+      }
+      sums = sums.add(last);
+      sums.intoArray(values, i);
+      last = sums.rearrange(LAST_LONG);
+    }
+    return prefixSumRange(values, i, offset + count, minDelta, i == offset ? value : last.lane(0));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bloomfilter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class TestBlockSplitBloomFilterVectorKernel {
+
+  @Test
+  public void testDefault() {
+    Assume.assumeNotNull(BlockSplitBloomFilterVectorKernel.kernel);
+    assertSame(BlockSplitBloomFilterVectorKernel.kernel, BlockSplitBloomFilterKernel.getDefault());
+  }
+
+  @Test
+  public void testInsertAndFindAsScalar() {
+    BlockSplitBloomFilterKernel kernel = BlockSplitBloomFilterVectorKernel.kernel;
+    Assume.assumeNotNull(kernel);
+    BlockSplitBloomFilterKernel scalar = BlockSplitBloomFilterKernel.scalar();
+    Random random = new Random(42);
+    for (int blocks : new int[] {1, 3, 64}) {
+      long[] hashes = random.longs(blocks * 20).toArray();
+      byte[] expected = new byte[blocks * 32];
+      scalar.insertHashes(expected, hashes);
+      byte[] bitset = new byte[blocks * 32];
+      kernel.insertHashes(bitset, hashes);
+      assertArrayEquals("bitset of " + blocks + " blocks", expected, bitset);
+
+      boolean[] found = new boolean[hashes.length];
+      kernel.findHashes(bitset, hashes, found);
+      for (boolean f : found) {
+        assertTrue(f);
+      }
+
+      long[] others = random.longs(1000).toArray();
+      boolean[] expectedFound = new boolean[others.length];
+      scalar.findHashes(bitset, others, expectedFound);
+      found = new boolean[others.length];
+      kernel.findHashes(bitset, others, found);
+      assertArrayEquals("probes of " + blocks + " blocks", expectedFound, found);
+    }
+  }
+}
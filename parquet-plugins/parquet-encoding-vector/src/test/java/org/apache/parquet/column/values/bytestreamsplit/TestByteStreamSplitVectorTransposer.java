@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.bytestreamsplit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class TestByteStreamSplitVectorTransposer {
+
+  @Test
+  public void testDefault() {
+    Assume.assumeNotNull(ByteStreamSplitVectorTransposer.transposer);
+    assertSame(ByteStreamSplitVectorTransposer.transposer, ByteStreamSplitTransposer.getDefault());
+  }
+
+  @Test
+  public void testTransposeAsScalar() {
+    ByteStreamSplitTransposer transposer = ByteStreamSplitVectorTransposer.transposer;
+    Assume.assumeNotNull(transposer);
+    ByteStreamSplitTransposer scalar = ByteStreamSplitTransposer.scalar();
+    Random random = new Random(42);
+    for (int elementSize : new int[] {1, 2, 3, 4, 8, 16}) {
+      for (int valueCount : new int[] {0, 1, 7, 8, 31, 64, 65, 1000, 4099}) {
+        byte[] values = new byte[valueCount * elementSize];
+        random.nextBytes(values);
+
+        byte[] expected = new byte[values.length + 3];
+        scalar.encode(values, 0, expected, 3, valueCount, elementSize);
+        byte[] streams = new byte[values.length + 3];
+        transposer.encode(values, 0, streams, 3, valueCount, elementSize);
+        assertArrayEquals("encode " + valueCount + " values of " + elementSize + " bytes", expected, streams);
+
+        byte[] decoded = new byte[values.length + 5];
+        transposer.decode(streams, 3, decoded, 5, valueCount, elementSize);
+        assertArrayEquals(
+            "decode " + valueCount + " values of " + elementSize + " bytes",
+            values,
+            Arrays.copyOfRange(decoded, 5, decoded.length));
+      }
+    }
+  }
+}
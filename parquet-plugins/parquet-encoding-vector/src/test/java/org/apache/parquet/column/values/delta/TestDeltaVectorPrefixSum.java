@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.column.values.delta;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class TestDeltaVectorPrefixSum {
+
+  @Test
+  public void testDefault() {
+    Assume.assumeNotNull(DeltaVectorPrefixSum.prefixSum);
+    assertSame(DeltaVectorPrefixSum.prefixSum, DeltaPrefixSum.getDefault());
+  }
+
+  @Test
+  public void testPrefixSumAsScalar() {
+    DeltaPrefixSum prefixSum = DeltaVectorPrefixSum.prefixSum;
+    Assume.assumeNotNull(prefixSum);
+    DeltaPrefixSum scalar = DeltaPrefixSum.scalar();
+    Random random = new Random(42);
+    for (int count : new int[] {0, 1, 3, 7, 8, 31, 32, 33, 128, 1000}) {
+      int[] ints = random.ints(count + 5, -100, 100).toArray();
+      // large deltas to check that the sums wrap around
+      ints[random.nextInt(ints.length)] = Integer.MAX_VALUE;
+      int[] expectedInts = ints.clone();
+      int minDelta = random.nextInt(20) - 10;
+      assertEquals(
+          "prefix sum of " + count + " ints",
+          scalar.prefixSum(expectedInts, 3, count, minDelta, 17),
+          prefixSum.prefixSum(ints, 3, count, minDelta, 17));
+      assertArrayEquals("prefix sum of " + count + " ints", expectedInts, ints);
+
+      long[] longs = random.longs(count + 5, -100, 100).toArray();
+      longs[random.nextInt(longs.length)] = Long.MAX_VALUE;
+      long[] expectedLongs = longs.clone();
+      assertEquals(
+          "prefix sum of " + count + " longs",
+          scalar.prefixSum(expectedLongs, 3, count, minDelta, -17L),
+          prefixSum.prefixSum(longs, 3, count, minDelta, -17L));
+      assertArrayEquals("prefix sum of " + count + " longs", expectedLongs, longs);
+    }
+  }
+}
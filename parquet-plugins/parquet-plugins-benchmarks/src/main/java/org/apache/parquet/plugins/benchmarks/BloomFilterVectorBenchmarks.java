@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.plugins.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilterKernel;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilterVectorKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and the vector kernels inserting and probing batches of hashes in a split block Bloom filter.
+ * This class uses the java17 vector API, add VM options --add-modules=jdk.incubator.vector
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, batchSize = 1000)
+@Measurement(iterations = 1, batchSize = 1000)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class BloomFilterVectorBenchmarks {
+  // a filter of 1MB, the size written for about 800K distinct values at the default false positive probability
+  private int bitsetSize = 1024 * 1024;
+
+  private int hashCount = 4096;
+
+  private byte[] bitset;
+  private long[] hashes;
+  private boolean[] result;
+
+  private BlockSplitBloomFilterKernel scalar;
+  private BlockSplitBloomFilterKernel vector;
+
+  @Setup(Level.Trial)
+  public void getInputHashes() {
+    Random random = new Random(42);
+    bitset = new byte[bitsetSize];
+    hashes = random.longs(hashCount).toArray();
+    result = new boolean[hashCount];
+
+    scalar = BlockSplitBloomFilterKernel.scalar();
+    vector = BlockSplitBloomFilterVectorKernel.kernel;
+    scalar.insertHashes(bitset, random.longs(hashCount).toArray());
+  }
+
+  @Benchmark
+  public byte[] testInsert() {
+    scalar.insertHashes(bitset, hashes);
+    return bitset;
+  }
+
+  @Benchmark
+  public byte[] testInsertVector() {
+    vector.insertHashes(bitset, hashes);
+    return bitset;
+  }
+
+  @Benchmark
+  public boolean[] testFind() {
+    scalar.findHashes(bitset, hashes, result);
+    return result;
+  }
+
+  @Benchmark
+  public boolean[] testFindVector() {
+    vector.findHashes(bitset, hashes, result);
+    return result;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.plugins.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitTransposer;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitVectorTransposer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and the vector BYTE_STREAM_SPLIT transposers in both directions. This class uses the java17
+ * vector API, add VM options --add-modules=jdk.incubator.vector
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, batchSize = 10000)
+@Measurement(iterations = 1, batchSize = 10000)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class ByteStreamSplitVectorBenchmarks {
+  /**
+   * The element sizes of FLOAT and INT32 (4), DOUBLE and INT64 (8) and of some FIXED_LEN_BYTE_ARRAY (2, 16).
+   */
+  @Param({"2", "4", "8", "16"})
+  private int elementSize;
+
+  private int valueCount = 4096;
+
+  private byte[] values;
+  private byte[] streams;
+  private byte[] output;
+
+  private ByteStreamSplitTransposer scalar;
+  private ByteStreamSplitTransposer vector;
+
+  @Setup(Level.Trial)
+  public void getInputBytes() {
+    values = new byte[valueCount * elementSize];
+    streams = new byte[values.length];
+    output = new byte[values.length];
+    new Random(42).nextBytes(values);
+
+    scalar = ByteStreamSplitTransposer.scalar();
+    vector = ByteStreamSplitVectorTransposer.transposer;
+    scalar.encode(values, 0, streams, 0, valueCount, elementSize);
+  }
+
+  @Benchmark
+  public byte[] testDecode() {
+    scalar.decode(streams, 0, output, 0, valueCount, elementSize);
+    return output;
+  }
+
+  @Benchmark
+  public byte[] testDecodeVector() {
+    vector.decode(streams, 0, output, 0, valueCount, elementSize);
+    return output;
+  }
+
+  @Benchmark
+  public byte[] testEncode() {
+    scalar.encode(values, 0, output, 0, valueCount, elementSize);
+    return output;
+  }
+
+  @Benchmark
+  public byte[] testEncodeVector() {
+    vector.encode(values, 0, output, 0, valueCount, elementSize);
+    return output;
+  }
+}
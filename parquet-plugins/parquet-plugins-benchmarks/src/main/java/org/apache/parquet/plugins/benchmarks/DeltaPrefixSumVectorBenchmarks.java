@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.parquet.plugins.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.parquet.column.values.delta.DeltaPrefixSum;
+import org.apache.parquet.column.values.delta.DeltaVectorPrefixSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and the vector prefix sums of DELTA_BINARY_PACKED mini blocks. This class uses the java17 vector
+ * API, add VM options --add-modules=jdk.incubator.vector
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 1, batchSize = 10000)
+@Measurement(iterations = 1, batchSize = 10000)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class DeltaPrefixSumVectorBenchmarks {
+  // the values of a default mini block
+  private int valueCount = 32;
+
+  private int[] ints;
+  private long[] longs;
+
+  private DeltaPrefixSum scalar;
+  private DeltaPrefixSum vector;
+
+  @Setup(Level.Trial)
+  public void getInputValues() {
+    Random random = new Random(42);
+    ints = random.ints(valueCount, 0, 1 << 10).toArray();
+    longs = random.longs(valueCount, 0, 1 << 10).toArray();
+
+    scalar = DeltaPrefixSum.scalar();
+    vector = DeltaVectorPrefixSum.prefixSum;
+  }
+
+  @Benchmark
+  public int testPrefixSumInts() {
+    return scalar.prefixSum(ints, 0, valueCount, -3, 0);
+  }
+
+  @Benchmark
+  public int testPrefixSumIntsVector() {
+    return vector.prefixSum(ints, 0, valueCount, -3, 0);
+  }
+
+  @Benchmark
+  public long testPrefixSumLongs() {
+    return scalar.prefixSum(longs, 0, valueCount, -3, 0);
+  }
+
+  @Benchmark
+  public long testPrefixSumLongsVector() {
+    return vector.prefixSum(longs, 0, valueCount, -3, 0);
+  }
+}